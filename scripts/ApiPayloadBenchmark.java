@@ -0,0 +1,93 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Payload benchmark of the mobile list endpoints: full rows vs ?fields= projections, each with
+ * and without gzip.
+ *
+ * Start the server (mvn spring-boot:run -Pserver) and log in to get a token, then run:
+ *   java scripts/ApiPayloadBenchmark.java http://localhost:8081 <jwt token> [runs]
+ *
+ * For every variant it prints the bytes on the wire, the decoded JSON size and the median
+ * response time. The first request of every variant is discarded as warm-up (caches, JIT).
+ */
+public class ApiPayloadBenchmark {
+
+    private static final String[][] VARIANTS = {
+            {"items", "/api/v1/items"},
+            {"items compact", "/api/v1/items?fields=id,itemName,categoryId,rate"},
+            {"customers", "/api/v1/customers"},
+            {"customers compact", "/api/v1/customers?fields=id,firstName,lastName,mobileNo"},
+            {"tables", "/api/v1/billing/tables"},
+            {"tables compact", "/api/v1/billing/tables?fields=tableId,status"},
+    };
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: java scripts/ApiPayloadBenchmark.java <base url> <jwt token> [runs]");
+            System.exit(2);
+        }
+        String baseUrl = args[0].replaceAll("/+$", "");
+        String token = args[1];
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        HttpClient client = HttpClient.newHttpClient();
+
+        System.out.printf(Locale.ROOT, "%-20s %-6s %10s %10s %9s%n", "endpoint", "gzip", "wire", "json", "median");
+        for (String[] variant : VARIANTS) {
+            for (boolean gzip : new boolean[]{false, true}) {
+                Result result = measure(client, baseUrl + variant[1], token, gzip, runs);
+                System.out.printf(Locale.ROOT, "%-20s %-6s %8d B %8d B %6.1f ms%n",
+                        variant[0], gzip ? "yes" : "no", result.wireBytes, result.jsonBytes, result.medianMs);
+            }
+        }
+    }
+
+    private record Result(int wireBytes, int jsonBytes, double medianMs) {
+    }
+
+    private static Result measure(HttpClient client, String url, String token, boolean gzip, int runs) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET();
+        if (gzip) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        HttpRequest request = builder.build();
+
+        List<Double> times = new ArrayList<>();
+        byte[] body = null;
+        boolean compressed = false;
+        for (int i = 0; i <= runs; i++) {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(url + " returned HTTP " + response.statusCode());
+            }
+            if (i == 0) {
+                continue; // Warm-up request
+            }
+            times.add(elapsedMs);
+            body = response.body();
+            compressed = response.headers().firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase).orElse(false);
+        }
+        int jsonBytes = compressed ? gunzip(body).length : body.length;
+        Collections.sort(times);
+        return new Result(body.length, jsonBytes, times.get(times.size() / 2));
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Throughput of JWT validation with the key and parser rebuilt per call (the behaviour before
+ * JwtService cached them) versus one reused parser, as JwtService does now.
+ *
+ * Needs jjwt on the class path:
+ *   mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp "$(cat target/cp.txt)" scripts/JwtValidationBenchmark.java [iterations]
+ */
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject("waiter1")
+                .claim("role", "WAITER")
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(key)
+                .compact();
+        JwtParser cachedParser = Jwts.parser().verifyWith(key).build();
+
+        // Warm-up (JIT)
+        for (int i = 0; i < iterations / 10; i++) {
+            validateRebuildingKey(token);
+            cachedParser.parseSignedClaims(token).getPayload();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            validateRebuildingKey(token);
+        }
+        long rebuildNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            cachedParser.parseSignedClaims(token).getPayload();
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        System.out.printf(Locale.ROOT, "%-22s %,12.0f ops/s%n", "rebuild per call", iterations / (rebuildNanos / 1e9));
+        System.out.printf(Locale.ROOT, "%-22s %,12.0f ops/s%n", "cached parser", iterations / (cachedNanos / 1e9));
+    }
+
+    private static Claims validateRebuildingKey(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,112 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark: time from JVM start to the login screen, with and without the AppCDS archive.
+ *
+ * Build the fast-start layout first (extracted jar in target/app):
+ *   mvn clean package -Pclient,cds -DskipTests
+ * then run:
+ *   java scripts/StartupBenchmark.java target/app/hotel-client-1.0.0.jar [runs]
+ * Without target/app/hotel.jsa a training launch records it first, with the JDK running this script.
+ * Launches with the archive use -Xshare:on, so an archive that does not match fails instead of being ignored.
+ *
+ * Each launch uses -Dhotel.startup.exit-after-login=true, so the application prints
+ * "STARTUP time-to-login-ms=..." once the login screen is shown and exits after the warm-up.
+ * Launches alternate between both modes; one launch of each is discarded as warm-up (file cache).
+ * Needs a display and the configured database, like a normal start.
+ */
+public class StartupBenchmark {
+
+    private static final String MARKER = "STARTUP time-to-login-ms=";
+    private static final long TIMEOUT_SECONDS = 300;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: java scripts/StartupBenchmark.java <extracted app jar> [runs]");
+            System.exit(2);
+        }
+        File jar = new File(args[0]).getAbsoluteFile();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        File archive = new File(jar.getParentFile(), "hotel.jsa");
+        if (!jar.isFile()) {
+            throw new IllegalArgumentException("Jar not found: " + jar);
+        }
+        if (!archive.isFile()) {
+            System.out.println("Recording AppCDS archive " + archive);
+            launch(jar, archive, true);
+        }
+
+        List<Long> plain = new ArrayList<>();
+        List<Long> cds = new ArrayList<>();
+        for (int i = 0; i <= runs; i++) {
+            long withoutArchive = launch(jar, null, false);
+            long withArchive = launch(jar, archive, false);
+            if (i == 0) {
+                continue; // Warm-up round
+            }
+            plain.add(withoutArchive);
+            cds.add(withArchive);
+            System.out.printf(Locale.ROOT, "run %d: without archive %d ms, with archive %d ms%n", i, withoutArchive, withArchive);
+        }
+
+        long plainMedian = median(plain);
+        long cdsMedian = median(cds);
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-18s %8s %8s %8s%n", "time to login", "median", "min", "max");
+        System.out.printf(Locale.ROOT, "%-18s %6d ms %6d ms %6d ms%n", "without archive", plainMedian, Collections.min(plain), Collections.max(plain));
+        System.out.printf(Locale.ROOT, "%-18s %6d ms %6d ms %6d ms%n", "with archive", cdsMedian, Collections.min(cds), Collections.max(cds));
+        System.out.printf(Locale.ROOT, "AppCDS saves %d ms (%.0f%%) at the median%n",
+                plainMedian - cdsMedian, 100.0 * (plainMedian - cdsMedian) / plainMedian);
+    }
+
+    private static long launch(File jar, File archive, boolean record) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+        if (record) {
+            command.add("-XX:ArchiveClassesAtExit=" + archive.getPath());
+        } else if (archive != null) {
+            command.add("-XX:SharedArchiveFile=" + archive.getPath());
+            command.add("-Xshare:on");
+        }
+        command.add("-Dhotel.startup.exit-after-login=true");
+        command.add("-jar");
+        command.add(jar.getPath());
+
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParentFile())
+                .redirectErrorStream(true)
+                .start();
+        Long timeToLogin = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int at = line.indexOf(MARKER);
+                if (at >= 0) {
+                    timeToLogin = Long.parseLong(line.substring(at + MARKER.length()).trim());
+                }
+            }
+        }
+        if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Application did not exit within " + TIMEOUT_SECONDS + " s");
+        }
+        if (timeToLogin == null) {
+            throw new IllegalStateException("Application exited (code " + process.exitValue() + ") before the login screen was shown");
+        }
+        return timeToLogin;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
@@ -1,6 +1,8 @@
 package com.frontend;
 
-import com.frontend.service.RoleService;
+import com.frontend.config.SchemaMigrator;
+import com.frontend.service.StartupWarmupService;
+import com.frontend.util.StartupTimeline;
 import com.frontend.view.FxmlView;
 import com.frontend.view.SplashScreen;
 import com.frontend.view.StageManager;
@@ -15,16 +17,24 @@ import javafx.scene.control.Alert;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
 import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
 import org.springframework.boot.context.event.ApplicationPreparedEvent;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
 
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
 
 @SpringBootApplication(scanBasePackages = {
 		"com.frontend.config",
@@ -40,8 +50,19 @@ import java.io.InputStream;
 		"com.frontend.api"
 })
 public class Main extends Application {
+	private static final Logger LOG = LoggerFactory.getLogger(Main.class);
+
+	// Spring bean creations kept for the startup timeline (only the slowest are reported)
+	private static final int BEAN_STEP_CAPACITY = 4096;
+	private static final int SLOW_BEANS = 10;
+
+	// Training run for the AppCDS archive / startup benchmark: report the time to the login
+	// screen, wait for the warm-up tasks and exit (see the 'cds' Maven profile)
+	private static final boolean EXIT_AFTER_LOGIN = Boolean.getBoolean("hotel.startup.exit-after-login");
+
 	private ConfigurableApplicationContext springContext;
 	protected StageManager stageManager;
+	private final StartupTimeline timeline = new StartupTimeline();
 
 	public static void main(String[] args) {
 		// Set font rendering properties BEFORE launching JavaFX
@@ -77,9 +98,15 @@ public class Main extends Application {
 
 	@Override
 	public void init() {
-		// Preload bundled Kiran font from resources BEFORE Spring context
-		// This is fast and does not require Spring
-		preloadBundledFont();
+		// Preload bundled Kiran font from resources in parallel with the Spring bootstrap
+		// (does not require Spring)
+		Thread fontLoader = new Thread(() -> {
+			long start = timeline.elapsedMs();
+			preloadBundledFont();
+			timeline.task("bundled font", start);
+		}, "font-preload");
+		fontLoader.setDaemon(true);
+		fontLoader.start();
 	}
 
 	@Override
@@ -93,13 +120,14 @@ public class Main extends Application {
 
 		bootstrapTask.setOnSucceeded(event -> {
 			springContext = bootstrapTask.getValue();
+			timeline.phase("User interface");
+
+			// Settings, caches, role permissions and printers warm up in parallel (non-blocking)
+			CompletableFuture<Void> warmup = springContext.getBean(StartupWarmupService.class).warmUp(timeline);
 
 			// Initialize MaterialFX theme
 			initializeMaterialFXTheme();
 
-			// Initialize default role permissions in background (non-blocking)
-			new Thread(this::initializeRolePermissions, "role-init").start();
-
 			stageManager = springContext.getBean(StageManager.class, stage);
 
 			// Fade out splash, then show login
@@ -109,6 +137,14 @@ public class Main extends Application {
 			fadeOut.setOnFinished(e -> {
 				splash.getStage().close();
 				displayInitialScene();
+				timeline.endPhase();
+				reportTimeToLogin();
+				warmup.whenComplete((done, error) -> {
+					LOG.info(timeline.report());
+					if (EXIT_AFTER_LOGIN) {
+						Platform.runLater(Platform::exit);
+					}
+				});
 			});
 			fadeOut.play();
 		});
@@ -119,6 +155,9 @@ public class Main extends Application {
 			ex.printStackTrace();
 
 			splash.updateProgress(0, "Startup failed: " + ex.getMessage());
+			if (EXIT_AFTER_LOGIN) {
+				System.exit(1);
+			}
 
 			// Show error alert
 			Alert alert = new Alert(Alert.AlertType.ERROR);
@@ -137,56 +176,75 @@ public class Main extends Application {
 
 	/**
 	 * Create a Task that bootstraps the Spring context with real-time progress
-	 * updates driven by Spring lifecycle events.
+	 * updates driven by Spring lifecycle events. Each step is recorded as a phase
+	 * of the startup timeline, which is shown below the progress bar.
 	 */
 	private Task<ConfigurableApplicationContext> createBootstrapTask(SplashScreen splash) {
 		return new Task<>() {
 			@Override
 			protected ConfigurableApplicationContext call() throws Exception {
-				splash.updateProgress(0.1, "Loading fonts...");
-				Thread.sleep(300);
-
+				timeline.phase("Configuration");
 				splash.updateProgress(0.2, "Starting application...");
 
 				SpringApplicationBuilder builder = new SpringApplicationBuilder(Main.class);
 				String[] args = getParameters().getRaw().stream().toArray(String[]::new);
 				builder.headless(false);
 
-				// Register listeners for real-time progress during Spring bootstrap
+				// Record bean creation times for the startup timeline
+				BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(BEAN_STEP_CAPACITY);
+				applicationStartup.addFilter(step -> "spring.beans.instantiate".equals(step.getName()));
+				builder.applicationStartup(applicationStartup);
+
+				// Register listeners for real-time progress during Spring bootstrap;
+				// the schema migration runs once the configuration is known
 				builder.listeners(
 						(ApplicationListener<ApplicationEnvironmentPreparedEvent>) event ->
-								splash.updateProgress(0.35, "Loading configuration..."),
+								progress(splash, 0.35, "Checking database schema...", "Schema check"),
 						(ApplicationListener<ApplicationContextInitializedEvent>) event ->
-								splash.updateProgress(0.5, "Initializing context..."),
+								progress(splash, 0.5, "Initializing context...", "Bean definitions"),
 						(ApplicationListener<ApplicationPreparedEvent>) event ->
-								splash.updateProgress(0.65, "Initializing database..."),
+								progress(splash, 0.65, "Initializing database...", "Context and database"),
 						(ApplicationListener<ApplicationStartedEvent>) event ->
-								splash.updateProgress(0.85, "Preparing user interface...")
+								progress(splash, 0.85, "Preparing user interface...", "Startup listeners"),
+						new SchemaMigrator()
 				);
 
 				ConfigurableApplicationContext context = builder.run(args);
+				timeline.endPhase();
+				recordSlowBeans(applicationStartup);
 
-				splash.updateProgress(1.0, "Ready!");
-				Thread.sleep(200);
-
+				splash.updateProgress(1.0, "Ready in " + String.format("%.1f s", timeline.elapsedMs() / 1000.0));
+				splash.updateTimeline(timeline.phaseSummary());
 				return context;
 			}
 		};
 	}
 
+	private void progress(SplashScreen splash, double progress, String message, String phase) {
+		timeline.phase(phase);
+		splash.updateProgress(progress, message);
+		splash.updateTimeline(timeline.phaseSummary());
+	}
+
 	/**
-	 * Initialize default role permissions on application startup
-	 * Creates predefined roles (ADMIN, MANAGER, CASHIER, CAPTAIN, WAITER, USER) if they don't exist
+	 * Add the slowest bean creations to the timeline and stop recording
+	 * (beans are created lazily for the rest of the session)
 	 */
-	private void initializeRolePermissions() {
-		try {
-			RoleService roleService = springContext.getBean(RoleService.class);
-			roleService.initializeDefaultRolePermissions();
-			System.out.println("Default role permissions initialized successfully");
-		} catch (Exception e) {
-			System.err.println("Error initializing role permissions: " + e.getMessage());
-			// Non-critical error - application can continue
+	private void recordSlowBeans(BufferingApplicationStartup applicationStartup) {
+		applicationStartup.getBufferedTimeline().getEvents().stream()
+				.sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+				.limit(SLOW_BEANS)
+				.forEach(e -> timeline.bean(beanName(e.getStartupStep()), e.getDuration().toMillis()));
+		applicationStartup.addFilter(step -> false);
+	}
+
+	private static String beanName(StartupStep step) {
+		for (StartupStep.Tag tag : step.getTags()) {
+			if ("beanName".equals(tag.getKey())) {
+				return tag.getValue();
+			}
 		}
+		return step.getName();
 	}
 
 	/**
@@ -239,11 +297,27 @@ public class Main extends Application {
 		}
 	}
 
+	/**
+	 * Log the time from JVM start to the login screen; printed on one line for
+	 * the startup benchmark (scripts/StartupBenchmark.java)
+	 */
+	private void reportTimeToLogin() {
+		long timeToLogin = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+		LOG.info("Login screen shown {} ms after JVM start", timeToLogin);
+		if (EXIT_AFTER_LOGIN) {
+			System.out.println("STARTUP time-to-login-ms=" + timeToLogin);
+		}
+	}
+
 	@Override
 	public void stop() {
 		if (springContext != null) {
 			springContext.close();
 		}
+		if (EXIT_AFTER_LOGIN) {
+			// Let the JVM exit (and write the AppCDS archive) even if a library thread is still running
+			System.exit(0);
+		}
 	}
 
 	protected void displayInitialScene() {
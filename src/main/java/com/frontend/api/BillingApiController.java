@@ -1,5 +1,6 @@
 package com.frontend.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.frontend.dto.ApiResponse;
 import com.frontend.dto.BillingDto.*;
 import com.frontend.dto.CategoryMasterDto;
@@ -8,6 +9,7 @@ import com.frontend.print.BillPrint;
 import com.frontend.print.BillPrintWithLogo;
 import com.frontend.print.KOTOrderPrint;
 import com.frontend.service.*;
+import com.frontend.util.FieldSelector;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,7 +22,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -83,6 +87,12 @@ public class BillingApiController {
     @Autowired
     private com.frontend.repository.KitchenOrderRepository kitchenOrderRepository;
 
+    @Autowired
+    private TableSnapshotService tableSnapshotService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // ==================== TABLE ENDPOINTS ====================
 
     /**
@@ -91,7 +101,9 @@ public class BillingApiController {
      */
     @Operation(summary = "Get all tables", description = "Get all tables with their current status (Available, Ongoing, Closed)")
     @GetMapping("/tables")
-    public ResponseEntity<ApiResponse> getAllTables() {
+    public ResponseEntity<ApiResponse> getAllTables(
+            @Parameter(description = "Comma separated properties to return, e.g. tableId,status")
+            @RequestParam(required = false) String fields) {
         try {
             List<String> sections = tableMasterService.getUniqueDescriptionsOrdered();
             List<TableStatusDto> tableList = new ArrayList<>();
@@ -112,7 +124,8 @@ public class BillingApiController {
             }
 
             LOG.info("Retrieved {} tables", tableList.size());
-            return ResponseEntity.ok(new ApiResponse("Tables retrieved successfully", true, tableList));
+            return ResponseEntity.ok(new ApiResponse("Tables retrieved successfully", true,
+                    FieldSelector.parse(fields).apply(objectMapper, tableList)));
         } catch (Exception e) {
             LOG.error("Error retrieving tables: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -166,6 +179,59 @@ public class BillingApiController {
         }
     }
 
+    /**
+     * GET /api/billing/tables/{tableId}/snapshot
+     * Table, status, running items, closed bill and active KOTs in one response.
+     * The ETag is a digest of the contents, so a poll with If-None-Match gets 304 (no body)
+     * while nothing changed; it is weak so the response can still be gzipped.
+     */
+    @Operation(summary = "Get table snapshot",
+               description = "Table with status, running items and total, closed bill with its items and active (SENT/READY) "
+                       + "kitchen orders in one response. Send the returned ETag as If-None-Match to get 304 when unchanged.")
+    @GetMapping("/tables/{tableId}/snapshot")
+    public ResponseEntity<ApiResponse> getTableSnapshot(
+            @Parameter(description = "Table ID") @PathVariable Integer tableId,
+            WebRequest request) {
+        try {
+            TableSnapshotService.TableSnapshot snapshot = tableSnapshotService.load(tableId);
+            if (snapshot == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ApiResponse("Table not found", false));
+            }
+            TableMaster table = snapshot.table();
+
+            TableSnapshotDto dto = new TableSnapshotDto();
+            dto.setTable(new TableStatusDto(table.getId(), table.getTableName(), table.getDescription(),
+                    snapshot.status(), null));
+            List<TransactionItemDto> runningItems = new ArrayList<>();
+            for (TempTransaction temp : snapshot.runningLines()) {
+                runningItems.add(convertToTransactionDto(temp));
+            }
+            dto.setRunningItems(runningItems);
+            dto.setRunningTotal(snapshot.runningTotal());
+            if (snapshot.closedBill() != null) {
+                dto.setClosedBill(convertToClosedBillDto(snapshot.closedBill(), table, snapshot.closedLines()));
+            }
+            List<KitchenOrderDto> kitchenOrders = new ArrayList<>();
+            for (KitchenOrder ko : snapshot.kitchenOrders()) {
+                kitchenOrders.add(convertToKitchenOrderDto(ko));
+            }
+            dto.setKitchenOrders(kitchenOrders);
+
+            // Digest of the contents before the version is set
+            String version = DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(dto));
+            if (request.checkNotModified("W/\"" + version + "\"")) {
+                return null;
+            }
+            dto.setVersion(version);
+            return ResponseEntity.ok(new ApiResponse("Table snapshot retrieved successfully", true, dto));
+        } catch (Exception e) {
+            LOG.error("Error retrieving snapshot of table {}: {}", tableId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse("Error: " + e.getMessage(), false));
+        }
+    }
+
     // ==================== TRANSACTION ENDPOINTS ====================
 
     /**
@@ -174,7 +240,10 @@ public class BillingApiController {
      */
     @Operation(summary = "Get table transactions", description = "Get all transactions (temp + closed bill items) for a table")
     @GetMapping("/tables/{tableId}/transactions")
-    public ResponseEntity<ApiResponse> getTransactionsForTable(@Parameter(description = "Table ID") @PathVariable Integer tableId) {
+    public ResponseEntity<ApiResponse> getTransactionsForTable(
+            @Parameter(description = "Table ID") @PathVariable Integer tableId,
+            @Parameter(description = "Comma separated properties to return, e.g. itemName,quantity,amount")
+            @RequestParam(required = false) String fields) {
         try {
             List<TransactionItemDto> items = new ArrayList<>();
 
@@ -196,7 +265,8 @@ public class BillingApiController {
             }
 
             LOG.info("Retrieved {} transactions for table {}", items.size(), tableId);
-            return ResponseEntity.ok(new ApiResponse("Transactions retrieved successfully", true, items));
+            return ResponseEntity.ok(new ApiResponse("Transactions retrieved successfully", true,
+                    FieldSelector.parse(fields).apply(objectMapper, items)));
         } catch (Exception e) {
             LOG.error("Error retrieving transactions for table {}: {}", tableId, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1010,10 +1080,7 @@ public class BillingApiController {
                     request.getSourceTableId(), request.getTargetTableId());
 
             // Shift closed bill if exists
-            Bill closedBill = billService.getClosedBillForTable(request.getSourceTableId());
-            if (closedBill != null) {
-                billService.shiftBillToTable(closedBill.getBillNo(), request.getTargetTableId());
-            }
+            billService.shiftClosedBillToTable(request.getSourceTableId(), request.getTargetTableId());
 
             // Shift kitchen orders
             try {
@@ -1121,7 +1188,7 @@ public class BillingApiController {
     //
     // KitchenOrderDto fields:
     //   id, tableNo, tableName, waitorId, status, itemCount, totalQty,
-    //   sentAt (yyyy-MM-dd HH:mm:ss), readyAt, items[]
+    //   sentAt (yyyy-MM-dd HH:mm:ss), readyAt, servedAt, items[]
     //
     // KitchenOrderItemDto fields:
     //   id, itemId, itemName, qty, rate
@@ -1539,6 +1606,33 @@ public class BillingApiController {
         return dto;
     }
 
+    /**
+     * Closed bill with its items, without the name lookups of convertToBillResponseDto
+     * (the app resolves waiter and customer ids from its master data)
+     */
+    private BillResponseDto convertToClosedBillDto(Bill bill, TableMaster table, List<Transaction> lines) {
+        BillResponseDto dto = new BillResponseDto();
+        dto.setBillNo(bill.getBillNo());
+        dto.setBillDate(bill.getBillDate());
+        dto.setTableNo(bill.getTableNo());
+        dto.setTableName(table.getTableName());
+        dto.setCustomerId(bill.getCustomerId());
+        dto.setWaitorId(bill.getWaitorId());
+        dto.setBillAmount(bill.getBillAmt());
+        dto.setNetAmount(bill.getNetAmount());
+        dto.setDiscount(bill.getDiscount());
+        dto.setStatus(bill.getStatus());
+
+        List<TransactionItemDto> items = new ArrayList<>();
+        for (Transaction trans : lines) {
+            TransactionItemDto item = convertToTransactionDto(trans, bill.getTableNo(), bill.getWaitorId());
+            item.setId(-trans.getId()); // Negative ID for closed bill items, as in /transactions
+            items.add(item);
+        }
+        dto.setItems(items);
+        return dto;
+    }
+
     /**
      * Resolve the default bank configured in application settings.
      * Exactly mirrors desktop BillingController.setupPaymentMode() logic:
@@ -1661,6 +1755,7 @@ public class BillingApiController {
         dto.setTotalQty(ko.getTotalQty());
         dto.setSentAt(ko.getSentAt() != null ? ko.getSentAt().format(fmt) : null);
         dto.setReadyAt(ko.getReadyAt() != null ? ko.getReadyAt().format(fmt) : null);
+        dto.setServedAt(ko.getServedAt() != null ? ko.getServedAt().format(fmt) : null);
 
         if (ko.getItems() != null) {
             List<KitchenOrderItemDto> itemDtos = new ArrayList<>();
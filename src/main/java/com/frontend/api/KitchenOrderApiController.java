@@ -3,7 +3,8 @@ package com.frontend.api;
 import com.frontend.dto.ApiResponse;
 import com.frontend.dto.BillingDto.*;
 import com.frontend.entity.KitchenOrder;
-import com.frontend.entity.KitchenOrderItem;
+import com.frontend.service.KitchenBoard;
+import com.frontend.service.KitchenMetricsService;
 import com.frontend.service.KitchenOrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,7 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -37,15 +37,22 @@ public class KitchenOrderApiController {
     @Autowired
     private KitchenOrderService kitchenOrderService;
 
+    @Autowired
+    private KitchenMetricsService kitchenMetricsService;
+
+    @Autowired
+    private KitchenBoard kitchenBoard;
+
     @Operation(
         summary = "Get all pending kitchen orders grouped by table",
-        description = "Returns all KOTs with status SENT across all tables, grouped by table name."
+        description = "Returns all KOTs with status SENT across all tables, grouped by table name. "
+                + "Served from the in-memory kitchen board."
     )
     @GetMapping("/pending")
     public ResponseEntity<ApiResponse> getPendingKitchenOrders() {
         try {
-            List<KitchenOrder> orders = kitchenOrderService.getAllPendingKitchenOrders();
-            List<KitchenOrdersByTableDto> grouped = groupKitchenOrdersByTable(orders);
+            List<KitchenOrderDto> orders = kitchenBoard.getActiveOrders(KitchenOrderService.STATUS_SENT);
+            List<KitchenOrdersByTableDto> grouped = groupByTable(orders);
             LOG.info("Retrieved {} pending kitchen orders across {} tables", orders.size(), grouped.size());
             return ResponseEntity.ok(new ApiResponse("Pending kitchen orders retrieved", true, grouped));
         } catch (Exception e) {
@@ -57,13 +64,14 @@ public class KitchenOrderApiController {
 
     @Operation(
         summary = "Get all ready kitchen orders grouped by table",
-        description = "Returns all KOTs with status READY across all tables, grouped by table name."
+        description = "Returns all KOTs with status READY across all tables, grouped by table name. "
+                + "Served from the in-memory kitchen board."
     )
     @GetMapping("/ready")
     public ResponseEntity<ApiResponse> getReadyKitchenOrders() {
         try {
-            List<KitchenOrder> orders = kitchenOrderService.getAllReadyKitchenOrders();
-            List<KitchenOrdersByTableDto> grouped = groupKitchenOrdersByTable(orders);
+            List<KitchenOrderDto> orders = kitchenBoard.getActiveOrders(KitchenOrderService.STATUS_READY);
+            List<KitchenOrdersByTableDto> grouped = groupByTable(orders);
             LOG.info("Retrieved {} ready kitchen orders across {} tables", orders.size(), grouped.size());
             return ResponseEntity.ok(new ApiResponse("Ready kitchen orders retrieved", true, grouped));
         } catch (Exception e) {
@@ -91,6 +99,47 @@ public class KitchenOrderApiController {
         }
     }
 
+    @Operation(
+        summary = "Get kitchen board changes since a sequence number",
+        description = "Every kitchen board change (CREATED / UPDATED with the full order, REMOVED when served or cleared) "
+                + "has an epoch and a sequence number and is pushed on /topic/kitchen-orders. Reconnecting screens pass "
+                + "the last epoch and seq they saw and receive the missed changes. If they are no longer available, the "
+                + "epoch differs (server restarted) or since is omitted, reset=true is returned with all active orders."
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse> getKitchenOrderChanges(
+            @Parameter(description = "Board epoch seen by the client") @RequestParam(defaultValue = "0") long epoch,
+            @Parameter(description = "Last sequence number seen by the client") @RequestParam(defaultValue = "-1") long since) {
+        try {
+            KitchenBoard.Changes changes = kitchenBoard.changesSince(epoch, since);
+            LOG.debug("Kitchen board changes since {}: seq={}, reset={}, {} changes",
+                    since, changes.seq(), changes.reset(), changes.changes().size());
+            return ResponseEntity.ok(new ApiResponse("Kitchen order changes retrieved", true, changes));
+        } catch (Exception e) {
+            LOG.error("Error retrieving kitchen order changes: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse("Error: " + e.getMessage(), false));
+        }
+    }
+
+    @Operation(
+        summary = "Get kitchen turnaround statistics",
+        description = "Prep time (SENT -> READY) and serve time (READY -> SERVE) percentiles in seconds over the "
+                + "rolling window, overall and per item, category, station and hour. Slowest groups (by p90) first. "
+                + "The same snapshot is pushed live on /topic/kitchen-metrics."
+    )
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse> getKitchenMetrics() {
+        try {
+            return ResponseEntity.ok(new ApiResponse("Kitchen metrics retrieved", true,
+                    kitchenMetricsService.getSnapshot()));
+        } catch (Exception e) {
+            LOG.error("Error retrieving kitchen metrics: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse("Error: " + e.getMessage(), false));
+        }
+    }
+
     @Operation(
         summary = "Get kitchen orders for a table",
         description = "Returns all KOTs for a specific table, regardless of status."
@@ -229,53 +278,28 @@ public class KitchenOrderApiController {
     // ==================== HELPER METHODS ====================
 
     private List<KitchenOrdersByTableDto> groupKitchenOrdersByTable(List<KitchenOrder> orders) {
-        LinkedHashMap<Integer, List<KitchenOrder>> byTable = new LinkedHashMap<>();
+        List<KitchenOrderDto> dtos = new ArrayList<>();
         for (KitchenOrder ko : orders) {
-            byTable.computeIfAbsent(ko.getTableNo(), k -> new ArrayList<>()).add(ko);
+            dtos.add(convertToKitchenOrderDto(ko));
+        }
+        return groupByTable(dtos);
+    }
+
+    private List<KitchenOrdersByTableDto> groupByTable(List<KitchenOrderDto> orders) {
+        LinkedHashMap<Integer, List<KitchenOrderDto>> byTable = new LinkedHashMap<>();
+        for (KitchenOrderDto dto : orders) {
+            byTable.computeIfAbsent(dto.getTableNo(), k -> new ArrayList<>()).add(dto);
         }
 
         List<KitchenOrdersByTableDto> result = new ArrayList<>();
-        for (Map.Entry<Integer, List<KitchenOrder>> entry : byTable.entrySet()) {
-            List<KitchenOrderDto> kotDtos = new ArrayList<>();
-            String tableName = null;
-            for (KitchenOrder ko : entry.getValue()) {
-                kotDtos.add(convertToKitchenOrderDto(ko));
-                if (tableName == null) {
-                    tableName = ko.getTableName();
-                }
-            }
-            result.add(new KitchenOrdersByTableDto(entry.getKey(), tableName, kotDtos));
+        for (Map.Entry<Integer, List<KitchenOrderDto>> entry : byTable.entrySet()) {
+            String tableName = entry.getValue().get(0).getTableName();
+            result.add(new KitchenOrdersByTableDto(entry.getKey(), tableName, entry.getValue()));
         }
         return result;
     }
 
     private KitchenOrderDto convertToKitchenOrderDto(KitchenOrder ko) {
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        KitchenOrderDto dto = new KitchenOrderDto();
-        dto.setId(ko.getId());
-        dto.setTableNo(ko.getTableNo());
-        dto.setTableName(ko.getTableName());
-        dto.setWaitorId(ko.getWaitorId());
-        dto.setStatus(ko.getStatus());
-        dto.setItemCount(ko.getItemCount());
-        dto.setTotalQty(ko.getTotalQty());
-        dto.setSentAt(ko.getSentAt() != null ? ko.getSentAt().format(fmt) : null);
-        dto.setReadyAt(ko.getReadyAt() != null ? ko.getReadyAt().format(fmt) : null);
-
-        if (ko.getItems() != null) {
-            List<KitchenOrderItemDto> itemDtos = new ArrayList<>();
-            for (KitchenOrderItem item : ko.getItems()) {
-                KitchenOrderItemDto itemDto = new KitchenOrderItemDto();
-                itemDto.setId(item.getId());
-                itemDto.setItemId(item.getItemId());
-                itemDto.setItemName(item.getItemName());
-                itemDto.setQty(item.getQty());
-                itemDto.setRate(item.getRate());
-                itemDtos.add(itemDto);
-            }
-            dto.setItems(itemDtos);
-        }
-
-        return dto;
+        return KitchenBoard.toDto(ko);
     }
 }
@@ -1,11 +1,14 @@
 package com.frontend.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.frontend.dto.ApiResponse;
 import com.frontend.dto.CategoryMasterDto;
 import com.frontend.dto.ItemDto;
 import com.frontend.entity.*;
 import com.frontend.service.*;
+import com.frontend.util.FieldSelector;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,17 +16,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * REST API Controller for Master Data
  * Provides endpoints for customers, items, categories, employees, and banks
+ * The full lists of items, categories, customers and waiters carry an ETag (version of the master
+ * data changes they depend on) and answer 304 to If-None-Match; /sync returns only the changes.
+ * They also accept ?fields=a,b,c to return only the listed properties of every row.
  * Only active in 'server' profile
  */
 @RestController
@@ -49,6 +58,57 @@ public class MasterDataApiController {
     @Autowired
     private BankService bankService;
 
+    @Autowired
+    private BankTransactionService bankTransactionService;
+
+    @Autowired
+    private MasterDataSyncService masterDataSyncService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // ==================== SYNC ENDPOINT ====================
+
+    @Operation(
+        summary = "Get master data changes since a version",
+        description = "Items, categories, customers and waiters changed or deleted after the given version. "
+                + "Pass the returned version as since on the next call. Without since (or when the version is "
+                + "too old) reset=true is returned with the complete lists."
+    )
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse> sync(
+            @Parameter(description = "Version returned by the previous sync") @RequestParam(defaultValue = "-1") long since) {
+        try {
+            MasterDataSyncService.Changes changes = masterDataSyncService.changesSince(since);
+            LOG.info("Master data sync since {}: version={}, reset={}, items={}, customers={}",
+                    since, changes.version(), changes.reset(),
+                    changes.items().upserts().size(), changes.customers().upserts().size());
+            return ResponseEntity.ok(new ApiResponse("Master data changes retrieved", true, changes));
+        } catch (Exception e) {
+            LOG.error("Error retrieving master data changes: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse("Error: " + e.getMessage(), false));
+        }
+    }
+
+    /**
+     * Answer a conditional GET of a full list: true when the client's copy is current
+     * (the 304 response is already set up), otherwise the ETag is set on the response.
+     * The ETag is weak because Tomcat does not gzip responses with a strong one.
+     */
+    private boolean notModified(WebRequest request, String list, String... entityTypes) {
+        return request.checkNotModified("W/\"" + list + "-" + masterDataSyncService.version(entityTypes) + "\"");
+    }
+
+    /**
+     * Name of a list representation for its ETag (the field selection changes the body). The
+     * selection is hashed: it is raw client input and may contain quotes or commas.
+     */
+    private static String variant(String list, FieldSelector selector) {
+        return selector.isAll() ? list
+                : list + "(" + DigestUtils.md5DigestAsHex(selector.key().getBytes(StandardCharsets.UTF_8)) + ")";
+    }
+
     // ==================== CUSTOMER ENDPOINTS ====================
 
     /**
@@ -57,11 +117,19 @@ public class MasterDataApiController {
      */
     @Operation(summary = "Get all customers", description = "Retrieve all customers")
     @GetMapping("/customers")
-    public ResponseEntity<ApiResponse> getAllCustomers() {
+    public ResponseEntity<ApiResponse> getAllCustomers(
+            @Parameter(description = "Comma separated properties to return, e.g. id,firstName,mobileNo")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         try {
+            FieldSelector selector = FieldSelector.parse(fields);
+            if (notModified(request, variant("customers", selector), MasterDataChange.CUSTOMER)) {
+                return null;
+            }
             List<Customer> customers = customerService.getAllCustomers();
             LOG.info("Retrieved {} customers", customers.size());
-            return ResponseEntity.ok(new ApiResponse("Customers retrieved successfully", true, customers));
+            return ResponseEntity.ok(new ApiResponse("Customers retrieved successfully", true,
+                    selector.apply(objectMapper, customers)));
         } catch (Exception e) {
             LOG.error("Error retrieving customers: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -91,21 +159,13 @@ public class MasterDataApiController {
 
     /**
      * GET /api/customers/search
-     * Search customers by name or mobile
+     * Search customers by name or mobile (ranked, top {@code limit} results)
      */
     @GetMapping("/customers/search")
-    public ResponseEntity<ApiResponse> searchCustomers(@RequestParam String query) {
+    public ResponseEntity<ApiResponse> searchCustomers(@RequestParam String query,
+                                                       @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<Customer> allCustomers = customerService.getAllCustomers();
-            String searchLower = query.toLowerCase();
-
-            List<Customer> results = new ArrayList<>();
-            for (Customer c : allCustomers) {
-                if ((c.getFullName() != null && c.getFullName().toLowerCase().contains(searchLower)) ||
-                    (c.getMobileNo() != null && c.getMobileNo().contains(query))) {
-                    results.add(c);
-                }
-            }
+            List<Customer> results = customerService.searchCustomers(query, limit);
 
             LOG.info("Customer search '{}' found {} results", query, results.size());
             return ResponseEntity.ok(new ApiResponse("Search completed", true, results));
@@ -124,11 +184,19 @@ public class MasterDataApiController {
      */
     @Operation(summary = "Get all categories", description = "Retrieve all item categories")
     @GetMapping("/categories")
-    public ResponseEntity<ApiResponse> getAllCategories() {
+    public ResponseEntity<ApiResponse> getAllCategories(
+            @Parameter(description = "Comma separated properties to return, e.g. id,category")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         try {
+            FieldSelector selector = FieldSelector.parse(fields);
+            if (notModified(request, variant("categories", selector), MasterDataChange.CATEGORY)) {
+                return null;
+            }
             List<CategoryMasterDto> categories = categoryApiService.getAllCategories();
             LOG.info("Retrieved {} categories", categories.size());
-            return ResponseEntity.ok(new ApiResponse("Categories retrieved successfully", true, categories));
+            return ResponseEntity.ok(new ApiResponse("Categories retrieved successfully", true,
+                    selector.apply(objectMapper, categories)));
         } catch (Exception e) {
             LOG.error("Error retrieving categories: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -164,13 +232,25 @@ public class MasterDataApiController {
      * Without page/size parameters: returns all items (backward compatible).
      * With page & size parameters: returns paginated results.
      */
-    @Operation(summary = "Get all items", description = "Retrieve all menu items. Supports optional pagination with page & size parameters.")
+    @Operation(summary = "Get all items", description = "Retrieve all menu items. Supports optional pagination with page & size parameters "
+            + "and fields to return only some properties; id,itemName,categoryId,rate are read without the category join.")
     @GetMapping("/items")
     public ResponseEntity<ApiResponse> getAllItems(
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Comma separated properties to return, e.g. id,itemName,categoryId,rate")
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         try {
-            List<ItemDto> items = itemService.getAllItems();
+            FieldSelector selector = FieldSelector.parse(fields);
+            // Item DTOs carry the category name
+            String list = page != null && size != null ? "items-" + page + "x" + size : "items";
+            if (notModified(request, variant(list, selector), MasterDataChange.ITEM, MasterDataChange.CATEGORY)) {
+                return null;
+            }
+            // Compact projection when only its properties are requested
+            List<?> items = selector.within("id", "itemName", "categoryId", "rate")
+                    ? itemService.getItemSummaries() : itemService.getAllItems();
 
             if (page != null && size != null && size > 0) {
                 int start = page * size;
@@ -181,15 +261,16 @@ public class MasterDataApiController {
                                     "page", page, "size", size, "totalElements", items.size(),
                                     "totalPages", (int) Math.ceil((double) items.size() / size))));
                 }
-                List<ItemDto> paged = items.subList(start, end);
+                List<?> paged = items.subList(start, end);
                 return ResponseEntity.ok(new ApiResponse("Items retrieved successfully", true,
-                        java.util.Map.of("content", paged,
+                        java.util.Map.of("content", selector.apply(objectMapper, paged),
                                 "page", page, "size", size, "totalElements", items.size(),
                                 "totalPages", (int) Math.ceil((double) items.size() / size))));
             }
 
             LOG.info("Retrieved {} items", items.size());
-            return ResponseEntity.ok(new ApiResponse("Items retrieved successfully", true, items));
+            return ResponseEntity.ok(new ApiResponse("Items retrieved successfully", true,
+                    selector.apply(objectMapper, items)));
         } catch (Exception e) {
             LOG.error("Error retrieving items: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -276,20 +357,13 @@ public class MasterDataApiController {
 
     /**
      * GET /api/items/search
-     * Search items by name
+     * Search items by name or item code (ranked, top {@code limit} results)
      */
     @GetMapping("/items/search")
-    public ResponseEntity<ApiResponse> searchItems(@RequestParam String query) {
+    public ResponseEntity<ApiResponse> searchItems(@RequestParam String query,
+                                                   @RequestParam(defaultValue = "50") int limit) {
         try {
-            List<ItemDto> allItems = itemService.getAllItems();
-            String searchLower = query.toLowerCase();
-
-            List<ItemDto> results = new ArrayList<>();
-            for (ItemDto item : allItems) {
-                if (item.getItemName() != null && item.getItemName().toLowerCase().contains(searchLower)) {
-                    results.add(item);
-                }
-            }
+            List<ItemDto> results = itemService.searchItems(query, limit);
 
             LOG.info("Item search '{}' found {} results", query, results.size());
             return ResponseEntity.ok(new ApiResponse("Search completed", true, results));
@@ -308,23 +382,14 @@ public class MasterDataApiController {
      */
     @Operation(summary = "Get all waiters", description = "Retrieve all waiters/servers")
     @GetMapping("/employees/waiters")
-    public ResponseEntity<ApiResponse> getAllWaiters() {
+    public ResponseEntity<ApiResponse> getAllWaiters(WebRequest request) {
         try {
-            List<String> waiterNames = employeesService.getWaiterNames();
-
-            // Get waiter details
-            List<Map<String, Object>> waiters = new ArrayList<>();
-            for (String name : waiterNames) {
-                List<Employees> matches = employeesService.searchByFirstName(name);
-                if (!matches.isEmpty()) {
-                    Employees waiter = matches.get(0);
-                    Map<String, Object> waiterMap = new HashMap<>();
-                    waiterMap.put("id", waiter.getEmployeeId());
-                    waiterMap.put("name", waiter.getFirstName());
-                    waiterMap.put("fullName", waiter.getFullName());
-                    waiters.add(waiterMap);
-                }
+            if (notModified(request, "waiters", MasterDataChange.EMPLOYEE)) {
+                return null;
             }
+            List<Map<String, Object>> waiters = employeesService.getActiveWaiters().stream()
+                    .map(MasterDataSyncService::waiter)
+                    .collect(Collectors.toList());
 
             LOG.info("Retrieved {} waiters", waiters.size());
             return ResponseEntity.ok(new ApiResponse("Waiters retrieved successfully", true, waiters));
@@ -395,6 +460,34 @@ public class MasterDataApiController {
         }
     }
 
+    /**
+     * GET /api/banks/{id}/statement?before={lastId}&limit=50
+     * Bank statement page (newest first) with running balances, using keyset pagination
+     */
+    @Operation(summary = "Get bank statement page",
+            description = "Transactions older than 'before' (omit for the newest page); pass nextBefore to get the next page")
+    @GetMapping("/banks/{id}/statement")
+    public ResponseEntity<ApiResponse> getBankStatement(@PathVariable Integer id,
+                                                        @RequestParam(required = false) Integer before,
+                                                        @RequestParam(defaultValue = "50") int limit) {
+        try {
+            int pageSize = Math.min(Math.max(limit, 1), 500);
+            List<BankTransaction> transactions = bankTransactionService.getStatementPage(id, before, pageSize);
+
+            Map<String, Object> statement = new HashMap<>();
+            statement.put("bankId", id);
+            statement.put("currentBalance", bankTransactionService.getCurrentBalance(id));
+            statement.put("transactions", transactions);
+            statement.put("nextBefore", transactions.size() == pageSize
+                    ? transactions.get(transactions.size() - 1).getId() : null);
+            return ResponseEntity.ok(new ApiResponse("Bank statement retrieved successfully", true, statement));
+        } catch (Exception e) {
+            LOG.error("Error retrieving statement for bank {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse("Error: " + e.getMessage(), false));
+        }
+    }
+
     /**
      * GET /api/banks/cash
      * Get cash bank (IFSC = "cash")
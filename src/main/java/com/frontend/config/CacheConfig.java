@@ -1,6 +1,7 @@
 package com.frontend.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -11,22 +12,36 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Caffeine cache configuration.
- * Caches master data (items, categories, banks, tables) with 10-minute TTL.
+ * Caches master data (items, categories, banks, tables). Changes made on any terminal clear the
+ * affected caches through CacheCoherenceService, so the TTL (cache.master-data.ttl-minutes,
+ * default 4 hours) is only a safety net. Bank balances change with every payment without a
+ * version bump, so banks expire after cache.banks.ttl-seconds (default 30) instead.
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${cache.master-data.ttl-minutes:240}")
+    private long ttlMinutes = 240;
+
+    @Value("${cache.banks.ttl-seconds:30}")
+    private long banksTtlSeconds = 30;
+
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
                 "items", "categories", "banks", "tables"
         );
         cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
                 .maximumSize(500)
                 .recordStats()
         );
+        cacheManager.registerCustomCache("banks", Caffeine.newBuilder()
+                .expireAfterWrite(banksTtlSeconds, TimeUnit.SECONDS)
+                .maximumSize(500)
+                .recordStats()
+                .build());
         return cacheManager;
     }
 }
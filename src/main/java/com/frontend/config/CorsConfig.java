@@ -36,8 +36,8 @@ public class CorsConfig {
         }
 
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept", "X-Requested-With"));
-        config.setExposedHeaders(Arrays.asList("Authorization"));
+        config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept", "X-Requested-With", "If-None-Match"));
+        config.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
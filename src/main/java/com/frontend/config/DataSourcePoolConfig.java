@@ -0,0 +1,88 @@
+package com.frontend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Connection pool configuration checks.
+ *
+ * Pool sizes are defined per profile (application-client.properties / application-server.properties)
+ * and statement caching in application.properties. Pool metrics (hikaricp.connections.*) are bound
+ * to Micrometer by Spring Boot and exposed through the actuator metrics endpoint in server mode.
+ *
+ * At startup this logs the effective pool settings and warns when the expected number of desktop
+ * clients plus the server could open more connections than MySQL max_connections allows.
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataSourcePoolConfig.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${hotel.datasource.expected-clients:6}")
+    private int expectedClients;
+
+    @Value("${hotel.datasource.client-max-pool-size:4}")
+    private int clientMaxPoolSize;
+
+    @Value("${hotel.datasource.server-max-pool-size:15}")
+    private int serverMaxPoolSize;
+
+    @Value("${hotel.datasource.reserved-connections:10}")
+    private int reservedConnections;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkPoolCapacity() {
+        Thread checker = new Thread(() -> {
+            try {
+                logPoolSettings();
+                Integer maxConnections = new JdbcTemplate(dataSource)
+                        .queryForObject("SELECT @@max_connections", Integer.class);
+                if (maxConnections != null) {
+                    checkCapacity(maxConnections);
+                }
+            } catch (Exception e) {
+                LOG.warn("Could not verify MySQL max_connections: {}", e.getMessage());
+            }
+        }, "datasource-pool-check");
+        checker.setDaemon(true);
+        checker.start();
+    }
+
+    /**
+     * Compare the worst-case number of pooled connections with the MySQL limit
+     */
+    private void checkCapacity(int maxConnections) {
+        int required = requiredConnections();
+        if (required > maxConnections) {
+            LOG.warn("Connection pools may exceed MySQL max_connections: {} clients x {} + server {} + {} reserved = {} > {}. " +
+                            "Lower hotel.datasource.client-max-pool-size or raise max_connections on the MySQL server.",
+                    expectedClients, clientMaxPoolSize, serverMaxPoolSize, reservedConnections, required, maxConnections);
+            return;
+        }
+        LOG.info("Connection pool capacity OK: worst case {} of {} MySQL connections", required, maxConnections);
+    }
+
+    private int requiredConnections() {
+        return expectedClients * clientMaxPoolSize + serverMaxPoolSize + reservedConnections;
+    }
+
+    private void logPoolSettings() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            LOG.info("Connection pool '{}': maximumPoolSize={}, minimumIdle={}, leakDetectionThreshold={}ms",
+                    hikari.getPoolName(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle(),
+                    hikari.getLeakDetectionThreshold());
+        }
+    }
+}
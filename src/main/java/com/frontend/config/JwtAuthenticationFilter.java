@@ -3,6 +3,7 @@ package com.frontend.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.frontend.dto.ApiResponse;
 import com.frontend.service.JwtService;
+import com.frontend.service.VerifiedTokenCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,6 +26,7 @@ import java.util.List;
 /**
  * JWT Authentication Filter
  * Intercepts all API requests and validates JWT token from Authorization header
+ * Actuator endpoints, when served on the API port, additionally require an ADMIN token
  * Only active in 'server' profile
  */
 @Component
@@ -37,6 +39,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -66,7 +71,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         LOG.debug("JWT Filter - Request: {} {}", method, requestPath);
 
         // Skip filter for non-API requests
-        if (!requestPath.startsWith("/api/")) {
+        boolean management = requestPath.startsWith("/actuator");
+        if (!requestPath.startsWith("/api/") && !management) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -96,17 +102,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            // Validate token
-            var claims = jwtService.validateToken(token);
+            // Reuse an earlier verification of the same token; full JWS check only on a miss
+            VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(token);
+            if (verified == null) {
+                verified = verifiedTokenCache.put(token, jwtService.validateToken(token));
+                LOG.debug("Token validated for user: {}", verified.username());
+            }
+
+            // Management endpoints expose and reset internals - administrators only
+            if (management && !"ADMIN".equalsIgnoreCase(String.valueOf(verified.role()))) {
+                LOG.warn("Non-admin user {} denied access to {}", verified.username(), requestPath);
+                sendErrorResponse(response, HttpStatus.FORBIDDEN,
+                        new ApiResponse("Administrator access required", false));
+                return;
+            }
 
             // Token is valid - add user info to request attributes for use in controllers
-            request.setAttribute("username", claims.getSubject());
-            request.setAttribute("role", claims.get("role"));
-            request.setAttribute("userId", claims.get("userId"));
-            request.setAttribute("employeeId", claims.get("employeeId"));
-            request.setAttribute("features", claims.get("features"));
-
-            LOG.debug("Token validated for user: {}", claims.getSubject());
+            request.setAttribute("username", verified.username());
+            request.setAttribute("role", verified.role());
+            request.setAttribute("userId", verified.userId());
+            request.setAttribute("employeeId", verified.employeeId());
+            request.setAttribute("features", verified.features());
 
             // Continue with the request
             filterChain.doFilter(request, response);
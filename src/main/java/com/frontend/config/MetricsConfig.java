@@ -0,0 +1,23 @@
+package com.frontend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer timing configuration.
+ *
+ * Registers the aspect that records methods annotated with {@code @Timed} (billing services
+ * and bill/KOT printing). Timers are tagged with class and method; percentiles for all
+ * hotel.* meters and for REST requests are set in application.properties. In server mode
+ * the meters are scraped from /actuator/prometheus on the local management port.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
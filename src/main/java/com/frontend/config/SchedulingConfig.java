@@ -0,0 +1,13 @@
+package com.frontend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (settings snapshot refresh, cache upkeep).
+ * Active in both 'server' and 'client' profiles.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,260 @@
+package com.frontend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationFailedEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Versioned schema migrations, run once per launch before Hibernate starts.
+ *
+ * Applied versions are recorded in the schema_version table. On every launch the scripts in
+ * classpath:db/migration named V{version}__{description}.sql with a version above the recorded
+ * one are executed in order (under a MySQL named lock, so terminals starting together do not
+ * apply a script twice), and Hibernate then runs with hotel.schema.runtime-ddl (none by default,
+ * or validate) instead of inspecting and altering the schema with ddl-auto=update.
+ *
+ * A database without schema_version (new install, or created by the old ddl-auto=update) is
+ * brought to the entity model by one launch with ddl-auto=update and then recorded at the newest
+ * script version. That launch keeps the lock until the baseline is recorded, so a terminal starting
+ * at the same time waits instead of running its own update. Entity changes that alter the schema
+ * therefore need a migration script.
+ *
+ * Registered by Main on the SpringApplicationBuilder (it has to run before the context exists).
+ */
+public class SchemaMigrator implements ApplicationListener<SpringApplicationEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    private static final String SCRIPT_LOCATION = "classpath*:db/migration/V*__*.sql";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final String LOCK_NAME = "hotel_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Migration script found on the classpath
+     */
+    record Script(int version, String description, Resource resource) {
+    }
+
+    // Holds the migration lock while this launch runs ddl-auto=update to create the baseline
+    private volatile Connection baselineConnection;
+
+    @Override
+    public void onApplicationEvent(SpringApplicationEvent event) {
+        if (event instanceof ApplicationEnvironmentPreparedEvent prepared) {
+            migrate(prepared.getEnvironment());
+        } else if (event instanceof ApplicationStartedEvent && baselineConnection != null) {
+            recordBaseline();
+        } else if (event instanceof ApplicationFailedEvent && baselineConnection != null) {
+            LOG.warn("Startup failed before the schema baseline was recorded - the next launch updates the schema again");
+            closeBaselineConnection();
+        }
+    }
+
+    // ==================== Before the context ====================
+
+    private void migrate(ConfigurableEnvironment environment) {
+        if (!environment.getProperty("hotel.schema.migrate", Boolean.class, true)) {
+            return;
+        }
+        String runtimeDdl = environment.getProperty("hotel.schema.runtime-ddl", "none");
+        String ddl;
+        long start = System.currentTimeMillis();
+        Connection connection = null;
+        try {
+            connection = DriverManager.getConnection(
+                    environment.getProperty("spring.datasource.url"),
+                    environment.getProperty("spring.datasource.username"),
+                    environment.getProperty("spring.datasource.password"));
+            lock(connection);
+            ensureVersionTable(connection);
+            Integer current = currentVersion(connection);
+            if (current == null) {
+                LOG.info("No schema version recorded - this launch updates the schema from the entity model (ddl-auto=update)");
+                // Lock and connection stay open until the baseline is recorded after startup
+                baselineConnection = connection;
+                connection = null;
+                ddl = "update";
+            } else {
+                int applied = applyPending(connection, current);
+                LOG.info("Schema at version {} ({} migrations applied) in {} ms, ddl-auto={}",
+                        Math.max(current, latestVersion()), applied, System.currentTimeMillis() - start, runtimeDdl);
+                ddl = runtimeDdl;
+            }
+        } catch (SQLException e) {
+            LOG.warn("Could not check the database schema version: {}", e.getMessage());
+            return;
+        } finally {
+            if (connection != null) {
+                unlock(connection);
+                close(connection);
+            }
+        }
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("schemaMigration", Map.of("spring.jpa.hibernate.ddl-auto", ddl)));
+    }
+
+    // ==================== After the context ====================
+
+    private void recordBaseline() {
+        try {
+            if (currentVersion(baselineConnection) == null) {
+                int version = latestVersion();
+                insertVersion(baselineConnection, version, "baseline (ddl-auto=update)", 0);
+                LOG.info("Schema baseline recorded at version {}; later launches use the configured runtime ddl mode", version);
+            }
+        } catch (SQLException e) {
+            LOG.warn("Could not record the schema baseline: {}", e.getMessage());
+        } finally {
+            closeBaselineConnection();
+        }
+    }
+
+    private void closeBaselineConnection() {
+        Connection connection = baselineConnection;
+        baselineConnection = null;
+        unlock(connection);
+        close(connection);
+    }
+
+    // ==================== Scripts ====================
+
+    private int applyPending(Connection connection, int current) throws SQLException {
+        int applied = 0;
+        for (Script script : scripts()) {
+            if (script.version() <= current) {
+                continue;
+            }
+            long start = System.currentTimeMillis();
+            LOG.info("Applying schema migration V{} ({})", script.version(), script.description());
+            try {
+                ScriptUtils.executeSqlScript(connection, new EncodedResource(script.resource(), StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                throw new IllegalStateException("Schema migration V" + script.version() + " failed: " + e.getMessage(), e);
+            }
+            insertVersion(connection, script.version(), script.description(), System.currentTimeMillis() - start);
+            applied++;
+        }
+        return applied;
+    }
+
+    private static int latestVersion() {
+        List<Script> scripts = scripts();
+        return scripts.isEmpty() ? 0 : scripts.get(scripts.size() - 1).version();
+    }
+
+    /**
+     * Migration scripts on the classpath ordered by version
+     */
+    static List<Script> scripts() {
+        try {
+            return scripts(new PathMatchingResourcePatternResolver().getResources(SCRIPT_LOCATION));
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading schema migration scripts: " + e.getMessage(), e);
+        }
+    }
+
+    static List<Script> scripts(Resource[] resources) {
+        List<Script> scripts = new ArrayList<>();
+        for (Resource resource : resources) {
+            Matcher matcher = SCRIPT_NAME.matcher(String.valueOf(resource.getFilename()));
+            if (matcher.matches()) {
+                scripts.add(new Script(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '), resource));
+            }
+        }
+        scripts.sort(Comparator.comparingInt(Script::version));
+        for (int i = 1; i < scripts.size(); i++) {
+            if (scripts.get(i).version() == scripts.get(i - 1).version()) {
+                throw new IllegalStateException("Duplicate schema migration version V" + scripts.get(i).version());
+            }
+        }
+        return scripts;
+    }
+
+    // ==================== schema_version table ====================
+
+    private static void ensureVersionTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                    "version INT NOT NULL PRIMARY KEY, " +
+                    "description VARCHAR(200) NOT NULL, " +
+                    "installed_on DATETIME NOT NULL, " +
+                    "execution_ms BIGINT NOT NULL)");
+        }
+    }
+
+    private static Integer currentVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            rs.next();
+            int version = rs.getInt(1);
+            return rs.wasNull() ? null : version;
+        }
+    }
+
+    private static void insertVersion(Connection connection, int version, String description, long executionMs) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO schema_version (version, description, installed_on, execution_ms) VALUES (?, ?, ?, ?)")) {
+            ps.setInt(1, version);
+            ps.setString(2, description);
+            ps.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            ps.setLong(4, executionMs);
+            ps.executeUpdate();
+        }
+    }
+
+    private static void lock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for the schema migration lock");
+                }
+            }
+        }
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOG.debug("Could not close the schema migration connection: {}", e.getMessage());
+        }
+    }
+
+    private static void unlock(Connection connection) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            LOG.debug("Could not release the schema migration lock: {}", e.getMessage());
+        }
+    }
+}
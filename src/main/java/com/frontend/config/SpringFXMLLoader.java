@@ -1,40 +1,73 @@
 package com.frontend.config;
 
+import com.frontend.util.SqlStatementTracker;
+import com.frontend.view.CachedView;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Group;
 import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.Pane;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads FXML screens with Spring-managed controllers.
+ *
+ * Screens whose controller implements {@link CachedView} are kept in an LRU view cache
+ * (ui.view-cache.max-size): later navigations reuse the root node and controller and only call
+ * {@link CachedView#onActivate()}. The screens in ui.view-cache.prewarm are loaded after login
+ * with {@link #prewarm()}, so their first opening is fast as well.
+ */
 @Component
 public class SpringFXMLLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpringFXMLLoader.class);
+
     private final ResourceBundle resourceBundle;
     private final ApplicationContext context;
+
+    @Value("${ui.view-cache.max-size:6}")
+    private int maxCachedViews = 6;
+
+    @Value("${ui.view-cache.prewarm:}")
+    private String prewarmViews = "";
+
+    /**
+     * Loaded screen: root node and its controller
+     */
+    private record View(Parent root, Object controller) {
+    }
+
+    // Access-ordered: the first entry is the least recently used screen
+    private final LinkedHashMap<String, View> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+
     @Autowired
     public SpringFXMLLoader(ApplicationContext context, ResourceBundle resourceBundle) {
         this.resourceBundle = resourceBundle;
         this.context = context;
     }
     public Parent load(String fxmlPath) throws IOException {
-        FXMLLoader loader = new FXMLLoader();
-        loader.setControllerFactory(context::getBean);
-        loader.setResources(resourceBundle);
-        loader.setLocation(getClass().getResource(fxmlPath));
-        return loader.load();
+        return obtain(fxmlPath).root();
     }
     public Pane getPage(String fxmlPath) {
         try {
-            FXMLLoader loader = new FXMLLoader();
-            loader.setControllerFactory(context::getBean);
-            loader.setResources(resourceBundle);
-            loader.setLocation(getClass().getResource(fxmlPath));
-
-            return loader.load();
+            return (Pane) obtain(fxmlPath).root();
         }catch(Exception e)
         {
             e.printStackTrace();
@@ -43,12 +76,161 @@ public class SpringFXMLLoader {
 
     }
     public <T> Map.Entry<Parent, T> loadWithController(String fxmlPath, Class<T> controllerClass) throws IOException {
+        View view = obtain(fxmlPath);
+        return new AbstractMap.SimpleEntry<>(view.root(), controllerClass.cast(view.controller()));
+    }
+
+    // ==================== View cache ====================
+
+    /**
+     * Cached screen (activated) or a freshly loaded one
+     */
+    private View obtain(String fxmlPath) throws IOException {
+        synchronized (loadLocks.computeIfAbsent(fxmlPath, k -> new Object())) {
+            View view;
+            synchronized (cache) {
+                view = cache.get(fxmlPath);
+            }
+            if (view != null) {
+                if (!isShowing(view.root())) {
+                    detach(view.root());
+                    ((CachedView) view.controller()).onActivate();
+                    LOG.debug("Reusing cached view {}", fxmlPath);
+                    return view;
+                }
+                // Still open in another window - give this caller its own copy
+                synchronized (cache) {
+                    cache.remove(fxmlPath);
+                }
+            }
+            return loadAndCache(fxmlPath);
+        }
+    }
+
+    private View loadAndCache(String fxmlPath) throws IOException {
         FXMLLoader loader = new FXMLLoader();
         loader.setControllerFactory(context::getBean);
         loader.setResources(resourceBundle);
         loader.setLocation(getClass().getResource(fxmlPath));
         Parent root = loader.load();
-        T controller = loader.getController();
-        return new AbstractMap.SimpleEntry<>(root, controller);
+        View view = new View(root, loader.getController());
+
+        if (maxCachedViews > 0 && view.controller() instanceof CachedView) {
+            List<View> evicted = new ArrayList<>();
+            synchronized (cache) {
+                cache.put(fxmlPath, view);
+                // Drop least recently used screens, but never one that is on screen right now
+                var eldest = cache.values().iterator();
+                while (cache.size() > maxCachedViews && eldest.hasNext()) {
+                    View candidate = eldest.next();
+                    if (candidate != view && !isShowing(candidate.root())) {
+                        evicted.add(candidate);
+                        eldest.remove();
+                    }
+                }
+            }
+            evicted.forEach(this::reset);
+        }
+        return view;
+    }
+
+    /**
+     * Load the screens listed in ui.view-cache.prewarm into the cache, one screen per FX event so the
+     * screen on display stays responsive in between. Controllers are singletons that touch their
+     * controls during initialize, so screens are built on the FX thread only.
+     */
+    public void prewarm() {
+        if (maxCachedViews <= 0 || prewarmViews == null || prewarmViews.isBlank()) {
+            return;
+        }
+        List<String> paths = new ArrayList<>();
+        for (String path : prewarmViews.split(",")) {
+            if (!path.isBlank()) {
+                paths.add(path.trim());
+            }
+        }
+        Platform.runLater(() -> prewarmNext(paths, 0));
+    }
+
+    private void prewarmNext(List<String> paths, int index) {
+        if (index >= paths.size()) {
+            return;
+        }
+        String fxmlPath = paths.get(index);
+        if (!isCached(fxmlPath)) {
+            long start = System.currentTimeMillis();
+            SqlStatementTracker.begin("fx prewarm " + fxmlPath);
+            try {
+                prewarmOne(fxmlPath);
+                LOG.info("Pre-warmed view {} in {} ms", fxmlPath, System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                // Not retried - the screen is loaded normally when it is opened
+                LOG.warn("Could not pre-warm view {}: {}", fxmlPath, e.getMessage());
+            } finally {
+                SqlStatementTracker.end();
+            }
+        }
+        Platform.runLater(() -> prewarmNext(paths, index + 1));
+    }
+
+    private void prewarmOne(String fxmlPath) throws IOException {
+        synchronized (loadLocks.computeIfAbsent(fxmlPath, k -> new Object())) {
+            if (!isCached(fxmlPath)) {
+                loadAndCache(fxmlPath);
+            }
+        }
+    }
+
+    /**
+     * Drop all cached screens (e.g. on logout, so the next user starts with fresh screens)
+     */
+    public void clearViewCache() {
+        List<View> views;
+        synchronized (cache) {
+            views = new ArrayList<>(cache.values());
+            cache.clear();
+        }
+        views.forEach(this::reset);
+        LOG.info("View cache cleared ({} views)", views.size());
+    }
+
+    private boolean isCached(String fxmlPath) {
+        synchronized (cache) {
+            return cache.containsKey(fxmlPath);
+        }
+    }
+
+    private void reset(View view) {
+        Runnable reset = () -> {
+            try {
+                ((CachedView) view.controller()).onReset();
+            } catch (Exception e) {
+                LOG.warn("Error resetting cached view: {}", e.getMessage());
+            }
+        };
+        if (Platform.isFxApplicationThread()) {
+            reset.run();
+        } else {
+            Platform.runLater(reset);
+        }
+    }
+
+    private static boolean isShowing(Parent root) {
+        Scene scene = root.getScene();
+        return scene != null && scene.getWindow() != null && scene.getWindow().isShowing();
+    }
+
+    /**
+     * Take a reused root out of its previous place so it can be attached again
+     */
+    private static void detach(Parent root) {
+        Scene scene = root.getScene();
+        if (scene != null && scene.getRoot() == root) {
+            scene.setRoot(new Group());
+        } else if (root.getParent() instanceof BorderPane borderPane && borderPane.getCenter() == root) {
+            borderPane.setCenter(null);
+        } else if (root.getParent() instanceof Pane pane) {
+            pane.getChildren().remove(root);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.frontend.config;
+
+import com.frontend.util.SqlStatementTracker;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint (/actuator/sqlstatements) listing the requests and desktop actions
+ * that run the most SQL statements. DELETE resets the statistics.
+ * In server mode it is only reachable on the local management port (application-server.properties).
+ */
+@Component
+@Endpoint(id = "sqlstatements")
+public class SqlStatementsEndpoint {
+
+    @ReadOperation
+    public List<SqlStatementTracker.ScopeSummary> worstOffenders(@Nullable Integer limit) {
+        return SqlStatementTracker.worstOffenders(limit != null ? limit : 20);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        SqlStatementTracker.reset();
+    }
+}
@@ -0,0 +1,66 @@
+package com.frontend.config;
+
+import com.frontend.util.SqlStatementTracker;
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks Hibernate into {@link SqlStatementTracker}: a StatementInspector counts every prepared
+ * statement and a session event listener adds up JDBC execution time for the current scope.
+ *
+ * Thresholds: sql.tracking.enabled, sql.tracking.warn-threshold, sql.tracking.repeat-threshold.
+ */
+@Configuration
+public class SqlTrackingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlTrackingHibernateCustomizer(
+            @Value("${sql.tracking.enabled:true}") boolean enabled,
+            @Value("${sql.tracking.warn-threshold:50}") int warnThreshold,
+            @Value("${sql.tracking.repeat-threshold:10}") int repeatThreshold) {
+        SqlStatementTracker.configure(enabled, warnThreshold, repeatThreshold);
+        return properties -> {
+            if (!enabled) {
+                return;
+            }
+            properties.put("hibernate.session_factory.statement_inspector", (StatementInspector) sql -> {
+                SqlStatementTracker.statementPrepared(sql);
+                return sql;
+            });
+            properties.put("hibernate.session.events.auto", JdbcTimingListener.class.getName());
+        };
+    }
+
+    /**
+     * Per-session listener measuring JDBC execution time (instantiated by Hibernate)
+     */
+    public static class JdbcTimingListener implements SessionEventListener {
+
+        private long executeStart;
+        private long batchStart;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            executeStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            SqlStatementTracker.jdbcTime(System.nanoTime() - executeStart);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batchStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            SqlStatementTracker.jdbcTime(System.nanoTime() - batchStart);
+        }
+    }
+}
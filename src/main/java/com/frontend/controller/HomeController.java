@@ -300,6 +300,9 @@ public class HomeController implements Initializable {
             // Clear user session
             sessionService.clearSession();
 
+            // Next user gets freshly built screens
+            loader.clearViewCache();
+
             // Navigate back to login
             stageManager.switchScene(com.frontend.view.FxmlView.LOGIN);
 
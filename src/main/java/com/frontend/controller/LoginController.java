@@ -1,5 +1,6 @@
 package com.frontend.controller;
 
+import com.frontend.config.SpringFXMLLoader;
 import com.frontend.customUI.AutoCompleteTextField;
 import com.frontend.entity.ApplicationSetting;
 import com.frontend.entity.Shop;
@@ -59,6 +60,9 @@ public class LoginController {
     @Autowired
     AlertNotification alertNotification;
 
+    @Autowired
+    private SpringFXMLLoader fxmlLoader;
+
     @Autowired
     AuthApiService authApiService;
 
@@ -376,6 +380,9 @@ public class LoginController {
                 // Navigate to dashboard
                  stageManager.switchScene(FxmlView.DASHBOARD);
                // stageManager.switchScene(FxmlView.BILLING);
+
+                // Load the most used screens in the background so they open instantly
+                fxmlLoader.prewarm();
             } else {
                 alertNotification.showError("Login failed. Please try again.");
             }
@@ -6,6 +6,7 @@ import com.frontend.service.DashboardService;
 import com.frontend.service.SessionService;
 import com.frontend.util.NavigationGuard;
 import com.frontend.view.AlertNotification;
+import com.frontend.view.CachedView;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -57,7 +58,7 @@ import java.util.concurrent.CompletableFuture;
  * Loads and displays real-time KPIs, charts, and operational metrics.
  */
 @Component
-public class DashboardController implements Initializable {
+public class DashboardController implements Initializable, CachedView {
 
     private static final Logger LOG = LoggerFactory.getLogger(DashboardController.class);
     private static final DecimalFormat CURRENCY_FORMAT = new DecimalFormat("#,##0.00");
@@ -183,6 +184,31 @@ public class DashboardController implements Initializable {
         loadDashboardData();
     }
 
+    /**
+     * Dashboard shown again from the view cache: refresh greeting, clock and figures
+     */
+    @Override
+    public void onActivate() {
+        if (clockTimer == null) {
+            setupGreetingAndDateTime();
+        } else {
+            updateGreeting();
+            updateDateTime();
+        }
+        loadDashboardData();
+    }
+
+    /**
+     * Dropped from the view cache: stop the clock
+     */
+    @Override
+    public void onReset() {
+        if (clockTimer != null) {
+            clockTimer.cancel();
+            clockTimer = null;
+        }
+    }
+
     /**
      * Setup greeting message and real-time clock
      */
@@ -193,7 +219,10 @@ public class DashboardController implements Initializable {
         // Set initial date/time
         updateDateTime();
 
-        // Start clock timer for real-time updates
+        // Start clock timer for real-time updates (replacing the one of an earlier load)
+        if (clockTimer != null) {
+            clockTimer.cancel();
+        }
         clockTimer = new Timer(true);
         clockTimer.scheduleAtFixedRate(new TimerTask() {
             @Override
@@ -8,7 +8,7 @@ import com.frontend.entity.TableMaster;
 import com.frontend.print.BillPrint;
 import com.frontend.print.BillPrintWithLogo;
 import com.frontend.service.BillService;
-import com.frontend.service.CustomerService;
+import com.frontend.service.CustomerDirectory;
 import com.frontend.service.SessionService;
 import com.frontend.service.TableMasterService;
 import com.itextpdf.text.*;
@@ -66,7 +66,7 @@ public class BillSearchController implements Initializable {
     private BillService billService;
 
     @Autowired
-    private CustomerService customerService;
+    private CustomerDirectory customerDirectory;
 
     @Autowired
     private TableMasterService tableMasterService;
@@ -419,7 +419,7 @@ public class BillSearchController implements Initializable {
 
     private void loadCustomers() {
         try {
-            allCustomers = customerService.getAllCustomers();
+            allCustomers = customerDirectory.getAll();
             LOG.info("Loaded {} customers", allCustomers.size());
         } catch (Exception e) {
             LOG.error("Error loading customers", e);
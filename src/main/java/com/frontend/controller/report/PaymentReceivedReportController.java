@@ -4,7 +4,7 @@ import com.frontend.config.SpringFXMLLoader;
 import com.frontend.customUI.AutoCompleteTextField;
 import com.frontend.entity.Customer;
 import com.frontend.entity.SalesPaymentReceipt;
-import com.frontend.service.CustomerService;
+import com.frontend.service.CustomerDirectory;
 import com.frontend.service.SalesPaymentReceiptService;
 import com.frontend.service.SessionService;
 import javafx.application.Platform;
@@ -47,7 +47,7 @@ public class PaymentReceivedReportController implements Initializable {
     private SalesPaymentReceiptService receiptService;
 
     @Autowired
-    private CustomerService customerService;
+    private CustomerDirectory customerDirectory;
 
     // Header buttons
     @FXML private Button btnBack;
@@ -282,8 +282,8 @@ public class PaymentReceivedReportController implements Initializable {
 
     private void loadCustomerSuggestions() {
         try {
-            // Get all customers from database
-            List<Customer> customers = customerService.getAllCustomers();
+            // Get all customers from the shared customer directory
+            List<Customer> customers = customerDirectory.getAll();
             List<String> customerNames = new ArrayList<>();
 
             for (Customer customer : customers) {
@@ -6,7 +6,7 @@ import com.frontend.entity.Bill;
 import com.frontend.entity.Customer;
 import com.frontend.entity.TableMaster;
 import com.frontend.service.BillService;
-import com.frontend.service.CustomerService;
+import com.frontend.service.CustomerDirectory;
 import com.frontend.service.SessionService;
 import com.frontend.service.TableMasterService;
 import com.itextpdf.text.*;
@@ -61,7 +61,7 @@ public class SalesReportController implements Initializable {
     private BillService billService;
 
     @Autowired
-    private CustomerService customerService;
+    private CustomerDirectory customerDirectory;
 
     @Autowired
     private TableMasterService tableMasterService;
@@ -317,7 +317,7 @@ public class SalesReportController implements Initializable {
 
     private void loadCustomers() {
         try {
-            allCustomers = customerService.getAllCustomers();
+            allCustomers = customerDirectory.getAll();
             LOG.info("Loaded {} customers", allCustomers.size());
         } catch (Exception e) {
             LOG.error("Error loading customers", e);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.frontend.config.SpringFXMLLoader;
 import com.frontend.service.ApplicationSettingService;
+import com.frontend.service.CacheCoherenceService;
 import com.frontend.service.TableMasterService;
 import com.frontend.view.AlertNotification;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
@@ -61,6 +62,9 @@ public class SectionSequenceController implements Initializable {
     @Autowired
     private TableMasterService tableMasterService;
 
+    @Autowired
+    private CacheCoherenceService cacheCoherenceService;
+
     @Autowired
     private AlertNotification alertNotification;
 
@@ -652,6 +656,8 @@ public class SectionSequenceController implements Initializable {
             // Save row groups (only groups with 2+ sections, singles are implicit)
             String groupsJson = objectMapper.writeValueAsString(rowGroups);
             applicationSettingService.saveSetting(TableMasterService.SECTION_ROW_GROUPS_SETTING, groupsJson);
+            // Section order is part of the table master data other terminals hold
+            cacheCoherenceService.changed(CacheCoherenceService.TABLES);
 
             LOG.info("Section sequences saved: {}", seqJson);
             LOG.info("Section row groups saved: {}", groupsJson);
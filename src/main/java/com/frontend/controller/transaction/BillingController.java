@@ -6,19 +6,15 @@ import com.frontend.controller.master.AddCustomerController;
 import com.frontend.customUI.AutoCompleteTextField;
 import com.frontend.customUI.AutoCompleteTextField_old;
 import com.frontend.dto.CategoryMasterDto;
-import com.frontend.entity.CategoryMaster;
 import com.frontend.entity.Customer;
 import com.frontend.entity.Employees;
 import com.frontend.entity.Item;
 import com.frontend.entity.TableMaster;
 import com.frontend.entity.TempTransaction;
 import com.frontend.service.BillService;
-import com.frontend.service.CategoryApiService;
-import com.frontend.service.CustomerService;
-import com.frontend.service.EmployeesService;
-import com.frontend.service.ItemService;
+import com.frontend.service.CustomerDirectory;
 import com.frontend.service.SessionService;
-import com.frontend.service.TableMasterService;
+import com.frontend.service.TableStatusFeed;
 import com.frontend.service.TempTransactionService;
 import com.frontend.entity.Bank;
 import com.frontend.entity.Bill;
@@ -28,9 +24,12 @@ import com.frontend.print.BillPrintWithLogo;
 import com.frontend.service.BankService;
 import com.frontend.service.BankTransactionService;
 import com.frontend.service.KitchenOrderService;
+import com.frontend.service.MasterDataStore;
 import com.frontend.entity.KitchenOrder;
 import com.frontend.print.KOTOrderPrint;
+import com.frontend.util.TableCommandQueue;
 import com.frontend.view.AlertNotification;
+import com.frontend.view.CachedView;
 
 import javafx.application.Platform;
 import javafx.scene.Parent;
@@ -70,36 +69,36 @@ import org.springframework.stereotype.Component;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 @Component
-public class BillingController implements Initializable {
+public class BillingController implements Initializable, CachedView {
 
     private static final Logger LOG = LoggerFactory.getLogger(BillingController.class);
 
-    @Autowired
-    private SpringFXMLLoader loader;
-
-    @Autowired
-    private TableMasterService tableMasterService;
+    // Item lookups run on their own queue (one lane) so they never wait behind a KOT print
+    private static final int ITEM_LOOKUP_LANE = 0;
 
     @Autowired
-    private CustomerService customerService;
+    private SpringFXMLLoader loader;
 
     @Autowired
-    private CategoryApiService categoryApiService;
+    private CustomerDirectory customerDirectory;
 
     @Autowired
-    private ItemService itemService;
+    private MasterDataStore masterDataStore;
 
     @Autowired
     private CommonMethod commonMethod;
 
-    @Autowired
-    private EmployeesService employeesService;
-
     @Autowired
     private TempTransactionService tempTransactionService;
 
@@ -124,6 +123,9 @@ public class BillingController implements Initializable {
     @Autowired
     private KitchenOrderService kitchenOrderService;
 
+    @Autowired
+    private TableStatusFeed tableStatusFeed;
+
     @Autowired
     AlertNotification alert;
 
@@ -379,6 +381,7 @@ public class BillingController implements Initializable {
     // Autocomplete and customer tracking
     private AutoCompleteTextField_old customerAutoComplete;
     private List<Customer> allCustomers;
+    private boolean customerDirectoryListenerRegistered = false;
     private Customer selectedCustomer;
 
     private List<String> allCategoryNames;
@@ -395,6 +398,9 @@ public class BillingController implements Initializable {
 
     // Map to store table button references by tableId for status updates
     private java.util.Map<Integer, Button> tableButtonMap = new java.util.HashMap<>();
+    private boolean tableStatusListenerRegistered = false;
+    private final Consumer<Map<Integer, String>> tableStatusListener =
+            changes -> Platform.runLater(() -> applyTableStatusChanges(changes));
 
     private VBox draggedBox = null;
     Font kiranFont;
@@ -411,11 +417,43 @@ public class BillingController implements Initializable {
     // Kitchen status dialog reference (to refresh if open)
     private javafx.stage.Stage kitchenStatusStage;
 
+    // Database and printer work of the selected table, run off the FX thread one command at a time
+    private final TableCommandQueue tableCommands = new TableCommandQueue("billing");
+    private final TableCommandQueue itemLookups = new TableCommandQueue("billing-lookup");
+
+    // Items added on screen whose save has not finished yet (oldest first), re-applied on every table reload
+    private final List<TempTransaction> pendingAdds = new ArrayList<>();
+    // Rows shown only because of a pending add - they have no database id yet
+    private final Set<TempTransaction> unsavedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Database state of a table (closed bill, its lines, new items and waiter), read off the FX thread
+     */
+    private record TableState(Integer tableNo, Bill closedBill, List<Transaction> closedBillTransactions,
+                              List<TempTransaction> tempTransactions, Employees waitor) {
+        boolean isEmpty() {
+            return closedBill == null && tempTransactions.isEmpty();
+        }
+    }
+
+    /**
+     * Result of an item lookup: the item, or the message to show when it was not found
+     */
+    private record ItemLookup(Item item, String notFoundMessage) {
+    }
+
+    /**
+     * Result of sending new items to the kitchen
+     */
+    private record KotResult(int itemCount, boolean printed, String printError, TableState state) {
+    }
+
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         LOG.info("Billing screen initialized");
         kiranFont = SessionService.getCustomFont(20.0);
         resetScreenState();
+        tableButtonMap.clear();
         setupResponsiveLayout();
         setupRefreshButton();
         setupCustomFont(); // Re-enabled to fix font issue
@@ -430,6 +468,61 @@ public class BillingController implements Initializable {
         setupCashCounter();
         setupPaymentMode();
         setupBillHistory();
+        tableCommands.setStaleFailureHandler((description, e) ->
+                alert.showError("Could not " + description + ": " + e.getMessage()));
+        setupTableStatusFeed();
+    }
+
+    /**
+     * Screen shown again from the view cache: start from a clean slate and pick up
+     * changes made while it was hidden (table statuses, today's bills)
+     */
+    @Override
+    public void onActivate() {
+        if (isEditBillMode) {
+            cancelEditBillMode();
+        }
+        if (isShiftTableMode) {
+            cancelShiftTableMode();
+        }
+        resetEditMode();
+        resetScreenState();
+        clearItemForm();
+        clearPaymentFields();
+        clearSelectedCustomer();
+        cmbWaitorName.getSelectionModel().clearSelection();
+        updateTotals();
+        refreshTables();
+        loadTodaysBills();
+        LOG.info("Billing screen activated from view cache");
+    }
+
+    /**
+     * Keep table buttons in sync with status changes from other terminals and the mobile app.
+     * Only the buttons of changed tables are restyled; the grid itself is not rebuilt.
+     * The feed (and so its polling) is followed only while the screen is in a scene: a pre-warmed
+     * screen that is never opened does not poll, and a cached screen stops while hidden.
+     */
+    private void setupTableStatusFeed() {
+        rootPane.sceneProperty().addListener((obs, oldScene, scene) -> {
+            if (scene != null && !tableStatusListenerRegistered) {
+                tableStatusFeed.addListener(tableStatusListener);
+                tableStatusListenerRegistered = true;
+            } else if (scene == null && tableStatusListenerRegistered) {
+                tableStatusFeed.removeListener(tableStatusListener);
+                tableStatusListenerRegistered = false;
+            }
+        });
+    }
+
+    private void applyTableStatusChanges(Map<Integer, String> changes) {
+        changes.forEach((tableId, status) -> {
+            Button button = tableButtonMap.get(tableId);
+            if (button != null && !status.equals(button.getUserData())) {
+                applyTableButtonStatus(button, status);
+                LOG.debug("Table {} status changed to {}", tableId, status);
+            }
+        });
     }
 
     /**
@@ -448,8 +541,8 @@ public class BillingController implements Initializable {
         shiftSourceTableId = null;
         shiftSourceTableName = null;
         billBeingEdited = null;
-        tableButtonMap.clear();
         txtTableNumber.clear();
+        selectTable(null);
         LOG.info("Screen state reset to clean slate");
     }
 
@@ -571,16 +664,14 @@ public class BillingController implements Initializable {
                 float currentQty = selected.getQty();
                 float newQty = currentQty + addQty;
 
-                // Remember which item to re-select after reload
                 String itemName = selected.getItemName();
-                Integer tableNo = selected.getTableNo();
 
                 selected.setQty(newQty);
                 selected.setAmt(newQty * selected.getRate());
                 selected.setPrintQty(newQty);
 
-                // Update in database
-                tempTransactionService.updateTransaction(selected);
+                // Update in database off the FX thread, then sync with the saved state
+                saveTransactionUpdate(selected, "update quantity");
 
                 // Clear input fields and table selection
                 isNumberPadUpdate = true;
@@ -593,7 +684,7 @@ public class BillingController implements Initializable {
                 tblTransaction.getSelectionModel().clearSelection();
 
                 // Refresh table view and totals
-                loadTransactionsForTable(tableNo);
+                tblTransaction.refresh();
                 updateTotals();
                 isNumberPadUpdate = false;
 
@@ -616,7 +707,8 @@ public class BillingController implements Initializable {
     }
 
     /**
-     * Refresh all table buttons - reloads sections and updates table statuses
+     * Refresh all table buttons - updates table statuses in place
+     * Sections are rebuilt only when tables were added or removed
      * Called when user clicks the Refresh button
      */
     private void refreshTables() {
@@ -625,11 +717,18 @@ public class BillingController implements Initializable {
         // Disable button during refresh to prevent multiple clicks
         btnRefreshTables.setDisable(true);
 
-        // Clear the table button map (will be repopulated in loadSections)
-        tableButtonMap.clear();
-
-        // Reload sections with table buttons
-        loadSections();
+        List<Integer> tableIds = masterDataStore.getAllTables().stream().map(TableMaster::getId).toList();
+        if (tableIds.size() != tableButtonMap.size() || !tableButtonMap.keySet().containsAll(tableIds)) {
+            // Table master changed - rebuild the grid (map is repopulated in loadSections)
+            tableButtonMap.clear();
+            loadSections();
+        } else {
+            // Same tables - restyle buttons whose status differs
+            Map<Integer, String> statuses = tableStatusFeed.refresh();
+            Map<Integer, String> all = new java.util.HashMap<>();
+            tableIds.forEach(id -> all.put(id, TableStatusFeed.statusOf(statuses, id)));
+            applyTableStatusChanges(all);
+        }
 
         // Re-enable button after refresh
         Platform.runLater(() -> {
@@ -640,10 +739,16 @@ public class BillingController implements Initializable {
 
     private void setupCustomerSearch() {
         try {
-            // Load all customers from database
-            allCustomers = customerService.getAllCustomers();
+            // Load all customers from the shared customer directory
+            allCustomers = customerDirectory.getAll();
             LOG.info("Loaded {} customers for search", allCustomers.size());
 
+            // Refresh suggestions when customers are added/changed elsewhere (register once)
+            if (!customerDirectoryListenerRegistered) {
+                customerDirectory.addListener(() -> Platform.runLater(this::reloadCustomers));
+                customerDirectoryListenerRegistered = true;
+            }
+
             // Create suggestions list with customer names and mobile numbers
             List<String> suggestions = new ArrayList<>();
             for (Customer customer : allCustomers) {
@@ -900,7 +1005,7 @@ public class BillingController implements Initializable {
 
     public void reloadCustomers() {
         try {
-            allCustomers = customerService.getAllCustomers();
+            allCustomers = customerDirectory.getAll();
             List<String> suggestions = new ArrayList<>();
             for (Customer customer : allCustomers) {
                 String suggestion = customer.getFullName() + " " + customer.getMobileNo();
@@ -918,7 +1023,7 @@ public class BillingController implements Initializable {
     private void setupCategorySearch() {
         try {
             // Load all categories from database
-            allCategories = categoryApiService.getAllCategories();
+            allCategories = masterDataStore.getCategories();
             LOG.info("Loaded {} categories for search", allCategories.size());
 
             // Create list of category names
@@ -1043,7 +1148,7 @@ public class BillingController implements Initializable {
      */
     private void loadAllItems() {
         try {
-            allItemNames = itemService.getAllItemNames();
+            allItemNames = masterDataStore.getItemNames();
             if (allItemNames != null && !allItemNames.isEmpty()) {
                 itemNameAutoComplete = new AutoCompleteTextField(txtItemName, allItemNames, kiranFont, txtQuantity);
                 LOG.info("Loaded {} items for all items mode", allItemNames.size());
@@ -1099,7 +1204,7 @@ public class BillingController implements Initializable {
     private void handleItemNameFocus() {
 
         if (!txtItemName.getText().isEmpty()) {
-            Item item = itemService.getItemByName(txtItemName.getText().trim()).orElse(null);
+            Item item = masterDataStore.findItemByName(txtItemName.getText().trim());
             if (item != null) {
                 setItem(item);
             }
@@ -1117,7 +1222,7 @@ public class BillingController implements Initializable {
 
     private void setUpTempTransactionTable() {
         // Load waiter names into ComboBox
-        allWaitorNames = employeesService.getWaiterNames();
+        allWaitorNames = masterDataStore.getWaiterNames();
         setupWaitorComboBox();
 
         Font systemFont14 = Font.font(14);
@@ -1229,54 +1334,62 @@ public class BillingController implements Initializable {
     private void handleCodeEnter() {
         String code = txtCode.getText().trim();
         String categoryName = txtCategoryName.getText().trim();
-        boolean itemFound = false;
 
-        if (!code.isEmpty() && !categoryName.isEmpty()) {
-            itemFound = searchItemByCode(code, categoryName);
-        } else if (!code.isEmpty()) {
-            // Search by code only
-            try {
-                int itemCode = Integer.parseInt(code);
-                Item item = itemService.getItemByCode(itemCode);
-                if (item != null) {
-                    setItem(item);
-                    itemFound = true;
-                } else {
-                    showAlert("Item not found with code: " + code);
-                }
-            } catch (NumberFormatException e) {
-                showAlert("Invalid code format");
-            }
+        if (code.isEmpty()) {
+            txtItemName.requestFocus();
+            return;
         }
 
-        // If item found, move to quantity field; otherwise stay on item name field
-        if (itemFound) {
-            txtQuantity.requestFocus();
-        } else {
+        int itemCode;
+        try {
+            itemCode = Integer.parseInt(code);
+        } catch (NumberFormatException e) {
+            showAlert("Invalid code format: " + code);
             txtItemName.requestFocus();
+            return;
         }
+
+        // If item found, move to quantity field; otherwise stay on item name field
+        lookupItem(() -> findItemByCode(itemCode, categoryName), item -> txtQuantity.requestFocus(),
+                () -> txtItemName.requestFocus());
     }
 
     private void handleItemNameEnter() {
-        System.out.println("Handeling Item Name Enter");
-        //String itemName = txtItemName.getText().trim();
         String itemName = txtItemName.getText();
 
         if (!itemName.isEmpty()) {
-            Item item = itemService.getItemByName(itemName).orElse(null);
-            if (item != null) {
-                setItem(item);
-                txtQuantity.requestFocus();
-            } else {
-                showAlert("Item not found: " + itemName);
-                txtItemName.clear();
-                txtItemName.requestFocus();
-            }
+            lookupItem(() -> Optional.ofNullable(masterDataStore.findItemByName(itemName))
+                            .map(item -> new ItemLookup(item, null))
+                            .orElse(new ItemLookup(null, "Item not found: " + itemName)),
+                    item -> txtQuantity.requestFocus(),
+                    () -> {
+                        txtItemName.clear();
+                        txtItemName.requestFocus();
+                    });
         } else {
             showAlert("Please enter item name");
         }
     }
 
+    /**
+     * Look an item up off the FX thread and fill the form with it.
+     * The result is dropped when the user has switched tables in the meantime.
+     */
+    private void lookupItem(Callable<ItemLookup> lookup, Consumer<Item> onFound, Runnable onNotFound) {
+        itemLookups.submit(ITEM_LOOKUP_LANE, "find item", lookup, result -> {
+            if (result.item() != null) {
+                setItem(result.item());
+                onFound.accept(result.item());
+            } else {
+                showAlert(result.notFoundMessage());
+                onNotFound.run();
+            }
+        }, e -> {
+            showAlert("Error finding item: " + e.getMessage());
+            onNotFound.run();
+        });
+    }
+
     private void handleQuantityEnter() {
         String itemName = txtItemName.getText().trim();
         String quantity = txtQuantity.getText().trim();
@@ -1299,46 +1412,28 @@ public class BillingController implements Initializable {
     }
 
     // ============= Helper Methods =============
-    private boolean searchItemByCode(String code, String categoryName) {
-        try {
-            int itemCode = Integer.parseInt(code);
-
-            if (!categoryName.isEmpty()) {
-                // Search by category and code
-                CategoryMaster category = categoryApiService.getCategoryByName(categoryName).orElse(null);
-
-                if (category != null) {
-                    Item item = itemService.findByCategoryIdAndItemCode(category.getId(), itemCode);
-                    if (item != null) {
-                        setItem(item);
-                        return true;
-                    } else {
-                        showAlert("Item not found for code " + itemCode + " in category " + categoryName);
-                    }
-                } else {
-                    showAlert("Category not found: " + categoryName);
-                }
-            } else {
-                // Search by code only
-                Item item = itemService.getItemByCode(itemCode);
-                if (item != null) {
-                    setItem(item);
-                    return true;
-                } else {
-                    showAlert("Item not found with code: " + itemCode);
-                }
-            }
-        } catch (NumberFormatException e) {
-            showAlert("Invalid code format: " + code);
+    private ItemLookup findItemByCode(int itemCode, String categoryName) {
+        if (!categoryName.isEmpty()) {
+            // Search by category and code
+            CategoryMasterDto category = masterDataStore.findCategoryByName(categoryName);
+            if (category == null) {
+                return new ItemLookup(null, "Category not found: " + categoryName);
+            }
+            Item item = masterDataStore.findItemByCategoryAndCode(category.getId(), itemCode);
+            return item != null ? new ItemLookup(item, null)
+                    : new ItemLookup(null, "Item not found for code " + itemCode + " in category " + categoryName);
         }
-        return false;
+        // Search by code only
+        Item item = masterDataStore.findItemByCode(itemCode);
+        return item != null ? new ItemLookup(item, null)
+                : new ItemLookup(null, "Item not found with code: " + itemCode);
     }
 
     private void loadItemsByCategory(String categoryName) {
-        CategoryMaster category = categoryApiService.getCategoryByName(categoryName).orElse(null);
+        CategoryMasterDto category = masterDataStore.findCategoryByName(categoryName);
 
         if (category != null) {
-            allItemNames = itemService.getItemNameByCategoryId(category.getId());
+            allItemNames = masterDataStore.getItemNamesByCategory(category.getId());
             if (allItemNames != null && !allItemNames.isEmpty()) {
                 itemNameAutoComplete = new AutoCompleteTextField(txtItemName, allItemNames, kiranFont, txtQuantity);
             }
@@ -1366,7 +1461,7 @@ public class BillingController implements Initializable {
             if (!priceText.isEmpty()) {
                 rate = Float.parseFloat(priceText);
             } else {
-                Item item = itemService.getItemByName(itemName).orElse(null);
+                Item item = masterDataStore.findItemByName(itemName);
                 if (item == null) {
                     showAlert("Item not found: " + itemName);
                     return;
@@ -1469,7 +1564,7 @@ public class BillingController implements Initializable {
      */
     public void reloadCategories() {
         try {
-            allCategories = categoryApiService.getAllCategories();
+            allCategories = masterDataStore.getCategories();
 
             // Update category names list
             allCategoryNames = new ArrayList<>();
@@ -1496,7 +1591,10 @@ public class BillingController implements Initializable {
             mainContainer.setStyle("-fx-background-color: transparent;");
 
             // Get section row groups (respects merge configuration)
-            List<List<String>> sectionGroups = tableMasterService.getSectionRowGroups();
+            List<List<String>> sectionGroups = masterDataStore.getSectionRowGroups();
+
+            // Status of all tables in one pass (instead of two queries per button)
+            Map<Integer, String> statuses = tableStatusFeed.refresh();
             int totalTables = 0;
 
             for (List<String> group : sectionGroups) {
@@ -1514,7 +1612,7 @@ public class BillingController implements Initializable {
                 boolean hasAnyTables = false;
 
                 for (String section : group) {
-                    List<TableMaster> tables = tableMasterService.getTablesByDescription(section);
+                    List<TableMaster> tables = masterDataStore.getTablesBySection(section);
 
                     if (tables.isEmpty()) continue;
                     hasAnyTables = true;
@@ -1531,7 +1629,7 @@ public class BillingController implements Initializable {
                     tilePane.setStyle("-fx-background-color: transparent; -fx-padding: 0;");
 
                     for (TableMaster table : tables) {
-                        Button tableButton = createTableButton(table);
+                        Button tableButton = createTableButton(table, TableStatusFeed.statusOf(statuses, table.getId()));
                         tilePane.getChildren().add(tableButton);
 
                         // Set up click handler
@@ -1550,25 +1648,25 @@ public class BillingController implements Initializable {
 
                             txtTableNumber.setText(table.getTableName());
 
-                            // Check if table has any existing transactions before loading
-                            boolean hasExistingTransactions = tempTransactionService.hasTransactions(table.getId())
-                                    || billService.hasClosedBill(table.getId());
+                            // Pending results of the previous table are discarded from here on
+                            selectTable(table.getId());
+                            tempTransactionList.clear();
+                            currentClosedBill = null;
+                            updateTotals();
 
                             // Load existing transactions for this table from database
-                            loadTransactionsForTable(table.getId());
-                            refreshKotStatusPanel(table.getId());
-                            LOG.info("Table selected: {} (ID: {})", table.getTableName(), table.getId());
-
-                            // If table is fresh (no transactions), focus on waiter dropdown
-                            // If table has existing transactions, focus on category field for faster data entry
-                            if (!hasExistingTransactions) {
-                                Platform.runLater(() -> {
+                            loadTransactionsForTable(table.getId(), state -> {
+                                // If table is fresh (no transactions), focus on waiter dropdown
+                                // If table has existing transactions, focus on category field for faster data entry
+                                if (state.isEmpty()) {
                                     cmbWaitorName.requestFocus();
                                     cmbWaitorName.show();
-                                });
-                            } else {
-                                Platform.runLater(() -> txtCategoryName.requestFocus());
-                            }
+                                } else {
+                                    txtCategoryName.requestFocus();
+                                }
+                            });
+                            refreshKotStatusPanel(table.getId());
+                            LOG.info("Table selected: {} (ID: {})", table.getTableName(), table.getId());
                         });
                         totalTables++;
                     }
@@ -1657,22 +1755,9 @@ public class BillingController implements Initializable {
     /**
      * Create a button for a table with Material Design (optimized)
      */
-    private Button createTableButton(TableMaster table) {
+    private Button createTableButton(TableMaster table, String status) {
         Button button = new Button(table.getTableName());
 
-        // Check if table has ongoing transactions or closed bills
-        boolean hasTempTransactions = tempTransactionService.hasTransactions(table.getId());
-        boolean hasClosedBill = billService.hasClosedBill(table.getId());
-
-        String status;
-        if (hasClosedBill) {
-            status = "Closed";
-        } else if (hasTempTransactions) {
-            status = "Ongoing";
-        } else {
-            status = "Available";
-        }
-
         // Apply CSS classes based on status
         button.getStyleClass().add("table-button");
         applyTableButtonStatus(button, status);
@@ -1734,6 +1819,7 @@ public class BillingController implements Initializable {
                 newStatus = "Available";
             }
             applyTableButtonStatus(button, newStatus);
+            tableStatusFeed.update(tableId, newStatus);
             LOG.info("Table {} button status updated to: {} (temp: {}, closed: {})",
                     tableId, newStatus, hasTempTransactions, hasClosedBill);
         }
@@ -1843,7 +1929,7 @@ public class BillingController implements Initializable {
         } else {
             // Normal mode - Add new transaction to database and TableView
             TempTransaction tempTransaction = createTempTransactionFromForm();
-            addTempTransactionToDatabase(tempTransaction);
+            addTempTransactionToDatabase(tempTransaction, cmbWaitorName.getSelectionModel().getSelectedItem());
         }
 
         // Clear form and update totals
@@ -1948,14 +2034,32 @@ public class BillingController implements Initializable {
      * Add transaction to database and sync with TableView
      * If item exists with same name and rate, updates quantity instead
      * Tracks reduced kitchen items when quantity is negative
+     *
+     * The item is shown at once; the save runs off the FX thread and the table is then
+     * reconciled with the database. Until the save finishes the item stays a pending add, which
+     * is re-applied whenever the table is reloaded. On failure the table is reloaded to drop it.
      */
-    private void addTempTransactionToDatabase(TempTransaction transaction) {
-        try {
-            Integer tableNo = transaction.getTableNo();
+    private void addTempTransactionToDatabase(TempTransaction transaction, String selectedWaitor) {
+        Integer tableNo = transaction.getTableNo();
+
+        // Get current user info for tracking
+        Long userId = SessionService.getCurrentUserId();
+        String userName = SessionService.getCurrentUsername();
+
+        // Optimistic update with a copy - the original goes to the database
+        TempTransaction pending = new TempTransaction(transaction.getItemName(), transaction.getQty(),
+                transaction.getRate(), transaction.getAmt(), tableNo);
+        pending.setPrintQty(transaction.getQty());
+        pendingAdds.add(pending);
+        showPendingAdd(pending);
+        updateTotals();
+        Button button = tableButtonMap.get(tableNo);
+        if (button != null && !tempTransactionList.isEmpty()) {
+            applyTableButtonStatus(button, "Ongoing");
+        }
 
-            // Get current user info for tracking
-            Long userId = SessionService.getCurrentUserId();
-            String userName = SessionService.getCurrentUsername();
+        tableCommands.submit(tableNo, "save item", () -> {
+            completeTempTransaction(transaction, selectedWaitor);
 
             // Save to database - use tracking method for negative quantities
             TempTransaction savedTransaction;
@@ -1970,18 +2074,75 @@ public class BillingController implements Initializable {
                 // Positive quantity - use normal method
                 savedTransaction = tempTransactionService.addOrUpdateTransaction(transaction);
             }
+            LOG.info("Transaction saved to database: {}", savedTransaction);
 
-            // Reload all transactions for this table to sync TableView with database
+            // Read back all transactions for this table to sync TableView with database
+            return fetchTableState(tableNo);
+        }, state -> {
+            pendingAdds.remove(pending);
+            applyTableState(state);
+        }, e -> {
+            pendingAdds.remove(pending);
+            alert.showError("Error saving transaction: " + e.getMessage());
             loadTransactionsForTable(tableNo);
+        });
+    }
 
-            // Update table button status to "Ongoing" (green)
-            updateTableButtonStatus(tableNo);
+    /**
+     * Show a pending add in the TableView: merged into the row with the same item and rate,
+     * otherwise as a new row without database id that cannot be edited or removed yet
+     */
+    private void showPendingAdd(TempTransaction pending) {
+        TempTransaction row = new TempTransaction(pending.getItemName(), pending.getQty(),
+                pending.getRate(), pending.getAmt(), pending.getTableNo());
+        row.setPrintQty(pending.getPrintQty());
+        addTempTransactionInTableView(row);
+        if (tempTransactionList.stream().anyMatch(shown -> shown == row)) {
+            row.setId(null);
+            unsavedRows.add(row);
+        }
+    }
 
-            LOG.info("Transaction saved to database: {}", savedTransaction);
-        } catch (Exception e) {
-            LOG.error("Error saving transaction to database", e);
-            alert.showError("Error saving transaction: " + e.getMessage());
+    /**
+     * Rows of pending adds can only be edited or removed once they are saved
+     */
+    private boolean isUnsaved(TempTransaction row) {
+        if (!isEditBillMode && unsavedRows.contains(row)) {
+            alert.showWarning("'" + row.getItemName() + "' is still being saved. Try again in a moment.");
+            return true;
         }
+        return false;
+    }
+
+    /**
+     * The user switched to another table (or none): results and pending adds of the previous table are dropped
+     */
+    private void selectTable(Integer tableNo) {
+        tableCommands.select(tableNo);
+        itemLookups.select(tableNo);
+        pendingAdds.clear();
+        unsavedRows.clear();
+    }
+
+    /**
+     * Save an edited transaction off the FX thread and sync the table with the database afterwards
+     */
+    private void saveTransactionUpdate(TempTransaction transaction, String description) {
+        Integer tableNo = tableCommands.getActiveTable();
+        TempTransaction update = new TempTransaction(transaction.getItemName(), transaction.getQty(),
+                transaction.getRate(), transaction.getAmt(), transaction.getTableNo());
+        update.setId(transaction.getId());
+        update.setWaitorId(transaction.getWaitorId());
+        update.setPrintQty(transaction.getPrintQty());
+
+        tableCommands.submit(tableNo, description, () -> {
+            tempTransactionService.updateTransaction(update);
+            LOG.info("Transaction updated in database: {}", update);
+            return fetchTableState(tableNo);
+        }, this::applyTableState, e -> {
+            alert.showError("Error updating transaction: " + e.getMessage());
+            loadTransactionsForTable(tableNo);
+        });
     }
 
     /**
@@ -1991,108 +2152,136 @@ public class BillingController implements Initializable {
      * 2. New temp_transactions for this table
      */
     private void loadTransactionsForTable(Integer tableNo) {
-        try {
-            // Clear TableView first
-            tempTransactionList.clear();
-
-            // 1. Check for closed bill and load its transactions
-            currentClosedBill = billService.getClosedBillForTable(tableNo);
-            if (currentClosedBill != null) {
-                List<Transaction> closedBillTransactions = billService.getTransactionsForBill(currentClosedBill.getBillNo());
-                LOG.info("Found {} transactions from closed bill #{} for table {}",
-                        closedBillTransactions.size(), currentClosedBill.getBillNo(), tableNo);
-
-                // Convert Transaction to TempTransaction for display
-                // Use negative IDs to distinguish from temp_transaction items
-                int negativeId = -1;
-                for (Transaction trans : closedBillTransactions) {
-                    TempTransaction displayTrans = new TempTransaction();
-                    displayTrans.setId(negativeId--); // Negative ID indicates closed bill item
-                    displayTrans.setItemName(trans.getItemName());
-                    displayTrans.setQty(trans.getQty());
-                    displayTrans.setRate(trans.getRate());
-                    displayTrans.setAmt(trans.getAmt());
-                    displayTrans.setTableNo(tableNo);
-                    displayTrans.setWaitorId(currentClosedBill.getWaitorId());
-                    displayTrans.setPrintQty(0f); // Already printed items from closed bill
-
-                    tempTransactionList.add(displayTrans);
-                }
+        loadTransactionsForTable(tableNo, null);
+    }
 
-                // Set waiter from closed bill
-                if (currentClosedBill.getWaitorId() != null) {
-                    try {
-                        Employees waitor = employeesService.getEmployeeById(currentClosedBill.getWaitorId());
-                        if (waitor != null) {
-                            cmbWaitorName.getSelectionModel().select(waitor.getFirstName());
-                            LOG.info("Waiter from closed bill: {} (ID: {})", waitor.getFirstName(), currentClosedBill.getWaitorId());
-                        }
-                    } catch (Exception e) {
-                        LOG.warn("Could not load waiter with ID: {}", currentClosedBill.getWaitorId());
-                    }
-                }
+    /**
+     * Load a table off the FX thread; afterLoad runs once the TableView shows it
+     */
+    private void loadTransactionsForTable(Integer tableNo, Consumer<TableState> afterLoad) {
+        tableCommands.submit(tableNo, "load table", () -> fetchTableState(tableNo), state -> {
+            applyTableState(state);
+            if (afterLoad != null) {
+                afterLoad.accept(state);
+            }
+        }, null);
+    }
 
-                // Set customer from closed bill if available
-                if (currentClosedBill.getCustomerId() != null) {
-                    try {
-                        for (Customer customer : allCustomers) {
-                            if (customer.getId().equals(currentClosedBill.getCustomerId())) {
-                                selectedCustomer = customer;
-                                displaySelectedCustomer(customer);
-                                LOG.info("Customer from closed bill: {} (ID: {})", customer.getFullName(), customer.getId());
-                                break;
-                            }
-                        }
-                    } catch (Exception e) {
-                        LOG.warn("Could not load customer with ID: {}", currentClosedBill.getCustomerId());
-                    }
-                }
-            } else {
-                LOG.info("No closed bill found for table {}", tableNo);
+    /**
+     * Read closed bill, its lines, new temp_transactions and the waiter of a table (off the FX thread)
+     */
+    private TableState fetchTableState(Integer tableNo) {
+        Bill closedBill = billService.getClosedBillForTable(tableNo);
+        List<Transaction> closedBillTransactions = closedBill != null
+                ? billService.getTransactionsForBill(closedBill.getBillNo())
+                : List.of();
+        List<TempTransaction> tempTransactions = tempTransactionService.getTransactionsByTableNo(tableNo);
+
+        // Waiter from closed bill, otherwise from the temp transactions
+        Integer waitorId = closedBill != null ? closedBill.getWaitorId()
+                : !tempTransactions.isEmpty() ? tempTransactions.get(0).getWaitorId() : null;
+        Employees waitor = null;
+        if (waitorId != null) {
+            try {
+                waitor = masterDataStore.getEmployeeById(waitorId);
+            } catch (Exception e) {
+                LOG.warn("Could not load waiter with ID: {}", waitorId);
             }
+        }
+        return new TableState(tableNo, closedBill, closedBillTransactions, tempTransactions, waitor);
+    }
 
-            // 2. Load new temp_transactions for this table
-            List<TempTransaction> tempTransactions = tempTransactionService.getTransactionsByTableNo(tableNo);
-            LOG.info("Found {} temp transactions for table {}", tempTransactions.size(), tableNo);
+    /**
+     * Show a table's state in the TableView (FX thread)
+     */
+    private void applyTableState(TableState state) {
+        Integer tableNo = state.tableNo();
 
-            // Add temp transactions (these have positive IDs from database)
-            tempTransactionList.addAll(tempTransactions);
+        // Clear TableView first
+        tempTransactionList.clear();
 
-            // Set waiter from temp transactions if no closed bill waiter was set
-            if (currentClosedBill == null && !tempTransactions.isEmpty()) {
-                Integer waitorId = tempTransactions.get(0).getWaitorId();
-                if (waitorId != null) {
-                    try {
-                        Employees waitor = employeesService.getEmployeeById(waitorId);
-                        if (waitor != null) {
-                            cmbWaitorName.getSelectionModel().select(waitor.getFirstName());
-                            LOG.info("Waiter from temp transactions: {} (ID: {})", waitor.getFirstName(), waitorId);
-                        }
-                    } catch (Exception e) {
-                        LOG.warn("Could not load waiter with ID: {}", waitorId);
+        // 1. Closed bill transactions
+        currentClosedBill = state.closedBill();
+        if (currentClosedBill != null) {
+            LOG.info("Found {} transactions from closed bill #{} for table {}",
+                    state.closedBillTransactions().size(), currentClosedBill.getBillNo(), tableNo);
+
+            // Convert Transaction to TempTransaction for display
+            // Use negative IDs to distinguish from temp_transaction items
+            int negativeId = -1;
+            for (Transaction trans : state.closedBillTransactions()) {
+                TempTransaction displayTrans = new TempTransaction();
+                displayTrans.setId(negativeId--); // Negative ID indicates closed bill item
+                displayTrans.setItemName(trans.getItemName());
+                displayTrans.setQty(trans.getQty());
+                displayTrans.setRate(trans.getRate());
+                displayTrans.setAmt(trans.getAmt());
+                displayTrans.setTableNo(tableNo);
+                displayTrans.setWaitorId(currentClosedBill.getWaitorId());
+                displayTrans.setPrintQty(0f); // Already printed items from closed bill
+
+                tempTransactionList.add(displayTrans);
+            }
+
+            // Set customer from closed bill if available
+            if (currentClosedBill.getCustomerId() != null && allCustomers != null) {
+                for (Customer customer : allCustomers) {
+                    if (customer.getId().equals(currentClosedBill.getCustomerId())) {
+                        selectedCustomer = customer;
+                        displaySelectedCustomer(customer);
+                        LOG.info("Customer from closed bill: {} (ID: {})", customer.getFullName(), customer.getId());
+                        break;
                     }
                 }
             }
+        } else {
+            LOG.info("No closed bill found for table {}", tableNo);
+        }
 
-            // Clear waiter selection only if no items at all
-            if (tempTransactionList.isEmpty()) {
-                cmbWaitorName.getSelectionModel().clearSelection();
+        // 2. New temp_transactions (these have positive IDs from database)
+        List<TempTransaction> tempTransactions = state.tempTransactions();
+        LOG.info("Found {} temp transactions for table {}", tempTransactions.size(), tableNo);
+        tempTransactionList.addAll(tempTransactions);
+
+        // 3. Items still waiting in the table's queue to be saved
+        unsavedRows.clear();
+        for (TempTransaction pending : pendingAdds) {
+            if (tableNo.equals(pending.getTableNo())) {
+                showPendingAdd(pending);
             }
+        }
 
-            tblTransaction.refresh();
-            updateTotals();
+        // Waiter from closed bill or temp transactions
+        if (state.waitor() != null) {
+            cmbWaitorName.getSelectionModel().select(state.waitor().getFirstName());
+            LOG.info("Waiter for table {}: {} (ID: {})", tableNo, state.waitor().getFirstName(), state.waitor().getEmployeeId());
+        }
 
-            // Update Close button state
-            // Disable if there's a closed bill but no new temp_transactions
-            updateCloseButtonState(currentClosedBill != null, tempTransactions.isEmpty());
+        // Clear waiter selection only if no items at all
+        if (tempTransactionList.isEmpty()) {
+            cmbWaitorName.getSelectionModel().clearSelection();
+        }
 
-            LOG.info("Total {} items loaded for table {} (closed bill: {}, new: {})",
-                    tempTransactionList.size(), tableNo,
-                    currentClosedBill != null ? currentClosedBill.getBillNo() : "none",
-                    tempTransactions.size());
-        } catch (Exception e) {
-            LOG.error("Error loading transactions for table {}", tableNo, e);
+        tblTransaction.refresh();
+        updateTotals();
+
+        // Update Close button state
+        // Disable if there's a closed bill but no new temp_transactions
+        updateCloseButtonState(currentClosedBill != null, tempTransactions.isEmpty());
+
+        // Table button follows the loaded state (temp transactions win over a closed bill)
+        String status = !tempTransactions.isEmpty() ? TableStatusFeed.ONGOING
+                : currentClosedBill != null ? TableStatusFeed.CLOSED : TableStatusFeed.AVAILABLE;
+        Button button = tableButtonMap.get(tableNo);
+        if (button != null) {
+            applyTableButtonStatus(button, status);
         }
+        tableStatusFeed.update(tableNo, status);
+
+        LOG.info("Total {} items loaded for table {} (closed bill: {}, new: {})",
+                tempTransactionList.size(), tableNo,
+                currentClosedBill != null ? currentClosedBill.getBillNo() : "none",
+                tempTransactions.size());
     }
 
     /**
@@ -2118,6 +2307,10 @@ public class BillingController implements Initializable {
             return;
         }
 
+        if (isUnsaved(selected)) {
+            return;
+        }
+
         selectedTransaction = selected;
         isEditMode = true;
         populateFormFromSelection(selected);
@@ -2144,22 +2337,16 @@ public class BillingController implements Initializable {
             selectedTransaction.setRate(newRate);
             selectedTransaction.setAmt(newAmt);
             selectedTransaction.setPrintQty(newQty);
+            tblTransaction.refresh();
+            updateTotals();
 
-            // Save updated transaction to database
-            tempTransactionService.updateTransaction(selectedTransaction);
-
-            // Reload transactions to sync
-            loadTransactionsForTable(selectedTransaction.getTableNo());
-
-            LOG.info("Transaction updated in database: {}", selectedTransaction);
+            // Save updated transaction to database, then reload to sync
+            saveTransactionUpdate(selectedTransaction, "update item");
 
             // Reset edit mode
             resetEditMode();
         } catch (NumberFormatException e) {
             alert.showError("Invalid quantity or price");
-        } catch (Exception e) {
-            LOG.error("Error updating transaction", e);
-            alert.showError("Error updating transaction: " + e.getMessage());
         }
     }
 
@@ -2177,6 +2364,9 @@ public class BillingController implements Initializable {
             alert.showError("Please select an item to remove");
             return;
         }
+        if (isUnsaved(selected)) {
+            return;
+        }
 
         // Confirm removal
         if (alert.showConfirmation("Remove Item", "Are you sure you want to remove '" + selected.getItemName() + "'?")) {
@@ -2193,22 +2383,27 @@ public class BillingController implements Initializable {
                     Long userId = SessionService.getCurrentUserId();
                     String userName = SessionService.getCurrentUsername();
 
-                    // Use tracking method to track kitchen item removals
-                    tempTransactionService.removeTransactionWithTracking(
-                            selected.getId(),
-                            userId != null ? userId.intValue() : null,
-                            userName
-                    );
-
-                    // Reload transactions for this table to sync
-                    Integer tableNo = tableMasterService.getTableByName(txtTableNumber.getText()).getId();
-                    loadTransactionsForTable(tableNo);
+                    // Remove from the view at once; the delete runs off the FX thread
+                    Integer tableNo = tableCommands.getActiveTable();
+                    tempTransactionList.remove(selected);
+                    updateTotals();
+                    clearItemForm();
 
-                    // Update table button status (may change to "Available" if last item removed)
-                    updateTableButtonStatus(tableNo);
+                    tableCommands.submit(tableNo, "remove item", () -> {
+                        // Use tracking method to track kitchen item removals
+                        tempTransactionService.removeTransactionWithTracking(
+                                selected.getId(),
+                                userId != null ? userId.intValue() : null,
+                                userName
+                        );
+                        LOG.info("Item removed from database: {}", selected.getItemName());
 
-                    clearItemForm();
-                    LOG.info("Item removed from database: {}", selected.getItemName());
+                        // Reload transactions for this table to sync (table button may change to "Available")
+                        return fetchTableState(tableNo);
+                    }, this::applyTableState, e -> {
+                        alert.showError("Error removing item: " + e.getMessage());
+                        loadTransactionsForTable(tableNo);
+                    });
                 }
             } catch (Exception e) {
                 LOG.error("Error removing item", e);
@@ -2251,9 +2446,9 @@ public class BillingController implements Initializable {
         // Use Platform.runLater to ensure code is set after other UI updates
         final String itemName = transaction.getItemName();
         Platform.runLater(() -> {
-            if (itemName != null && !itemName.trim().isEmpty() && itemService != null) {
+            if (itemName != null && !itemName.trim().isEmpty()) {
                 try {
-                    Item item = itemService.getItemByName(itemName.trim()).orElse(null);
+                    Item item = masterDataStore.findItemByName(itemName.trim());
                     if (item != null && item.getItemCode() != null) {
                         txtCode.setText(String.valueOf(item.getItemCode()));
                     } else {
@@ -2276,66 +2471,77 @@ public class BillingController implements Initializable {
             return;
         }
 
-        if (txtTableNumber.getText().isEmpty()) {
+        if (txtTableNumber.getText().isEmpty() || tableCommands.getActiveTable() == null) {
             alert.showError("Please select a table first");
             return;
         }
 
-        try {
-            String tableName = txtTableNumber.getText();
-            Integer tableId = tableMasterService.getTableByName(tableName).getId();
-
-            // Get items with printQty > 0 (items that need kitchen printing)
-            List<TempTransaction> printableItems = tempTransactionService.getPrintableItemsByTableNo(tableId);
+        String tableName = txtTableNumber.getText();
+        Integer tableId = tableCommands.getActiveTable();
 
-            if (printableItems.isEmpty()) {
+        // Printing and KOT creation run off the FX thread. Commands of a table run one at a time,
+        // so a second click finds the items already sent instead of printing them twice.
+        tableCommands.submit(tableId, "print KOT", () -> sendToKitchen(tableId, tableName), result -> {
+            if (result.itemCount() == 0) {
                 alert.showInfo("No new items to print. All items have already been sent to kitchen.");
-                return;
+            } else if (result.printed()) {
+                // Show the updated printQty
+                applyTableState(result.state());
+                refreshKotStatusPanel(tableId);
+                alert.showInfo("KOT printed successfully! " + result.itemCount() + " items sent to kitchen.");
+            } else if (result.printError() != null && !result.printError().isEmpty()) {
+                // There was an error (not just user cancellation)
+                alert.showError("Print failed: " + result.printError());
             }
+        }, e -> alert.showError("Error processing order: " + e.getMessage()));
+    }
 
-            // Get waiter ID from first transaction
-            Integer waitorId = printableItems.get(0).getWaitorId();
-
-            LOG.info("Processing order for table: {} with {} printable items",
-                    tableName, printableItems.size());
-
-            // Print KOT to thermal printer (with dialog for printer selection)
-            kotOrderPrint.clearLastPrintError();
-            boolean printSuccess = kotOrderPrint.printKOTWithDialog(tableName, tableId, printableItems, waitorId);
-
-            if (printSuccess) {
-                // Reset printQty to 0 after successful print
-                tempTransactionService.resetPrintQtyForTable(tableId);
+    /**
+     * Print the KOT for items with printQty > 0, reset printQty and create the KitchenOrder (off the FX thread)
+     */
+    private KotResult sendToKitchen(Integer tableId, String tableName) {
+        // Get items with printQty > 0 (items that need kitchen printing)
+        List<TempTransaction> printableItems = tempTransactionService.getPrintableItemsByTableNo(tableId);
+        if (printableItems.isEmpty()) {
+            return new KotResult(0, false, null, null);
+        }
 
-                // Create KitchenOrder record
-                try {
-                    kitchenOrderService.createKitchenOrder(tableId, tableName, waitorId, printableItems);
-                } catch (Exception kotEx) {
-                    LOG.error("Failed to create KitchenOrder: {}", kotEx.getMessage());
-                }
+        // Get waiter ID from first transaction
+        Integer waitorId = printableItems.get(0).getWaitorId();
 
-                // Reload transactions to reflect updated printQty
-                loadTransactionsForTable(tableId);
+        LOG.info("Processing order for table: {} with {} printable items",
+                tableName, printableItems.size());
 
-                refreshKotStatusPanel(tableId);
+        // Print KOT to thermal printer; one print at a time so the last print error belongs to this KOT
+        boolean printSuccess;
+        String printError;
+        synchronized (kotOrderPrint) {
+            kotOrderPrint.clearLastPrintError();
+            printSuccess = kotOrderPrint.printKOTWithDialog(tableName, tableId, printableItems, waitorId);
+            printError = kotOrderPrint.getLastPrintError();
+        }
 
-                alert.showInfo("KOT printed successfully! " + printableItems.size() + " items sent to kitchen.");
-                LOG.info("KOT printed and printQty reset for table {}", tableName);
+        if (!printSuccess) {
+            if (printError != null && !printError.isEmpty()) {
+                LOG.error("KOT print failed for table {}: {}", tableName, printError);
             } else {
-                // Check if there was an error (not just user cancellation)
-                String printError = kotOrderPrint.getLastPrintError();
-                if (printError != null && !printError.isEmpty()) {
-                    alert.showError("Print failed: " + printError);
-                    LOG.error("KOT print failed for table {}: {}", tableName, printError);
-                } else {
-                    LOG.info("KOT print cancelled by user for table {}", tableName);
-                }
+                LOG.info("KOT print cancelled by user for table {}", tableName);
             }
+            return new KotResult(printableItems.size(), false, printError, null);
+        }
 
-        } catch (Exception e) {
-            LOG.error("Error processing order", e);
-            alert.showError("Error processing order: " + e.getMessage());
+        // Reset printQty to 0 after successful print
+        tempTransactionService.resetPrintQtyForTable(tableId);
+
+        // Create KitchenOrder record
+        try {
+            kitchenOrderService.createKitchenOrder(tableId, tableName, waitorId, printableItems);
+        } catch (Exception kotEx) {
+            LOG.error("Failed to create KitchenOrder: {}", kotEx.getMessage());
         }
+
+        LOG.info("KOT printed and printQty reset for table {}", tableName);
+        return new KotResult(printableItems.size(), true, null, fetchTableState(tableId));
     }
 
     private void updateTotals() {
@@ -2672,7 +2878,7 @@ public class BillingController implements Initializable {
                             setText(null);
                             setStyle("");
                         } else if (customerId != null && customerId > 0) {
-                            Customer customer = customerService.getCustomerById(customerId);
+                            Customer customer = customerDirectory.getById(customerId);
                             String customerName = customer != null ? customer.getFullName() : "";
                             setText(customerName);
                             // Apply custom font for customer name
@@ -2806,7 +3012,7 @@ public class BillingController implements Initializable {
                     results = results.stream()
                             .filter(bill -> {
                                 if (bill.getCustomerId() != null) {
-                                    Customer customer = customerService.getCustomerById(bill.getCustomerId());
+                                    Customer customer = customerDirectory.getById(bill.getCustomerId());
                                     return customer != null &&
                                             customer.getFullName().toLowerCase().contains(customerSearch);
                                 }
@@ -2818,7 +3024,7 @@ public class BillingController implements Initializable {
             // Search by customer name only
             else if (!searchCustomer.isEmpty()) {
                 // Get all customers matching the search
-                List<Customer> matchingCustomers = customerService.getAllCustomers().stream()
+                List<Customer> matchingCustomers = customerDirectory.getAll().stream()
                         .filter(c -> c.getFullName().toLowerCase().contains(searchCustomer.toLowerCase()))
                         .collect(java.util.stream.Collectors.toList());
 
@@ -2880,7 +3086,7 @@ public class BillingController implements Initializable {
             }
 
             // Get all customers for autocomplete
-            List<Customer> customers = customerService.getAllCustomers();
+            List<Customer> customers = customerDirectory.getAll();
             List<String> customerNames = new ArrayList<>();
             for (Customer customer : customers) {
                 String fullName = customer.getFullName();
@@ -3125,18 +3331,26 @@ public class BillingController implements Initializable {
         tempTransaction.setQty(qty);
         tempTransaction.setRate(Float.parseFloat(txtPrice.getText()));
         tempTransaction.setAmt(Float.parseFloat(txtAmount.getText()));
-        tempTransaction.setTableNo(tableMasterService.getTableByName(txtTableNumber.getText()).getId());
-        String selectedWaitor = cmbWaitorName.getSelectionModel().getSelectedItem();
-        tempTransaction.setWaitorId(employeesService.searchByFirstName(selectedWaitor).get(0).getEmployeeId());
+        tempTransaction.setTableNo(tableCommands.getActiveTable());
+
+        LOG.info("Created transaction: item={}, qty={}", itemName, qty);
+        return tempTransaction;
+    }
+
+    /**
+     * Fill in waiter and printQty (database lookups, called off the FX thread)
+     */
+    private void completeTempTransaction(TempTransaction tempTransaction, String selectedWaitor) {
+        Employees waitor = masterDataStore.findWaiterByName(selectedWaitor);
+        if (waitor == null) {
+            throw new RuntimeException("Waiter not found: " + selectedWaitor);
+        }
+        tempTransaction.setWaitorId(waitor.getEmployeeId());
 
         // Set printQty based on category stock
         // If category stock = 'N' (no stock tracking), set printQty = qty (needs to be printed for kitchen)
         // If category stock = 'Y' (has stock), set printQty = 0 (doesn't need kitchen print)
-        Float printQty = calculatePrintQty(itemName, qty);
-        tempTransaction.setPrintQty(printQty);
-
-        LOG.info("Created transaction: item={}, qty={}, printQty={}", itemName, qty, printQty);
-        return tempTransaction;
+        tempTransaction.setPrintQty(calculatePrintQty(tempTransaction.getItemName(), tempTransaction.getQty()));
     }
 
     /**
@@ -3147,7 +3361,7 @@ public class BillingController implements Initializable {
     private Float calculatePrintQty(String itemName, Float qty) {
         try {
             // Get the item with its category
-            Item item = itemService.getItemByName(itemName).orElse(null);
+            Item item = masterDataStore.findItemByName(itemName);
             if (item == null) {
                 LOG.warn("Item not found: {}, defaulting printQty to qty", itemName);
                 return qty;
@@ -3156,7 +3370,7 @@ public class BillingController implements Initializable {
             // Get category to check stock setting
             Integer categoryId = item.getCategoryId();
             if (categoryId != null) {
-                CategoryMasterDto category = categoryApiService.getCategoryById(categoryId);
+                CategoryMasterDto category = masterDataStore.getCategoryById(categoryId);
                 if (category != null && "N".equalsIgnoreCase(category.getStock())) {
                     // Stock = 'N' means no stock tracking, needs to be printed for kitchen
                     LOG.debug("Category '{}' has stock='N', setting printQty={}", category.getCategory(), qty);
@@ -3193,6 +3407,10 @@ public class BillingController implements Initializable {
 
             for (int i = 0; i < tempTransactionList.size(); i++) {
                 TempTransaction oldTransaction = tempTransactionList.get(i);
+                // Closed bill lines (negative IDs) are never merged with new items
+                if (oldTransaction.getId() != null && oldTransaction.getId() < 0) {
+                    continue;
+                }
                 if (oldTransaction.getItemName().equals(tempTransaction.getItemName())
                         && Float.compare(oldTransaction.getRate(), tempTransaction.getRate()) == 0) {
                     System.out.println("Match found at index " + i);
@@ -3339,6 +3557,7 @@ public class BillingController implements Initializable {
      * - If no closed bill: create new bill with CLOSE status
      * - Table stays selected after closing, showing the closed bill items
      * - No confirmation alerts - just save silently
+     * - Runs on the table's command queue, so items still being saved are part of the bill
      */
     private void closeTable() {
         if (txtTableNumber.getText().isEmpty()) {
@@ -3353,107 +3572,106 @@ public class BillingController implements Initializable {
 
         try {
             String tableName = txtTableNumber.getText();
-            Integer tableId = tableMasterService.getTableByName(tableName).getId();
+            Integer tableId = masterDataStore.getTableByName(tableName).getId();
 
-            // Get new temp transactions (items with positive IDs are from temp_transaction table)
-            List<TempTransaction> newTempTransactions = tempTransactionService.getTransactionsByTableNo(tableId);
-
-            // Check if we have an existing closed bill
-            boolean hasClosedBill = currentClosedBill != null;
-            boolean hasNewItems = !newTempTransactions.isEmpty();
-
-            // If only closed bill items and no new items, nothing to add
-            if (hasClosedBill && !hasNewItems) {
-                alert.showWarning("Table already closed. No new items to add.");
-                return;
+            // Waiter, customer and user for a new closed bill are taken from the screen now
+            Integer waitorId = null;
+            String selectedWaitor = cmbWaitorName.getSelectionModel().getSelectedItem();
+            if (selectedWaitor != null && !selectedWaitor.isEmpty()) {
+                Employees waiter = masterDataStore.findWaiterByName(selectedWaitor);
+                if (waiter != null) {
+                    waitorId = waiter.getEmployeeId();
+                }
             }
-
-            Bill savedBill;
-
-            if (hasClosedBill && hasNewItems) {
-                // Add new items to existing closed bill
-                savedBill = billService.addTransactionsToClosedBill(tableId, newTempTransactions);
-                LOG.info("Added {} new items to closed bill #{}", newTempTransactions.size(), savedBill.getBillNo());
-            } else {
-                // Create new closed bill
-                // Get waiter ID from combo box
-                Integer waitorId = null;
-                String selectedWaitor = cmbWaitorName.getSelectionModel().getSelectedItem();
-                if (selectedWaitor != null && !selectedWaitor.isEmpty()) {
-                    List<Employees> waiters = employeesService.searchByFirstName(selectedWaitor);
-                    if (!waiters.isEmpty()) {
-                        waitorId = waiters.get(0).getEmployeeId();
-                    }
+            Integer customerId = selectedCustomer != null ? selectedCustomer.getId() : null;
+            Long userIdLong = SessionService.getCurrentUserId();
+            Integer userId = userIdLong != null ? userIdLong.intValue() : null;
+            Integer finalWaitorId = waitorId;
+
+            // Runs on the table's queue after the item saves submitted before it
+            tableCommands.submit(tableId, "close table", () -> {
+                List<TempTransaction> newTempTransactions = tempTransactionService.getTransactionsByTableNo(tableId);
+                if (newTempTransactions.isEmpty()) {
+                    // Only closed bill items (or nothing left), nothing to add
+                    return null;
                 }
-
-                // Get customer ID if selected
-                Integer customerId = null;
-                if (selectedCustomer != null) {
-                    customerId = selectedCustomer.getId();
+                if (billService.hasClosedBill(tableId)) {
+                    // Add new items to existing closed bill
+                    Bill bill = billService.addTransactionsToClosedBill(tableId, newTempTransactions);
+                    LOG.info("Added {} new items to closed bill #{}", newTempTransactions.size(), bill.getBillNo());
+                    return bill;
                 }
+                // Create new closed bill
+                Bill bill = billService.createClosedBill(tableId, customerId, finalWaitorId, userId, newTempTransactions);
+                LOG.info("Created new closed bill #{} with {} items", bill.getBillNo(), newTempTransactions.size());
+                return bill;
+            }, savedBill -> {
+                if (savedBill == null) {
+                    alert.showWarning("Table already closed. No new items to add.");
+                    return;
+                }
+                onTableClosed(tableId, tableName, savedBill);
+            }, e -> alert.showError("Error closing table: " + e.getMessage()));
 
-                // Get current user ID from session
-                Long userIdLong = SessionService.getCurrentUserId();
-                Integer userId = userIdLong != null ? userIdLong.intValue() : null;
-
-                savedBill = billService.createClosedBill(tableId, customerId, waitorId, userId, newTempTransactions);
-                LOG.info("Created new closed bill #{} with {} items", savedBill.getBillNo(), newTempTransactions.size());
-            }
+        } catch (Exception e) {
+            LOG.error("Error closing table", e);
+            alert.showError("Error closing table: " + e.getMessage());
+        }
+    }
 
-            // Update table button status to Closed (red)
-            updateTableButtonStatus(tableId);
+    /**
+     * Show the closed table and print its bill (FX thread)
+     */
+    private void onTableClosed(Integer tableId, String tableName, Bill savedBill) {
+        // Update table button status to Closed (red)
+        updateTableButtonStatus(tableId);
 
-            // Reload transactions for this table to show closed bill items
-            // Table stays selected, user can now pay the bill
-            loadTransactionsForTable(tableId);
+        // Reload transactions for this table to show closed bill items
+        // Table stays selected, user can now pay the bill
+        loadTransactionsForTable(tableId);
 
-            // Clear item form only (keep table selected)
-            clearItemForm();
+        // Clear item form only (keep table selected)
+        clearItemForm();
 
-            // Set focus to cash received field so user can enter payment
-            if (txtCashReceived != null) {
-                txtCashReceived.requestFocus();
-            }
+        // Set focus to cash received field so user can enter payment
+        if (txtCashReceived != null) {
+            txtCashReceived.requestFocus();
+        }
 
-            LOG.info("Table {} closed. Bill #{} saved as CLOSED with amount ₹{}", tableName, savedBill.getBillNo(), savedBill.getBillAmt());
+        LOG.info("Table {} closed. Bill #{} saved as CLOSED with amount ₹{}", tableName, savedBill.getBillNo(), savedBill.getBillAmt());
 
-            // Print the bill as PDF
-            final Bill billToPrint = savedBill;
-            final String tableNameForPrint = tableName;
+        // Print the bill as PDF
+        final Bill billToPrint = savedBill;
+        final String tableNameForPrint = tableName;
 
-            // Check if QR code printing is enabled
-            final boolean printQR = isPrintQRSelected();
-            final String upiId = printQR ? getSelectedBankUpiId() : null;
-            final String bankName = printQR ? getSelectedBankName() : null;
+        // Check if QR code printing is enabled
+        final boolean printQR = isPrintQRSelected();
+        final String upiId = printQR ? getSelectedBankUpiId() : null;
+        final String bankName = printQR ? getSelectedBankName() : null;
 
-            // Run printing in background thread to avoid blocking UI
-            new Thread(() -> {
-                try {
-                    if (printQR && upiId != null && !upiId.trim().isEmpty()) {
-                        // Print bill with QR code for UPI payment
-                        if (SessionService.isUseBillLogo()) {
-                            billPrintWithLogo.printBillWithQR(billToPrint, tableNameForPrint, true, upiId, bankName);
-                        } else {
-                            billPrint.printBillWithQR(billToPrint, tableNameForPrint, true, upiId, bankName);
-                        }
-                        LOG.info("Bill #{} printed with QR code for UPI: {}", billToPrint.getBillNo(), upiId);
+        // Run printing in background thread to avoid blocking UI
+        new Thread(() -> {
+            try {
+                if (printQR && upiId != null && !upiId.trim().isEmpty()) {
+                    // Print bill with QR code for UPI payment
+                    if (SessionService.isUseBillLogo()) {
+                        billPrintWithLogo.printBillWithQR(billToPrint, tableNameForPrint, true, upiId, bankName);
                     } else {
-                        // Print bill without QR code
-                        if (SessionService.isUseBillLogo()) {
-                            billPrintWithLogo.printBillWithDialog(billToPrint, tableNameForPrint);
-                        } else {
-                            billPrint.printBillWithDialog(billToPrint, tableNameForPrint);
-                        }
+                        billPrint.printBillWithQR(billToPrint, tableNameForPrint, true, upiId, bankName);
+                    }
+                    LOG.info("Bill #{} printed with QR code for UPI: {}", billToPrint.getBillNo(), upiId);
+                } else {
+                    // Print bill without QR code
+                    if (SessionService.isUseBillLogo()) {
+                        billPrintWithLogo.printBillWithDialog(billToPrint, tableNameForPrint);
+                    } else {
+                        billPrint.printBillWithDialog(billToPrint, tableNameForPrint);
                     }
-                } catch (Exception e) {
-                    LOG.error("Error printing bill #{}: {}", billToPrint.getBillNo(), e.getMessage(), e);
                 }
-            }).start();
-
-        } catch (Exception e) {
-            LOG.error("Error closing table", e);
-            alert.showError("Error closing table: " + e.getMessage());
-        }
+            } catch (Exception e) {
+                LOG.error("Error printing bill #{}: {}", billToPrint.getBillNo(), e.getMessage(), e);
+            }
+        }).start();
     }
 
     /**
@@ -3468,17 +3686,22 @@ public class BillingController implements Initializable {
         }
 
         String tableName = txtTableNumber.getText();
-        Integer tableId = tableMasterService.getTableByName(tableName).getId();
-
-        // Check if table has temp transactions or closed bill
-        boolean hasTempTransactions = tempTransactionService.hasTransactions(tableId);
-        boolean hasClosedBill = billService.hasClosedBill(tableId);
-
-        if (!hasTempTransactions && !hasClosedBill) {
-            alert.showError("Selected table has no items to shift");
-            return;
-        }
+        Integer tableId = masterDataStore.getTableByName(tableName).getId();
+
+        // Check if table has temp transactions or closed bill, after the item saves already queued for it
+        tableCommands.submit(tableId, "check shift",
+                () -> tempTransactionService.hasTransactions(tableId) || billService.hasClosedBill(tableId),
+                hasItems -> {
+                    if (hasItems) {
+                        enableShiftTableMode(tableId, tableName);
+                    } else {
+                        alert.showError("Selected table has no items to shift");
+                    }
+                },
+                e -> alert.showError("Error: " + e.getMessage()));
+    }
 
+    private void enableShiftTableMode(Integer tableId, String tableName) {
         // Enable shift mode
         isShiftTableMode = true;
         shiftSourceTableId = tableId;
@@ -3515,51 +3738,50 @@ public class BillingController implements Initializable {
     }
 
     /**
-     * Perform the actual table shift operation
+     * Perform the actual table shift operation.
+     * Runs on the source table's command queue, so items still being saved move with the table.
      */
     private void performTableShift(Integer targetTableId, String targetTableName) {
-        try {
-            LOG.info("Shifting items from table {} to table {}", shiftSourceTableName, targetTableName);
+        Integer sourceTableId = shiftSourceTableId;
+        String sourceTableName = shiftSourceTableName;
+        LOG.info("Shifting items from table {} to table {}", sourceTableName, targetTableName);
+
+        // Exit shift mode
+        cancelShiftTableMode();
 
+        tableCommands.submit(sourceTableId, "shift table", () -> {
             // 1. Shift temp_transactions
-            int tempShifted = tempTransactionService.shiftTransactionsToTable(shiftSourceTableId, targetTableId);
+            int tempShifted = tempTransactionService.shiftTransactionsToTable(sourceTableId, targetTableId);
             LOG.info("Shifted {} temp transactions", tempShifted);
 
             // 2. Shift closed bill transactions (if exists)
-            Bill closedBill = billService.getClosedBillForTable(shiftSourceTableId);
-            if (closedBill != null) {
-                billService.shiftBillToTable(closedBill.getBillNo(), targetTableId);
-                LOG.info("Shifted closed bill #{} to table {}", closedBill.getBillNo(), targetTableName);
+            if (billService.shiftClosedBillToTable(sourceTableId, targetTableId) > 0) {
+                LOG.info("Shifted closed bill to table {}", targetTableName);
             }
 
             // 2b. Shift kitchen orders
             try {
-                kitchenOrderService.shiftKitchenOrders(shiftSourceTableId, targetTableId, targetTableName);
+                kitchenOrderService.shiftKitchenOrders(sourceTableId, targetTableId, targetTableName);
             } catch (Exception e) {
                 LOG.error("Failed to shift KitchenOrders: {}", e.getMessage());
             }
-
+            return tempShifted;
+        }, tempShifted -> {
             // 3. Update source table button status
-            updateTableButtonStatus(shiftSourceTableId);
+            updateTableButtonStatus(sourceTableId);
 
             // 4. Update target table button status
             updateTableButtonStatus(targetTableId);
 
             // 5. Select and load the target table
             txtTableNumber.setText(targetTableName);
+            selectTable(targetTableId);
             loadTransactionsForTable(targetTableId);
             refreshKotStatusPanel(targetTableId);
 
-            alert.showInfo("Successfully shifted items from " + shiftSourceTableName + " to " + targetTableName);
+            alert.showInfo("Successfully shifted items from " + sourceTableName + " to " + targetTableName);
             LOG.info("Table shift completed successfully");
-
-        } catch (Exception e) {
-            LOG.error("Error shifting table", e);
-            alert.showError("Error shifting table: " + e.getMessage());
-        } finally {
-            // Exit shift mode
-            cancelShiftTableMode();
-        }
+        }, e -> alert.showError("Error shifting table: " + e.getMessage()));
     }
 
     /**
@@ -3588,7 +3810,7 @@ public class BillingController implements Initializable {
 
         try {
             String tableName = txtTableNumber.getText();
-            Integer tableId = tableMasterService.getTableByName(tableName).getId();
+            Integer tableId = masterDataStore.getTableByName(tableName).getId();
             openKitchenStatusDialog(tableId, tableName);
         } catch (Exception e) {
             LOG.error("Error opening kitchen status dialog", e);
@@ -3823,12 +4045,23 @@ public class BillingController implements Initializable {
 
         try {
             String tableName = txtTableNumber.getText();
-            Integer tableId = tableMasterService.getTableByName(tableName).getId();
+            Integer tableId = masterDataStore.getTableByName(tableName).getId();
 
-            // Check if there are new temp transactions for this table
-            List<TempTransaction> newTempTransactions = tempTransactionService.getTransactionsByTableNo(tableId);
-            boolean hasNewTempTransactions = !newTempTransactions.isEmpty();
+            // Check for new temp transactions on the table's queue, after the item saves submitted before it
+            tableCommands.submit(tableId, "check new items", () -> tempTransactionService.hasTransactions(tableId),
+                    hasNewTempTransactions -> processPayment(tableId, tableName, hasNewTempTransactions),
+                    e -> alert.showError("Error: " + e.getMessage()));
+        } catch (Exception e) {
+            LOG.error("Error processing payment", e);
+            alert.showError("Error: " + e.getMessage());
+        }
+    }
 
+    /**
+     * Validate the closed bill and record the payment (FX thread, once the table's queue has caught up)
+     */
+    private void processPayment(Integer tableId, String tableName, boolean hasNewTempTransactions) {
+        try {
             // Validation 3: Check if this is a closed bill
             if (currentClosedBill == null) {
                 if (hasNewTempTransactions) {
@@ -4046,6 +4279,7 @@ public class BillingController implements Initializable {
             clearSelectedCustomer();
             cmbWaitorName.getSelectionModel().clearSelection();
             txtTableNumber.clear();
+            selectTable(null);
 
             // Refresh bill history to show the new bill
             loadTodaysBills();
@@ -4125,7 +4359,7 @@ public class BillingController implements Initializable {
             String tableName = "Table";
             if (billToPrint.getTableNo() != null) {
                 try {
-                    TableMaster table = tableMasterService.getTableById(billToPrint.getTableNo());
+                    TableMaster table = masterDataStore.getTableById(billToPrint.getTableNo());
                     tableName = table.getTableName();
                 } catch (Exception e) {
                     LOG.warn("Could not get table name for tableNo: {}", billToPrint.getTableNo());
@@ -4216,9 +4450,10 @@ public class BillingController implements Initializable {
             // Load table number
             if (billBeingEdited.getTableNo() != null) {
                 try {
-                    TableMaster table = tableMasterService.getTableById(billBeingEdited.getTableNo());
+                    TableMaster table = masterDataStore.getTableById(billBeingEdited.getTableNo());
                     if (table != null) {
                         txtTableNumber.setText(table.getTableName());
+                        selectTable(table.getId());
                     }
                 } catch (Exception e) {
                     LOG.warn("Could not load table for bill: {}", e.getMessage());
@@ -4228,7 +4463,7 @@ public class BillingController implements Initializable {
             // Load waiter
             if (billBeingEdited.getWaitorId() != null) {
                 try {
-                    Employees waiter = employeesService.getEmployeeById(billBeingEdited.getWaitorId());
+                    Employees waiter = masterDataStore.getEmployeeById(billBeingEdited.getWaitorId());
                     if (waiter != null) {
                         cmbWaitorName.getSelectionModel().select(waiter.getFirstName());
                     }
@@ -4357,6 +4592,7 @@ public class BillingController implements Initializable {
         // Clear form
         tempTransactionList.clear();
         txtTableNumber.clear();
+        selectTable(null);
         cmbWaitorName.getSelectionModel().clearSelection();
         selectedCustomer = null;
         if (selectedCustomerDisplay != null) {
@@ -4395,9 +4631,9 @@ public class BillingController implements Initializable {
             Integer waitorId = null;
             String selectedWaitor = cmbWaitorName.getSelectionModel().getSelectedItem();
             if (selectedWaitor != null && !selectedWaitor.isEmpty()) {
-                List<Employees> waiters = employeesService.searchByFirstName(selectedWaitor);
-                if (!waiters.isEmpty()) {
-                    waitorId = waiters.get(0).getEmployeeId();
+                Employees waiter = masterDataStore.findWaiterByName(selectedWaitor);
+                if (waiter != null) {
+                    waitorId = waiter.getEmployeeId();
                 }
             }
 
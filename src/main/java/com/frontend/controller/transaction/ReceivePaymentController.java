@@ -51,7 +51,7 @@ public class ReceivePaymentController implements Initializable {
     // ============= Services =============
     @Autowired private SalesPaymentReceiptService salesPaymentReceiptService;
     @Autowired private BillService billService;
-    @Autowired private CustomerService customerService;
+    @Autowired private CustomerDirectory customerDirectory;
     @Autowired private BankService bankService;
     @Autowired private AlertNotification alertNotification;
     @Autowired private SpringFXMLLoader loader;
@@ -147,7 +147,7 @@ public class ReceivePaymentController implements Initializable {
 
     private void loadMasterData() {
         try {
-            allCustomers = customerService.getAllCustomers();
+            allCustomers = customerDirectory.getAll();
             allBanks = bankService.getActiveBanks();
             LOG.info("Loaded {} customers and {} banks", allCustomers.size(), allBanks.size());
         } catch (Exception e) {
@@ -469,30 +469,44 @@ public class ReceivePaymentController implements Initializable {
         }
 
         try {
-            List<BillPaymentAllocation> allocations = new ArrayList<>();
-            double remainingAmount = paymentAmount;
-
-            for (PendingBillRow bill : selectedBills) {
-                if (remainingAmount <= 0) break;
-
-                double billBalance = bill.getBalanceAmount();
-                double amountToReceive = Math.min(remainingAmount, billBalance);
+            SalesPaymentReceipt receipt;
+            if (selectedBills.size() == pendingBillsList.size()) {
+                // All pending bills selected - let the server allocate oldest first
+                receipt = salesPaymentReceiptService.recordAutoAllocatedPayment(
+                        selectedCustomer.getId(),
+                        paymentAmount,
+                        paymentMode.getBank().getId(),
+                        paymentMode.getDisplayName(),
+                        txtChequeNo.getText().trim(),
+                        txtReferenceNo.getText().trim(),
+                        txtRemarks.getText().trim()
+                );
+            } else {
+                List<BillPaymentAllocation> allocations = new ArrayList<>();
+                double remainingAmount = paymentAmount;
+
+                for (PendingBillRow bill : selectedBills) {
+                    if (remainingAmount <= 0) break;
+
+                    double billBalance = bill.getBalanceAmount();
+                    double amountToReceive = Math.min(remainingAmount, billBalance);
+
+                    allocations.add(new BillPaymentAllocation(bill.getBillNo(), amountToReceive));
+                    remainingAmount -= amountToReceive;
+                }
 
-                allocations.add(new BillPaymentAllocation(bill.getBillNo(), amountToReceive));
-                remainingAmount -= amountToReceive;
+                receipt = salesPaymentReceiptService.recordGroupedPayment(
+                        selectedCustomer.getId(),
+                        paymentAmount,
+                        paymentMode.getBank().getId(),
+                        paymentMode.getDisplayName(),
+                        txtChequeNo.getText().trim(),
+                        txtReferenceNo.getText().trim(),
+                        txtRemarks.getText().trim(),
+                        allocations
+                );
             }
 
-            SalesPaymentReceipt receipt = salesPaymentReceiptService.recordGroupedPayment(
-                    selectedCustomer.getId(),
-                    paymentAmount,
-                    paymentMode.getBank().getId(),
-                    paymentMode.getDisplayName(),
-                    txtChequeNo.getText().trim(),
-                    txtReferenceNo.getText().trim(),
-                    txtRemarks.getText().trim(),
-                    allocations
-            );
-
             lastReceipt = receipt;
 
             LOG.info("Sales Payment Receipt created: ReceiptNo={}, Bills={}, Total=Rs.{}",
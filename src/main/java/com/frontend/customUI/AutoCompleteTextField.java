@@ -1,5 +1,6 @@
 package com.frontend.customUI;
 
+import com.frontend.util.SearchIndex;
 import javafx.animation.FadeTransition;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
@@ -31,14 +32,13 @@ import lombok.Setter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * AutoCompleteTextField - Modern Material Design Autocomplete Component
  *
  * Features:
  * - Popup + ListView for reliable suggestions display
- * - startsWith() or contains() filtering (configurable)
+ * - startsWith() or contains() filtering (configurable), served from a SearchIndex
  * - Custom font support for TextField and suggestions
  * - Smooth fade animations for popup
  * - Keyboard navigation (UP/DOWN/ENTER/TAB/ESCAPE)
@@ -66,6 +66,7 @@ public class AutoCompleteTextField {
     // Data
     private List<String> suggestions = new ArrayList<>();
     private List<String> filteredSuggestions = new ArrayList<>();
+    private SearchIndex<String> searchIndex = SearchIndex.ofStrings(suggestions);
 
     // State
     private boolean isSelectingSuggestion = false;
@@ -113,6 +114,7 @@ public class AutoCompleteTextField {
     public AutoCompleteTextField(TextField textField, List<String> suggestions) {
         this.textField = textField;
         this.suggestions = new ArrayList<>(suggestions);
+        this.searchIndex = SearchIndex.ofStrings(this.suggestions);
         this.customFont = null;
         this.popupContainer = createPopupContainer();
         initialize();
@@ -121,6 +123,7 @@ public class AutoCompleteTextField {
     public AutoCompleteTextField(TextField textField, List<String> suggestions, Font customFont) {
         this.textField = textField;
         this.suggestions = new ArrayList<>(suggestions);
+        this.searchIndex = SearchIndex.ofStrings(this.suggestions);
         this.customFont = customFont;
         this.fontSize = customFont != null ? customFont.getSize() : 14.0;
         this.popupContainer = createPopupContainer();
@@ -369,27 +372,9 @@ public class AutoCompleteTextField {
             return;
         }
 
-        String query = text.toLowerCase().trim();
-
-        // Filter based on configuration
-        if (useContainsFilter) {
-            filteredSuggestions = suggestions.stream()
-                .filter(s -> s.toLowerCase().contains(query))
-                .sorted((a, b) -> {
-                    // Prioritize startsWith matches
-                    boolean aStarts = a.toLowerCase().startsWith(query);
-                    boolean bStarts = b.toLowerCase().startsWith(query);
-                    if (aStarts && !bStarts) return -1;
-                    if (!aStarts && bStarts) return 1;
-                    return String.CASE_INSENSITIVE_ORDER.compare(a, b);
-                })
-                .collect(Collectors.toList());
-        } else {
-            filteredSuggestions = suggestions.stream()
-                .filter(s -> s.toLowerCase().startsWith(query))
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .collect(Collectors.toList());
-        }
+        // Filter based on configuration (prefix matches are ranked first in contains mode)
+        SearchIndex.MatchMode mode = useContainsFilter ? SearchIndex.MatchMode.CONTAINS : SearchIndex.MatchMode.PREFIX;
+        filteredSuggestions = new ArrayList<>(searchIndex.search(text, mode, 0));
 
         if (filteredSuggestions.isEmpty()) {
             hidePopup();
@@ -400,8 +385,7 @@ public class AutoCompleteTextField {
     }
 
     private void showAllSuggestions() {
-        filteredSuggestions = new ArrayList<>(suggestions);
-        filteredSuggestions.sort(String.CASE_INSENSITIVE_ORDER);
+        filteredSuggestions = new ArrayList<>(searchIndex.all());
 
         if (filteredSuggestions.isEmpty()) {
             hidePopup();
@@ -561,6 +545,7 @@ public class AutoCompleteTextField {
      */
     public void setSuggestions(List<String> suggestions) {
         this.suggestions = new ArrayList<>(suggestions);
+        this.searchIndex = SearchIndex.ofStrings(this.suggestions);
     }
 
     /**
@@ -568,6 +553,7 @@ public class AutoCompleteTextField {
      */
     public void addSuggestions(List<String> newSuggestions) {
         this.suggestions.addAll(newSuggestions);
+        this.searchIndex = SearchIndex.ofStrings(this.suggestions);
     }
 
     /**
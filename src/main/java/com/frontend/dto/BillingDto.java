@@ -377,6 +377,7 @@ public class BillingDto {
         private Float totalQty;
         private String sentAt;
         private String readyAt;
+        private String servedAt;
         private List<KitchenOrderItemDto> items;
 
         public KitchenOrderDto() {}
@@ -399,6 +400,8 @@ public class BillingDto {
         public void setSentAt(String sentAt) { this.sentAt = sentAt; }
         public String getReadyAt() { return readyAt; }
         public void setReadyAt(String readyAt) { this.readyAt = readyAt; }
+        public String getServedAt() { return servedAt; }
+        public void setServedAt(String servedAt) { this.servedAt = servedAt; }
         public List<KitchenOrderItemDto> getItems() { return items; }
         public void setItems(List<KitchenOrderItemDto> items) { this.items = items; }
     }
@@ -432,6 +435,34 @@ public class BillingDto {
         public void setOrders(List<KitchenOrderDto> orders) { this.orders = orders; }
     }
 
+    /**
+     * DTO for everything shown when a waiter opens a table (one request instead of four).
+     * version changes whenever any of the contents change.
+     */
+    public static class TableSnapshotDto {
+        private String version;
+        private TableStatusDto table;
+        private List<TransactionItemDto> runningItems;
+        private Float runningTotal;
+        private BillResponseDto closedBill;
+        private List<KitchenOrderDto> kitchenOrders;
+
+        public TableSnapshotDto() {}
+
+        public String getVersion() { return version; }
+        public void setVersion(String version) { this.version = version; }
+        public TableStatusDto getTable() { return table; }
+        public void setTable(TableStatusDto table) { this.table = table; }
+        public List<TransactionItemDto> getRunningItems() { return runningItems; }
+        public void setRunningItems(List<TransactionItemDto> runningItems) { this.runningItems = runningItems; }
+        public Float getRunningTotal() { return runningTotal; }
+        public void setRunningTotal(Float runningTotal) { this.runningTotal = runningTotal; }
+        public BillResponseDto getClosedBill() { return closedBill; }
+        public void setClosedBill(BillResponseDto closedBill) { this.closedBill = closedBill; }
+        public List<KitchenOrderDto> getKitchenOrders() { return kitchenOrders; }
+        public void setKitchenOrders(List<KitchenOrderDto> kitchenOrders) { this.kitchenOrders = kitchenOrders; }
+    }
+
     /**
      * DTO for a single item within a kitchen order
      */
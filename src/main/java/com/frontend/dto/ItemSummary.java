@@ -0,0 +1,8 @@
+package com.frontend.dto;
+
+/**
+ * Compact item for list endpoints (mobile menus): only what is needed to show and order an item.
+ * Loaded with a JPQL constructor projection, without the category join.
+ */
+public record ItemSummary(Integer id, String itemName, Integer categoryId, Float rate) {
+}
@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
  * Tracks all deposits and withdrawals for each bank account
  */
 @Entity
-@Table(name = "bank_transaction")
+@Table(name = "bank_transaction", indexes = {
+        @Index(name = "idx_bank_txn_bank_id", columnList = "bank_id, id")
+})
 public class BankTransaction {
 
     @Id
@@ -0,0 +1,32 @@
+package com.frontend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change counter per cached master data type (items, categories, banks, tables).
+ * Writers increase the version in the same transaction as the change; every terminal
+ * polls this small table and clears exactly the caches whose version moved.
+ * Maintained by CacheCoherenceService.
+ */
+@Entity
+@Table(name = "cache_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheVersion {
+
+    @Id
+    @Column(name = "cache_name", length = 50)
+    private String cacheName;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
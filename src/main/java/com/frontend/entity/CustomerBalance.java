@@ -0,0 +1,35 @@
+package com.frontend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialised outstanding credit per customer.
+ * One row per customer holding the sum of pending balances (netAmount - paidAmount)
+ * and the number of CREDIT bills that still have a balance. Maintained by
+ * CustomerBalanceService whenever a credit bill or a credit payment changes.
+ */
+@Entity
+@Table(name = "customer_balance")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBalance {
+
+    @Id
+    @Column(name = "customer_id")
+    private Integer customerId;
+
+    @Column(name = "pending_amount", nullable = false)
+    private Double pendingAmount;
+
+    @Column(name = "pending_bill_count", nullable = false)
+    private Integer pendingBillCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -42,6 +42,9 @@ public class KitchenOrder {
     @Column(name = "ready_at")
     private LocalDateTime readyAt;
 
+    @Column(name = "served_at")
+    private LocalDateTime servedAt;
+
     @OneToMany(mappedBy = "kitchenOrder", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<KitchenOrderItem> items = new ArrayList<>();
 
@@ -135,6 +138,14 @@ public class KitchenOrder {
         this.readyAt = readyAt;
     }
 
+    public LocalDateTime getServedAt() {
+        return servedAt;
+    }
+
+    public void setServedAt(LocalDateTime servedAt) {
+        this.servedAt = servedAt;
+    }
+
     public List<KitchenOrderItem> getItems() {
         return items;
     }
@@ -0,0 +1,43 @@
+package com.frontend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change of a master data row (item, category, customer, employee) for the mobile delta sync.
+ * The id is the sync version: a client that has seen version N asks for the rows after N.
+ * Writers add a row in the same transaction as the change; old rows are pruned by MasterDataSyncService.
+ */
+@Entity
+@Table(name = "master_data_change")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterDataChange {
+
+    public static final String ITEM = "item";
+    public static final String CATEGORY = "category";
+    public static final String CUSTOMER = "customer";
+    public static final String EMPLOYEE = "employee";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Integer entityId;
+
+    @Column(name = "deleted", nullable = false, columnDefinition = "BIT(1)")
+    private Boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -1,5 +1,9 @@
 package com.frontend.enums;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum defining all controllable screens in the application.
  * Used for role-based screen-level access control.
@@ -70,6 +74,13 @@ public enum ScreenPermission {
     SHOP_DETAILS("Shop Details", "/fxml/setting/ShopDetails.fxml", "SETTINGS",
             "Access to manage restaurant and shop information");
 
+    private static final Map<String, ScreenPermission> BY_FXML_PATH = new HashMap<>();
+    static {
+        for (ScreenPermission sp : values()) {
+            BY_FXML_PATH.put(sp.fxmlPath, sp);
+        }
+    }
+
     private final String displayName;
     private final String fxmlPath;
     private final String category;
@@ -107,12 +118,7 @@ public enum ScreenPermission {
         if (path == null) {
             return null;
         }
-        for (ScreenPermission sp : values()) {
-            if (sp.fxmlPath.equals(path)) {
-                return sp;
-            }
-        }
-        return null;
+        return BY_FXML_PATH.get(path);
     }
 
     /**
@@ -121,7 +127,7 @@ public enum ScreenPermission {
      * @return array of ScreenPermission for the category
      */
     public static ScreenPermission[] getByCategory(String category) {
-        return java.util.Arrays.stream(values())
+        return Arrays.stream(values())
                 .filter(sp -> sp.category.equals(category))
                 .toArray(ScreenPermission[]::new);
     }
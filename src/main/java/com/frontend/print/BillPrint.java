@@ -23,6 +23,7 @@ import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
 
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -168,6 +169,7 @@ public class BillPrint {
     /**
      * Generate Bill PDF and save to configured document directory, then print automatically
      */
+    @Timed("hotel.print")
     public boolean printBill(Bill bill, String tableName) {
         if (bill == null) {
             LOG.warn("No bill to print");
@@ -212,6 +214,7 @@ public class BillPrint {
     /**
      * Generate Bill PDF and save to configured document directory (same as printBill)
      */
+    @Timed("hotel.print")
     public boolean printBillWithDialog(Bill bill, String tableName) {
         // Simply delegate to printBill - no longer showing printer dialog
         return printBill(bill, tableName);
@@ -228,6 +231,7 @@ public class BillPrint {
      * @param bankName  The bank/payee name for UPI payment
      * @return true if successful, false otherwise
      */
+    @Timed("hotel.print")
     public boolean printBillWithQR(Bill bill, String tableName, boolean printQR, String upiId, String bankName) {
         if (bill == null) {
             LOG.warn("No bill to print");
@@ -620,6 +624,7 @@ public class BillPrint {
      * @param tableName The table name
      * @return PDF bytes, or null on failure
      */
+    @Timed("hotel.print")
     public byte[] generateBillPdfBytes(Bill bill, String tableName) {
         if (bill == null) {
             LOG.warn("No bill to generate PDF bytes for");
@@ -670,6 +675,7 @@ public class BillPrint {
      * @param bankName  Bank/payee name for UPI payment
      * @return PDF bytes, or null on failure
      */
+    @Timed("hotel.print")
     public byte[] generateBillPdfBytesWithQR(Bill bill, String tableName, String upiId, String bankName) {
         if (bill == null) {
             LOG.warn("No bill to generate PDF bytes for");
@@ -1120,6 +1126,7 @@ public class BillPrint {
      * @param tableName The table name
      * @return true if successful, false otherwise
      */
+    @Timed("hotel.print")
     public boolean printBillA4(Bill bill, String tableName) {
         if (bill == null) {
             LOG.warn("No bill to print");
@@ -1448,6 +1455,7 @@ public class BillPrint {
      * @param tableNameMap Map of table IDs to table names
      * @return true if successful, false otherwise
      */
+    @Timed("hotel.print")
     public boolean printMultipleBillsA4(Set<Bill> bills, Map<Integer, String> tableNameMap) {
         if (bills == null || bills.isEmpty()) {
             LOG.warn("No bills to print");
@@ -23,6 +23,7 @@ import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
 
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -172,6 +173,7 @@ public class BillPrintWithLogo {
     /**
      * Generate Bill PDF and save to configured document directory, then print automatically
      */
+    @Timed("hotel.print")
     public boolean printBill(Bill bill, String tableName) {
         if (bill == null) {
             LOG.warn("No bill to print");
@@ -216,6 +218,7 @@ public class BillPrintWithLogo {
     /**
      * Generate Bill PDF and save to configured document directory (same as printBill)
      */
+    @Timed("hotel.print")
     public boolean printBillWithDialog(Bill bill, String tableName) {
         // Simply delegate to printBill - no longer showing printer dialog
         return printBill(bill, tableName);
@@ -224,6 +227,7 @@ public class BillPrintWithLogo {
     /**
      * Generate Bill PDF with optional QR code for UPI payment
      */
+    @Timed("hotel.print")
     public boolean printBillWithQR(Bill bill, String tableName, boolean printQR, String upiId, String bankName) {
         if (bill == null) {
             LOG.warn("No bill to print");
@@ -588,6 +592,7 @@ public class BillPrintWithLogo {
     /**
      * Generate Bill PDF as byte array (for API responses).
      */
+    @Timed("hotel.print")
     public byte[] generateBillPdfBytes(Bill bill, String tableName) {
         if (bill == null) {
             LOG.warn("No bill to generate PDF bytes for");
@@ -627,6 +632,7 @@ public class BillPrintWithLogo {
     /**
      * Generate Bill PDF as byte array with optional QR code for UPI payment.
      */
+    @Timed("hotel.print")
     public byte[] generateBillPdfBytesWithQR(Bill bill, String tableName, String upiId, String bankName) {
         if (bill == null) {
             LOG.warn("No bill to generate PDF bytes for");
@@ -1128,6 +1134,7 @@ public class BillPrintWithLogo {
     /**
      * Print single bill in professional A4 format with logo and open in default PDF viewer
      */
+    @Timed("hotel.print")
     public boolean printBillA4(Bill bill, String tableName) {
         if (bill == null) {
             LOG.warn("No bill to print");
@@ -1479,6 +1486,7 @@ public class BillPrintWithLogo {
     /**
      * Print multiple bills in A4 format PDF with logo and open in default PDF viewer
      */
+    @Timed("hotel.print")
     public boolean printMultipleBillsA4(Set<Bill> bills, Map<Integer, String> tableNameMap) {
         if (bills == null || bills.isEmpty()) {
             LOG.warn("No bills to print");
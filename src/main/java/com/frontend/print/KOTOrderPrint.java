@@ -20,6 +20,7 @@ import com.itextpdf.text.pdf.PdfWriter;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.printing.Orientation;
 import org.apache.pdfbox.printing.PDFPageable;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -78,6 +79,7 @@ public class KOTOrderPrint {
     /**
      * Print KOT to thermal printer (uses configured KOT printer or default)
      */
+    @Timed("hotel.print")
     public boolean printKOT(String tableName, Integer tableId, List<TempTransaction> items, Integer waitorId) {
         if (items == null || items.isEmpty()) {
             LOG.warn("No items to print for table {}", tableName);
@@ -127,6 +129,7 @@ public class KOTOrderPrint {
      * Print KOT directly to configured printer (no dialog)
      * Uses KOT printer from settings, falls back to default printer if not configured
      */
+    @Timed("hotel.print")
     public boolean printKOTWithDialog(String tableName, Integer tableId, List<TempTransaction> items, Integer waitorId) {
         if (items == null || items.isEmpty()) {
             LOG.warn("No items to print for table {}", tableName);
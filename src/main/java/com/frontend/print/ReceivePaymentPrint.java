@@ -5,6 +5,7 @@ import com.frontend.entity.Customer;
 import com.frontend.entity.SalesBillPayment;
 import com.frontend.entity.SalesPaymentReceipt;
 import com.frontend.repository.BillRepository;
+import com.frontend.service.CustomerBalanceService;
 import com.frontend.service.SessionService;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.BaseFont;
@@ -47,6 +48,9 @@ public class ReceivePaymentPrint {
     @Autowired
     private BillRepository billRepository;
 
+    @Autowired
+    private CustomerBalanceService customerBalanceService;
+
     // Fonts
     private BaseFont customBaseFont;
     private Font fontHeader;
@@ -500,8 +504,7 @@ public class ReceivePaymentPrint {
     private Double getTotalPendingForCustomer(Integer customerId) {
         if (customerId == null) return 0.0;
         try {
-            Double total = billRepository.getTotalPendingAmountByCustomerId(customerId);
-            return total != null ? total : 0.0;
+            return customerBalanceService.getPendingAmount(customerId);
         } catch (Exception e) {
             return 0.0;
         }
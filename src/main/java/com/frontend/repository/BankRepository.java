@@ -2,6 +2,7 @@ package com.frontend.repository;
 
 import com.frontend.entity.Bank;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -75,6 +76,24 @@ public interface BankRepository extends JpaRepository<Bank, Integer> {
     /**
      * Update bank balance
      */
+    @Modifying(flushAutomatically = true)
     @Query("UPDATE Bank b SET b.bankBalance = :newBalance WHERE b.id = :bankId")
-    void updateBankBalance(@Param("bankId") Integer bankId, @Param("newBalance") Double newBalance);
+    int updateBankBalance(@Param("bankId") Integer bankId, @Param("newBalance") Double newBalance);
+
+    /**
+     * Atomically add an amount (negative to subtract) to a bank's balance.
+     * The row stays locked until the transaction ends, so concurrent movements serialise.
+     * The persistence context is not cleared (callers keep other entities managed), so a Bank
+     * loaded earlier still shows the old balance: read the new one with findBankBalanceById.
+     * @return number of rows updated (0 if the bank does not exist)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Bank b SET b.bankBalance = COALESCE(b.bankBalance, 0) + :amount WHERE b.id = :bankId")
+    int adjustBankBalance(@Param("bankId") Integer bankId, @Param("amount") Double amount);
+
+    /**
+     * Read the current balance of a bank directly from its row
+     */
+    @Query("SELECT COALESCE(b.bankBalance, 0) FROM Bank b WHERE b.id = :bankId")
+    Double findBankBalanceById(@Param("bankId") Integer bankId);
 }
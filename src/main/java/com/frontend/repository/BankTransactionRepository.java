@@ -1,7 +1,9 @@
 package com.frontend.repository;
 
 import com.frontend.entity.BankTransaction;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -95,4 +97,28 @@ public interface BankTransactionRepository extends JpaRepository<BankTransaction
      * Find all transactions ordered by date desc
      */
     List<BankTransaction> findAllByOrderByTransactionDateDescIdDesc();
+
+    // ============= Statement (keyset pagination) =============
+
+    /**
+     * Newest transactions of a bank (first statement page)
+     */
+    List<BankTransaction> findByBankIdOrderByIdDesc(Integer bankId, Limit limit);
+
+    /**
+     * Transactions of a bank older than the given id (next statement page)
+     */
+    List<BankTransaction> findByBankIdAndIdLessThanOrderByIdDesc(Integer bankId, Integer id, Limit limit);
+
+    /**
+     * Last transaction of a bank before a date (its balance is the opening balance for that date)
+     */
+    BankTransaction findFirstByBankIdAndTransactionDateLessThanOrderByIdDesc(Integer bankId, LocalDate date);
+
+    /**
+     * Shift the running balance of all later transactions of a bank (after a transaction is removed)
+     */
+    @Modifying
+    @Query("UPDATE BankTransaction bt SET bt.balance = bt.balance + :amount WHERE bt.bankId = :bankId AND bt.id > :id")
+    int shiftBalancesAfter(@Param("bankId") Integer bankId, @Param("id") Integer id, @Param("amount") Double amount);
 }
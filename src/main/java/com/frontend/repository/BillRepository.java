@@ -1,11 +1,15 @@
 package com.frontend.repository;
 
 import com.frontend.entity.Bill;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -176,6 +180,21 @@ public interface BillRepository extends JpaRepository<Bill, Integer> {
            "AND (b.netAmount - COALESCE(b.paidAmount, 0)) > 0 ORDER BY b.billNo ASC")
     List<Bill> findCreditBillsWithPendingBalanceByCustomerId(@Param("customerId") Integer customerId);
 
+    /**
+     * Load and lock (SELECT ... FOR UPDATE) a set of bills in one query for payment allocation
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bill b WHERE b.billNo IN :billNos")
+    List<Bill> findByBillNoInForUpdate(@Param("billNos") Collection<Integer> billNos);
+
+    /**
+     * Load and lock a customer's credit bills with pending balance, oldest first (auto allocation)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bill b WHERE b.customerId = :customerId AND b.status = 'CREDIT' " +
+           "AND (b.netAmount - COALESCE(b.paidAmount, 0)) > 0 ORDER BY b.billNo ASC")
+    List<Bill> findCreditBillsWithPendingBalanceByCustomerIdForUpdate(@Param("customerId") Integer customerId);
+
     /**
      * Get total pending amount for a customer (credit bills)
      */
@@ -183,6 +202,22 @@ public interface BillRepository extends JpaRepository<Bill, Integer> {
            "WHERE b.customerId = :customerId AND b.status = 'CREDIT'")
     Double getTotalPendingAmountByCustomerId(@Param("customerId") Integer customerId);
 
+    /**
+     * Pending credit per customer as [customerId, pendingAmount, pendingBillCount] (ledger reconciliation)
+     */
+    @Query("SELECT b.customerId, SUM(b.netAmount - COALESCE(b.paidAmount, 0)), COUNT(b) FROM Bill b " +
+           "WHERE b.status = 'CREDIT' AND b.customerId IS NOT NULL " +
+           "AND (b.netAmount - COALESCE(b.paidAmount, 0)) > 0 GROUP BY b.customerId")
+    List<Object[]> getPendingSummaryGroupedByCustomer();
+
+    /**
+     * Pending credit of one customer as a single [customerId, pendingAmount, pendingBillCount] row
+     */
+    @Query("SELECT b.customerId, SUM(b.netAmount - COALESCE(b.paidAmount, 0)), COUNT(b) FROM Bill b " +
+           "WHERE b.status = 'CREDIT' AND b.customerId = :customerId " +
+           "AND (b.netAmount - COALESCE(b.paidAmount, 0)) > 0 GROUP BY b.customerId")
+    List<Object[]> getPendingSummaryByCustomerId(@Param("customerId") Integer customerId);
+
     /**
      * Get all customers with pending credit bills
      */
@@ -237,9 +272,30 @@ public interface BillRepository extends JpaRepository<Bill, Integer> {
     @Query("SELECT COUNT(DISTINCT b.tableNo) FROM Bill b WHERE b.status = :status AND b.tableNo IS NOT NULL")
     Long countDistinctActiveTablesByStatus(@Param("status") String status);
 
+    /**
+     * Tables that have bills with the given status (e.g. CLOSE = billed, not yet paid)
+     */
+    @Query("SELECT DISTINCT b.tableNo FROM Bill b WHERE b.status = :status AND b.tableNo IS NOT NULL")
+    List<Integer> findDistinctTableNosByStatus(@Param("status") String status);
+
     /**
      * Count distinct tables with given status for a specific date
      */
     @Query("SELECT COUNT(DISTINCT b.tableNo) FROM Bill b WHERE b.billDate = :billDate AND b.status = :status AND b.tableNo IS NOT NULL")
     Long countDistinctTablesByDateAndStatus(@Param("billDate") String billDate, @Param("status") String status);
+
+    /**
+     * Move a bill to another table
+     * @return number of updated rows (0 if the bill does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Bill b SET b.tableNo = :targetTableNo, b.updatedAt = LOCAL DATETIME WHERE b.billNo = :billNo")
+    int updateTableNo(@Param("billNo") Integer billNo, @Param("targetTableNo") Integer targetTableNo);
+
+    /**
+     * Move the CLOSE bills of a table to another table (table shift)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Bill b SET b.tableNo = :targetTableNo, b.updatedAt = LOCAL DATETIME WHERE b.tableNo = :sourceTableNo AND b.status = 'CLOSE'")
+    int shiftClosedBillsToTable(@Param("sourceTableNo") Integer sourceTableNo, @Param("targetTableNo") Integer targetTableNo);
 }
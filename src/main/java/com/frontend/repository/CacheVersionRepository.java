@@ -0,0 +1,30 @@
+package com.frontend.repository;
+
+import com.frontend.entity.CacheVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for CacheVersion entity
+ */
+@Repository
+public interface CacheVersionRepository extends JpaRepository<CacheVersion, String> {
+
+    /**
+     * Atomically increase a cache's version, creating the row if needed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO cache_version (cache_name, version, updated_at) VALUES (:cacheName, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1, updated_at = NOW()",
+           nativeQuery = true)
+    int bump(@Param("cacheName") String cacheName);
+
+    /**
+     * Current version of a cache (null if it was never changed)
+     */
+    @Query(value = "SELECT version FROM cache_version WHERE cache_name = :cacheName", nativeQuery = true)
+    Long findVersion(@Param("cacheName") String cacheName);
+}
@@ -0,0 +1,62 @@
+package com.frontend.repository;
+
+import com.frontend.entity.CustomerBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for CustomerBalance entity
+ */
+@Repository
+public interface CustomerBalanceRepository extends JpaRepository<CustomerBalance, Integer> {
+
+    /**
+     * Atomically add a delta to a customer's balance, creating the row if needed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_balance (customer_id, pending_amount, pending_bill_count, updated_at) " +
+                   "VALUES (:customerId, :amount, :count, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE pending_amount = pending_amount + :amount, " +
+                   "pending_bill_count = pending_bill_count + :count, updated_at = NOW()",
+           nativeQuery = true)
+    int addToBalance(@Param("customerId") Integer customerId, @Param("amount") Double amount,
+                     @Param("count") Integer count);
+
+    /**
+     * Overwrite a customer's balance (used by reconciliation)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_balance (customer_id, pending_amount, pending_bill_count, updated_at) " +
+                   "VALUES (:customerId, :amount, :count, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE pending_amount = :amount, pending_bill_count = :count, updated_at = NOW()",
+           nativeQuery = true)
+    int setBalance(@Param("customerId") Integer customerId, @Param("amount") Double amount,
+                   @Param("count") Integer count);
+
+    /**
+     * Lock a customer's balance row (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cb FROM CustomerBalance cb WHERE cb.customerId = :customerId")
+    Optional<CustomerBalance> findByCustomerIdForUpdate(@Param("customerId") Integer customerId);
+
+    /**
+     * Customers that still have pending credit bills
+     */
+    @Query("SELECT cb.customerId FROM CustomerBalance cb WHERE cb.pendingBillCount > 0")
+    List<Integer> findCustomerIdsWithPendingBills();
+
+    /**
+     * Total outstanding credit across all customers
+     */
+    @Query("SELECT COALESCE(SUM(cb.pendingAmount), 0) FROM CustomerBalance cb WHERE cb.pendingBillCount > 0")
+    Double getTotalPendingAmount();
+}
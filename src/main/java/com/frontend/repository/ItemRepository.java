@@ -1,11 +1,13 @@
 package com.frontend.repository;
 
+import com.frontend.dto.ItemSummary;
 import com.frontend.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,12 +23,30 @@ public interface ItemRepository extends JpaRepository<Item, Integer> {
     @Query("SELECT i FROM Item i LEFT JOIN FETCH i.category")
     List<Item> findAllWithCategory();
 
+    /**
+     * Compact projection of all items (no category join)
+     */
+    @Query("SELECT new com.frontend.dto.ItemSummary(i.id, i.itemName, i.categoryId, i.rate) FROM Item i ORDER BY i.id")
+    List<ItemSummary> findAllSummaries();
+
     /**
      * Find item by ID with category eagerly loaded
      */
     @Query("SELECT i FROM Item i LEFT JOIN FETCH i.category WHERE i.id = :id")
     Optional<Item> findByIdWithCategory(Integer id);
 
+    /**
+     * Find items by IDs with categories eagerly loaded
+     */
+    @Query("SELECT i FROM Item i LEFT JOIN FETCH i.category WHERE i.id IN :ids")
+    List<Item> findByIdInWithCategory(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Find items of the given categories with categories eagerly loaded
+     */
+    @Query("SELECT i FROM Item i LEFT JOIN FETCH i.category WHERE i.categoryId IN :categoryIds")
+    List<Item> findByCategoryIdInWithCategory(@Param("categoryIds") Collection<Integer> categoryIds);
+
     /**
      * Find item by name (exact match)
      */
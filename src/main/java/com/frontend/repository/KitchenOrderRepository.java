@@ -1,12 +1,16 @@
 package com.frontend.repository;
 
 import com.frontend.entity.KitchenOrder;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +22,9 @@ public interface KitchenOrderRepository extends JpaRepository<KitchenOrder, Inte
     @Query("SELECT DISTINCT ko FROM KitchenOrder ko LEFT JOIN FETCH ko.items WHERE ko.tableNo = :tableNo AND ko.status = :status ORDER BY ko.sentAt ASC")
     List<KitchenOrder> findByTableNoAndStatusWithItems(@Param("tableNo") Integer tableNo, @Param("status") String status);
 
+    @Query("SELECT DISTINCT ko FROM KitchenOrder ko LEFT JOIN FETCH ko.items WHERE ko.tableNo = :tableNo AND ko.status IN :statuses ORDER BY ko.sentAt ASC")
+    List<KitchenOrder> findByTableNoAndStatusInWithItems(@Param("tableNo") Integer tableNo, @Param("statuses") Collection<String> statuses);
+
     @Query("SELECT DISTINCT ko FROM KitchenOrder ko LEFT JOIN FETCH ko.items WHERE ko.status = :status ORDER BY ko.sentAt ASC")
     List<KitchenOrder> findByStatusWithItems(@Param("status") String status);
 
@@ -27,6 +34,17 @@ public interface KitchenOrderRepository extends JpaRepository<KitchenOrder, Inte
     @Query("SELECT ko FROM KitchenOrder ko LEFT JOIN FETCH ko.items WHERE ko.id = :id")
     java.util.Optional<KitchenOrder> findByIdWithItems(@Param("id") Integer id);
 
+    @Query("SELECT DISTINCT ko FROM KitchenOrder ko LEFT JOIN FETCH ko.items WHERE ko.id IN :ids ORDER BY ko.sentAt ASC")
+    List<KitchenOrder> findByIdInWithItems(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Ids of a table's KOTs in the given status, locked until the transaction ends so that a
+     * following bulk status update changes exactly these rows
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ko.id FROM KitchenOrder ko WHERE ko.tableNo = :tableNo AND ko.status = :status")
+    List<Integer> findIdsByTableNoAndStatus(@Param("tableNo") Integer tableNo, @Param("status") String status);
+
     List<KitchenOrder> findByTableNoOrderBySentAtAsc(Integer tableNo);
 
     List<KitchenOrder> findByTableNoAndStatusOrderBySentAtAsc(Integer tableNo, String status);
@@ -37,9 +55,19 @@ public interface KitchenOrderRepository extends JpaRepository<KitchenOrder, Inte
     @Query("DELETE FROM KitchenOrder ko WHERE ko.tableNo = :tableNo")
     void deleteByTableNo(@Param("tableNo") Integer tableNo);
 
-    @Modifying
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE KitchenOrder ko SET ko.status = :status, ko.readyAt = :readyAt WHERE ko.id IN :ids AND ko.status = :fromStatus")
+    int markReady(@Param("ids") Collection<Integer> ids, @Param("fromStatus") String fromStatus,
+                  @Param("status") String status, @Param("readyAt") LocalDateTime readyAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE KitchenOrder ko SET ko.status = :status, ko.servedAt = :servedAt WHERE ko.id IN :ids AND ko.status = :fromStatus")
+    int markServed(@Param("ids") Collection<Integer> ids, @Param("fromStatus") String fromStatus,
+                   @Param("status") String status, @Param("servedAt") LocalDateTime servedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE KitchenOrder ko SET ko.tableNo = :targetTableNo, ko.tableName = :targetTableName WHERE ko.tableNo = :sourceTableNo")
-    void shiftKitchenOrdersToTable(@Param("sourceTableNo") Integer sourceTableNo,
+    int shiftKitchenOrdersToTable(@Param("sourceTableNo") Integer sourceTableNo,
                                    @Param("targetTableNo") Integer targetTableNo,
                                    @Param("targetTableName") String targetTableName);
 }
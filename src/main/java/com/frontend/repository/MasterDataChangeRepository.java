@@ -0,0 +1,96 @@
+package com.frontend.repository;
+
+import com.frontend.entity.MasterDataChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for MasterDataChange entity
+ */
+@Repository
+public interface MasterDataChangeRepository extends JpaRepository<MasterDataChange, Long> {
+
+    /**
+     * Record a change of a master data row (database time, so all terminals share one clock)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO master_data_change (entity_type, entity_id, deleted, changed_at) " +
+                   "VALUES (:entityType, :entityId, :deleted, NOW(6))",
+           nativeQuery = true)
+    int record(@Param("entityType") String entityType, @Param("entityId") Integer entityId,
+               @Param("deleted") boolean deleted);
+
+    /**
+     * Changes after the given version, oldest first
+     */
+    List<MasterDataChange> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * Latest version of the given entity types (null if none of them changed yet)
+     */
+    @Query("SELECT MAX(c.id) FROM MasterDataChange c WHERE c.entityType IN :entityTypes")
+    Long findLatestId(@Param("entityTypes") Collection<String> entityTypes);
+
+    /**
+     * Latest version whose transaction has certainly committed: changes younger than the
+     * given number of seconds may still have uncommitted predecessors
+     */
+    @Query(value = "SELECT MAX(id) FROM master_data_change WHERE changed_at < NOW(6) - INTERVAL :seconds SECOND",
+           nativeQuery = true)
+    Long findSettledId(@Param("seconds") int seconds);
+
+    /**
+     * Version of the given entity types for list ETags, as "settled-unsettled": the latest of their
+     * changes older than the given number of seconds, and the number of their changes since then.
+     * The count moves when an older change commits after a younger one, which MAX(id) would miss.
+     */
+    @Query(value = "SELECT CONCAT(COALESCE(MAX(CASE WHEN changed_at < NOW(6) - INTERVAL :seconds SECOND THEN id END), 0), " +
+                   "'-', COUNT(CASE WHEN changed_at >= NOW(6) - INTERVAL :seconds SECOND THEN 1 END)) " +
+                   "FROM master_data_change WHERE entity_type IN (:entityTypes)",
+           nativeQuery = true)
+    String findListVersion(@Param("entityTypes") Collection<String> entityTypes, @Param("seconds") int seconds);
+
+    /**
+     * Highest version removed by pruning (null if nothing was pruned yet). The log is complete only
+     * after it: the newest change of every type is kept, so MIN(id) can be far older.
+     */
+    @Query(value = "SELECT pruned_through FROM master_data_prune WHERE id = 1", nativeQuery = true)
+    Long findPrunedThrough();
+
+    /**
+     * Highest version that pruning with the given cutoff would remove (null if none)
+     */
+    @Query(value = "SELECT MAX(id) FROM master_data_change WHERE changed_at < NOW(6) - INTERVAL :days DAY " +
+                   "AND id NOT IN (SELECT max_id FROM (SELECT MAX(id) AS max_id FROM master_data_change " +
+                   "GROUP BY entity_type) m)",
+           nativeQuery = true)
+    Long findPrunableThrough(@Param("days") int days);
+
+    /**
+     * Prune changes up to the given version that are older than the cutoff, always keeping the
+     * newest one of every entity type (the list versions of types that did not change for a while
+     * stay put)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM master_data_change WHERE id <= :through " +
+                   "AND changed_at < NOW(6) - INTERVAL :days DAY " +
+                   "AND id NOT IN (SELECT max_id FROM (SELECT MAX(id) AS max_id FROM master_data_change " +
+                   "GROUP BY entity_type) m)",
+           nativeQuery = true)
+    int deleteOlderThanDays(@Param("days") int days, @Param("through") long through);
+
+    /**
+     * Record the highest pruned version (never moves back)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO master_data_prune (id, pruned_through, pruned_at) VALUES (1, :through, NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE pruned_through = GREATEST(pruned_through, :through), pruned_at = NOW(6)",
+           nativeQuery = true)
+    int recordPrunedThrough(@Param("through") long through);
+}
@@ -14,7 +14,8 @@ import java.util.List;
  * Provides methods to query payment allocations for sales bills
  */
 @Repository
-public interface SalesBillPaymentRepository extends JpaRepository<SalesBillPayment, Integer> {
+public interface SalesBillPaymentRepository extends JpaRepository<SalesBillPayment, Integer>,
+        SalesBillPaymentRepositoryCustom {
 
     /**
      * Find all payments for a bill
@@ -0,0 +1,19 @@
+package com.frontend.repository;
+
+import com.frontend.entity.SalesBillPayment;
+
+import java.util.List;
+
+/**
+ * Custom bulk operations for SalesBillPayment
+ */
+public interface SalesBillPaymentRepositoryCustom {
+
+    /**
+     * Insert many payment allocations in a single JDBC batch.
+     * The entity uses IDENTITY ids, which Hibernate cannot batch, so grouped
+     * receipts insert their allocations through this method instead of saveAll.
+     * Generated ids are not populated on the given objects.
+     */
+    void batchInsert(List<SalesBillPayment> payments);
+}
@@ -0,0 +1,64 @@
+package com.frontend.repository;
+
+import com.frontend.entity.SalesBillPayment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link SalesBillPaymentRepositoryCustom}
+ */
+public class SalesBillPaymentRepositoryImpl implements SalesBillPaymentRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sales_bill_payment (bill_no, payment_date, payment_amount, bank_id, payment_mode, " +
+            "receipt_no, customer_id, created_by, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<SalesBillPayment> payments) {
+        if (payments == null || payments.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (SalesBillPayment payment : payments) {
+            if (payment.getPaymentDate() == null) {
+                payment.setPaymentDate(LocalDate.now());
+            }
+            payment.setCreatedAt(now);
+            payment.setUpdatedAt(now);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, payments, payments.size(), (ps, payment) -> {
+            ps.setInt(1, payment.getBillNo());
+            ps.setDate(2, Date.valueOf(payment.getPaymentDate()));
+            ps.setDouble(3, payment.getPaymentAmount());
+            ps.setInt(4, payment.getBankId());
+            ps.setString(5, payment.getPaymentMode());
+            setNullableInt(ps, 6, payment.getReceiptNo());
+            setNullableInt(ps, 7, payment.getCustomerId());
+            setNullableInt(ps, 8, payment.getCreatedBy());
+            ps.setTimestamp(9, Timestamp.valueOf(payment.getCreatedAt()));
+            ps.setTimestamp(10, Timestamp.valueOf(payment.getUpdatedAt()));
+        });
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value)
+            throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
@@ -71,4 +71,20 @@ public interface TempTransactionRepository extends JpaRepository<TempTransaction
      */
     @Query("SELECT DISTINCT t.tableNo FROM TempTransaction t WHERE t.tableNo IS NOT NULL")
     List<Integer> findDistinctActiveTableNumbers();
+
+    /**
+     * Reset printQty to 0 for all items of a table (after printing KOT)
+     * @return number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TempTransaction t SET t.printQty = 0, t.updatedAt = LOCAL DATETIME WHERE t.tableNo = :tableNo AND (t.printQty IS NULL OR t.printQty <> 0)")
+    int resetPrintQtyByTableNo(@Param("tableNo") Integer tableNo);
+
+    /**
+     * Move all transactions of a table to another table
+     * @return number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TempTransaction t SET t.tableNo = :targetTableNo, t.updatedAt = LOCAL DATETIME WHERE t.tableNo = :sourceTableNo")
+    int shiftToTable(@Param("sourceTableNo") Integer sourceTableNo, @Param("targetTableNo") Integer targetTableNo);
 }
@@ -25,6 +25,9 @@ public class BankService {
     @Autowired
     private BankRepository bankRepository;
 
+    @Autowired
+    private CacheCoherenceService cacheCoherenceService;
+
     /**
      * Get all banks
      */
@@ -88,6 +91,7 @@ public class BankService {
             }
 
             Bank savedBank = bankRepository.save(bank);
+            cacheCoherenceService.changed(CacheCoherenceService.BANKS);
             LOG.info("Bank saved: {} - {}", savedBank.getBankName(), savedBank.getAccountNo());
             return savedBank;
 
@@ -108,6 +112,7 @@ public class BankService {
             }
 
             Bank updatedBank = bankRepository.save(bank);
+            cacheCoherenceService.changed(CacheCoherenceService.BANKS);
             LOG.info("Bank updated: {} - {}", updatedBank.getBankName(), updatedBank.getAccountNo());
             return updatedBank;
 
@@ -123,14 +128,10 @@ public class BankService {
     @Transactional
     public void updateBankBalance(Integer bankId, Double newBalance) {
         try {
-            Optional<Bank> optBank = bankRepository.findById(bankId);
-            if (optBank.isEmpty()) {
+            if (bankRepository.updateBankBalance(bankId, newBalance) == 0) {
                 throw new RuntimeException("Bank not found: " + bankId);
             }
-
-            Bank bank = optBank.get();
-            bank.setBankBalance(newBalance);
-            bankRepository.save(bank);
+            cacheCoherenceService.evictLocally(CacheCoherenceService.BANKS);
             LOG.info("Bank {} balance updated to {}", bankId, newBalance);
 
         } catch (Exception e) {
@@ -145,16 +146,12 @@ public class BankService {
     @Transactional
     public void addToBalance(Integer bankId, Double amount) {
         try {
-            Optional<Bank> optBank = bankRepository.findById(bankId);
-            if (optBank.isEmpty()) {
+            // Single atomic UPDATE - no read-modify-write race between terminals
+            if (bankRepository.adjustBankBalance(bankId, amount) == 0) {
                 throw new RuntimeException("Bank not found: " + bankId);
             }
-
-            Bank bank = optBank.get();
-            Double currentBalance = bank.getBankBalance() != null ? bank.getBankBalance() : 0.0;
-            bank.setBankBalance(currentBalance + amount);
-            bankRepository.save(bank);
-            LOG.info("Added {} to bank {} balance. New balance: {}", amount, bankId, bank.getBankBalance());
+            cacheCoherenceService.evictLocally(CacheCoherenceService.BANKS);
+            LOG.info("Added {} to bank {} balance", amount, bankId);
 
         } catch (Exception e) {
             LOG.error("Error adding to bank balance", e);
@@ -168,16 +165,11 @@ public class BankService {
     @Transactional
     public void subtractFromBalance(Integer bankId, Double amount) {
         try {
-            Optional<Bank> optBank = bankRepository.findById(bankId);
-            if (optBank.isEmpty()) {
+            if (bankRepository.adjustBankBalance(bankId, -amount) == 0) {
                 throw new RuntimeException("Bank not found: " + bankId);
             }
-
-            Bank bank = optBank.get();
-            Double currentBalance = bank.getBankBalance() != null ? bank.getBankBalance() : 0.0;
-            bank.setBankBalance(currentBalance - amount);
-            bankRepository.save(bank);
-            LOG.info("Subtracted {} from bank {} balance. New balance: {}", amount, bankId, bank.getBankBalance());
+            cacheCoherenceService.evictLocally(CacheCoherenceService.BANKS);
+            LOG.info("Subtracted {} from bank {} balance", amount, bankId);
 
         } catch (Exception e) {
             LOG.error("Error subtracting from bank balance", e);
@@ -200,6 +192,7 @@ public class BankService {
     public void deleteBank(Integer id) {
         try {
             bankRepository.deleteById(id);
+            cacheCoherenceService.changed(CacheCoherenceService.BANKS);
             LOG.info("Bank {} deleted", id);
 
         } catch (Exception e) {
@@ -222,6 +215,7 @@ public class BankService {
             Bank bank = optBank.get();
             bank.setStatus("INACTIVE");
             bankRepository.save(bank);
+            cacheCoherenceService.changed(CacheCoherenceService.BANKS);
             LOG.info("Bank {} deactivated", id);
 
         } catch (Exception e) {
@@ -244,6 +238,7 @@ public class BankService {
             Bank bank = optBank.get();
             bank.setStatus("ACTIVE");
             bankRepository.save(bank);
+            cacheCoherenceService.changed(CacheCoherenceService.BANKS);
             LOG.info("Bank {} activated", id);
 
         } catch (Exception e) {
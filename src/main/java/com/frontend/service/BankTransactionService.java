@@ -1,12 +1,12 @@
 package com.frontend.service;
 
-import com.frontend.entity.Bank;
 import com.frontend.entity.BankTransaction;
 import com.frontend.repository.BankRepository;
 import com.frontend.repository.BankTransactionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +29,9 @@ public class BankTransactionService {
     @Autowired
     private BankRepository bankRepository;
 
+    @Autowired
+    private CacheCoherenceService cacheCoherenceService;
+
     /**
      * Record a deposit transaction (money coming into the bank)
      */
@@ -40,38 +43,11 @@ public class BankTransactionService {
                 throw new RuntimeException("Invalid bank ID or amount for deposit");
             }
 
-            // Get current bank balance
-            Optional<Bank> optBank = bankRepository.findById(bankId);
-            if (optBank.isEmpty()) {
-                throw new RuntimeException("Bank not found: " + bankId);
-            }
-
-            Bank bank = optBank.get();
-            Double currentBalance = bank.getBankBalance() != null ? bank.getBankBalance() : 0.0;
-            Double newBalance = currentBalance + amount;
-
-            // Create transaction record
-            BankTransaction transaction = new BankTransaction();
-            transaction.setBankId(bankId);
-            transaction.setParticulars(particulars);
-            transaction.setDeposit(amount);
-            transaction.setWithdraw(0.0);
-            transaction.setBalance(newBalance);
-            transaction.setTransactionType("DEPOSIT");
-            transaction.setReferenceType(referenceType);
-            transaction.setReferenceId(referenceId);
-            transaction.setRemarks(remarks);
-            transaction.setTransactionDate(LocalDate.now());
-
-            // Save transaction
-            BankTransaction savedTransaction = bankTransactionRepository.save(transaction);
-
-            // Update bank balance
-            bank.setBankBalance(newBalance);
-            bankRepository.save(bank);
+            BankTransaction savedTransaction = recordMovement(bankId, amount, 0.0, "DEPOSIT",
+                    particulars, referenceType, referenceId, remarks);
 
             LOG.info("Deposit recorded: Bank={}, Amount={}, NewBalance={}, Ref={}:{}",
-                    bankId, amount, newBalance, referenceType, referenceId);
+                    bankId, amount, savedTransaction.getBalance(), referenceType, referenceId);
 
             return savedTransaction;
 
@@ -92,38 +68,11 @@ public class BankTransactionService {
                 throw new RuntimeException("Invalid bank ID or amount for withdrawal");
             }
 
-            // Get current bank balance
-            Optional<Bank> optBank = bankRepository.findById(bankId);
-            if (optBank.isEmpty()) {
-                throw new RuntimeException("Bank not found: " + bankId);
-            }
-
-            Bank bank = optBank.get();
-            Double currentBalance = bank.getBankBalance() != null ? bank.getBankBalance() : 0.0;
-            Double newBalance = currentBalance - amount;
-
-            // Create transaction record
-            BankTransaction transaction = new BankTransaction();
-            transaction.setBankId(bankId);
-            transaction.setParticulars(particulars);
-            transaction.setDeposit(0.0);
-            transaction.setWithdraw(amount);
-            transaction.setBalance(newBalance);
-            transaction.setTransactionType("WITHDRAW");
-            transaction.setReferenceType(referenceType);
-            transaction.setReferenceId(referenceId);
-            transaction.setRemarks(remarks);
-            transaction.setTransactionDate(LocalDate.now());
-
-            // Save transaction
-            BankTransaction savedTransaction = bankTransactionRepository.save(transaction);
-
-            // Update bank balance
-            bank.setBankBalance(newBalance);
-            bankRepository.save(bank);
+            BankTransaction savedTransaction = recordMovement(bankId, 0.0, amount, "WITHDRAW",
+                    particulars, referenceType, referenceId, remarks);
 
             LOG.info("Withdrawal recorded: Bank={}, Amount={}, NewBalance={}, Ref={}:{}",
-                    bankId, amount, newBalance, referenceType, referenceId);
+                    bankId, amount, savedTransaction.getBalance(), referenceType, referenceId);
 
             return savedTransaction;
 
@@ -133,6 +82,35 @@ public class BankTransactionService {
         }
     }
 
+    /**
+     * Apply a movement to the bank balance with a single atomic UPDATE (which keeps the bank
+     * row locked until commit) and store the resulting running balance on the new ledger row
+     */
+    private BankTransaction recordMovement(Integer bankId, Double deposit, Double withdraw, String type,
+                                           String particulars, String referenceType, Integer referenceId,
+                                           String remarks) {
+        if (bankRepository.adjustBankBalance(bankId, deposit - withdraw) == 0) {
+            throw new RuntimeException("Bank not found: " + bankId);
+        }
+        Double newBalance = bankRepository.findBankBalanceById(bankId);
+        cacheCoherenceService.evictLocally(CacheCoherenceService.BANKS);
+
+        // Create transaction record
+        BankTransaction transaction = new BankTransaction();
+        transaction.setBankId(bankId);
+        transaction.setParticulars(particulars);
+        transaction.setDeposit(deposit);
+        transaction.setWithdraw(withdraw);
+        transaction.setBalance(newBalance);
+        transaction.setTransactionType(type);
+        transaction.setReferenceType(referenceType);
+        transaction.setReferenceId(referenceId);
+        transaction.setRemarks(remarks);
+        transaction.setTransactionDate(LocalDate.now());
+
+        return bankTransactionRepository.save(transaction);
+    }
+
     /**
      * Record a bill payment deposit
      */
@@ -146,8 +124,41 @@ public class BankTransactionService {
         return recordDeposit(bankId, amount, particulars, "BILL_PAYMENT", billNo, remarks);
     }
 
+    // ============= Statement =============
+
+    /**
+     * One page of a bank statement, newest first, using keyset pagination on the transaction id.
+     * Each row carries its running balance, so no sums over the ledger are needed.
+     *
+     * @param beforeId id of the last row of the previous page, or null for the first page
+     * @param pageSize maximum number of rows
+     */
+    public List<BankTransaction> getStatementPage(Integer bankId, Integer beforeId, int pageSize) {
+        Limit limit = Limit.of(Math.max(1, pageSize));
+        return beforeId == null
+                ? bankTransactionRepository.findByBankIdOrderByIdDesc(bankId, limit)
+                : bankTransactionRepository.findByBankIdAndIdLessThanOrderByIdDesc(bankId, beforeId, limit);
+    }
+
+    /**
+     * Current balance of a bank, read from the bank row
+     */
+    public Double getCurrentBalance(Integer bankId) {
+        Double balance = bankRepository.findBankBalanceById(bankId);
+        return balance != null ? balance : 0.0;
+    }
+
+    /**
+     * Opening balance of a bank on a date (running balance of the last earlier transaction)
+     */
+    public Double getOpeningBalance(Integer bankId, LocalDate date) {
+        BankTransaction last = bankTransactionRepository.findFirstByBankIdAndTransactionDateLessThanOrderByIdDesc(bankId, date);
+        return last != null && last.getBalance() != null ? last.getBalance() : 0.0;
+    }
+
     /**
      * Get all transactions for a bank
+     * Note: loads the full ledger - prefer {@link #getStatementPage(Integer, Integer, int)} for statements
      */
     public List<BankTransaction> getTransactionsByBankId(Integer bankId) {
         return bankTransactionRepository.findByBankIdOrderByTransactionDateDescIdDesc(bankId);
@@ -252,21 +263,16 @@ public class BankTransactionService {
 
             BankTransaction transaction = optTransaction.get();
 
-            // Reverse the effect on bank balance
-            Optional<Bank> optBank = bankRepository.findById(transaction.getBankId());
-            if (optBank.isPresent()) {
-                Bank bank = optBank.get();
-                Double currentBalance = bank.getBankBalance() != null ? bank.getBankBalance() : 0.0;
-
-                if ("DEPOSIT".equals(transaction.getTransactionType())) {
-                    // Reverse deposit - subtract
-                    bank.setBankBalance(currentBalance - transaction.getDeposit());
-                } else if ("WITHDRAW".equals(transaction.getTransactionType())) {
-                    // Reverse withdrawal - add back
-                    bank.setBankBalance(currentBalance + transaction.getWithdraw());
-                }
-
-                bankRepository.save(bank);
+            // Reverse the effect on bank balance atomically, and on the running balance of later rows
+            double reversal = "DEPOSIT".equals(transaction.getTransactionType())
+                    ? -(transaction.getDeposit() != null ? transaction.getDeposit() : 0.0)
+                    : "WITHDRAW".equals(transaction.getTransactionType())
+                    ? (transaction.getWithdraw() != null ? transaction.getWithdraw() : 0.0)
+                    : 0.0;
+            if (reversal != 0.0) {
+                bankRepository.adjustBankBalance(transaction.getBankId(), reversal);
+                bankTransactionRepository.shiftBalancesAfter(transaction.getBankId(), id, reversal);
+                cacheCoherenceService.evictLocally(CacheCoherenceService.BANKS);
             }
 
             bankTransactionRepository.deleteById(id);
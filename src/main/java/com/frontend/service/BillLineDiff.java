@@ -0,0 +1,157 @@
+package com.frontend.service;
+
+import com.frontend.entity.TempTransaction;
+import com.frontend.entity.Transaction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Line-level difference between the current lines of a bill and its edited lines.
+ *
+ * Lines are matched by item name and rate (the same key used to consolidate bill lines).
+ * The result lists the lines to update, add and remove, the net quantity change per item and
+ * rate for stock, and a compact change description for the audit log.
+ */
+public final class BillLineDiff {
+
+    private static final int MAX_SUMMARY_LENGTH = 2000;
+
+    /**
+     * Existing line whose quantity/amount changes
+     */
+    public record LineUpdate(Transaction line, float oldQty, float newQty, float newAmt) {
+    }
+
+    /**
+     * Net quantity change of one item at one rate (positive = more sold)
+     */
+    public record StockDelta(String itemName, Integer itemCode, float qty, float rate) {
+    }
+
+    private final List<LineUpdate> updated = new ArrayList<>();
+    private final List<TempTransaction> added = new ArrayList<>();
+    private final List<Transaction> removed = new ArrayList<>();
+    private final Map<String, StockDelta> stockDeltas = new LinkedHashMap<>();
+    private int unchanged;
+
+    private BillLineDiff() {
+    }
+
+    /**
+     * Compare the current lines of a bill with the edited (consolidated) lines
+     */
+    public static BillLineDiff compute(List<Transaction> current, List<TempTransaction> edited) {
+        BillLineDiff diff = new BillLineDiff();
+
+        Map<String, Deque<Transaction>> byKey = new LinkedHashMap<>();
+        for (Transaction line : current) {
+            byKey.computeIfAbsent(key(line.getItemName(), line.getRate()), k -> new ArrayDeque<>()).add(line);
+        }
+
+        for (TempTransaction edit : edited) {
+            float newQty = value(edit.getQty());
+            Deque<Transaction> matches = byKey.get(key(edit.getItemName(), edit.getRate()));
+            Transaction line = matches != null ? matches.pollFirst() : null;
+            if (line == null) {
+                diff.added.add(edit);
+                diff.addStock(edit.getItemName(), null, newQty, value(edit.getRate()));
+                continue;
+            }
+            float oldQty = value(line.getQty());
+            float newAmt = value(edit.getAmt());
+            if (oldQty == newQty && value(line.getAmt()) == newAmt) {
+                diff.unchanged++;
+            } else {
+                diff.updated.add(new LineUpdate(line, oldQty, newQty, newAmt));
+            }
+            diff.addStock(line.getItemName(), line.getItemCode(), newQty - oldQty, value(line.getRate()));
+        }
+
+        for (Deque<Transaction> leftovers : byKey.values()) {
+            for (Transaction line : leftovers) {
+                diff.removed.add(line);
+                diff.addStock(line.getItemName(), line.getItemCode(), -value(line.getQty()), value(line.getRate()));
+            }
+        }
+        return diff;
+    }
+
+    private void addStock(String itemName, Integer itemCode, float qty, float rate) {
+        // Stock movements are valued at the line rate, so a rate change reverses the old rate and sells at the new one
+        String key = key(itemName, rate);
+        StockDelta existing = stockDeltas.get(key);
+        if (existing == null) {
+            stockDeltas.put(key, new StockDelta(itemName, itemCode, qty, rate));
+        } else {
+            stockDeltas.put(key, new StockDelta(itemName,
+                    existing.itemCode() != null ? existing.itemCode() : itemCode,
+                    existing.qty() + qty, existing.rate()));
+        }
+    }
+
+    public List<LineUpdate> getUpdated() {
+        return updated;
+    }
+
+    public List<TempTransaction> getAdded() {
+        return added;
+    }
+
+    public List<Transaction> getRemoved() {
+        return removed;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Items and rates whose sold quantity changed (zero net changes are left out)
+     */
+    public List<StockDelta> getStockDeltas() {
+        List<StockDelta> result = new ArrayList<>();
+        for (StockDelta delta : stockDeltas.values()) {
+            if (Math.abs(delta.qty()) > 0.0001f) {
+                result.add(delta);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compact change set, e.g. "+Lassi x2; ~Roti 3->5; -Papad x1 (12 unchanged)"
+     */
+    public String summary() {
+        List<String> parts = new ArrayList<>();
+        for (TempTransaction line : added) {
+            parts.add("+" + line.getItemName() + " x" + format(value(line.getQty())));
+        }
+        for (LineUpdate update : updated) {
+            parts.add("~" + update.line().getItemName() + " " + format(update.oldQty()) + "->" + format(update.newQty()));
+        }
+        for (Transaction line : removed) {
+            parts.add("-" + line.getItemName() + " x" + format(value(line.getQty())));
+        }
+        String summary = (parts.isEmpty() ? "no line changes" : String.join("; ", parts))
+                + " (" + unchanged + " unchanged)";
+        return summary.length() > MAX_SUMMARY_LENGTH ? summary.substring(0, MAX_SUMMARY_LENGTH) + "..." : summary;
+    }
+
+    private static String key(String itemName, Float rate) {
+        return itemName + "_" + rate;
+    }
+
+    private static float value(Float value) {
+        return Objects.requireNonNullElse(value, 0f);
+    }
+
+    private static String format(float qty) {
+        return qty == Math.rint(qty) ? String.valueOf((long) qty) : String.valueOf(qty);
+    }
+}
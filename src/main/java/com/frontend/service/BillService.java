@@ -6,8 +6,10 @@ import com.frontend.entity.TempTransaction;
 import com.frontend.entity.Transaction;
 import com.frontend.repository.BillRepository;
 import com.frontend.repository.TransactionRepository;
+import com.frontend.util.BusinessMetrics;
 
 import java.util.Optional;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +54,9 @@ public class BillService {
     @Autowired
     private AuditLogService auditLogService;
 
+    @Autowired
+    private CustomerBalanceService customerBalanceService;
+
     @Autowired(required = false)
     private NotificationService notificationService;
 
@@ -65,6 +70,7 @@ public class BillService {
      * @param tempTransactions List of temp transactions to convert to bill
      * @return The saved bill
      */
+    @Timed("hotel.billing")
     @Transactional
     public Bill createClosedBill(Integer tableNo, Integer customerId, Integer waitorId,
                                   Integer userId, List<TempTransaction> tempTransactions) {
@@ -143,6 +149,7 @@ public class BillService {
                 notificationService.notifyTableStatusChange(tableNo, "Closed");
             }
 
+            BusinessMetrics.billCreated(savedBill.getStatus(), savedBill.getTransactions().size());
             return savedBill;
 
         } catch (Exception e) {
@@ -154,6 +161,7 @@ public class BillService {
     /**
      * Create and save a new bill with PAID status
      */
+    @Timed("hotel.billing")
     @Transactional
     public Bill createPaidBill(Integer tableNo, Integer customerId, Integer waitorId,
                                 Integer userId, List<TempTransaction> tempTransactions,
@@ -234,6 +242,7 @@ public class BillService {
                 LOG.warn("Failed to clear KitchenOrders for table {}: {}", tableNo, kotEx.getMessage());
             }
 
+            BusinessMetrics.billCreated(savedBill.getStatus(), savedBill.getTransactions().size());
             return savedBill;
 
         } catch (Exception e) {
@@ -245,6 +254,7 @@ public class BillService {
     /**
      * Create and save a new bill with CREDIT status
      */
+    @Timed("hotel.billing")
     @Transactional
     public Bill createCreditBill(Integer tableNo, Integer customerId, Integer waitorId,
                                   Integer userId, List<TempTransaction> tempTransactions) {
@@ -311,6 +321,9 @@ public class BillService {
             savedBill = billRepository.save(savedBill);
             LOG.info("CREDIT Bill {} saved with {} transactions", savedBill.getBillNo(), savedBill.getTransactions().size());
 
+            // New credit bill adds to the customer's outstanding balance
+            customerBalanceService.applyChange(CustomerBalanceService.Contribution.NONE, savedBill);
+
             // Reduce stock for items with stock-enabled categories
             reduceStockForSale(savedBill);
 
@@ -324,6 +337,7 @@ public class BillService {
                 LOG.warn("Failed to clear KitchenOrders for table {}: {}", tableNo, kotEx.getMessage());
             }
 
+            BusinessMetrics.billCreated(savedBill.getStatus(), savedBill.getTransactions().size());
             return savedBill;
 
         } catch (Exception e) {
@@ -346,6 +360,7 @@ public class BillService {
      * Update bill status to PAID with optional bank payment
      * Note: Eagerly fetches transactions to avoid LazyInitializationException when printing
      */
+    @Timed("hotel.billing")
     @Transactional
     public Bill markBillAsPaid(Integer billNo, Float cashReceived, Float returnAmount,
                                 Float discount, String paymode, Integer bankId) {
@@ -356,6 +371,7 @@ public class BillService {
             }
 
             Bill bill = optBill.get();
+            CustomerBalanceService.Contribution balanceBefore = CustomerBalanceService.Contribution.of(bill);
             bill.setStatus("PAID");
             bill.setPaymode(paymode != null ? paymode : "CASH");
             bill.setCashReceived(cashReceived);
@@ -368,6 +384,7 @@ public class BillService {
             bill.setBillTime(LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss")));
 
             Bill updatedBill = billRepository.save(bill);
+            customerBalanceService.applyChange(balanceBefore, updatedBill);
 
             // Eagerly fetch transactions to avoid LazyInitializationException
             // when printing the bill in a background thread
@@ -426,6 +443,7 @@ public class BillService {
             }
 
             Bill bill = optBill.get();
+            CustomerBalanceService.Contribution balanceBefore = CustomerBalanceService.Contribution.of(bill);
             bill.setStatus("CREDIT");
             bill.setPaymode("CREDIT");
             bill.setCustomerId(customerId);
@@ -440,6 +458,7 @@ public class BillService {
             bill.setBillTime(LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss")));
 
             Bill updatedBill = billRepository.save(bill);
+            customerBalanceService.applyChange(balanceBefore, updatedBill);
 
             // Eagerly fetch transactions to avoid LazyInitializationException
             // when printing the bill in a background thread
@@ -616,6 +635,8 @@ public class BillService {
      */
     @Transactional
     public void deleteBill(Integer billNo) {
+        billRepository.findById(billNo).ifPresent(bill ->
+                customerBalanceService.applyChange(CustomerBalanceService.Contribution.of(bill), null));
         billRepository.deleteById(billNo);
         LOG.info("Bill {} deleted", billNo);
         auditLogService.logAsync("Bill", String.valueOf(billNo), "DELETE",
@@ -662,19 +683,11 @@ public class BillService {
         try {
             LOG.info("Shifting bill #{} to table {}", billNo, targetTableNo);
 
-            Optional<Bill> billOpt = billRepository.findById(billNo);
-            if (billOpt.isEmpty()) {
+            if (billRepository.updateTableNo(billNo, targetTableNo) == 0) {
                 throw new RuntimeException("Bill not found: " + billNo);
             }
 
-            Bill bill = billOpt.get();
-            Integer sourceTableNo = bill.getTableNo();
-
-            // Update bill's table number
-            bill.setTableNo(targetTableNo);
-            billRepository.save(bill);
-
-            LOG.info("Bill #{} shifted from table {} to table {}", billNo, sourceTableNo, targetTableNo);
+            LOG.info("Bill #{} shifted to table {}", billNo, targetTableNo);
 
         } catch (Exception e) {
             LOG.error("Error shifting bill #{} to table {}", billNo, targetTableNo, e);
@@ -682,6 +695,22 @@ public class BillService {
         }
     }
 
+    /**
+     * Shift the closed (CLOSE) bill of a table to a different table in a single UPDATE
+     * @return number of bills shifted
+     */
+    @Transactional
+    public int shiftClosedBillToTable(Integer sourceTableNo, Integer targetTableNo) {
+        try {
+            int shifted = billRepository.shiftClosedBillsToTable(sourceTableNo, targetTableNo);
+            LOG.info("Shifted {} closed bill(s) from table {} to table {}", shifted, sourceTableNo, targetTableNo);
+            return shifted;
+        } catch (Exception e) {
+            LOG.error("Error shifting closed bill from table {} to table {}", sourceTableNo, targetTableNo, e);
+            throw new RuntimeException("Error shifting bill: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Add new transactions to an existing closed bill
      * Used when closing a table that has both closed bill items and new temp transactions
@@ -1004,48 +1033,28 @@ public class BillService {
             }
 
             Bill bill = optBill.get();
-
-            // Copy old transaction DATA (not entity references) before deleting
-            // This avoids Hibernate transaction conflicts
-            List<Map<String, Object>> oldTransactionData = new ArrayList<>();
-            for (Transaction trans : bill.getTransactions()) {
-                Map<String, Object> data = new HashMap<>();
-                data.put("itemCode", trans.getItemCode());
-                data.put("itemName", trans.getItemName());
-                data.put("qty", trans.getQty());
-                data.put("rate", trans.getRate());
-                oldTransactionData.add(data);
-            }
-            LOG.info("Copied {} old transaction data for stock reversal in bill #{}", oldTransactionData.size(), billNo);
-
-            // Delete existing transactions for this bill FIRST
-            // Note: deleteByBillNo has clearAutomatically=true which clears the persistence context
-            transactionRepository.deleteByBillNo(billNo);
-            LOG.info("Deleted existing transactions for bill #{}", billNo);
-
-            // Reload the bill after persistence context was cleared
-            optBill = billRepository.findById(billNo);
-            if (optBill.isEmpty()) {
-                throw new RuntimeException("Bill not found after reload: " + billNo);
-            }
-            bill = optBill.get();
-
-            // Reverse stock for old transactions using copied data (add back the old quantities)
-            reverseStockFromData(billNo, oldTransactionData);
+            CustomerBalanceService.Contribution balanceBefore = CustomerBalanceService.Contribution.of(bill);
 
             // Consolidate temp transactions with same itemName and rate
             List<TempTransaction> consolidatedTransactions = consolidateTempTransactions(tempTransactions);
             LOG.info("Consolidated {} temp transactions to {} unique items",
                     tempTransactions.size(), consolidatedTransactions.size());
 
-            // Create new transactions from temp transactions
-            for (TempTransaction temp : consolidatedTransactions) {
+            // Touch only the lines that changed
+            BillLineDiff diff = BillLineDiff.compute(bill.getTransactions(), consolidatedTransactions);
+            for (BillLineDiff.LineUpdate update : diff.getUpdated()) {
+                update.line().setQty(update.newQty());
+                update.line().setAmt(update.newAmt());
+            }
+            for (Transaction removed : diff.getRemoved()) {
+                bill.removeTransaction(removed);
+            }
+            for (TempTransaction temp : diff.getAdded()) {
                 Transaction transaction = new Transaction();
                 transaction.setItemName(temp.getItemName());
                 transaction.setQty(temp.getQty());
                 transaction.setRate(temp.getRate());
                 transaction.setAmt(temp.getAmt());
-                transaction.setBill(bill);
 
                 // Get item_code from Item entity by item name
                 Optional<Item> itemOpt = itemService.getItemByName(temp.getItemName());
@@ -1055,6 +1064,8 @@ public class BillService {
 
                 bill.addTransaction(transaction);
             }
+            LOG.info("Bill #{} line changes: {} updated, {} added, {} removed, {} unchanged", billNo,
+                    diff.getUpdated().size(), diff.getAdded().size(), diff.getRemoved().size(), diff.getUnchanged());
 
             // Update bill properties
             bill.setBillAmt(totalAmt);
@@ -1069,20 +1080,21 @@ public class BillService {
 
             // Save updated bill
             Bill savedBill = billRepository.save(bill);
+            customerBalanceService.applyChange(balanceBefore, savedBill);
 
             // Eagerly fetch transactions for printing
             savedBill.getTransactions().size();
 
-            // Reduce stock for new transactions
-            reduceStockForSale(savedBill);
+            // Apply only the net stock change per item
+            applyStockDeltas(billNo, diff.getStockDeltas());
 
             LOG.info("Bill #{} updated successfully with {} transactions, status={}",
                     savedBill.getBillNo(), savedBill.getTransactions().size(), newStatus);
 
             // Audit log
             auditLogService.logAsync("Bill", String.valueOf(billNo), "UPDATE",
-                    String.format("Bill updated with %d transactions, status=%s, amount=%.2f",
-                            savedBill.getTransactions().size(), newStatus, totalAmt),
+                    String.format("Bill updated: %s, status=%s, amount=%.2f",
+                            diff.summary(), newStatus, totalAmt),
                     "system");
 
             return savedBill;
@@ -1164,15 +1176,14 @@ public class BillService {
      * Get total pending amount for a customer (credit bills)
      */
     public Double getTotalPendingAmountByCustomerId(Integer customerId) {
-        Double amount = billRepository.getTotalPendingAmountByCustomerId(customerId);
-        return amount != null ? amount : 0.0;
+        return customerBalanceService.getPendingAmount(customerId);
     }
 
     /**
      * Get all customer IDs with pending credit bills
      */
     public List<Integer> getCustomerIdsWithPendingBills() {
-        return billRepository.findCustomerIdsWithPendingBills();
+        return customerBalanceService.getCustomerIdsWithPendingBills();
     }
 
     /**
@@ -1186,69 +1197,43 @@ public class BillService {
      * Get total credit balance across all customers
      */
     public Double getTotalCreditBalance() {
-        Double amount = billRepository.getTotalCreditBalance();
-        return amount != null ? amount : 0.0;
+        return customerBalanceService.getTotalCreditBalance();
     }
 
     /**
-     * Reverse stock using copied transaction data when editing a bill
-     * This method uses Map data instead of entity references to avoid Hibernate conflicts
+     * Apply net stock changes of an edited bill: reduce stock for items sold more,
+     * reverse for items sold less. Only items whose category has stock='Y' are affected.
      */
-    private void reverseStockFromData(Integer billNo, List<Map<String, Object>> oldTransactionData) {
+    private void applyStockDeltas(Integer billNo, List<BillLineDiff.StockDelta> deltas) {
         try {
-            LOG.info("Reversing stock for {} old transactions in bill: {}", oldTransactionData.size(), billNo);
-            int stockReversedCount = 0;
-
-            for (Map<String, Object> data : oldTransactionData) {
+            int stockUpdatedCount = 0;
+            for (BillLineDiff.StockDelta delta : deltas) {
                 try {
-                    Integer itemCode = (Integer) data.get("itemCode");
-                    String itemName = (String) data.get("itemName");
-                    Float qty = (Float) data.get("qty");
-                    Float rate = (Float) data.get("rate");
-
-                    // Get item details to find category
-                    if (itemCode != null) {
-                        Item item = itemService.getItemByCode(itemCode);
-                        if (item != null && item.getCategoryId() != null) {
-                            itemStockService.reverseStockForSale(
-                                    itemCode,
-                                    itemName,
-                                    item.getCategoryId(),
-                                    qty,
-                                    rate,
-                                    billNo
-                            );
-                            stockReversedCount++;
-                        }
-                    } else if (itemName != null) {
-                        // Try to find item by name
-                        Optional<Item> itemOpt = itemService.getItemByName(itemName);
-                        if (itemOpt.isPresent()) {
-                            Item item = itemOpt.get();
-                            if (item.getCategoryId() != null) {
-                                itemStockService.reverseStockForSale(
-                                        item.getItemCode(),
-                                        itemName,
-                                        item.getCategoryId(),
-                                        qty,
-                                        rate,
-                                        billNo
-                                );
-                                stockReversedCount++;
-                            }
-                        }
+                    Item item = delta.itemCode() != null ? itemService.getItemByCode(delta.itemCode())
+                            : itemService.getItemByName(delta.itemName()).orElse(null);
+                    if (item == null || item.getCategoryId() == null) {
+                        continue;
+                    }
+                    Integer itemCode = delta.itemCode() != null ? delta.itemCode() : item.getItemCode();
+                    if (delta.qty() > 0) {
+                        itemStockService.reduceStock(itemCode, delta.itemName(), item.getCategoryId(),
+                                delta.qty(), delta.rate(), billNo);
+                    } else {
+                        itemStockService.reverseStockForSale(itemCode, delta.itemName(), item.getCategoryId(),
+                                -delta.qty(), delta.rate(), billNo);
                     }
+                    stockUpdatedCount++;
                 } catch (Exception e) {
-                    LOG.warn("Failed to reverse stock for item: {} - {}", data.get("itemName"), e.getMessage());
+                    LOG.warn("Failed to adjust stock for item: {} - {}", delta.itemName(), e.getMessage());
                     // Continue with other items even if one fails
                 }
             }
 
-            LOG.info("Stock reversed for {} items in bill {} (edit operation)", stockReversedCount, billNo);
+            LOG.info("Stock adjusted for {} items in bill {} (edit operation)", stockUpdatedCount, billNo);
 
         } catch (Exception e) {
-            LOG.error("Error reversing stock for bill: {} - {}", billNo, e.getMessage());
-            // Don't throw - stock reversal failure shouldn't fail the bill update
+            LOG.error("Error adjusting stock for bill: {} - {}", billNo, e.getMessage());
+            // Don't throw - stock update failure shouldn't fail the bill update
         }
     }
 }
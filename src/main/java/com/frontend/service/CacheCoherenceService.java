@@ -0,0 +1,214 @@
+package com.frontend.service;
+
+import com.frontend.entity.CacheVersion;
+import com.frontend.repository.CacheVersionRepository;
+import com.frontend.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the master data caches (CacheConfig) of all terminals sharing the database coherent.
+ *
+ * Writers call {@link #changed(String...)} inside their transaction, which increases the cache's
+ * row in cache_version together with the data change. Every node re-reads that small table every
+ * cache.coherence.poll-interval-ms and clears exactly the caches whose version moved; the writing
+ * node clears its own caches right after commit. In server mode the cleared cache names are also
+ * pushed on /topic/cache-invalidations. With this in place the cache TTL is only a safety net.
+ */
+@Service
+public class CacheCoherenceService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheCoherenceService.class);
+
+    public static final String ITEMS = "items";
+    public static final String CATEGORIES = "categories";
+    public static final String BANKS = "banks";
+    public static final String TABLES = "tables";
+    public static final String EMPLOYEES = "employees";
+
+    @Autowired
+    private CacheVersionRepository cacheVersionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired(required = false)
+    private NotificationService notificationService;
+
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    // Last database version seen per cache
+    private final Map<String, Long> knownVersions = new HashMap<>();
+    private boolean loaded;
+
+    // Number of local invalidations per cache (for data derived from a cache, e.g. search indexes)
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    // ==================== Writers ====================
+
+    /**
+     * Record that the data of the given caches changed. Joins the caller's transaction: the
+     * versions are increased in it and the local caches are cleared after it commits.
+     */
+    @Transactional
+    public void changed(String... cacheNames) {
+        Map<String, Long> versions = new HashMap<>();
+        // Fixed order so concurrent writers lock the version rows in the same sequence
+        for (String cacheName : new TreeSet<>(Arrays.asList(cacheNames))) {
+            cacheVersionRepository.bump(cacheName);
+            versions.put(cacheName, cacheVersionRepository.findVersion(cacheName));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyLocalChange(versions);
+                }
+            });
+        } else {
+            applyLocalChange(versions);
+        }
+    }
+
+    /**
+     * Clear this node's copy of the given caches after the caller's transaction commits, without
+     * increasing their versions. For values that change with every payment (bank balances), which
+     * other terminals pick up through the cache's short TTL instead of a version row locked by
+     * each of those transactions.
+     */
+    public void evictLocally(String... cacheNames) {
+        Set<String> names = new TreeSet<>(Arrays.asList(cacheNames));
+        AfterCommit.run(() -> clearCaches(names));
+    }
+
+    private void applyLocalChange(Map<String, Long> versions) {
+        synchronized (this) {
+            if (loaded) {
+                versions.forEach((name, version) -> {
+                    if (version != null) {
+                        knownVersions.merge(name, version, Math::max);
+                    }
+                });
+            }
+        }
+        invalidate(versions.keySet());
+    }
+
+    // ==================== Readers ====================
+
+    /**
+     * Re-read the cache versions and clear the caches changed by other terminals
+     * @return names of the cleared caches
+     */
+    public Set<String> refresh() {
+        List<CacheVersion> rows = cacheVersionRepository.findAll();
+        Set<String> changed = new TreeSet<>();
+        boolean firstLoad;
+        synchronized (this) {
+            firstLoad = !loaded;
+            for (CacheVersion row : rows) {
+                Long known = knownVersions.get(row.getCacheName());
+                if (known == null || row.getVersion() > known) {
+                    changed.add(row.getCacheName());
+                    knownVersions.put(row.getCacheName(), row.getVersion());
+                }
+            }
+            loaded = true;
+        }
+
+        if (firstLoad) {
+            // Entries cached before the first read may predate these versions
+            clearCaches(changed);
+            return Set.of();
+        }
+        if (!changed.isEmpty()) {
+            LOG.info("Caches changed on another terminal: {}", changed);
+            invalidate(changed);
+        }
+        return changed;
+    }
+
+    /**
+     * Poll the version table.
+     * Runs periodically (cache.coherence.poll-interval-ms, default 5 seconds).
+     */
+    @Scheduled(fixedDelayString = "${cache.coherence.poll-interval-ms:5000}",
+            initialDelayString = "${cache.coherence.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOG.warn("Error polling cache versions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Number of times the cache was cleared on this node; data built from the cache's
+     * contents is stale once this moves
+     */
+    public long generation(String cacheName) {
+        return generations.getOrDefault(cacheName, 0L);
+    }
+
+    // ==================== Invalidation ====================
+
+    private void invalidate(Set<String> cacheNames) {
+        if (cacheNames.isEmpty()) {
+            return;
+        }
+        clearCaches(cacheNames);
+        for (Consumer<Set<String>> listener : listeners) {
+            try {
+                listener.accept(cacheNames);
+            } catch (Exception e) {
+                LOG.warn("Cache invalidation listener failed: {}", e.getMessage());
+            }
+        }
+        if (notificationService != null) {
+            notificationService.notifyCacheInvalidation(cacheNames);
+        }
+    }
+
+    private void clearCaches(Collection<String> cacheNames) {
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+            generations.merge(cacheName, 1L, Long::sum);
+            LOG.debug("Cache '{}' cleared", cacheName);
+        }
+    }
+
+    /**
+     * Register a listener for cleared caches (cache names). Called on the thread that
+     * committed the change or on the polling thread.
+     */
+    public void addListener(Consumer<Set<String>> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<Set<String>> listener) {
+        listeners.remove(listener);
+    }
+}
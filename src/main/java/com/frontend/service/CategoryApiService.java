@@ -2,14 +2,18 @@ package com.frontend.service;
 
 import com.frontend.dto.CategoryMasterDto;
 import com.frontend.entity.CategoryMaster;
+import com.frontend.entity.MasterDataChange;
 import com.frontend.repository.CategoryMasterRepository;
+import com.frontend.repository.MasterDataChangeRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,11 +24,17 @@ public class CategoryApiService {
 
     private final CategoryMasterRepository categoryRepository;
     private final SessionService sessionService;
+    private final CacheCoherenceService cacheCoherenceService;
+    private final MasterDataChangeRepository masterDataChangeRepository;
 
     @Autowired
-    public CategoryApiService(CategoryMasterRepository categoryRepository, SessionService sessionService) {
+    public CategoryApiService(CategoryMasterRepository categoryRepository, SessionService sessionService,
+                              CacheCoherenceService cacheCoherenceService,
+                              MasterDataChangeRepository masterDataChangeRepository) {
         this.categoryRepository = categoryRepository;
         this.sessionService = sessionService;
+        this.cacheCoherenceService = cacheCoherenceService;
+        this.masterDataChangeRepository = masterDataChangeRepository;
     }
 
     /**
@@ -41,6 +51,13 @@ public class CategoryApiService {
         return convertToDto(categories);
     }
 
+    /**
+     * Get categories by IDs
+     */
+    public List<CategoryMasterDto> getCategoriesByIds(Collection<Integer> ids) {
+        return ids.isEmpty() ? new ArrayList<>() : convertToDto(categoryRepository.findAllById(ids));
+    }
+
     /**
      * Convert entity to DTO
      */
@@ -81,6 +98,7 @@ public class CategoryApiService {
     /**
      * Create new category
      */
+    @Transactional
     public CategoryMasterDto createCategory(CategoryMasterDto categoryDto) {
         LOG.debug("Creating new category: {}", categoryDto.getCategory());
 
@@ -97,6 +115,8 @@ public class CategoryApiService {
 
         CategoryMaster entity = convertToEntity(categoryDto);
         CategoryMaster saved = categoryRepository.save(entity);
+        cacheCoherenceService.changed(CacheCoherenceService.CATEGORIES);
+        masterDataChangeRepository.record(MasterDataChange.CATEGORY, saved.getId(), false);
 
         LOG.info("Category created successfully: {}", categoryDto.getCategory());
         return convertToDto(saved);
@@ -105,6 +125,7 @@ public class CategoryApiService {
     /**
      * Update existing category
      */
+    @Transactional
     public CategoryMasterDto updateCategory(Integer id, CategoryMasterDto categoryDto) {
         LOG.debug("Updating category with ID: {}", id);
 
@@ -125,6 +146,9 @@ public class CategoryApiService {
         existing.setPurchase(categoryDto.getPurchase() != null ? categoryDto.getPurchase() : "N");
 
         CategoryMaster updated = categoryRepository.save(existing);
+        // Item DTOs carry the category name
+        cacheCoherenceService.changed(CacheCoherenceService.CATEGORIES, CacheCoherenceService.ITEMS);
+        masterDataChangeRepository.record(MasterDataChange.CATEGORY, id, false);
 
         LOG.info("Category updated successfully: {}", categoryDto.getCategory());
         return convertToDto(updated);
@@ -133,6 +157,7 @@ public class CategoryApiService {
     /**
      * Delete category by ID
      */
+    @Transactional
     public boolean deleteCategory(Integer id) {
         LOG.debug("Deleting category with ID: {}", id);
 
@@ -147,6 +172,8 @@ public class CategoryApiService {
         }
 
         categoryRepository.deleteById(id);
+        cacheCoherenceService.changed(CacheCoherenceService.CATEGORIES, CacheCoherenceService.ITEMS);
+        masterDataChangeRepository.record(MasterDataChange.CATEGORY, id, true);
         LOG.info("Category deleted successfully with ID: {}", id);
         return true;
     }
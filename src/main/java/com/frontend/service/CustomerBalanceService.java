@@ -0,0 +1,254 @@
+package com.frontend.service;
+
+import com.frontend.entity.Bill;
+import com.frontend.entity.CustomerBalance;
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.CustomerBalanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the customer_balance ledger: outstanding credit amount and pending bill
+ * count per customer, so balance lookups are single-row reads instead of aggregates
+ * over the bill table.
+ *
+ * Writers capture a bill's contribution before changing it and apply the difference
+ * afterwards as an atomic delta upsert in the same transaction. A reconciliation job
+ * (at startup and every customer.balance.reconcile-interval-ms) compares the ledger
+ * with the raw bills and repairs any drift. Until the first reconciliation has
+ * completed, reads fall back to the bill aggregates.
+ */
+@Service
+public class CustomerBalanceService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomerBalanceService.class);
+
+    private static final double TOLERANCE = 0.01;
+
+    @Autowired
+    private CustomerBalanceRepository customerBalanceRepository;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile boolean reconciled;
+
+    /**
+     * What a bill contributes to its customer's outstanding balance
+     */
+    public record Contribution(Integer customerId, double amount, int count) {
+
+        static final Contribution NONE = new Contribution(null, 0.0, 0);
+
+        /**
+         * Contribution of a bill in its current state (same rules as the bill aggregate queries)
+         */
+        public static Contribution of(Bill bill) {
+            if (bill == null || bill.getCustomerId() == null || !"CREDIT".equals(bill.getStatus())) {
+                return NONE;
+            }
+            double net = bill.getNetAmount() != null ? bill.getNetAmount() : 0.0;
+            double paid = bill.getPaidAmount() != null ? bill.getPaidAmount() : 0.0;
+            double balance = net - paid;
+            return balance > 0 ? new Contribution(bill.getCustomerId(), balance, 1) : NONE;
+        }
+    }
+
+    // ==================== Maintenance ====================
+
+    /**
+     * Capture the current contributions of bills that are about to change, keyed by bill number
+     */
+    public Map<Integer, Contribution> capture(Collection<Bill> bills) {
+        Map<Integer, Contribution> before = new HashMap<>();
+        for (Bill bill : bills) {
+            before.put(bill.getBillNo(), Contribution.of(bill));
+        }
+        return before;
+    }
+
+    /**
+     * Apply the change of a single bill (after may be null when the bill was deleted)
+     */
+    public void applyChange(Contribution before, Bill after) {
+        Map<Integer, double[]> deltas = new HashMap<>();
+        addDelta(deltas, before, -1);
+        addDelta(deltas, Contribution.of(after), 1);
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Apply the changes of several bills, one upsert per affected customer
+     */
+    public void applyChanges(Map<Integer, Contribution> before, Collection<Bill> after) {
+        Map<Integer, double[]> deltas = new HashMap<>();
+        before.values().forEach(c -> addDelta(deltas, c, -1));
+        after.forEach(bill -> addDelta(deltas, Contribution.of(bill), 1));
+        applyDeltas(deltas);
+    }
+
+    private void addDelta(Map<Integer, double[]> deltas, Contribution contribution, int sign) {
+        if (contribution == null || contribution.customerId() == null) {
+            return;
+        }
+        double[] delta = deltas.computeIfAbsent(contribution.customerId(), id -> new double[2]);
+        delta[0] += sign * contribution.amount();
+        delta[1] += sign * contribution.count();
+    }
+
+    private void applyDeltas(Map<Integer, double[]> deltas) {
+        deltas.forEach((customerId, delta) -> {
+            if (Math.abs(delta[0]) < 1e-9 && delta[1] == 0) {
+                return;
+            }
+            customerBalanceRepository.addToBalance(customerId, delta[0], (int) delta[1]);
+            LOG.debug("Customer #{} balance adjusted by {} ({} bills)", customerId, delta[0], (int) delta[1]);
+        });
+    }
+
+    // ==================== Reads ====================
+
+    /**
+     * Outstanding credit of a customer
+     */
+    public Double getPendingAmount(Integer customerId) {
+        if (customerId == null) {
+            return 0.0;
+        }
+        if (!reconciled) {
+            // Same predicate as the ledger (bills with a positive balance only)
+            List<Object[]> rows = billRepository.getPendingSummaryByCustomerId(customerId);
+            return rows.isEmpty() ? 0.0 : ((Number) rows.get(0)[1]).doubleValue();
+        }
+        return customerBalanceRepository.findById(customerId)
+                .map(CustomerBalance::getPendingAmount)
+                .orElse(0.0);
+    }
+
+    /**
+     * Customers with at least one pending credit bill
+     */
+    public List<Integer> getCustomerIdsWithPendingBills() {
+        return reconciled ? customerBalanceRepository.findCustomerIdsWithPendingBills()
+                : billRepository.findCustomerIdsWithPendingBills();
+    }
+
+    /**
+     * Outstanding credit across all customers
+     */
+    public Double getTotalCreditBalance() {
+        Double amount = reconciled ? customerBalanceRepository.getTotalPendingAmount()
+                : billRepository.getTotalCreditBalance();
+        return amount != null ? amount : 0.0;
+    }
+
+    // ==================== Reconciliation ====================
+
+    /**
+     * Build/verify the ledger once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        Thread worker = new Thread(this::reconcile, "customer-balance-reconcile");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Compare the ledger with the raw credit bills and repair mismatching customers.
+     * Runs periodically (customer.balance.reconcile-interval-ms, default 30 minutes).
+     *
+     * @return number of customers that were repaired
+     */
+    @Scheduled(fixedDelayString = "${customer.balance.reconcile-interval-ms:1800000}",
+            initialDelayString = "${customer.balance.reconcile-interval-ms:1800000}")
+    public synchronized int reconcile() {
+        try {
+            long start = System.currentTimeMillis();
+
+            Map<Integer, Object[]> expected = new HashMap<>();
+            for (Object[] row : billRepository.getPendingSummaryGroupedByCustomer()) {
+                expected.put((Integer) row[0], row);
+            }
+            Map<Integer, CustomerBalance> ledger = new HashMap<>();
+            for (CustomerBalance balance : customerBalanceRepository.findAll()) {
+                ledger.put(balance.getCustomerId(), balance);
+            }
+
+            Set<Integer> customerIds = new HashSet<>(expected.keySet());
+            customerIds.addAll(ledger.keySet());
+
+            int repaired = 0;
+            for (Integer customerId : customerIds) {
+                if (!matches(expected.get(customerId), ledger.get(customerId)) && repairCustomer(customerId)) {
+                    repaired++;
+                }
+            }
+
+            reconciled = true;
+            if (repaired > 0) {
+                LOG.warn("Customer balance ledger reconciled: {} of {} customers repaired in {}ms",
+                        repaired, customerIds.size(), System.currentTimeMillis() - start);
+            } else {
+                LOG.info("Customer balance ledger verified: {} customers in {}ms",
+                        customerIds.size(), System.currentTimeMillis() - start);
+            }
+            return repaired;
+
+        } catch (Exception e) {
+            LOG.error("Error reconciling customer balance ledger: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * Recompute one customer's row from the bills while holding the ledger row lock,
+     * so concurrent delta updates are not lost. Returns true if the row was changed.
+     */
+    private boolean repairCustomer(Integer customerId) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Boolean changed = template.execute(status -> {
+            CustomerBalance current = customerBalanceRepository.findByCustomerIdForUpdate(customerId).orElse(null);
+            List<Object[]> rows = billRepository.getPendingSummaryByCustomerId(customerId);
+            Object[] row = rows.isEmpty() ? null : rows.get(0);
+            if (matches(row, current)) {
+                return false;
+            }
+            double amount = row != null ? ((Number) row[1]).doubleValue() : 0.0;
+            int count = row != null ? ((Number) row[2]).intValue() : 0;
+            LOG.warn("Customer #{} balance drift: ledger={}/{} bills={}/{}", customerId,
+                    current != null ? current.getPendingAmount() : null,
+                    current != null ? current.getPendingBillCount() : null, amount, count);
+            customerBalanceRepository.setBalance(customerId, amount, count);
+            return true;
+        });
+        return Boolean.TRUE.equals(changed);
+    }
+
+    private boolean matches(Object[] expected, CustomerBalance actual) {
+        double expectedAmount = expected != null ? ((Number) expected[1]).doubleValue() : 0.0;
+        long expectedCount = expected != null ? ((Number) expected[2]).longValue() : 0;
+        double actualAmount = actual != null && actual.getPendingAmount() != null ? actual.getPendingAmount() : 0.0;
+        long actualCount = actual != null && actual.getPendingBillCount() != null ? actual.getPendingBillCount() : 0;
+        return expectedCount == actualCount && Math.abs(expectedAmount - actualAmount) <= TOLERANCE;
+    }
+}
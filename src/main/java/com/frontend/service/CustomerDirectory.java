@@ -0,0 +1,239 @@
+package com.frontend.service;
+
+import com.frontend.entity.Customer;
+import com.frontend.repository.CustomerRepository;
+import com.frontend.util.AfterCommit;
+import com.frontend.util.SearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Shared in-memory directory of customers for desktop screens.
+ *
+ * Loaded once in the background after startup and kept up to date incrementally by
+ * CustomerService create/update/delete, so controllers no longer fetch the whole
+ * customer table on every screen open or search. Provides id, mobile and name lookups.
+ * Listeners registered with {@link #addListener(Runnable)} are notified after every change
+ * (on the thread that committed it, or the refresh thread).
+ */
+@Service
+public class CustomerDirectory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomerDirectory.class);
+
+    private static final Comparator<Customer> BY_FIRST_NAME =
+            Comparator.comparing(c -> c.getFirstName() != null ? c.getFirstName() : "", String.CASE_INSENSITIVE_ORDER);
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Immutable view of the directory; replaced as a whole on every change
+     */
+    private record Snapshot(List<Customer> customers, Map<Integer, Customer> byId,
+                            Map<String, Customer> byMobile, SearchIndex<Customer> searchIndex) {
+
+        static Snapshot of(List<Customer> customers) {
+            List<Customer> sorted = new ArrayList<>(customers);
+            sorted.sort(BY_FIRST_NAME);
+            Map<Integer, Customer> byId = new HashMap<>();
+            Map<String, Customer> byMobile = new HashMap<>();
+            for (Customer customer : sorted) {
+                byId.put(customer.getId(), customer);
+                if (customer.getMobileNo() != null) {
+                    byMobile.put(customer.getMobileNo().trim(), customer);
+                }
+            }
+            SearchIndex<Customer> index = SearchIndex.build(sorted,
+                    c -> Arrays.asList(name(c.getFirstName(), c.getMiddleName(), c.getLastName()),
+                            name(c.getFirstName(), c.getLastName()), c.getMobileNo()),
+                    Customer::getFullName);
+            return new Snapshot(Collections.unmodifiableList(sorted), byId, byMobile, index);
+        }
+    }
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Start loading the directory in the background once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        Thread loader = new Thread(() -> {
+            try {
+                getSnapshot();
+            } catch (Exception e) {
+                LOG.error("Error preloading customer directory: {}", e.getMessage());
+            }
+        }, "customer-directory-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reload the directory from the database so customers added on other terminals appear.
+     * Runs periodically (customer.directory.refresh-interval-ms, default 5 minutes).
+     */
+    @Scheduled(fixedDelayString = "${customer.directory.refresh-interval-ms:300000}",
+            initialDelayString = "${customer.directory.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (snapshot == null) {
+            return; // Not in use yet
+        }
+        List<Customer> customers = customerRepository.findAllByOrderByFirstNameAsc();
+        synchronized (this) {
+            // Listeners rebuild their lists, so only report a real change
+            if (contents(customers).equals(contents(snapshot.customers()))) {
+                return;
+            }
+            snapshot = Snapshot.of(customers);
+        }
+        LOG.info("Customer directory reloaded with {} customers", customers.size());
+        notifyListeners();
+    }
+
+    /**
+     * Name parts joined by spaces, skipping missing ones (so no "null" ends up in the index)
+     */
+    private static String name(String... parts) {
+        return Arrays.stream(parts)
+                .filter(part -> part != null && !part.isBlank())
+                .map(String::trim)
+                .collect(Collectors.joining(" "));
+    }
+
+    private static Map<Integer, List<Object>> contents(List<Customer> customers) {
+        Map<Integer, List<Object>> contents = new HashMap<>();
+        for (Customer c : customers) {
+            contents.put(c.getId(), Arrays.asList(c.getCustomerKey(), c.getFirstName(), c.getMiddleName(),
+                    c.getLastName(), c.getMobileNo(), c.getEmailId(), c.getFlatNo(), c.getStreetName(),
+                    c.getCity(), c.getDistrict(), c.getTaluka(), c.getUpdatedAt()));
+        }
+        return contents;
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * All customers ordered by first name (unmodifiable)
+     */
+    public List<Customer> getAll() {
+        return getSnapshot().customers();
+    }
+
+    public Customer getById(Integer id) {
+        return id != null ? getSnapshot().byId().get(id) : null;
+    }
+
+    public Customer getByMobile(String mobileNo) {
+        return mobileNo != null ? getSnapshot().byMobile().get(mobileNo.trim()) : null;
+    }
+
+    /**
+     * Ranked search by name or mobile number
+     * @param limit maximum number of results, 0 for all
+     */
+    public List<Customer> search(String query, int limit) {
+        return getSnapshot().searchIndex().search(query, SearchIndex.MatchMode.CONTAINS, limit);
+    }
+
+    public int size() {
+        return getSnapshot().customers().size();
+    }
+
+    // ==================== Incremental updates ====================
+
+    /**
+     * Add or replace a customer after it was saved (applied once the caller's transaction commits)
+     */
+    public void customerSaved(Customer customer) {
+        if (customer == null || customer.getId() == null) {
+            return;
+        }
+        AfterCommit.run(() -> applySaved(customer));
+    }
+
+    /**
+     * Remove a customer after it was deleted (applied once the caller's transaction commits)
+     */
+    public void customerDeleted(Integer id) {
+        AfterCommit.run(() -> applyDeleted(id));
+    }
+
+    private void applySaved(Customer customer) {
+        synchronized (this) {
+            if (snapshot == null) {
+                return; // Not loaded yet - first read will include it
+            }
+            List<Customer> customers = new ArrayList<>(snapshot.customers());
+            customers.removeIf(c -> customer.getId().equals(c.getId()));
+            customers.add(customer);
+            snapshot = Snapshot.of(customers);
+        }
+        notifyListeners();
+    }
+
+    private void applyDeleted(Integer id) {
+        synchronized (this) {
+            if (snapshot == null || !snapshot.byId().containsKey(id)) {
+                return;
+            }
+            List<Customer> customers = new ArrayList<>(snapshot.customers());
+            customers.removeIf(c -> id.equals(c.getId()));
+            snapshot = Snapshot.of(customers);
+        }
+        notifyListeners();
+    }
+
+    // ==================== Listeners ====================
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                LOG.warn("Customer directory listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = Snapshot.of(customerRepository.findAllByOrderByFirstNameAsc());
+                    snapshot = current;
+                    LOG.info("Customer directory loaded with {} customers", current.customers().size());
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -1,13 +1,17 @@
 package com.frontend.service;
 
 import com.frontend.entity.Customer;
+import com.frontend.entity.MasterDataChange;
 import com.frontend.repository.CustomerRepository;
+import com.frontend.repository.MasterDataChangeRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,6 +25,12 @@ public class CustomerService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private CustomerDirectory customerDirectory;
+
+    @Autowired
+    private MasterDataChangeRepository masterDataChangeRepository;
+
     /**
      * Get all customers
      */
@@ -34,6 +44,13 @@ public class CustomerService {
         }
     }
 
+    /**
+     * Get customers by IDs
+     */
+    public List<Customer> getCustomersByIds(Collection<Integer> ids) {
+        return ids.isEmpty() ? new ArrayList<>() : customerRepository.findAllById(ids);
+    }
+
     /**
      * Get customer by ID
      */
@@ -115,6 +132,21 @@ public class CustomerService {
         }
     }
 
+    /**
+     * Search customers by name or mobile number using the customer directory's search index.
+     * Results are ranked (exact, prefix, word prefix, contains).
+     * @param query search text
+     * @param limit maximum number of results, 0 for all
+     */
+    public List<Customer> searchCustomers(String query, int limit) {
+        try {
+            return customerDirectory.search(query, limit);
+        } catch (Exception e) {
+            LOG.error("Error searching customers: {}", query, e);
+            throw new RuntimeException("Error searching customers: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Get customers by city
      */
@@ -152,6 +184,8 @@ public class CustomerService {
             }
 
             Customer savedCustomer = customerRepository.save(customer);
+            masterDataChangeRepository.record(MasterDataChange.CUSTOMER, savedCustomer.getId(), false);
+            customerDirectory.customerSaved(savedCustomer);
 
             LOG.info("Customer created successfully with ID: {}", savedCustomer.getId());
             return savedCustomer;
@@ -208,6 +242,8 @@ public class CustomerService {
             existingCustomer.setTaluka(customer.getTaluka());
 
             Customer updatedCustomer = customerRepository.save(existingCustomer);
+            masterDataChangeRepository.record(MasterDataChange.CUSTOMER, id, false);
+            customerDirectory.customerSaved(updatedCustomer);
 
             LOG.info("Customer updated successfully with ID: {}", updatedCustomer.getId());
             return updatedCustomer;
@@ -231,6 +267,8 @@ public class CustomerService {
             }
 
             customerRepository.deleteById(id);
+            masterDataChangeRepository.record(MasterDataChange.CUSTOMER, id, true);
+            customerDirectory.customerDeleted(id);
             LOG.info("Customer deleted successfully with ID: {}", id);
 
         } catch (Exception e) {
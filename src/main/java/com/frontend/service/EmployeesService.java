@@ -1,7 +1,9 @@
 package com.frontend.service;
 
 import com.frontend.entity.Employees;
+import com.frontend.entity.MasterDataChange;
 import com.frontend.repository.EmployeesRepository;
+import com.frontend.repository.MasterDataChangeRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,12 @@ public class EmployeesService {
     @Autowired
     private EmployeesRepository employeesRepository;
 
+    @Autowired
+    private CacheCoherenceService cacheCoherenceService;
+
+    @Autowired
+    private MasterDataChangeRepository masterDataChangeRepository;
+
     /**
      * Get all employees
      */
@@ -63,6 +72,13 @@ public class EmployeesService {
         }
     }
 
+    /**
+     * Get employees by IDs
+     */
+    public List<Employees> getEmployeesByIds(Collection<Integer> ids) {
+        return ids.isEmpty() ? new ArrayList<>() : employeesRepository.findAllById(ids);
+    }
+
     /**
      * Get employee by mobile number
      */
@@ -217,6 +233,8 @@ public class EmployeesService {
             }
 
             Employees savedEmployee = employeesRepository.save(employee);
+            cacheCoherenceService.changed(CacheCoherenceService.EMPLOYEES);
+            masterDataChangeRepository.record(MasterDataChange.EMPLOYEE, savedEmployee.getEmployeeId(), false);
             LOG.info("Employee created successfully with ID: {}", savedEmployee.getEmployeeId());
             return savedEmployee;
 
@@ -273,6 +291,8 @@ public class EmployeesService {
             existingEmployee.setActiveStatus(employee.getActiveStatus());
 
             Employees updatedEmployee = employeesRepository.save(existingEmployee);
+            cacheCoherenceService.changed(CacheCoherenceService.EMPLOYEES);
+            masterDataChangeRepository.record(MasterDataChange.EMPLOYEE, id, false);
             LOG.info("Employee updated successfully with ID: {}", updatedEmployee.getEmployeeId());
             return updatedEmployee;
 
@@ -295,6 +315,8 @@ public class EmployeesService {
             }
 
             employeesRepository.deleteById(id);
+            cacheCoherenceService.changed(CacheCoherenceService.EMPLOYEES);
+            masterDataChangeRepository.record(MasterDataChange.EMPLOYEE, id, true);
             LOG.info("Employee deleted successfully with ID: {}", id);
 
         } catch (Exception e) {
@@ -316,6 +338,8 @@ public class EmployeesService {
 
             employee.setActiveStatus(false);
             Employees updatedEmployee = employeesRepository.save(employee);
+            cacheCoherenceService.changed(CacheCoherenceService.EMPLOYEES);
+            masterDataChangeRepository.record(MasterDataChange.EMPLOYEE, id, false);
 
             LOG.info("Employee deactivated successfully with ID: {}", id);
             return updatedEmployee;
@@ -1,8 +1,12 @@
 package com.frontend.service;
 
 import com.frontend.dto.ItemDto;
+import com.frontend.dto.ItemSummary;
 import com.frontend.entity.Item;
+import com.frontend.entity.MasterDataChange;
 import com.frontend.repository.ItemRepository;
+import com.frontend.repository.MasterDataChangeRepository;
+import com.frontend.util.SearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,8 +15,14 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -23,9 +33,23 @@ public class ItemService {
 
     private static final Logger LOG = LoggerFactory.getLogger(ItemService.class);
 
+    // Rebuild the search index at the same interval as the "items" cache TTL
+    private static final long SEARCH_INDEX_TTL_MS = TimeUnit.HOURS.toMillis(4);
+
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private CacheCoherenceService cacheCoherenceService;
+
+    @Autowired
+    private MasterDataChangeRepository masterDataChangeRepository;
+
+    // In-memory search index over item names and codes (null until first search)
+    private volatile SearchIndex<ItemDto> searchIndex;
+    private volatile long searchIndexBuiltAt;
+    private volatile long searchIndexGeneration;
+
     /**
      * Get all items with categories
      */
@@ -43,6 +67,20 @@ public class ItemService {
         }
     }
 
+    /**
+     * Get all items as compact summaries (id, name, category ID, rate)
+     */
+    @Cacheable(value = "items", key = "'summaries'")
+    public List<ItemSummary> getItemSummaries() {
+        try {
+            LOG.info("Fetching item summaries");
+            return itemRepository.findAllSummaries();
+        } catch (Exception e) {
+            LOG.error("Error fetching item summaries", e);
+            throw new RuntimeException("Error fetching items: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Get item by ID
      */
@@ -74,6 +112,25 @@ public class ItemService {
         }
     }
 
+    /**
+     * Get items by IDs, plus all items of the given categories
+     */
+    public List<ItemDto> getItemsByIdsOrCategories(Collection<Integer> ids, Collection<Integer> categoryIds) {
+        try {
+            Map<Integer, ItemDto> items = new LinkedHashMap<>();
+            if (!ids.isEmpty()) {
+                itemRepository.findByIdInWithCategory(ids).forEach(item -> items.put(item.getId(), convertToDto(item)));
+            }
+            if (!categoryIds.isEmpty()) {
+                itemRepository.findByCategoryIdInWithCategory(categoryIds).forEach(item -> items.put(item.getId(), convertToDto(item)));
+            }
+            return new ArrayList<>(items.values());
+        } catch (Exception e) {
+            LOG.error("Error fetching items by IDs", e);
+            throw new RuntimeException("Error fetching items: " + e.getMessage(), e);
+        }
+    }
+
     public Item getItemByCode(int code) {
         try {
             LOG.info("Fetching item by code: {}", code);
@@ -113,14 +170,15 @@ public class ItemService {
     }
 
     /**
-     * Search items by name
+     * Search items by name (not by code, see searchItems)
      */
     public List<ItemDto> searchItemsByName(String name) {
         try {
             LOG.info("Searching items by name: {}", name);
-            List<Item> items = itemRepository.findByItemNameContainingIgnoreCaseWithCategory(name);
-            return items.stream()
-                    .map(this::convertToDto)
+            // The index also holds item codes; keep only name matches
+            String normalized = SearchIndex.normalize(name);
+            return getSearchIndex().search(name, SearchIndex.MatchMode.CONTAINS, 0).stream()
+                    .filter(item -> SearchIndex.normalize(item.getItemName()).contains(normalized))
                     .collect(Collectors.toList());
         } catch (Exception e) {
             LOG.error("Error searching items by name: {}", name, e);
@@ -128,6 +186,42 @@ public class ItemService {
         }
     }
 
+    /**
+     * Search items by name or item code using the in-memory search index.
+     * Results are ranked (exact, prefix, word prefix, contains).
+     * @param query search text
+     * @param limit maximum number of results, 0 for all
+     */
+    public List<ItemDto> searchItems(String query, int limit) {
+        try {
+            return getSearchIndex().search(query, SearchIndex.MatchMode.CONTAINS, limit);
+        } catch (Exception e) {
+            LOG.error("Error searching items: {}", query, e);
+            throw new RuntimeException("Error searching items: " + e.getMessage(), e);
+        }
+    }
+
+    private SearchIndex<ItemDto> getSearchIndex() {
+        SearchIndex<ItemDto> index = searchIndex;
+        // Rebuilt when items or categories changed on any terminal (see CacheCoherenceService)
+        long generation = cacheCoherenceService.generation(CacheCoherenceService.ITEMS);
+        if (index == null || generation != searchIndexGeneration
+                || System.currentTimeMillis() - searchIndexBuiltAt > SEARCH_INDEX_TTL_MS) {
+            List<ItemDto> items = itemRepository.findAllWithCategory().stream()
+                    .map(this::convertToDto)
+                    .collect(Collectors.toList());
+            index = SearchIndex.build(items,
+                    item -> Arrays.asList(item.getItemName(),
+                            item.getItemCode() != null ? String.valueOf(item.getItemCode()) : null),
+                    ItemDto::getItemName);
+            searchIndex = index;
+            searchIndexBuiltAt = System.currentTimeMillis();
+            searchIndexGeneration = generation;
+            LOG.debug("Item search index built with {} items", index.size());
+        }
+        return index;
+    }
+
     /**
      * Create new item
      */
@@ -149,6 +243,9 @@ public class ItemService {
 
             Item item = convertToEntity(itemDto);
             Item savedItem = itemRepository.save(item);
+            searchIndex = null;
+            cacheCoherenceService.changed(CacheCoherenceService.ITEMS);
+            masterDataChangeRepository.record(MasterDataChange.ITEM, savedItem.getId(), false);
 
             LOG.info("Item created successfully with ID: {}", savedItem.getId());
             return convertToDto(savedItem);
@@ -192,6 +289,9 @@ public class ItemService {
             existingItem.setItemCode(itemDto.getItemCode());
 
             Item updatedItem = itemRepository.save(existingItem);
+            searchIndex = null;
+            cacheCoherenceService.changed(CacheCoherenceService.ITEMS);
+            masterDataChangeRepository.record(MasterDataChange.ITEM, id, false);
 
             LOG.info("Item updated successfully with ID: {}", updatedItem.getId());
             return convertToDto(updatedItem);
@@ -216,6 +316,9 @@ public class ItemService {
             }
 
             itemRepository.deleteById(id);
+            searchIndex = null;
+            cacheCoherenceService.changed(CacheCoherenceService.ITEMS);
+            masterDataChangeRepository.record(MasterDataChange.ITEM, id, true);
             LOG.info("Item deleted successfully with ID: {}", id);
 
         } catch (Exception e) {
@@ -2,6 +2,7 @@ package com.frontend.service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -27,17 +28,39 @@ public class JwtService {
     @Autowired
     private MobileAppSettingService mobileAppSettingService;
 
+    /**
+     * Signing key and parser derived from the current secret.
+     * Rebuilt only when the secret setting changes, instead of on every request.
+     */
+    private volatile SigningMaterial signingMaterial;
+
+    private record SigningMaterial(String secret, SecretKey key, JwtParser parser) {
+    }
+
+    /**
+     * Get the signing material for the current secret, rebuilding it if the secret was rotated
+     */
+    private SigningMaterial getSigningMaterial() {
+        String secret = mobileAppSettingService.getJwtSecretKey();
+        SigningMaterial material = signingMaterial;
+        if (material == null || !material.secret().equals(secret)) {
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            material = new SigningMaterial(secret, key, Jwts.parser().verifyWith(key).build());
+            signingMaterial = material;
+            LOG.debug("JWT signing key (re)built");
+        }
+        return material;
+    }
+
     /**
      * Generate JWT token for mobile app login
      */
     public String generateToken(String username, String role, Long userId, Integer employeeId,
                                   String employeeName, List<String> features) {
         try {
-            String secret = mobileAppSettingService.getJwtSecretKey();
+            SecretKey key = getSigningMaterial().key();
             int expirationHours = mobileAppSettingService.getJwtExpirationHours();
 
-            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-
             Date now = new Date();
             Date expiry = new Date(now.getTime() + (expirationHours * 60 * 60 * 1000L));
 
@@ -76,15 +99,10 @@ public class JwtService {
      * @throws RuntimeException if token is invalid
      */
     public Claims validateToken(String token) throws ExpiredJwtException {
-        String secret = mobileAppSettingService.getJwtSecretKey();
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        JwtParser parser = getSigningMaterial().parser();
 
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             LOG.debug("Token validated for user: {}", claims.getSubject());
             return claims;
@@ -0,0 +1,305 @@
+package com.frontend.service;
+
+import com.frontend.dto.BillingDto.KitchenOrderDto;
+import com.frontend.dto.BillingDto.KitchenOrderItemDto;
+import com.frontend.entity.KitchenOrder;
+import com.frontend.entity.KitchenOrderItem;
+import com.frontend.repository.KitchenOrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * In-memory kitchen display board: all active (SENT / READY) KOTs with their items.
+ *
+ * KitchenOrderService reports every change (new KOT, status change, table shift, served or
+ * cleared KOT). Each change gets the next number of a monotonically increasing sequence, is
+ * kept in a bounded change log (kitchen.board.change-log-size) and is published in full
+ * (including the order with items) on /topic/kitchen-orders. A reconnecting kitchen screen
+ * asks for {@link #changesSince(long, long)} with the epoch and last sequence it saw and receives
+ * only the missed changes, or the whole board when the log no longer reaches back that far.
+ * The sequence lives in memory and starts again after a server restart; the epoch (the board's
+ * start time) tells a screen that its sequence belongs to an earlier run.
+ *
+ * The board is loaded from the database on first use. KOTs changed by other processes (desktop
+ * terminals in client mode) are picked up by a periodic comparison with the database
+ * (kitchen.board.refresh-interval-ms) and published like local changes.
+ */
+@Service
+public class KitchenBoard {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KitchenBoard.class);
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // A refresh may have read the database before these recent local changes committed - it leaves them alone
+    private static final long RECENT_CHANGE_MS = 5000;
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String REMOVED = "REMOVED";
+
+    @Autowired
+    private KitchenOrderRepository kitchenOrderRepository;
+
+    @Autowired(required = false)
+    private NotificationService notificationService;
+
+    @Value("${kitchen.board.change-log-size:500}")
+    private int changeLogSize = 500;
+
+    /**
+     * One board change. kotId/status/tableNo/timestamp keep the shape of the earlier
+     * notification payload; order is the full KOT for CREATED and UPDATED.
+     */
+    public record Change(long epoch, long seq, String type, Integer kotId, Integer tableNo, String status,
+                         KitchenOrderDto order, long timestamp) {
+    }
+
+    /**
+     * Answer to a catch-up request. When reset is true the client must replace its board
+     * with orders; otherwise it applies changes in order.
+     */
+    public record Changes(long epoch, long seq, boolean reset, List<Change> changes, List<KitchenOrderDto> orders) {
+    }
+
+    private final Map<Integer, KitchenOrderDto> board = new TreeMap<>();
+    private final Deque<Change> changeLog = new ArrayDeque<>();
+    private final Map<Integer, Long> changedAt = new HashMap<>();
+    private final long epoch = System.currentTimeMillis();
+    private long seq;
+    private volatile boolean loaded;
+
+    // ==================== Reads ====================
+
+    /**
+     * Active orders (oldest first), optionally only those with the given status
+     */
+    public synchronized List<KitchenOrderDto> getActiveOrders(String status) {
+        ensureLoaded();
+        List<KitchenOrderDto> orders = new ArrayList<>();
+        for (KitchenOrderDto dto : board.values()) {
+            if (status == null || status.equals(dto.getStatus())) {
+                orders.add(dto);
+            }
+        }
+        return orders;
+    }
+
+    public synchronized long getSequence() {
+        ensureLoaded();
+        return seq;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Changes after the given sequence number, or the whole board when they are no longer available
+     * or the sequence number is from another epoch (before a server restart)
+     */
+    public synchronized Changes changesSince(long sinceEpoch, long since) {
+        ensureLoaded();
+        long oldest = changeLog.isEmpty() ? seq + 1 : changeLog.peekFirst().seq();
+        if (sinceEpoch != epoch || since > seq || since < oldest - 1) {
+            return new Changes(epoch, seq, true, List.of(), new ArrayList<>(board.values()));
+        }
+        List<Change> missed = new ArrayList<>();
+        for (Change change : changeLog) {
+            if (change.seq() > since) {
+                missed.add(change);
+            }
+        }
+        return new Changes(epoch, seq, false, missed, List.of());
+    }
+
+    // ==================== Changes ====================
+
+    public synchronized void orderCreated(KitchenOrder ko) {
+        if (loaded && ko != null && ko.getId() != null) {
+            KitchenOrderDto dto = toDto(ko);
+            board.put(ko.getId(), dto);
+            publish(CREATED, dto.getId(), dto.getTableNo(), dto.getStatus(), dto);
+        }
+    }
+
+    /**
+     * Status or details of an order changed; SERVE orders leave the board
+     */
+    public synchronized void orderUpdated(KitchenOrder ko) {
+        if (!loaded || ko == null || ko.getId() == null) {
+            return;
+        }
+        if (KitchenOrderService.STATUS_SERVE.equals(ko.getStatus())) {
+            orderRemoved(ko);
+            return;
+        }
+        KitchenOrderDto dto = toDto(ko);
+        board.put(ko.getId(), dto);
+        publish(UPDATED, dto.getId(), dto.getTableNo(), dto.getStatus(), dto);
+    }
+
+    /**
+     * Order was served or deleted
+     */
+    public synchronized void orderRemoved(KitchenOrder ko) {
+        if (loaded && ko != null && board.remove(ko.getId()) != null) {
+            publish(REMOVED, ko.getId(), ko.getTableNo(), ko.getStatus(), null);
+        }
+    }
+
+    public synchronized void ordersRemoved(Collection<KitchenOrder> orders) {
+        orders.forEach(this::orderRemoved);
+    }
+
+    /**
+     * All orders of a table were moved to another table
+     */
+    public synchronized void tableShifted(Integer sourceTableNo, Integer targetTableNo, String targetTableName) {
+        if (!loaded) {
+            return;
+        }
+        for (KitchenOrderDto dto : new ArrayList<>(board.values())) {
+            if (sourceTableNo.equals(dto.getTableNo())) {
+                KitchenOrderDto moved = copyOf(dto);
+                moved.setTableNo(targetTableNo);
+                moved.setTableName(targetTableName);
+                board.put(moved.getId(), moved);
+                publish(UPDATED, moved.getId(), targetTableNo, moved.getStatus(), moved);
+            }
+        }
+    }
+
+    /**
+     * Compare the board with the database and publish the differences.
+     * Runs periodically (kitchen.board.refresh-interval-ms, default 10 seconds) once the board is in use.
+     */
+    @Scheduled(fixedDelayString = "${kitchen.board.refresh-interval-ms:10000}",
+            initialDelayString = "${kitchen.board.refresh-interval-ms:10000}")
+    public void refresh() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            long recent = System.currentTimeMillis() - RECENT_CHANGE_MS;
+            Map<Integer, KitchenOrder> active = new HashMap<>();
+            for (KitchenOrder ko : loadActiveOrders()) {
+                active.put(ko.getId(), ko);
+            }
+            synchronized (this) {
+                changedAt.values().removeIf(time -> time < recent);
+                active.keySet().removeAll(changedAt.keySet());
+                for (KitchenOrderDto dto : new ArrayList<>(board.values())) {
+                    if (!active.containsKey(dto.getId()) && !changedAt.containsKey(dto.getId())) {
+                        board.remove(dto.getId());
+                        publish(REMOVED, dto.getId(), dto.getTableNo(), dto.getStatus(), null);
+                    }
+                }
+                for (KitchenOrder ko : active.values()) {
+                    KitchenOrderDto current = board.get(ko.getId());
+                    if (current == null) {
+                        orderCreated(ko);
+                    } else if (!Objects.equals(current.getStatus(), ko.getStatus())
+                            || !Objects.equals(current.getTableNo(), ko.getTableNo())
+                            || !Objects.equals(current.getTableName(), ko.getTableName())) {
+                        orderUpdated(ko);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Error refreshing kitchen board: {}", e.getMessage());
+        }
+    }
+
+    private void publish(String type, Integer kotId, Integer tableNo, String status, KitchenOrderDto order) {
+        Change change = new Change(epoch, ++seq, type, kotId, tableNo, status, order, System.currentTimeMillis());
+        changeLog.addLast(change);
+        changedAt.put(kotId, change.timestamp());
+        while (changeLog.size() > changeLogSize) {
+            changeLog.removeFirst();
+        }
+        LOG.debug("Kitchen board #{}: {} KOT #{} ({})", change.seq(), type, kotId, status);
+        if (notificationService != null) {
+            notificationService.notifyKitchenOrderChange(change);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        for (KitchenOrder ko : loadActiveOrders()) {
+            board.put(ko.getId(), toDto(ko));
+        }
+        loaded = true;
+        LOG.info("Kitchen board loaded with {} active orders", board.size());
+    }
+
+    private List<KitchenOrder> loadActiveOrders() {
+        List<KitchenOrder> active = new ArrayList<>(kitchenOrderRepository.findByStatusWithItems(KitchenOrderService.STATUS_SENT));
+        active.addAll(kitchenOrderRepository.findByStatusWithItems(KitchenOrderService.STATUS_READY));
+        return active;
+    }
+
+    // ==================== Conversion ====================
+
+    public static KitchenOrderDto toDto(KitchenOrder ko) {
+        KitchenOrderDto dto = new KitchenOrderDto();
+        dto.setId(ko.getId());
+        dto.setTableNo(ko.getTableNo());
+        dto.setTableName(ko.getTableName());
+        dto.setWaitorId(ko.getWaitorId());
+        dto.setStatus(ko.getStatus());
+        dto.setItemCount(ko.getItemCount());
+        dto.setTotalQty(ko.getTotalQty());
+        dto.setSentAt(ko.getSentAt() != null ? ko.getSentAt().format(FMT) : null);
+        dto.setReadyAt(ko.getReadyAt() != null ? ko.getReadyAt().format(FMT) : null);
+        dto.setServedAt(ko.getServedAt() != null ? ko.getServedAt().format(FMT) : null);
+
+        if (ko.getItems() != null) {
+            List<KitchenOrderItemDto> itemDtos = new ArrayList<>();
+            for (KitchenOrderItem item : ko.getItems()) {
+                KitchenOrderItemDto itemDto = new KitchenOrderItemDto();
+                itemDto.setId(item.getId());
+                itemDto.setItemId(item.getItemId());
+                itemDto.setItemName(item.getItemName());
+                itemDto.setQty(item.getQty());
+                itemDto.setRate(item.getRate());
+                itemDtos.add(itemDto);
+            }
+            dto.setItems(itemDtos);
+        }
+        return dto;
+    }
+
+    private static KitchenOrderDto copyOf(KitchenOrderDto source) {
+        KitchenOrderDto dto = new KitchenOrderDto();
+        dto.setId(source.getId());
+        dto.setTableNo(source.getTableNo());
+        dto.setTableName(source.getTableName());
+        dto.setWaitorId(source.getWaitorId());
+        dto.setStatus(source.getStatus());
+        dto.setItemCount(source.getItemCount());
+        dto.setTotalQty(source.getTotalQty());
+        dto.setSentAt(source.getSentAt());
+        dto.setReadyAt(source.getReadyAt());
+        dto.setServedAt(source.getServedAt());
+        dto.setItems(source.getItems());
+        return dto;
+    }
+}
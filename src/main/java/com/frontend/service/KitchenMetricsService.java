@@ -0,0 +1,274 @@
+package com.frontend.service;
+
+import com.frontend.dto.ItemDto;
+import com.frontend.entity.KitchenOrder;
+import com.frontend.entity.KitchenOrderItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Rolling-window kitchen turnaround analytics, kept in memory.
+ *
+ * KitchenOrderService reports every KOT transition: SENT -> READY gives the prep time
+ * (readyAt - sentAt) and READY -> SERVE the serve time (servedAt - readyAt). Only the
+ * last kitchen.metrics.window-minutes are kept, so during rush the percentiles show the
+ * current state of the kitchen without querying the database.
+ *
+ * Turnarounds are broken down by item, category, station and hour of the day (sent time).
+ * Stations are mapped from categories with kitchen.metrics.stations
+ * (e.g. "Roti=Tandoor,Kebab=Tandoor,Chinese=Wok"); unmapped categories are their own station.
+ * In server mode the snapshot is pushed to /topic/kitchen-metrics whenever it changes.
+ */
+@Service
+public class KitchenMetricsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KitchenMetricsService.class);
+
+    private static final int MAX_TURNAROUNDS = 20000;
+    private static final String UNKNOWN = "Unknown";
+
+    public enum Phase { PREP, SERVE }
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired(required = false)
+    private NotificationService notificationService;
+
+    @Value("${kitchen.metrics.window-minutes:60}")
+    private int windowMinutes = 60;
+
+    @Value("${kitchen.metrics.stations:}")
+    private String stationMapping;
+
+    /**
+     * One finished phase of a KOT
+     */
+    private record Turnaround(long recordedAt, Phase phase, long seconds, int hour,
+                              Set<String> items, Set<String> categories, Set<String> stations) {
+    }
+
+    /**
+     * Percentiles of one group, in seconds
+     */
+    public record Stats(String key, int count, double avgSeconds, long p50Seconds,
+                        long p90Seconds, long p95Seconds, long maxSeconds) {
+    }
+
+    /**
+     * Stats of one phase, overall and per dimension (slowest p90 first)
+     */
+    public record PhaseStats(Stats overall, List<Stats> byItem, List<Stats> byCategory,
+                             List<Stats> byStation, List<Stats> byHour) {
+    }
+
+    public record Snapshot(int windowMinutes, long generatedAt, PhaseStats prep, PhaseStats serve) {
+    }
+
+    private final Deque<Turnaround> turnarounds = new ArrayDeque<>();
+    private long version;
+    private long publishedVersion;
+
+    private volatile Map<String, String> stations;
+    private List<ItemDto> categoryItems;
+    private Map<String, String> categoryByItem = Map.of();
+
+    // ==================== Recording ====================
+
+    /**
+     * KOT moved SENT -> READY
+     */
+    public void recordReady(KitchenOrder ko) {
+        if (ko != null) {
+            record(Phase.PREP, ko, ko.getSentAt(), ko.getReadyAt());
+        }
+    }
+
+    /**
+     * KOT moved READY -> SERVE
+     */
+    public void recordServed(KitchenOrder ko) {
+        if (ko != null) {
+            record(Phase.SERVE, ko, ko.getReadyAt(), ko.getServedAt());
+        }
+    }
+
+    private void record(Phase phase, KitchenOrder ko, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            return;
+        }
+        try {
+            long seconds = Math.max(0, Duration.between(from, to).getSeconds());
+            Set<String> items = new LinkedHashSet<>();
+            Set<String> categories = new LinkedHashSet<>();
+            Set<String> itemStations = new LinkedHashSet<>();
+            Map<String, String> itemCategories = getCategoryByItem();
+            for (KitchenOrderItem item : ko.getItems()) {
+                String name = item.getItemName() != null ? item.getItemName() : UNKNOWN;
+                String category = itemCategories.getOrDefault(name, UNKNOWN);
+                items.add(name);
+                categories.add(category);
+                itemStations.add(getStations().getOrDefault(category.toLowerCase(), category));
+            }
+            Turnaround turnaround = new Turnaround(System.currentTimeMillis(), phase, seconds,
+                    ko.getSentAt() != null ? ko.getSentAt().getHour() : to.getHour(),
+                    items, categories, itemStations);
+
+            synchronized (this) {
+                turnarounds.addLast(turnaround);
+                while (turnarounds.size() > MAX_TURNAROUNDS) {
+                    turnarounds.removeFirst();
+                }
+                version++;
+            }
+            LOG.debug("KOT #{} {} time {}s", ko.getId(), phase, seconds);
+        } catch (Exception e) {
+            LOG.warn("Could not record kitchen turnaround for KOT #{}: {}", ko.getId(), e.getMessage());
+        }
+    }
+
+    // ==================== Statistics ====================
+
+    public Snapshot getSnapshot() {
+        List<Turnaround> current;
+        synchronized (this) {
+            expire();
+            current = new ArrayList<>(turnarounds);
+        }
+        List<Turnaround> prep = new ArrayList<>();
+        List<Turnaround> serve = new ArrayList<>();
+        for (Turnaround t : current) {
+            (t.phase() == Phase.PREP ? prep : serve).add(t);
+        }
+        return new Snapshot(windowMinutes, System.currentTimeMillis(), phaseStats(prep), phaseStats(serve));
+    }
+
+    private PhaseStats phaseStats(List<Turnaround> list) {
+        return new PhaseStats(
+                stats("ALL", list),
+                groupStats(list, Turnaround::items),
+                groupStats(list, Turnaround::categories),
+                groupStats(list, Turnaround::stations),
+                groupStats(list, t -> Set.of(String.format("%02d", t.hour()))));
+    }
+
+    private List<Stats> groupStats(List<Turnaround> list, Function<Turnaround, Collection<String>> keys) {
+        Map<String, List<Turnaround>> groups = new HashMap<>();
+        for (Turnaround t : list) {
+            for (String key : keys.apply(t)) {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(t);
+            }
+        }
+        List<Stats> result = new ArrayList<>();
+        groups.forEach((key, group) -> result.add(stats(key, group)));
+        result.sort(Comparator.comparingLong(Stats::p90Seconds).reversed().thenComparing(Stats::key));
+        return result;
+    }
+
+    private static Stats stats(String key, List<Turnaround> list) {
+        if (list.isEmpty()) {
+            return new Stats(key, 0, 0, 0, 0, 0, 0);
+        }
+        long[] seconds = list.stream().mapToLong(Turnaround::seconds).sorted().toArray();
+        double avg = Arrays.stream(seconds).average().orElse(0);
+        return new Stats(key, seconds.length, Math.round(avg * 10) / 10.0, percentile(seconds, 50),
+                percentile(seconds, 90), percentile(seconds, 95), seconds[seconds.length - 1]);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values
+     */
+    static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private void expire() {
+        long cutoff = System.currentTimeMillis() - windowMinutes * 60_000L;
+        while (!turnarounds.isEmpty() && turnarounds.peekFirst().recordedAt() < cutoff) {
+            turnarounds.removeFirst();
+            version++;
+        }
+    }
+
+    // ==================== Live feed ====================
+
+    /**
+     * Push the snapshot to /topic/kitchen-metrics when it changed.
+     * Runs periodically (kitchen.metrics.publish-interval-ms, default 15 seconds).
+     */
+    @Scheduled(fixedDelayString = "${kitchen.metrics.publish-interval-ms:15000}",
+            initialDelayString = "${kitchen.metrics.publish-interval-ms:15000}")
+    public void publish() {
+        if (notificationService == null) {
+            return;
+        }
+        synchronized (this) {
+            expire();
+            if (version == publishedVersion) {
+                return;
+            }
+            publishedVersion = version;
+        }
+        notificationService.notifyKitchenMetrics(getSnapshot());
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * Item name -> category name, rebuilt when the cached item list changes
+     */
+    private synchronized Map<String, String> getCategoryByItem() {
+        List<ItemDto> items = itemService.getAllItems();
+        if (items != categoryItems) {
+            Map<String, String> map = new HashMap<>();
+            for (ItemDto item : items) {
+                if (item.getItemName() != null && item.getCategoryName() != null) {
+                    map.put(item.getItemName(), item.getCategoryName());
+                }
+            }
+            categoryItems = items;
+            categoryByItem = map;
+        }
+        return categoryByItem;
+    }
+
+    /**
+     * Category (lower case) -> station from kitchen.metrics.stations
+     */
+    private Map<String, String> getStations() {
+        Map<String, String> current = stations;
+        if (current == null) {
+            current = new HashMap<>();
+            if (stationMapping != null) {
+                for (String pair : stationMapping.split(",")) {
+                    String[] parts = pair.split("=", 2);
+                    if (parts.length == 2 && !parts[0].isBlank() && !parts[1].isBlank()) {
+                        current.put(parts[0].trim().toLowerCase(), parts[1].trim());
+                    }
+                }
+            }
+            stations = current;
+        }
+        return current;
+    }
+}
@@ -6,6 +6,9 @@ import com.frontend.entity.KitchenOrder;
 import com.frontend.entity.KitchenOrderItem;
 import com.frontend.entity.TempTransaction;
 import com.frontend.repository.KitchenOrderRepository;
+import com.frontend.util.AfterCommit;
+import com.frontend.util.BusinessMetrics;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,13 +37,18 @@ public class KitchenOrderService {
     @Autowired
     private AuditLogService auditLogService;
 
-    @Autowired(required = false)
-    private NotificationService notificationService;
+    @Autowired
+    private KitchenMetricsService kitchenMetricsService;
+
+    // Board changes are pushed to kitchen screens, so they are applied only once the KOT change commits
+    @Autowired
+    private KitchenBoard kitchenBoard;
 
     /**
      * Create a KitchenOrder record from a list of printable TempTransactions.
      * Looks up item ID by name and stores the ID.
      */
+    @Timed("hotel.kot")
     @Transactional
     public KitchenOrder createKitchenOrder(Integer tableNo, String tableName, Integer waitorId,
                                            List<TempTransaction> printableItems) {
@@ -77,6 +85,8 @@ public class KitchenOrderService {
         auditLogService.logAsync("KitchenOrder", String.valueOf(saved.getId()), "CREATE",
                 String.format("KOT created for table %s with %d items", tableName, printableItems.size()),
                 "system");
+        BusinessMetrics.kotCreated(printableItems.size());
+        AfterCommit.run(() -> kitchenBoard.orderCreated(saved));
         return saved;
     }
 
@@ -93,10 +103,12 @@ public class KitchenOrderService {
         LOG.info("KitchenOrder #{} marked as READY", kotId);
         auditLogService.logAsync("KitchenOrder", String.valueOf(kotId), "STATUS_CHANGE",
                 "Status changed: SENT -> READY", "system");
-        if (notificationService != null) {
-            notificationService.notifyKitchenOrderUpdate(kotId, STATUS_READY, ko.getTableNo());
-        }
-        return kitchenOrderRepository.findByIdWithItems(kotId).orElse(ko);
+        KitchenOrder result = kitchenOrderRepository.findByIdWithItems(kotId).orElse(ko);
+        AfterCommit.run(() -> {
+            kitchenMetricsService.recordReady(result);
+            kitchenBoard.orderUpdated(result);
+        });
+        return result;
     }
 
     /**
@@ -107,44 +119,57 @@ public class KitchenOrderService {
         KitchenOrder ko = kitchenOrderRepository.findById(kotId)
                 .orElseThrow(() -> new RuntimeException("KitchenOrder not found: " + kotId));
         ko.setStatus(STATUS_SERVE);
+        ko.setServedAt(LocalDateTime.now());
         kitchenOrderRepository.save(ko);
         LOG.info("KitchenOrder #{} marked as SERVE", kotId);
         auditLogService.logAsync("KitchenOrder", String.valueOf(kotId), "STATUS_CHANGE",
                 "Status changed: READY -> SERVE", "system");
-        if (notificationService != null) {
-            notificationService.notifyKitchenOrderUpdate(kotId, STATUS_SERVE, ko.getTableNo());
-        }
-        return kitchenOrderRepository.findByIdWithItems(kotId).orElse(ko);
+        KitchenOrder result = kitchenOrderRepository.findByIdWithItems(kotId).orElse(ko);
+        AfterCommit.run(() -> {
+            kitchenMetricsService.recordServed(result);
+            kitchenBoard.orderUpdated(result);
+        });
+        return result;
     }
 
     /**
      * Mark ALL SENT KOTs for a table as READY.
+     * Set-based: one locking id query, one bulk UPDATE and one fetch of the changed KOTs for the feed.
+     * The ids stay locked, so the update and the fetch cover exactly the selected KOTs.
      */
     @Transactional
     public void markAllAsReadyForTable(Integer tableNo) {
-        List<KitchenOrder> sentOrders = kitchenOrderRepository
-                .findByTableNoAndStatusOrderBySentAtAsc(tableNo, STATUS_SENT);
-        LocalDateTime now = LocalDateTime.now();
-        for (KitchenOrder ko : sentOrders) {
-            ko.setStatus(STATUS_READY);
-            ko.setReadyAt(now);
+        List<Integer> ids = kitchenOrderRepository.findIdsByTableNoAndStatus(tableNo, STATUS_SENT);
+        if (ids.isEmpty()) {
+            return;
         }
-        kitchenOrderRepository.saveAll(sentOrders);
-        LOG.info("Marked {} KitchenOrders as READY for table {}", sentOrders.size(), tableNo);
+        int updated = kitchenOrderRepository.markReady(ids, STATUS_SENT, STATUS_READY, LocalDateTime.now());
+        List<KitchenOrder> readyOrders = kitchenOrderRepository.findByIdInWithItems(ids);
+        AfterCommit.run(() -> readyOrders.forEach(order -> {
+            kitchenMetricsService.recordReady(order);
+            kitchenBoard.orderUpdated(order);
+        }));
+        LOG.info("Marked {} KitchenOrders as READY for table {}", updated, tableNo);
     }
 
     /**
      * Mark ALL READY KOTs for a table as SERVE.
+     * Set-based: one locking id query, one bulk UPDATE and one fetch of the changed KOTs for the feed.
+     * The ids stay locked, so the update and the fetch cover exactly the selected KOTs.
      */
     @Transactional
     public void markAllAsServedForTable(Integer tableNo) {
-        List<KitchenOrder> readyOrders = kitchenOrderRepository
-                .findByTableNoAndStatusOrderBySentAtAsc(tableNo, STATUS_READY);
-        for (KitchenOrder ko : readyOrders) {
-            ko.setStatus(STATUS_SERVE);
+        List<Integer> ids = kitchenOrderRepository.findIdsByTableNoAndStatus(tableNo, STATUS_READY);
+        if (ids.isEmpty()) {
+            return;
         }
-        kitchenOrderRepository.saveAll(readyOrders);
-        LOG.info("Marked {} KitchenOrders as SERVE for table {}", readyOrders.size(), tableNo);
+        int updated = kitchenOrderRepository.markServed(ids, STATUS_READY, STATUS_SERVE, LocalDateTime.now());
+        List<KitchenOrder> servedOrders = kitchenOrderRepository.findByIdInWithItems(ids);
+        AfterCommit.run(() -> {
+            servedOrders.forEach(kitchenMetricsService::recordServed);
+            kitchenBoard.ordersRemoved(servedOrders);
+        });
+        LOG.info("Marked {} KitchenOrders as SERVE for table {}", updated, tableNo);
     }
 
     /**
@@ -184,6 +209,7 @@ public class KitchenOrderService {
         List<KitchenOrder> orders = kitchenOrderRepository.findByTableNoOrderBySentAtAsc(tableNo);
         if (!orders.isEmpty()) {
             kitchenOrderRepository.deleteAll(orders);
+            AfterCommit.run(() -> kitchenBoard.ordersRemoved(orders));
             LOG.info("Cleared {} KitchenOrders for table {}", orders.size(), tableNo);
         }
     }
@@ -193,9 +219,10 @@ public class KitchenOrderService {
      */
     @Transactional
     public void shiftKitchenOrders(Integer sourceTableNo, Integer targetTableNo, String targetTableName) {
-        kitchenOrderRepository.shiftKitchenOrdersToTable(sourceTableNo, targetTableNo, targetTableName);
-        LOG.info("Shifted KitchenOrders from table {} to table {} ({})",
-                sourceTableNo, targetTableNo, targetTableName);
+        int shifted = kitchenOrderRepository.shiftKitchenOrdersToTable(sourceTableNo, targetTableNo, targetTableName);
+        AfterCommit.run(() -> kitchenBoard.tableShifted(sourceTableNo, targetTableNo, targetTableName));
+        LOG.info("Shifted {} KitchenOrders from table {} to table {} ({})",
+                shifted, sourceTableNo, targetTableNo, targetTableName);
     }
 
     /**
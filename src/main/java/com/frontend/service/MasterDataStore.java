@@ -0,0 +1,565 @@
+package com.frontend.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.dto.CategoryMasterDto;
+import com.frontend.entity.CacheVersion;
+import com.frontend.entity.Employees;
+import com.frontend.entity.Item;
+import com.frontend.entity.TableMaster;
+import com.frontend.repository.CacheVersionRepository;
+import com.frontend.repository.CategoryMasterRepository;
+import com.frontend.repository.EmployeesRepository;
+import com.frontend.repository.ItemRepository;
+import com.frontend.repository.TableMasterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local read-through store of the master data used by the billing screen: items, categories,
+ * employees (waiters), tables and the table grid's section groups.
+ *
+ * Lookups are answered from an in-memory snapshot, so opening the billing screen or finding an
+ * item makes no database round trip. The snapshot is versioned by the cache_version rows
+ * (see CacheCoherenceService): a sync reads that small table and reloads only the data types
+ * whose version moved. Syncs run after every local or remote change reported by
+ * CacheCoherenceService, as a full reload once the snapshot is older than
+ * masterdata.store.full-reload-hours, and in the background after a lookup miss (at most once per
+ * masterdata.store.miss-sync-interval-ms); the missed lookup itself returns nothing rather than
+ * waiting for the database, so callers on the FX thread never block on it.
+ *
+ * With masterdata.store.persist=true (client profile) the snapshot is also written to
+ * masterdata.store.file (gzip JSON), so the next launch serves lookups from disk immediately and
+ * syncs in the background.
+ */
+@Service
+public class MasterDataStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MasterDataStore.class);
+
+    private static final int FORMAT = 2;
+    private static final List<String> TRACKED = List.of(
+            CacheCoherenceService.ITEMS, CacheCoherenceService.CATEGORIES,
+            CacheCoherenceService.EMPLOYEES, CacheCoherenceService.TABLES);
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoryMasterRepository categoryRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private TableMasterRepository tableMasterRepository;
+
+    @Autowired
+    private TableMasterService tableMasterService;
+
+    @Autowired
+    private CacheVersionRepository cacheVersionRepository;
+
+    @Autowired
+    private CacheCoherenceService cacheCoherenceService;
+
+    @Value("${masterdata.store.persist:false}")
+    private boolean persist = false;
+
+    @Value("${masterdata.store.file:./data/masterdata.json.gz}")
+    private String file = "./data/masterdata.json.gz";
+
+    @Value("${masterdata.store.full-reload-hours:24}")
+    private long fullReloadHours = 24;
+
+    @Value("${masterdata.store.miss-sync-interval-ms:5000}")
+    private long missSyncIntervalMs = 5000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ExecutorService syncExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "masterdata-sync");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean syncQueued = new AtomicBoolean();
+    private final AtomicLong lastMissSync = new AtomicLong();
+
+    // ==================== Snapshot ====================
+
+    record ItemRow(Integer id, String itemName, Integer categoryId, Float rate, Integer itemCode) {
+    }
+
+    record CategoryRow(Integer id, String category, String stock, String purchase) {
+    }
+
+    record EmployeeRow(Integer employeeId, String firstName, String lastName, String designation,
+                       Boolean activeStatus) {
+
+        /**
+         * Same rule as EmployeesRepository.findActiveWaiters
+         */
+        boolean isActiveWaiter() {
+            return Boolean.TRUE.equals(activeStatus) && designation != null
+                    && List.of("waitor", "waiter").contains(designation.toLowerCase());
+        }
+    }
+
+    record TableRow(Integer id, String tableName, String description) {
+    }
+
+    /**
+     * Stored form of the master data; versions are the cache_version values it was loaded at
+     */
+    record Snapshot(int format, long fullyLoadedAt, Map<String, Long> versions,
+                    List<ItemRow> items, List<CategoryRow> categories, List<EmployeeRow> employees,
+                    List<TableRow> tables, List<List<String>> sectionRowGroups) {
+    }
+
+    /**
+     * Immutable lookup indexes over one snapshot; replaced as a whole on every sync
+     */
+    private record View(Snapshot snapshot, List<String> itemNames, Map<String, ItemRow> itemsByName,
+                        Map<Integer, ItemRow> itemsByCode, Map<String, ItemRow> itemsByCategoryAndCode,
+                        Map<Integer, List<String>> itemNamesByCategory, Map<Integer, CategoryRow> categoriesById,
+                        Map<String, CategoryRow> categoriesByName, List<EmployeeRow> waiters,
+                        Map<Integer, EmployeeRow> employeesById,
+                        List<TableRow> tablesByName, Map<Integer, TableRow> tablesById,
+                        Map<String, TableRow> tablesByTableName, Map<String, List<TableRow>> tablesBySection) {
+
+        static View of(Snapshot snapshot) {
+            List<String> itemNames = new ArrayList<>();
+            Map<String, ItemRow> itemsByName = new HashMap<>();
+            Map<Integer, ItemRow> itemsByCode = new HashMap<>();
+            Map<String, ItemRow> itemsByCategoryAndCode = new HashMap<>();
+            Map<Integer, List<String>> itemNamesByCategory = new HashMap<>();
+            for (ItemRow item : snapshot.items()) {
+                itemNames.add(item.itemName());
+                if (item.itemName() != null) {
+                    itemsByName.putIfAbsent(key(item.itemName()), item);
+                }
+                itemsByCode.putIfAbsent(item.itemCode(), item);
+                itemsByCategoryAndCode.putIfAbsent(item.categoryId() + ":" + item.itemCode(), item);
+                itemNamesByCategory.computeIfAbsent(item.categoryId(), id -> new ArrayList<>()).add(item.itemName());
+            }
+
+            Map<Integer, CategoryRow> categoriesById = new HashMap<>();
+            Map<String, CategoryRow> categoriesByName = new HashMap<>();
+            for (CategoryRow category : snapshot.categories()) {
+                categoriesById.put(category.id(), category);
+                if (category.category() != null) {
+                    categoriesByName.putIfAbsent(key(category.category()), category);
+                }
+            }
+
+            List<EmployeeRow> waiters = snapshot.employees().stream()
+                    .filter(EmployeeRow::isActiveWaiter)
+                    .sorted(Comparator.comparing(EmployeeRow::firstName, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .collect(Collectors.toList());
+            Map<Integer, EmployeeRow> employeesById = snapshot.employees().stream()
+                    .collect(Collectors.toMap(EmployeeRow::employeeId, e -> e, (a, b) -> a));
+
+            List<TableRow> tablesByName = new ArrayList<>(snapshot.tables());
+            tablesByName.sort(Comparator.comparing(TableRow::tableName, Comparator.nullsLast(Comparator.naturalOrder())));
+            Map<Integer, TableRow> tablesById = new HashMap<>();
+            Map<String, TableRow> tablesByTableName = new HashMap<>();
+            Map<String, List<TableRow>> tablesBySection = new HashMap<>();
+            for (TableRow table : snapshot.tables()) {
+                tablesById.put(table.id(), table);
+                tablesByTableName.putIfAbsent(table.tableName(), table);
+                tablesBySection.computeIfAbsent(table.description(), d -> new ArrayList<>()).add(table);
+            }
+
+            return new View(snapshot, Collections.unmodifiableList(itemNames), itemsByName, itemsByCode,
+                    itemsByCategoryAndCode, itemNamesByCategory, categoriesById, categoriesByName, waiters,
+                    employeesById, tablesByName, tablesById, tablesByTableName, tablesBySection);
+        }
+    }
+
+    private volatile View view;
+
+    /**
+     * Load the store in the background once the application is up and follow cache changes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        cacheCoherenceService.addListener(cacheNames -> {
+            if (cacheNames.stream().anyMatch(TRACKED::contains)) {
+                syncInBackground();
+            }
+        });
+        syncExecutor.execute(() -> {
+            try {
+                view();
+            } catch (Exception e) {
+                LOG.error("Error preloading master data store: {}", e.getMessage());
+            }
+        });
+    }
+
+    // ==================== Items ====================
+
+    /**
+     * Names of all items (unmodifiable)
+     */
+    public List<String> getItemNames() {
+        return view().itemNames();
+    }
+
+    /**
+     * First item with the given name, ignoring case
+     */
+    public Item findItemByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return null;
+        }
+        return toItem(lookup(v -> v.itemsByName().get(key(name))));
+    }
+
+    public Item findItemByCode(int itemCode) {
+        return toItem(lookup(v -> v.itemsByCode().get(itemCode)));
+    }
+
+    public Item findItemByCategoryAndCode(Integer categoryId, int itemCode) {
+        return toItem(lookup(v -> v.itemsByCategoryAndCode().get(categoryId + ":" + itemCode)));
+    }
+
+    public List<String> getItemNamesByCategory(Integer categoryId) {
+        return new ArrayList<>(view().itemNamesByCategory().getOrDefault(categoryId, List.of()));
+    }
+
+    // ==================== Categories ====================
+
+    public List<CategoryMasterDto> getCategories() {
+        return view().snapshot().categories().stream().map(MasterDataStore::toCategory).collect(Collectors.toList());
+    }
+
+    /**
+     * Category with the given name, ignoring case
+     */
+    public CategoryMasterDto findCategoryByName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return toCategory(lookup(v -> v.categoriesByName().get(key(name))));
+    }
+
+    public CategoryMasterDto getCategoryById(Integer id) {
+        return toCategory(lookup(v -> v.categoriesById().get(id)));
+    }
+
+    // ==================== Waiters ====================
+
+    /**
+     * First names of the active waiters, ordered by first name
+     */
+    public List<String> getWaiterNames() {
+        return view().waiters().stream().map(EmployeeRow::firstName).collect(Collectors.toList());
+    }
+
+    /**
+     * Waiter selected by first name: exact match, then the first waiter whose name contains it,
+     * then any employee whose first name contains it
+     */
+    public Employees findWaiterByName(String firstName) {
+        if (firstName == null || firstName.isEmpty()) {
+            return null;
+        }
+        String wanted = key(firstName);
+        return toEmployee(lookup(v -> {
+            for (EmployeeRow waiter : v.waiters()) {
+                if (firstName.equals(waiter.firstName())) {
+                    return waiter;
+                }
+            }
+            for (EmployeeRow waiter : v.waiters()) {
+                if (waiter.firstName() != null && key(waiter.firstName()).contains(wanted)) {
+                    return waiter;
+                }
+            }
+            for (EmployeeRow employee : v.snapshot().employees()) {
+                if (employee.firstName() != null && key(employee.firstName()).contains(wanted)) {
+                    return employee;
+                }
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Employee by id, including inactive employees (waiters of old bills)
+     */
+    public Employees getEmployeeById(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        return toEmployee(lookup(v -> v.employeesById().get(id)));
+    }
+
+    // ==================== Tables ====================
+
+    /**
+     * All tables ordered by name
+     */
+    public List<TableMaster> getAllTables() {
+        return view().tablesByName().stream().map(MasterDataStore::toTable).collect(Collectors.toList());
+    }
+
+    public TableMaster getTableByName(String tableName) {
+        TableRow table = lookup(v -> v.tablesByTableName().get(tableName));
+        if (table == null) {
+            throw new RuntimeException("Table not found with name: " + tableName);
+        }
+        return toTable(table);
+    }
+
+    public TableMaster getTableById(Integer id) {
+        TableRow table = lookup(v -> v.tablesById().get(id));
+        if (table == null) {
+            throw new RuntimeException("Table not found with ID: " + id);
+        }
+        return toTable(table);
+    }
+
+    public List<TableMaster> getTablesBySection(String section) {
+        return view().tablesBySection().getOrDefault(section, List.of()).stream()
+                .map(MasterDataStore::toTable).collect(Collectors.toList());
+    }
+
+    /**
+     * Section groups of the table grid (see TableMasterService.getSectionRowGroups)
+     */
+    public List<List<String>> getSectionRowGroups() {
+        return view().snapshot().sectionRowGroups().stream().map(ArrayList::new).collect(Collectors.toList());
+    }
+
+    // ==================== Sync ====================
+
+    /**
+     * Bring the store up to date: reload the data types whose cache_version moved, or
+     * everything when the snapshot is older than the full reload interval
+     * @return true if anything was reloaded
+     */
+    public synchronized boolean sync() {
+        // Versions first: a change committed while reloading moves the version again
+        Map<String, Long> versions = new LinkedHashMap<>();
+        for (String name : TRACKED) {
+            versions.put(name, null);
+        }
+        for (CacheVersion row : cacheVersionRepository.findAll()) {
+            if (versions.containsKey(row.getCacheName())) {
+                versions.put(row.getCacheName(), row.getVersion());
+            }
+        }
+
+        View current = view;
+        Snapshot old = current != null ? current.snapshot() : null;
+        boolean full = old == null
+                || System.currentTimeMillis() - old.fullyLoadedAt() > TimeUnit.HOURS.toMillis(fullReloadHours);
+        Set<String> changed = versions.keySet().stream()
+                .filter(name -> full || !Objects.equals(versions.get(name), old.versions().get(name)))
+                .collect(Collectors.toSet());
+        if (changed.isEmpty()) {
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        Snapshot snapshot = new Snapshot(FORMAT,
+                full ? start : old.fullyLoadedAt(),
+                versions,
+                changed.contains(CacheCoherenceService.ITEMS) ? loadItems() : old.items(),
+                changed.contains(CacheCoherenceService.CATEGORIES) ? loadCategories() : old.categories(),
+                changed.contains(CacheCoherenceService.EMPLOYEES) ? loadEmployees() : old.employees(),
+                changed.contains(CacheCoherenceService.TABLES) ? loadTables() : old.tables(),
+                changed.contains(CacheCoherenceService.TABLES) ? tableMasterService.getSectionRowGroups() : old.sectionRowGroups());
+        view = View.of(snapshot);
+        LOG.info("Master data store {} ({}) in {} ms", full ? "loaded" : "updated", full ? "all" : changed,
+                System.currentTimeMillis() - start);
+        save(snapshot);
+        return true;
+    }
+
+    private void syncInBackground() {
+        if (syncQueued.compareAndSet(false, true)) {
+            syncExecutor.execute(() -> {
+                syncQueued.set(false);
+                try {
+                    sync();
+                } catch (Exception e) {
+                    LOG.warn("Error syncing master data store: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    private View view() {
+        View current = view;
+        if (current == null) {
+            synchronized (this) {
+                if (view == null) {
+                    Snapshot stored = persist ? read() : null;
+                    if (stored != null) {
+                        view = View.of(stored);
+                        LOG.info("Master data store loaded from {} ({} items, {} tables)",
+                                file, stored.items().size(), stored.tables().size());
+                        syncInBackground();
+                    } else {
+                        sync();
+                    }
+                }
+                current = view;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Look up in the store. A miss (the row may have just been added elsewhere) queues a background
+     * sync, at most once per miss-sync interval, so that a later lookup finds it
+     */
+    private <T> T lookup(Function<View, T> finder) {
+        T found = finder.apply(view());
+        if (found == null) {
+            long now = System.currentTimeMillis();
+            long last = lastMissSync.get();
+            if (now - last >= missSyncIntervalMs && lastMissSync.compareAndSet(last, now)) {
+                syncInBackground();
+            }
+        }
+        return found;
+    }
+
+    // ==================== Database ====================
+
+    private List<ItemRow> loadItems() {
+        return itemRepository.findAll().stream()
+                .sorted(Comparator.comparing(Item::getId))
+                .map(i -> new ItemRow(i.getId(), i.getItemName(), i.getCategoryId(), i.getRate(), i.getItemCode()))
+                .collect(Collectors.toList());
+    }
+
+    private List<CategoryRow> loadCategories() {
+        return categoryRepository.findAll().stream()
+                .map(c -> new CategoryRow(c.getId(), c.getCategory(), c.getStock(), c.getPurchase()))
+                .collect(Collectors.toList());
+    }
+
+    private List<EmployeeRow> loadEmployees() {
+        return employeesRepository.findAll().stream()
+                .map(e -> new EmployeeRow(e.getEmployeeId(), e.getFirstName(), e.getLastName(), e.getDesignation(),
+                        e.getActiveStatus()))
+                .collect(Collectors.toList());
+    }
+
+    private List<TableRow> loadTables() {
+        return tableMasterRepository.findAll().stream()
+                .sorted(Comparator.comparing(TableMaster::getId))
+                .map(t -> new TableRow(t.getId(), t.getTableName(), t.getDescription()))
+                .collect(Collectors.toList());
+    }
+
+    // ==================== File ====================
+
+    private Snapshot read() {
+        Path path = Paths.get(file);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            Snapshot snapshot = objectMapper.readValue(in, Snapshot.class);
+            return snapshot.format() == FORMAT ? snapshot : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (Exception e) {
+            LOG.warn("Ignoring unreadable master data file {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(Snapshot snapshot) {
+        if (!persist) {
+            return;
+        }
+        Path path = Paths.get(file).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), "masterdata", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                objectMapper.writeValue(out, snapshot);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Could not write master data file {}: {}", path, e.getMessage());
+        }
+    }
+
+    // ==================== Conversion ====================
+
+    private static String key(String name) {
+        return name.trim().toLowerCase();
+    }
+
+    private static Item toItem(ItemRow row) {
+        if (row == null) {
+            return null;
+        }
+        Item item = new Item();
+        item.setId(row.id());
+        item.setItemName(row.itemName());
+        item.setCategoryId(row.categoryId());
+        item.setRate(row.rate());
+        item.setItemCode(row.itemCode());
+        return item;
+    }
+
+    private static CategoryMasterDto toCategory(CategoryRow row) {
+        return row != null ? new CategoryMasterDto(row.id(), row.category(), row.stock(), row.purchase()) : null;
+    }
+
+    private static Employees toEmployee(EmployeeRow row) {
+        if (row == null) {
+            return null;
+        }
+        Employees employee = new Employees();
+        employee.setEmployeeId(row.employeeId());
+        employee.setFirstName(row.firstName());
+        employee.setLastName(row.lastName());
+        employee.setDesignation(row.designation());
+        employee.setActiveStatus(row.activeStatus());
+        return employee;
+    }
+
+    private static TableMaster toTable(TableRow row) {
+        return new TableMaster(row.id(), row.tableName(), row.description());
+    }
+}
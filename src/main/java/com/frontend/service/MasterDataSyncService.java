@@ -0,0 +1,228 @@
+package com.frontend.service;
+
+import com.frontend.dto.CategoryMasterDto;
+import com.frontend.dto.ItemDto;
+import com.frontend.entity.Customer;
+import com.frontend.entity.Employees;
+import com.frontend.entity.MasterDataChange;
+import com.frontend.repository.MasterDataChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync of the mobile app's master data (items, categories, customers, waiters).
+ *
+ * Every change of these rows is recorded in master_data_change by the writing service; the id of
+ * a change is the sync version. {@link #changesSince(long)} returns the rows changed or deleted
+ * after the client's version, or everything (reset=true) when the client has no version yet
+ * (since = -1) or the log no longer reaches back that far (changes are kept
+ * masterdata.sync.log-retention-days; the highest pruned version is recorded in master_data_prune).
+ *
+ * Ids are allocated when a change is written but become visible on commit, so a younger id can
+ * be visible before an older one. The returned version therefore only covers changes older than
+ * a few seconds; newer ones are sent again on the next sync (upserts are idempotent).
+ *
+ * {@link #version(String...)} is the ETag of the full-list endpoints. For the same reason it is not
+ * the latest change of the given types but the latest settled one plus the number of younger ones.
+ */
+@Service
+@Profile("server")
+public class MasterDataSyncService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MasterDataSyncService.class);
+
+    // Transactions are assumed to commit within this time after recording a change
+    private static final int SETTLE_SECONDS = 10;
+
+    @Autowired
+    private MasterDataChangeRepository masterDataChangeRepository;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoryApiService categoryApiService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EmployeesService employeesService;
+
+    @Value("${masterdata.sync.log-retention-days:30}")
+    private int retentionDays = 30;
+
+    /**
+     * Rows of one type changed since the client's version; deletes are ids the client must drop
+     */
+    public record EntityChanges<T>(List<T> upserts, List<Integer> deletes) {
+    }
+
+    /**
+     * Answer to a sync request. When reset is true the upserts are complete lists that replace
+     * the client's data; the client sends version as since on its next sync.
+     */
+    public record Changes(long version, boolean reset, EntityChanges<ItemDto> items,
+                          EntityChanges<CategoryMasterDto> categories, EntityChanges<Customer> customers,
+                          EntityChanges<Map<String, Object>> waiters) {
+    }
+
+    // ==================== Sync ====================
+
+    /**
+     * Master data changed after the given version, or all of it when that is not available
+     */
+    @Transactional(readOnly = true)
+    public Changes changesSince(long since) {
+        Long settled = masterDataChangeRepository.findSettledId(SETTLE_SECONDS);
+        // Version 0 is "before the first change"; changes up to the pruned version may be missing
+        long prunedThrough = nullToZero(masterDataChangeRepository.findPrunedThrough());
+        long settledVersion = settled != null ? Math.max(settled, prunedThrough) : prunedThrough;
+        long latest = nullToZero(masterDataChangeRepository.findLatestId(
+                List.of(MasterDataChange.ITEM, MasterDataChange.CATEGORY, MasterDataChange.CUSTOMER, MasterDataChange.EMPLOYEE)));
+
+        boolean reset = since < 0 || since > latest || since < prunedThrough;
+        if (reset) {
+            List<Map<String, Object>> waiters = employeesService.getActiveWaiters().stream()
+                    .map(MasterDataSyncService::waiter)
+                    .collect(Collectors.toList());
+            return new Changes(settledVersion, true,
+                    new EntityChanges<>(itemService.getAllItems(), List.of()),
+                    new EntityChanges<>(categoryApiService.getAllCategories(), List.of()),
+                    new EntityChanges<>(customerService.getAllCustomers(), List.of()),
+                    new EntityChanges<>(waiters, List.of()));
+        }
+
+        // Last change per row wins
+        Map<String, Map<Integer, Boolean>> changed = new HashMap<>();
+        for (MasterDataChange change : masterDataChangeRepository.findByIdGreaterThanOrderByIdAsc(since)) {
+            changed.computeIfAbsent(change.getEntityType(), t -> new LinkedHashMap<>())
+                    .put(change.getEntityId(), change.getDeleted());
+        }
+
+        // Item DTOs carry the category name, so items of a changed category are sent again
+        Set<Integer> changedCategories = upserted(changed, MasterDataChange.CATEGORY);
+        EntityChanges<ItemDto> items = entityChanges(changed, MasterDataChange.ITEM,
+                itemService.getItemsByIdsOrCategories(upserted(changed, MasterDataChange.ITEM), changedCategories),
+                ItemDto::getId);
+        EntityChanges<CategoryMasterDto> categories = entityChanges(changed, MasterDataChange.CATEGORY,
+                categoryApiService.getCategoriesByIds(changedCategories), CategoryMasterDto::getId);
+        EntityChanges<Customer> customers = entityChanges(changed, MasterDataChange.CUSTOMER,
+                customerService.getCustomersByIds(upserted(changed, MasterDataChange.CUSTOMER)), Customer::getId);
+
+        // An employee that is no longer an active waiter leaves the waiter list
+        List<Map<String, Object>> waiterUpserts = new ArrayList<>();
+        List<Integer> waiterDeletes = new ArrayList<>(deleted(changed, MasterDataChange.EMPLOYEE));
+        Set<Integer> employeeIds = upserted(changed, MasterDataChange.EMPLOYEE);
+        Set<Integer> found = new LinkedHashSet<>();
+        for (Employees employee : employeesService.getEmployeesByIds(employeeIds)) {
+            found.add(employee.getEmployeeId());
+            if (isActiveWaiter(employee)) {
+                waiterUpserts.add(waiter(employee));
+            } else {
+                waiterDeletes.add(employee.getEmployeeId());
+            }
+        }
+        employeeIds.stream().filter(id -> !found.contains(id)).forEach(waiterDeletes::add);
+
+        return new Changes(Math.max(since, settledVersion), false, items, categories, customers,
+                new EntityChanges<>(waiterUpserts, waiterDeletes));
+    }
+
+    /**
+     * Version of the lists of the given entity types: "settled-unsettled" (see
+     * MasterDataChangeRepository.findListVersion), "0-0" if none was recorded
+     */
+    public String version(String... entityTypes) {
+        return masterDataChangeRepository.findListVersion(Arrays.asList(entityTypes), SETTLE_SECONDS);
+    }
+
+    /**
+     * Remove changes older than the retention period and record the highest removed version;
+     * clients behind it get a reset.
+     * Runs periodically (masterdata.sync.prune-interval-ms, default 1 hour).
+     */
+    @Scheduled(fixedDelayString = "${masterdata.sync.prune-interval-ms:3600000}",
+            initialDelayString = "${masterdata.sync.prune-interval-ms:3600000}")
+    @Transactional
+    public void prune() {
+        try {
+            Long through = masterDataChangeRepository.findPrunableThrough(retentionDays);
+            if (through == null) {
+                return;
+            }
+            masterDataChangeRepository.recordPrunedThrough(through);
+            int removed = masterDataChangeRepository.deleteOlderThanDays(retentionDays, through);
+            if (removed > 0) {
+                LOG.info("Pruned {} master data changes older than {} days", removed, retentionDays);
+            }
+        } catch (Exception e) {
+            LOG.warn("Error pruning master data changes: {}", e.getMessage());
+        }
+    }
+
+    // ==================== Waiters ====================
+
+    public static boolean isActiveWaiter(Employees employee) {
+        String designation = employee.getDesignation() != null ? employee.getDesignation().toLowerCase() : "";
+        return Boolean.TRUE.equals(employee.getActiveStatus())
+                && (designation.equals("waiter") || designation.equals("waitor"));
+    }
+
+    /**
+     * Waiter as listed for the mobile app (id, name, fullName)
+     */
+    public static Map<String, Object> waiter(Employees employee) {
+        Map<String, Object> waiter = new HashMap<>();
+        waiter.put("id", employee.getEmployeeId());
+        waiter.put("name", employee.getFirstName());
+        waiter.put("fullName", employee.getFullName());
+        return waiter;
+    }
+
+    // ==================== Helpers ====================
+
+    private static <T> EntityChanges<T> entityChanges(Map<String, Map<Integer, Boolean>> changed, String entityType,
+                                                      List<T> rows, Function<T, Integer> id) {
+        List<Integer> deletes = new ArrayList<>(deleted(changed, entityType));
+        Set<Integer> found = rows.stream().map(id).collect(Collectors.toSet());
+        // Rows changed and then deleted by a transaction not yet visible here
+        upserted(changed, entityType).stream().filter(rowId -> !found.contains(rowId)).forEach(deletes::add);
+        return new EntityChanges<>(rows, deletes);
+    }
+
+    private static Set<Integer> upserted(Map<String, Map<Integer, Boolean>> changed, String entityType) {
+        return changed.getOrDefault(entityType, Map.of()).entrySet().stream()
+                .filter(e -> !Boolean.TRUE.equals(e.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Set<Integer> deleted(Map<String, Map<Integer, Boolean>> changed, String entityType) {
+        return changed.getOrDefault(entityType, Map.of()).entrySet().stream()
+                .filter(e -> Boolean.TRUE.equals(e.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0;
+    }
+}
@@ -7,7 +7,9 @@ import com.frontend.repository.MobileFeatureAccessRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -117,6 +119,16 @@ public class MobileAppSettingService {
     @Autowired
     private MobileFeatureAccessRepository featureAccessRepository;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * In-memory snapshot of all settings (key -> value).
+     * Loaded on first read, replaced on saveSetting and refreshed periodically so that
+     * changes made from another terminal are picked up. Null until first load.
+     */
+    private volatile Map<String, String> settingsSnapshot;
+
     // ==================== SETTINGS METHODS ====================
 
     /**
@@ -134,17 +146,59 @@ public class MobileAppSettingService {
     }
 
     /**
-     * Get setting value by key
+     * Get setting value by key (served from the in-memory snapshot)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String getSettingValue(String key) {
-        return settingRepository.findBySettingKey(key)
-                .map(MobileAppSetting::getSettingValue)
-                .orElse(null);
+        return getSettingsSnapshot().get(key);
+    }
+
+    /**
+     * Reload the settings snapshot from the database.
+     * Runs periodically (mobile.settings.refresh-interval-ms, default 60 seconds).
+     */
+    @Scheduled(fixedDelayString = "${mobile.settings.refresh-interval-ms:60000}",
+            initialDelayString = "${mobile.settings.refresh-interval-ms:60000}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void refreshSettingsSnapshot() {
+        Map<String, String> snapshot = new HashMap<>();
+        for (MobileAppSetting setting : settingRepository.findAll()) {
+            snapshot.put(setting.getSettingKey(), setting.getSettingValue());
+        }
+        Map<String, String> previous = settingsSnapshot;
+        settingsSnapshot = Collections.unmodifiableMap(snapshot);
+        if (previous != null && !previous.equals(snapshot)) {
+            // Settings were changed from another terminal - re-verify cached tokens
+            verifiedTokenCache.invalidateAll();
+        }
+        LOG.debug("Mobile settings snapshot refreshed ({} settings)", snapshot.size());
+    }
+
+    private Map<String, String> getSettingsSnapshot() {
+        Map<String, String> snapshot = settingsSnapshot;
+        if (snapshot == null) {
+            refreshSettingsSnapshot();
+            snapshot = settingsSnapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replace a single value in the snapshot (copy-on-write)
+     */
+    private synchronized void updateSnapshot(String key, String value) {
+        if (settingsSnapshot == null) {
+            return; // Not loaded yet - first read will load it from the database
+        }
+        Map<String, String> snapshot = new HashMap<>(settingsSnapshot);
+        snapshot.put(key, value);
+        settingsSnapshot = Collections.unmodifiableMap(snapshot);
     }
 
     /**
      * Get setting value as boolean
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean getSettingBoolean(String key, boolean defaultValue) {
         String value = getSettingValue(key);
         if (value == null) return defaultValue;
@@ -154,6 +208,7 @@ public class MobileAppSettingService {
     /**
      * Get setting value as integer
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public int getSettingInteger(String key, int defaultValue) {
         String value = getSettingValue(key);
         if (value == null) return defaultValue;
@@ -187,12 +242,16 @@ public class MobileAppSettingService {
                     .build();
         }
 
-        return settingRepository.save(setting);
+        MobileAppSetting saved = settingRepository.save(setting);
+        updateSnapshot(key, value);
+        verifiedTokenCache.invalidateAll();
+        return saved;
     }
 
     /**
      * Check if mobile access is enabled
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isMobileAccessEnabled() {
         return getSettingBoolean(MOBILE_ACCESS_ENABLED, false);
     }
@@ -200,6 +259,7 @@ public class MobileAppSettingService {
     /**
      * Get JWT token expiration in hours
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public int getJwtExpirationHours() {
         int days = getSettingInteger(JWT_TOKEN_EXPIRY_DAYS, 0);
         int hours = getSettingInteger(JWT_TOKEN_EXPIRY_HOURS, 24);
@@ -209,12 +269,18 @@ public class MobileAppSettingService {
     /**
      * Get JWT secret key
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String getJwtSecretKey() {
         String secret = getSettingValue(JWT_SECRET_KEY);
         if (secret == null || secret.isEmpty()) {
-            // Generate and save a default secret
-            secret = UUID.randomUUID().toString() + UUID.randomUUID().toString();
-            saveSetting(JWT_SECRET_KEY, secret, "STRING", "JWT Secret Key for token signing");
+            synchronized (this) {
+                secret = getSettingValue(JWT_SECRET_KEY);
+                if (secret == null || secret.isEmpty()) {
+                    // Generate and save a default secret
+                    secret = UUID.randomUUID().toString() + UUID.randomUUID().toString();
+                    saveSetting(JWT_SECRET_KEY, secret, "STRING", "JWT Secret Key for token signing");
+                }
+            }
         }
         return secret;
     }
@@ -273,7 +339,9 @@ public class MobileAppSettingService {
                     .build();
         }
 
-        return featureAccessRepository.save(access);
+        MobileFeatureAccess saved = featureAccessRepository.save(access);
+        verifiedTokenCache.invalidateAll();
+        return saved;
     }
 
     /**
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,11 +24,16 @@ public class NotificationService {
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
+    @Autowired
+    private TableStatusFeed tableStatusFeed;
+
     /**
      * Notify clients that a table's status has changed.
      * Clients subscribe to: /topic/tables/{tableId}
+     * The desktop table grid in this process gets the same change through TableStatusFeed.
      */
     public void notifyTableStatusChange(Integer tableId, String status) {
+        tableStatusFeed.update(tableId, status);
         try {
             Map<String, Object> payload = new HashMap<>();
             payload.put("tableId", tableId);
@@ -42,21 +48,46 @@ public class NotificationService {
     }
 
     /**
-     * Notify clients of kitchen order updates.
+     * Notify clients of kitchen order changes (KitchenBoard change with sequence number and full order).
      * Clients subscribe to: /topic/kitchen-orders
      */
-    public void notifyKitchenOrderUpdate(Integer kotId, String status, Integer tableNo) {
+    public void notifyKitchenOrderChange(Object change) {
+        try {
+            messagingTemplate.convertAndSend("/topic/kitchen-orders", change);
+            LOG.debug("Notified kitchen order change: {}", change);
+        } catch (Exception e) {
+            LOG.warn("Failed to send kitchen order notification: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Push kitchen turnaround statistics (KitchenMetricsService snapshot).
+     * Clients subscribe to: /topic/kitchen-metrics
+     */
+    public void notifyKitchenMetrics(Object snapshot) {
+        try {
+            messagingTemplate.convertAndSend("/topic/kitchen-metrics", snapshot);
+            LOG.debug("Notified kitchen metrics");
+        } catch (Exception e) {
+            LOG.warn("Failed to send kitchen metrics notification: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Notify clients that master data caches were cleared (CacheCoherenceService), so they
+     * reload items, categories, banks or tables.
+     * Clients subscribe to: /topic/cache-invalidations
+     */
+    public void notifyCacheInvalidation(Collection<String> cacheNames) {
         try {
             Map<String, Object> payload = new HashMap<>();
-            payload.put("kotId", kotId);
-            payload.put("status", status);
-            payload.put("tableNo", tableNo);
+            payload.put("caches", cacheNames);
             payload.put("timestamp", System.currentTimeMillis());
 
-            messagingTemplate.convertAndSend("/topic/kitchen-orders", payload);
-            LOG.debug("Notified kitchen order update: KOT #{} -> {}", kotId, status);
+            messagingTemplate.convertAndSend("/topic/cache-invalidations", payload);
+            LOG.debug("Notified cache invalidation: {}", cacheNames);
         } catch (Exception e) {
-            LOG.warn("Failed to send kitchen order notification: {}", e.getMessage());
+            LOG.warn("Failed to send cache invalidation notification: {}", e.getMessage());
         }
     }
 
@@ -5,6 +5,7 @@ import com.frontend.repository.RoleRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +25,41 @@ public class RoleService {
     @Autowired
     private RoleRepository roleRepository;
 
+    /**
+     * Compiled permissions of a role: the lower-cased rights string (for hasRight)
+     * and the immutable set of screens the role may open.
+     */
+    private record RolePermissions(String rightsLowerCase, Set<ScreenPermission> screens) {
+
+        private static final RolePermissions NONE = new RolePermissions("", Collections.emptySet());
+
+        static RolePermissions compile(String rights) {
+            if (rights == null || rights.trim().isEmpty()) {
+                return NONE;
+            }
+            EnumSet<ScreenPermission> screens = EnumSet.noneOf(ScreenPermission.class);
+            for (String name : rights.split(",")) {
+                try {
+                    screens.add(ScreenPermission.valueOf(name.trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    // Not a screen right (e.g. "ALL" or a legacy right) - ignore
+                }
+            }
+            return new RolePermissions(rights.toLowerCase(), Collections.unmodifiableSet(screens));
+        }
+    }
+
+    private static final Set<ScreenPermission> ALL_SCREENS =
+            Collections.unmodifiableSet(EnumSet.allOf(ScreenPermission.class));
+
+    /**
+     * Copy-on-write snapshot of compiled permissions keyed by role name.
+     * Replaced whenever a role is created, updated or deleted through this service,
+     * and refreshed periodically to pick up changes made from other terminals.
+     * Null until first use.
+     */
+    private volatile Map<String, RolePermissions> permissionSnapshot;
+
     /**
      * Create a new role
      */
@@ -38,6 +74,7 @@ public class RoleService {
 
         Role role = new Role(roleName, rights);
         Role savedRole = roleRepository.save(role);
+        putPermissions(savedRole.getRoleName(), savedRole.getRights());
         LOG.info("Role created successfully: {}", savedRole.getRoleId());
 
         return savedRole;
@@ -83,10 +120,13 @@ public class RoleService {
             throw new IllegalArgumentException("Role with name '" + roleName + "' already exists");
         }
 
+        String oldRoleName = role.getRoleName();
         role.setRoleName(roleName);
         role.setRights(rights);
 
         Role updatedRole = roleRepository.save(role);
+        removePermissions(oldRoleName);
+        putPermissions(updatedRole.getRoleName(), updatedRole.getRights());
         LOG.info("Role updated successfully: {}", roleId);
 
         return updatedRole;
@@ -104,6 +144,7 @@ public class RoleService {
 
         role.setRights(rights);
         Role updatedRole = roleRepository.save(role);
+        putPermissions(updatedRole.getRoleName(), updatedRole.getRights());
         LOG.info("Role rights updated successfully: {}", roleId);
 
         return updatedRole;
@@ -116,12 +157,13 @@ public class RoleService {
     public void deleteRole(Long roleId) {
         LOG.info("Deleting role: {}", roleId);
 
-        if (!roleRepository.existsById(roleId)) {
+        Role role = roleRepository.findById(roleId).orElseThrow(() -> {
             LOG.error("Role not found: {}", roleId);
-            throw new IllegalArgumentException("Role not found with ID: " + roleId);
-        }
+            return new IllegalArgumentException("Role not found with ID: " + roleId);
+        });
 
         roleRepository.deleteById(roleId);
+        removePermissions(role.getRoleName());
         LOG.info("Role deleted successfully: {}", roleId);
     }
 
@@ -138,6 +180,7 @@ public class RoleService {
         }
 
         roleRepository.deleteByRoleName(roleName);
+        removePermissions(roleName);
         LOG.info("Role deleted successfully: {}", roleName);
     }
 
@@ -155,13 +198,7 @@ public class RoleService {
     public boolean hasRight(String roleName, String right) {
         LOG.debug("Checking if role {} has right {}", roleName, right);
 
-        Optional<Role> roleOpt = roleRepository.findByRoleName(roleName);
-        if (roleOpt.isEmpty()) {
-            return false;
-        }
-
-        String rights = roleOpt.get().getRights();
-        return rights != null && rights.toLowerCase().contains(right.toLowerCase());
+        return getPermissions(roleName).rightsLowerCase().contains(right.toLowerCase());
     }
 
     // =====================================================
@@ -182,19 +219,7 @@ public class RoleService {
             return true;
         }
 
-        Optional<Role> roleOpt = roleRepository.findByRoleName(roleName);
-        if (roleOpt.isEmpty()) {
-            return false;
-        }
-
-        String rights = roleOpt.get().getRights();
-        if (rights == null || rights.trim().isEmpty()) {
-            return false;
-        }
-
-        return Arrays.stream(rights.split(","))
-                .map(String::trim)
-                .anyMatch(r -> r.equalsIgnoreCase(screen.name()));
+        return getPermissions(roleName).screens().contains(screen);
     }
 
     /**
@@ -215,34 +240,14 @@ public class RoleService {
     /**
      * Get all screen permissions for a role
      * @param roleName the role to get permissions for
-     * @return set of ScreenPermission that the role has access to
+     * @return unmodifiable set of ScreenPermission that the role has access to
      */
     public Set<ScreenPermission> getScreenPermissions(String roleName) {
         if ("ADMIN".equalsIgnoreCase(roleName)) {
-            return EnumSet.allOf(ScreenPermission.class);
+            return ALL_SCREENS;
         }
 
-        Optional<Role> roleOpt = roleRepository.findByRoleName(roleName);
-        if (roleOpt.isEmpty()) {
-            return Collections.emptySet();
-        }
-
-        String rights = roleOpt.get().getRights();
-        if (rights == null || rights.trim().isEmpty()) {
-            return Collections.emptySet();
-        }
-
-        return Arrays.stream(rights.split(","))
-                .map(String::trim)
-                .map(name -> {
-                    try {
-                        return ScreenPermission.valueOf(name);
-                    } catch (IllegalArgumentException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        return getPermissions(roleName).screens();
     }
 
     /**
@@ -263,7 +268,68 @@ public class RoleService {
                 .collect(Collectors.joining(","));
 
         role.setRights(rightsString);
-        return roleRepository.save(role);
+        Role updatedRole = roleRepository.save(role);
+        putPermissions(updatedRole.getRoleName(), updatedRole.getRights());
+        return updatedRole;
+    }
+
+    // =====================================================
+    // Permission Snapshot
+    // =====================================================
+
+    /**
+     * Reload compiled permissions for all roles from the database.
+     * Runs periodically (role.permissions.refresh-interval-ms, default 60 seconds).
+     */
+    @Scheduled(fixedDelayString = "${role.permissions.refresh-interval-ms:60000}",
+            initialDelayString = "${role.permissions.refresh-interval-ms:60000}")
+    public void refreshPermissionSnapshot() {
+        Map<String, RolePermissions> snapshot = new HashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            snapshot.put(role.getRoleName(), RolePermissions.compile(role.getRights()));
+        }
+        permissionSnapshot = snapshot;
+        LOG.debug("Role permission snapshot refreshed ({} roles)", snapshot.size());
+    }
+
+    /**
+     * Get compiled permissions for a role. A role missing from the snapshot
+     * (e.g. created on another terminal) is looked up once and added; an unknown
+     * role is kept without permissions until the next refresh.
+     */
+    private RolePermissions getPermissions(String roleName) {
+        if (roleName == null) {
+            return RolePermissions.NONE;
+        }
+        Map<String, RolePermissions> snapshot = permissionSnapshot;
+        if (snapshot == null) {
+            refreshPermissionSnapshot();
+            snapshot = permissionSnapshot;
+        }
+        RolePermissions permissions = snapshot.get(roleName);
+        if (permissions == null) {
+            Optional<Role> roleOpt = roleRepository.findByRoleName(roleName);
+            permissions = putPermissions(roleName, roleOpt.map(Role::getRights).orElse(null));
+        }
+        return permissions;
+    }
+
+    private synchronized RolePermissions putPermissions(String roleName, String rights) {
+        RolePermissions permissions = RolePermissions.compile(rights);
+        if (permissionSnapshot != null) {
+            Map<String, RolePermissions> snapshot = new HashMap<>(permissionSnapshot);
+            snapshot.put(roleName, permissions);
+            permissionSnapshot = snapshot;
+        }
+        return permissions;
+    }
+
+    private synchronized void removePermissions(String roleName) {
+        if (permissionSnapshot != null && permissionSnapshot.containsKey(roleName)) {
+            Map<String, RolePermissions> snapshot = new HashMap<>(permissionSnapshot);
+            snapshot.remove(roleName);
+            permissionSnapshot = snapshot;
+        }
     }
 
     /**
@@ -307,6 +373,7 @@ public class RoleService {
         if (!roleRepository.existsByRoleName(roleName)) {
             Role role = new Role(roleName, rights);
             roleRepository.save(role);
+            putPermissions(roleName, rights);
             LOG.info("Created default role: {} with rights: {}", roleName, rights);
         }
     }
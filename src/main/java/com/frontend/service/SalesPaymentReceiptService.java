@@ -13,9 +13,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service for SalesPaymentReceipt operations
@@ -39,6 +47,12 @@ public class SalesPaymentReceiptService {
     @Autowired
     private BankTransactionService bankTransactionService;
 
+    @Autowired
+    private CustomerBalanceService customerBalanceService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * DTO for bill payment allocation
      */
@@ -60,6 +74,9 @@ public class SalesPaymentReceiptService {
      * Creates ONE SalesPaymentReceipt + ONE BankTransaction (DEPOSIT)
      * Allocates payment across bills in SalesBillPayment records
      *
+     * All target bills are loaded and locked with a single IN query, validated in memory,
+     * and the allocation rows are inserted in one JDBC batch.
+     *
      * @param customerId   The customer making payment
      * @param totalAmount  Total payment amount received
      * @param bankId       Bank account receiving payment
@@ -82,14 +99,14 @@ public class SalesPaymentReceiptService {
             List<BillPaymentAllocation> allocations) {
 
         try {
-            LOG.info("Recording customer payment: Customer={}, Amount={}, Bills={}",
-                    customerId, totalAmount, allocations.size());
-
             // Validate allocations
             if (allocations == null || allocations.isEmpty()) {
                 throw new RuntimeException("At least one bill allocation is required");
             }
 
+            LOG.info("Recording customer payment: Customer={}, Amount={}, Bills={}",
+                    customerId, totalAmount, allocations.size());
+
             // Validate total matches allocations
             double allocatedTotal = allocations.stream()
                     .mapToDouble(BillPaymentAllocation::getAmount)
@@ -100,95 +117,200 @@ public class SalesPaymentReceiptService {
                         ") does not match sum of allocations (" + allocatedTotal + ")");
             }
 
-            // 1. Create single bank transaction (DEPOSIT for receiving payment)
-            String customerName = getCustomerName(customerId);
-            String particulars = "Customer Payment - " + customerName;
-            if (allocations.size() > 1) {
-                particulars += " (" + allocations.size() + " bills)";
-            } else {
-                particulars += " (Bill #" + allocations.get(0).getBillNo() + ")";
+            // Load and lock all target bills in one query
+            Set<Integer> billNos = new LinkedHashSet<>();
+            for (BillPaymentAllocation alloc : allocations) {
+                if (!billNos.add(alloc.getBillNo())) {
+                    throw new RuntimeException("Bill #" + alloc.getBillNo() + " is allocated more than once");
+                }
+            }
+            Map<Integer, Bill> billsByNo = new HashMap<>();
+            for (Bill bill : billRepository.findByBillNoInForUpdate(billNos)) {
+                billsByNo.put(bill.getBillNo(), bill);
             }
 
-            BankTransaction bankTxn = bankTransactionService.recordDeposit(
-                    bankId,
-                    totalAmount,
-                    particulars,
-                    "CUSTOMER_PAYMENT",
-                    null,  // No single bill reference - it's grouped
-                    remarks != null ? remarks : "Customer Payment Receipt"
-            );
-
-            LOG.info("Bank transaction created: ID={}, Amount={}", bankTxn.getId(), totalAmount);
-
-            // 2. Create SalesPaymentReceipt (master record)
-            SalesPaymentReceipt receipt = new SalesPaymentReceipt();
-            receipt.setCustomerId(customerId);
-            receipt.setPaymentDate(LocalDate.now());
-            receipt.setTotalAmount(totalAmount);
-            receipt.setBankId(bankId);
-            receipt.setPaymentMode(paymentMode);
-            receipt.setChequeNo(chequeNo != null && !chequeNo.trim().isEmpty() ? chequeNo.trim() : null);
-            receipt.setReferenceNo(referenceNo != null && !referenceNo.trim().isEmpty() ? referenceNo.trim() : null);
-            receipt.setRemarks(remarks != null && !remarks.trim().isEmpty() ? remarks.trim() : null);
-            receipt.setBankTransactionId(bankTxn.getId());
-            receipt.setBillsCount(allocations.size());
-            receipt.setCreatedBy(SessionService.getCurrentEmployeeId());
-
-            SalesPaymentReceipt savedReceipt = salesPaymentReceiptRepository.save(receipt);
-            LOG.info("SalesPaymentReceipt created: ReceiptNo={}", savedReceipt.getReceiptNo());
-
-            // 3. Create SalesBillPayment allocation records and update bills
+            // Validate every allocation before writing anything
             for (BillPaymentAllocation alloc : allocations) {
-                // Validate bill exists and has sufficient balance
-                Optional<Bill> optBill = billRepository.findById(alloc.getBillNo());
-                if (optBill.isEmpty()) {
+                Bill bill = billsByNo.get(alloc.getBillNo());
+                if (bill == null) {
                     throw new RuntimeException("Bill not found: " + alloc.getBillNo());
                 }
-
-                Bill bill = optBill.get();
+                if (bill.getCustomerId() != null && !bill.getCustomerId().equals(customerId)) {
+                    throw new RuntimeException("Bill #" + alloc.getBillNo() + " does not belong to customer #" + customerId);
+                }
                 Float balanceAmount = bill.getBalanceAmount();
-
                 if (alloc.getAmount() > balanceAmount + 0.01) {
                     throw new RuntimeException("Payment amount (" + alloc.getAmount() +
                             ") exceeds balance (" + balanceAmount + ") for Bill #" + alloc.getBillNo());
                 }
+            }
 
-                // Create SalesBillPayment allocation record
-                SalesBillPayment payment = new SalesBillPayment();
-                payment.setReceiptNo(savedReceipt.getReceiptNo());
-                payment.setBillNo(alloc.getBillNo());
-                payment.setPaymentDate(LocalDate.now());
-                payment.setPaymentAmount(alloc.getAmount());
-                payment.setBankId(bankId);
-                payment.setPaymentMode(paymentMode);
-                payment.setCustomerId(customerId);
-                payment.setCreatedBy(SessionService.getCurrentEmployeeId());
+            return saveReceipt(customerId, totalAmount, bankId, paymentMode, chequeNo, referenceNo, remarks,
+                    allocations, billsByNo);
 
-                salesBillPaymentRepository.save(payment);
+        } catch (Exception e) {
+            LOG.error("Error recording grouped payment: {}", e.getMessage(), e);
+            throw new RuntimeException("Error recording payment: " + e.getMessage(), e);
+        }
+    }
 
-                // Update Bill paid amount and status
-                updateBillPaidStatus(bill, alloc.getAmount());
+    /**
+     * Record a customer payment and allocate it automatically to the customer's
+     * pending credit bills, oldest bill first. Allocations are computed server-side
+     * in one pass over the locked bills.
+     *
+     * @return The created SalesPaymentReceipt with all details
+     */
+    @Transactional
+    public SalesPaymentReceipt recordAutoAllocatedPayment(
+            Integer customerId,
+            Double totalAmount,
+            Integer bankId,
+            String paymentMode,
+            String chequeNo,
+            String referenceNo,
+            String remarks) {
 
-                LOG.info("Bill allocation recorded: Bill={}, Amount={}", alloc.getBillNo(), alloc.getAmount());
+        try {
+            if (totalAmount == null || totalAmount <= 0) {
+                throw new RuntimeException("Payment amount must be greater than 0");
             }
 
-            // Reload receipt with bill payments
-            savedReceipt = salesPaymentReceiptRepository.findByIdWithBillPayments(savedReceipt.getReceiptNo())
-                    .orElse(savedReceipt);
+            List<Bill> pendingBills = billRepository.findCreditBillsWithPendingBalanceByCustomerIdForUpdate(customerId);
+            List<BillPaymentAllocation> allocations = allocateOldestFirst(pendingBills, totalAmount);
+
+            Map<Integer, Bill> billsByNo = new HashMap<>();
+            for (Bill bill : pendingBills) {
+                billsByNo.put(bill.getBillNo(), bill);
+            }
 
-            LOG.info("Grouped payment completed: ReceiptNo={}, Bills={}, TotalAmount={}",
-                    savedReceipt.getReceiptNo(), allocations.size(), totalAmount);
+            LOG.info("Auto-allocating customer payment: Customer={}, Amount={}, Bills={}",
+                    customerId, totalAmount, allocations.size());
 
-            return savedReceipt;
+            return saveReceipt(customerId, totalAmount, bankId, paymentMode, chequeNo, referenceNo, remarks,
+                    allocations, billsByNo);
 
         } catch (Exception e) {
-            LOG.error("Error recording grouped payment: {}", e.getMessage(), e);
+            LOG.error("Error recording auto-allocated payment: {}", e.getMessage(), e);
             throw new RuntimeException("Error recording payment: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Update bill's paid amount and status after a payment
+     * Split an amount across bills in the given (oldest first) order
+     */
+    static List<BillPaymentAllocation> allocateOldestFirst(List<Bill> pendingBills, double totalAmount) {
+        List<BillPaymentAllocation> allocations = new ArrayList<>();
+        double remaining = totalAmount;
+        for (Bill bill : pendingBills) {
+            if (remaining <= 0.01) {
+                break;
+            }
+            double amount = Math.min(remaining, bill.getBalanceAmount());
+            if (amount <= 0) {
+                continue;
+            }
+            allocations.add(new BillPaymentAllocation(bill.getBillNo(), amount));
+            remaining -= amount;
+        }
+        if (allocations.isEmpty()) {
+            throw new RuntimeException("No pending credit bills for customer");
+        }
+        if (remaining > 0.01) {
+            throw new RuntimeException("Payment amount (" + totalAmount +
+                    ") exceeds total pending balance (" + (totalAmount - remaining) + ")");
+        }
+        return allocations;
+    }
+
+    /**
+     * Create the bank deposit, receipt and allocation rows for validated allocations
+     * and apply the payments to the (locked, managed) bills
+     */
+    private SalesPaymentReceipt saveReceipt(Integer customerId, Double totalAmount, Integer bankId,
+                                            String paymentMode, String chequeNo, String referenceNo,
+                                            String remarks, List<BillPaymentAllocation> allocations,
+                                            Map<Integer, Bill> billsByNo) {
+        // 1. Create single bank transaction (DEPOSIT for receiving payment)
+        String customerName = getCustomerName(customerId);
+        String particulars = "Customer Payment - " + customerName;
+        if (allocations.size() > 1) {
+            particulars += " (" + allocations.size() + " bills)";
+        } else {
+            particulars += " (Bill #" + allocations.get(0).getBillNo() + ")";
+        }
+
+        BankTransaction bankTxn = bankTransactionService.recordDeposit(
+                bankId,
+                totalAmount,
+                particulars,
+                "CUSTOMER_PAYMENT",
+                null,  // No single bill reference - it's grouped
+                remarks != null ? remarks : "Customer Payment Receipt"
+        );
+
+        LOG.info("Bank transaction created: ID={}, Amount={}", bankTxn.getId(), totalAmount);
+
+        // 2. Create SalesPaymentReceipt (master record)
+        SalesPaymentReceipt receipt = new SalesPaymentReceipt();
+        receipt.setCustomerId(customerId);
+        receipt.setPaymentDate(LocalDate.now());
+        receipt.setTotalAmount(totalAmount);
+        receipt.setBankId(bankId);
+        receipt.setPaymentMode(paymentMode);
+        receipt.setChequeNo(chequeNo != null && !chequeNo.trim().isEmpty() ? chequeNo.trim() : null);
+        receipt.setReferenceNo(referenceNo != null && !referenceNo.trim().isEmpty() ? referenceNo.trim() : null);
+        receipt.setRemarks(remarks != null && !remarks.trim().isEmpty() ? remarks.trim() : null);
+        receipt.setBankTransactionId(bankTxn.getId());
+        receipt.setBillsCount(allocations.size());
+        receipt.setCreatedBy(SessionService.getCurrentEmployeeId());
+
+        SalesPaymentReceipt savedReceipt = salesPaymentReceiptRepository.save(receipt);
+        LOG.info("SalesPaymentReceipt created: ReceiptNo={}", savedReceipt.getReceiptNo());
+
+        // 3. Insert all SalesBillPayment allocation records in one batch
+        Integer createdBy = SessionService.getCurrentEmployeeId();
+        List<SalesBillPayment> payments = new ArrayList<>(allocations.size());
+        for (BillPaymentAllocation alloc : allocations) {
+            SalesBillPayment payment = new SalesBillPayment();
+            payment.setReceiptNo(savedReceipt.getReceiptNo());
+            payment.setBillNo(alloc.getBillNo());
+            payment.setPaymentDate(LocalDate.now());
+            payment.setPaymentAmount(alloc.getAmount());
+            payment.setBankId(bankId);
+            payment.setPaymentMode(paymentMode);
+            payment.setCustomerId(customerId);
+            payment.setCreatedBy(createdBy);
+            payments.add(payment);
+        }
+        salesBillPaymentRepository.batchInsert(payments);
+
+        // 4. Update the bills and save them explicitly (they are not re-read, and a callee that
+        // clears the persistence context would otherwise lose the changes)
+        List<Bill> paidBills = new ArrayList<>(allocations.size());
+        for (BillPaymentAllocation alloc : allocations) {
+            paidBills.add(billsByNo.get(alloc.getBillNo()));
+        }
+        Map<Integer, CustomerBalanceService.Contribution> balanceBefore = customerBalanceService.capture(paidBills);
+        for (BillPaymentAllocation alloc : allocations) {
+            updateBillPaidStatus(billsByNo.get(alloc.getBillNo()), alloc.getAmount());
+        }
+        billRepository.saveAll(paidBills);
+        customerBalanceService.applyChanges(balanceBefore, paidBills);
+
+        // Return the receipt with its allocations without reloading it. It is detached first so
+        // the cascade on billPayments does not persist the already inserted rows a second time.
+        entityManager.detach(savedReceipt);
+        savedReceipt.setBillPayments(payments);
+
+        LOG.info("Grouped payment completed: ReceiptNo={}, Bills={}, TotalAmount={}",
+                savedReceipt.getReceiptNo(), allocations.size(), totalAmount);
+
+        return savedReceipt;
+    }
+
+    /**
+     * Update bill's paid amount and status after a payment (in memory; the caller saves it)
      */
     private void updateBillPaidStatus(Bill bill, Double paymentAmount) {
         Float currentPaidAmount = bill.getPaidAmount() != null ? bill.getPaidAmount() : 0f;
@@ -199,14 +321,12 @@ public class SalesPaymentReceiptService {
         Float netAmount = bill.getNetAmount() != null ? bill.getNetAmount() : 0f;
         if (newPaidAmount >= netAmount - 0.01f) {
             bill.setStatus("PAID");  // Fully paid
-            LOG.info("Bill #{} fully paid. Total paid: {}", bill.getBillNo(), newPaidAmount);
+            LOG.debug("Bill #{} fully paid. Total paid: {}", bill.getBillNo(), newPaidAmount);
         } else if (newPaidAmount > 0) {
             // Keep as CREDIT if partially paid
-            LOG.info("Bill #{} partially paid. Paid: {}, Balance: {}",
+            LOG.debug("Bill #{} partially paid. Paid: {}, Balance: {}",
                     bill.getBillNo(), newPaidAmount, netAmount - newPaidAmount);
         }
-
-        billRepository.save(bill);
     }
 
     /**
@@ -346,11 +466,18 @@ public class SalesPaymentReceiptService {
                 bankTransactionService.deleteTransaction(receipt.getBankTransactionId());
             }
 
-            // 2. Reverse each bill payment and update bill status
+            // 2. Reverse each bill payment and update bill status (bills loaded in one query)
+            Map<Integer, Bill> billsByNo = receipt.getBillPayments().isEmpty() ? Map.of() :
+                    billRepository.findByBillNoInForUpdate(receipt.getBillPayments().stream()
+                                    .map(SalesBillPayment::getBillNo)
+                                    .collect(Collectors.toSet()))
+                            .stream()
+                            .collect(Collectors.toMap(Bill::getBillNo, b -> b));
+            Map<Integer, CustomerBalanceService.Contribution> balanceBefore =
+                    customerBalanceService.capture(billsByNo.values());
             for (SalesBillPayment payment : receipt.getBillPayments()) {
-                Optional<Bill> optBill = billRepository.findById(payment.getBillNo());
-                if (optBill.isPresent()) {
-                    Bill bill = optBill.get();
+                Bill bill = billsByNo.get(payment.getBillNo());
+                if (bill != null) {
                     Float currentPaidAmount = bill.getPaidAmount() != null ? bill.getPaidAmount() : 0f;
                     Float newPaidAmount = currentPaidAmount - payment.getPaymentAmount().floatValue();
                     if (newPaidAmount < 0) newPaidAmount = 0f;
@@ -362,11 +489,11 @@ public class SalesPaymentReceiptService {
                     } else if (newPaidAmount < bill.getNetAmount()) {
                         bill.setStatus("CREDIT");  // Partially paid still shows as credit
                     }
-
-                    billRepository.save(bill);
                 }
             }
 
+            customerBalanceService.applyChanges(balanceBefore, billsByNo.values());
+
             // 3. Delete the receipt (cascades to bill payments)
             salesPaymentReceiptRepository.deleteById(receiptNo);
 
@@ -35,7 +35,7 @@ public class SessionService {
     private static User currentUser;
     private static Employees currentEmployee;
     private static Shop currentShop;
-    private static Map<String, String> applicationSettings;
+    private static volatile Map<String, String> applicationSettings;
 
     // Static Font object - loaded once for entire application lifecycle
     private static Font customFont;
@@ -43,6 +43,9 @@ public class SessionService {
     // Cached font family name for creating fonts with different sizes
     private static String cachedFontFamily;
 
+    // Where customFont was loaded from (external path, or empty for the bundled font)
+    private static String customFontSource;
+
     // Whether to use bill logo in bill printing
     private static boolean useBillLogo = false;
 
@@ -223,28 +226,31 @@ public class SessionService {
         applicationSettings = null;
         customFont = null;
         cachedFontFamily = null;
+        customFontSource = null;
         useBillLogo = false;
     }
 
     /**
      * Load all application settings from database into session
      */
-    public void loadApplicationSettings() {
+    public synchronized void loadApplicationSettings() {
         try {
-            applicationSettings = new HashMap<>();
+            // Filled completely before it is published (also loaded by the startup warm-up thread)
+            Map<String, String> loaded = new HashMap<>();
             List<ApplicationSetting> settings = applicationSettingService.getAllSettings();
 
             for (ApplicationSetting setting : settings) {
-                applicationSettings.put(setting.getSettingName(), setting.getSettingValue());
+                loaded.put(setting.getSettingName(), setting.getSettingValue());
             }
 
             // Merge machine-specific settings from local properties file
-            String documentDir = applicationSettings.get("document_directory");
+            String documentDir = loaded.get("document_directory");
             if (documentDir != null && !documentDir.trim().isEmpty()) {
                 Map<String, String> localSettings = ApplicationSettingProperties.loadSettings(documentDir);
-                applicationSettings.putAll(localSettings);
+                loaded.putAll(localSettings);
                 LOG.info("Merged {} local machine settings from properties file", localSettings.size());
             }
+            applicationSettings = loaded;
 
             LOG.info("Loaded {} application settings into session", applicationSettings.size());
 
@@ -272,6 +278,13 @@ public class SessionService {
             String fontPath = getApplicationSetting("input_font_path");
             boolean loadedFromExternal = false;
 
+            // Settings are loaded by the startup warm-up and again at login: parse the font once
+            String source = fontPath != null ? fontPath.trim() : "";
+            if (customFont != null && source.equals(customFontSource)) {
+                LOG.debug("Custom font already loaded from '{}'", source);
+                return;
+            }
+
             if (fontPath != null && !fontPath.trim().isEmpty()) {
                 File fontFile = new File(fontPath);
                 if (fontFile.exists()) {
@@ -289,6 +302,7 @@ public class SessionService {
 
             // Log final status
             if (customFont != null) {
+                customFontSource = source;
                 LOG.info("=== Custom Font Loaded ===");
                 LOG.info("  Family: {}", customFont.getFamily());
                 LOG.info("  Name: {}", customFont.getName());
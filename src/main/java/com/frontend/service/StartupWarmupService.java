@@ -0,0 +1,98 @@
+package com.frontend.service;
+
+import com.frontend.util.StartupTimeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.print.PrintService;
+import javax.print.PrintServiceLookup;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Independent warm-up tasks run in parallel once the Spring context has started, while the
+ * login screen is already shown: default role permissions, application settings and the
+ * custom font, master data caches and printer discovery (the first lookup of the system
+ * printers is slow, later lookups are answered from the JDK's cache).
+ *
+ * A failing task is logged and does not affect the others. Durations are recorded in the
+ * startup timeline.
+ */
+@Service
+public class StartupWarmupService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupWarmupService.class);
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private CategoryApiService categoryApiService;
+
+    @Autowired
+    private TableMasterService tableMasterService;
+
+    @Value("${startup.warmup.threads:4}")
+    private int threads = 4;
+
+    /**
+     * Start all warm-up tasks
+     * @return completes when every task has finished (successfully or not)
+     */
+    public CompletableFuture<Void> warmUp(StartupTimeline timeline) {
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        tasks.put("role permissions", roleService::initializeDefaultRolePermissions);
+        tasks.put("settings and font", sessionService::loadApplicationSettings);
+        tasks.put("master data caches", () -> {
+            itemService.getAllItems();
+            categoryApiService.getAllCategories();
+            tableMasterService.getAllTables();
+        });
+        tasks.put("printer discovery", () -> {
+            PrintService[] printers = PrintServiceLookup.lookupPrintServices(null, null);
+            PrintServiceLookup.lookupDefaultPrintService();
+            LOG.info("Discovered {} printers", printers.length);
+        });
+        return run(tasks, timeline);
+    }
+
+    private CompletableFuture<Void> run(Map<String, Runnable> tasks, StartupTimeline timeline) {
+        AtomicInteger threadNo = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())), r -> {
+            Thread t = new Thread(r, "startup-warmup-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Map.Entry<String, Runnable> task : tasks.entrySet()) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                long start = timeline.elapsedMs();
+                try {
+                    task.getValue().run();
+                } catch (Exception e) {
+                    LOG.warn("Startup warm-up '{}' failed: {}", task.getKey(), e.getMessage());
+                } finally {
+                    timeline.task(task.getKey(), start);
+                }
+            }, executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((done, error) -> executor.shutdown());
+    }
+}
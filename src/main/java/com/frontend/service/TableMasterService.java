@@ -38,6 +38,9 @@ public class TableMasterService {
     @Autowired
     private ApplicationSettingService applicationSettingService;
 
+    @Autowired
+    private CacheCoherenceService cacheCoherenceService;
+
     private ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -123,6 +126,7 @@ public class TableMasterService {
             }
 
             TableMaster savedTable = tableMasterRepository.save(tableMaster);
+            cacheCoherenceService.changed(CacheCoherenceService.TABLES);
 
             LOG.info("Table created successfully with ID: {}", savedTable.getId());
             return savedTable;
@@ -157,6 +161,7 @@ public class TableMasterService {
             existingTable.setDescription(tableMaster.getDescription());
 
             TableMaster updatedTable = tableMasterRepository.save(existingTable);
+            cacheCoherenceService.changed(CacheCoherenceService.TABLES);
 
             LOG.info("Table updated successfully with ID: {}", updatedTable.getId());
             return updatedTable;
@@ -181,6 +186,7 @@ public class TableMasterService {
             }
 
             tableMasterRepository.deleteById(id);
+            cacheCoherenceService.changed(CacheCoherenceService.TABLES);
             LOG.info("Table deleted successfully with ID: {}", id);
 
         } catch (Exception e) {
@@ -0,0 +1,81 @@
+package com.frontend.service;
+
+import com.frontend.entity.Bill;
+import com.frontend.entity.KitchenOrder;
+import com.frontend.entity.TableMaster;
+import com.frontend.entity.TempTransaction;
+import com.frontend.entity.Transaction;
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.KitchenOrderRepository;
+import com.frontend.repository.TableMasterRepository;
+import com.frontend.repository.TempTransactionRepository;
+import com.frontend.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Everything the waiter app shows for one table, read in a single read-only transaction:
+ * the table, its running (temp) lines, the closed bill with its lines and the active (SENT / READY)
+ * KOTs with their items. This is at most five queries whatever the number of lines or KOTs.
+ */
+@Service
+@Profile("server")
+public class TableSnapshotService {
+
+    @Autowired
+    private TableMasterRepository tableMasterRepository;
+
+    @Autowired
+    private TempTransactionRepository tempTransactionRepository;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private KitchenOrderRepository kitchenOrderRepository;
+
+    /**
+     * State of a table; closedBill is null (and closedLines empty) when the table has no closed bill
+     */
+    public record TableSnapshot(TableMaster table, String status, List<TempTransaction> runningLines,
+                                Bill closedBill, List<Transaction> closedLines, List<KitchenOrder> kitchenOrders) {
+
+        public float runningTotal() {
+            float total = 0;
+            for (TempTransaction line : runningLines) {
+                total += line.getAmt() != null ? line.getAmt() : 0;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Read the snapshot of a table
+     * @return null if the table does not exist
+     */
+    @Transactional(readOnly = true)
+    public TableSnapshot load(Integer tableId) {
+        TableMaster table = tableMasterRepository.findById(tableId).orElse(null);
+        if (table == null) {
+            return null;
+        }
+        List<TempTransaction> runningLines = tempTransactionRepository.findByTableNo(tableId);
+        Bill closedBill = billRepository.findFirstByTableNoAndStatusOrderByBillNoDesc(tableId, "CLOSE").orElse(null);
+        List<Transaction> closedLines = closedBill != null
+                ? transactionRepository.findByBillNo(closedBill.getBillNo()) : List.of();
+        List<KitchenOrder> kitchenOrders = kitchenOrderRepository.findByTableNoAndStatusInWithItems(tableId,
+                List.of(KitchenOrderService.STATUS_SENT, KitchenOrderService.STATUS_READY));
+
+        // Same precedence as the other billing endpoints: a closed bill wins over running lines
+        String status = closedBill != null ? TableStatusFeed.CLOSED
+                : !runningLines.isEmpty() ? TableStatusFeed.ONGOING : TableStatusFeed.AVAILABLE;
+        return new TableSnapshot(table, status, runningLines, closedBill, closedLines, kitchenOrders);
+    }
+}
@@ -0,0 +1,158 @@
+package com.frontend.service;
+
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.TempTransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Change feed of table statuses (Available / Ongoing / Closed) for the desktop table grid.
+ *
+ * The statuses of all tables are read with two queries (tables with temp transactions, tables
+ * with a CLOSE bill) instead of two queries per table button. Listeners receive only the tables
+ * whose status changed. Changes arrive from two sources:
+ * - pushed: NotificationService reports every status it sends on /topic/tables/{id} (server mode)
+ * - polled: the statuses are re-read every tables.status.poll-interval-ms while a listener is
+ *   registered, which picks up changes made by other terminals in client mode
+ */
+@Service
+public class TableStatusFeed {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TableStatusFeed.class);
+
+    public static final String AVAILABLE = "Available";
+    public static final String ONGOING = "Ongoing";
+    public static final String CLOSED = "Closed";
+
+    @Autowired
+    private TempTransactionRepository tempTransactionRepository;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    private final List<Consumer<Map<Integer, String>>> listeners = new CopyOnWriteArrayList<>();
+
+    // Tables that are not Available (missing tables are Available)
+    private final Map<Integer, String> statuses = new HashMap<>();
+    private boolean loaded;
+
+    // ==================== Reads ====================
+
+    public static String statusOf(Map<Integer, String> statuses, Integer tableId) {
+        return statuses.getOrDefault(tableId, AVAILABLE);
+    }
+
+    // ==================== Changes ====================
+
+    /**
+     * Re-read all table statuses from the database and report the changed ones
+     * @return status of every occupied table
+     */
+    public Map<Integer, String> refresh() {
+        Map<Integer, String> current = new HashMap<>();
+        // Temp transactions mean the table is active (even if it has a closed bill)
+        for (Integer tableNo : billRepository.findDistinctTableNosByStatus("CLOSE")) {
+            current.put(tableNo, CLOSED);
+        }
+        for (Integer tableNo : tempTransactionRepository.findDistinctActiveTableNumbers()) {
+            current.put(tableNo, ONGOING);
+        }
+
+        Map<Integer, String> changes = new HashMap<>();
+        synchronized (this) {
+            for (Map.Entry<Integer, String> entry : current.entrySet()) {
+                if (!entry.getValue().equals(statuses.get(entry.getKey()))) {
+                    changes.put(entry.getKey(), entry.getValue());
+                }
+            }
+            for (Integer tableNo : statuses.keySet()) {
+                if (!current.containsKey(tableNo)) {
+                    changes.put(tableNo, AVAILABLE);
+                }
+            }
+            boolean firstLoad = !loaded;
+            statuses.clear();
+            statuses.putAll(current);
+            loaded = true;
+            if (firstLoad) {
+                return new HashMap<>(current);
+            }
+        }
+        fire(changes);
+        return current;
+    }
+
+    /**
+     * A table's status is known to have changed (pushed by the code that changed it)
+     */
+    public void update(Integer tableId, String status) {
+        if (tableId == null || status == null) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                return;
+            }
+            String previous = AVAILABLE.equals(status) ? statuses.remove(tableId) : statuses.put(tableId, status);
+            if (Objects.equals(Objects.requireNonNullElse(previous, AVAILABLE), status)) {
+                return;
+            }
+        }
+        fire(Map.of(tableId, status));
+    }
+
+    /**
+     * Re-read the statuses while someone is listening.
+     * Runs periodically (tables.status.poll-interval-ms, default 5 seconds).
+     */
+    @Scheduled(fixedDelayString = "${tables.status.poll-interval-ms:5000}",
+            initialDelayString = "${tables.status.poll-interval-ms:5000}")
+    public void poll() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOG.warn("Error polling table statuses: {}", e.getMessage());
+        }
+    }
+
+    // ==================== Listeners ====================
+
+    /**
+     * Register a listener for changed statuses (table id -> new status). Called on the thread
+     * that detected the change.
+     */
+    public void addListener(Consumer<Map<Integer, String>> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<Map<Integer, String>> listener) {
+        listeners.remove(listener);
+    }
+
+    private void fire(Map<Integer, String> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        LOG.debug("Table status changes: {}", changes);
+        for (Consumer<Map<Integer, String>> listener : listeners) {
+            try {
+                listener.accept(changes);
+            } catch (Exception e) {
+                LOG.warn("Table status listener failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.frontend.service;
 
 import com.frontend.entity.TempTransaction;
 import com.frontend.repository.TempTransactionRepository;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +35,7 @@ public class TempTransactionService {
      * @param transaction the transaction to add or update
      * @return the saved/updated transaction
      */
+    @Timed("hotel.billing")
     @Transactional
     public TempTransaction addOrUpdateTransaction(TempTransaction transaction) {
         try {
@@ -386,13 +388,8 @@ public class TempTransactionService {
     @Transactional
     public void resetPrintQtyForTable(Integer tableNo) {
         try {
-            LOG.info("Resetting printQty for table {}", tableNo);
-            List<TempTransaction> items = tempTransactionRepository.findByTableNo(tableNo);
-            for (TempTransaction item : items) {
-                item.setPrintQty(0f);
-                tempTransactionRepository.save(item);
-            }
-            LOG.info("Reset printQty for {} items on table {}", items.size(), tableNo);
+            int reset = tempTransactionRepository.resetPrintQtyByTableNo(tableNo);
+            LOG.info("Reset printQty for {} items on table {}", reset, tableNo);
         } catch (Exception e) {
             LOG.error("Error resetting printQty for table {}", tableNo, e);
             throw new RuntimeException("Error resetting printQty: " + e.getMessage(), e);
@@ -410,20 +407,7 @@ public class TempTransactionService {
         try {
             LOG.info("Shifting temp transactions from table {} to table {}", sourceTableNo, targetTableNo);
 
-            List<TempTransaction> sourceTransactions = tempTransactionRepository.findByTableNo(sourceTableNo);
-
-            if (sourceTransactions.isEmpty()) {
-                LOG.info("No temp transactions to shift from table {}", sourceTableNo);
-                return 0;
-            }
-
-            int shiftedCount = 0;
-            for (TempTransaction trans : sourceTransactions) {
-                // Update table number to target table
-                trans.setTableNo(targetTableNo);
-                tempTransactionRepository.save(trans);
-                shiftedCount++;
-            }
+            int shiftedCount = tempTransactionRepository.shiftToTable(sourceTableNo, targetTableNo);
 
             LOG.info("Shifted {} temp transactions from table {} to table {}",
                     shiftedCount, sourceTableNo, targetTableNo);
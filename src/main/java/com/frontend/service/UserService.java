@@ -23,6 +23,9 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     /**
      * Get all users
      */
@@ -156,6 +159,9 @@ public class UserService {
                 }
             }
 
+            // Cached mobile tokens carry the old username/role - force re-verification
+            verifiedTokenCache.invalidateUser(existingUser.getUsername());
+
             // Update fields
             existingUser.setUsername(user.getUsername());
             existingUser.setRole(user.getRole());
@@ -188,10 +194,10 @@ public class UserService {
         try {
             LOG.info("Deleting user with ID: {}", id);
 
-            if (!userRepository.existsById(id)) {
-                throw new RuntimeException("User not found with ID: " + id);
-            }
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
 
+            verifiedTokenCache.invalidateUser(user.getUsername());
             userRepository.deleteById(id);
             LOG.info("User deleted successfully with ID: {}", id);
 
@@ -218,6 +224,7 @@ public class UserService {
 
             user.setPassword(newPassword);
             User updatedUser = userRepository.save(user);
+            verifiedTokenCache.invalidateUser(user.getUsername());
             LOG.info("Password changed successfully for user ID: {}", id);
             return updatedUser;
 
@@ -0,0 +1,130 @@
+package com.frontend.service;
+
+import com.frontend.util.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of JWT tokens that have already passed signature verification.
+ * Mobile clients send the same bearer token on every call, so the filter only
+ * needs to run a full JWS verification the first time a token is seen.
+ *
+ * Entries are keyed by a SHA-256 hash of the token (the raw token is never stored),
+ * expire at the token's own 'exp' claim, and are purged when mobile settings
+ * (e.g. the signing secret) or a user's account change.
+ */
+@Service
+public class VerifiedTokenCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    /**
+     * Principal details extracted from a verified token
+     */
+    public record VerifiedToken(String username, Object role, Object userId, Object employeeId,
+                                Object features, long expiresAtMillis) {
+    }
+
+    private final Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                                              long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    /**
+     * Get the cached principal for a token, or null if the token has not been verified yet
+     */
+    public VerifiedToken get(String token) {
+        return cache.getIfPresent(hash(token));
+    }
+
+    /**
+     * Remember a token whose signature and expiry were just verified
+     */
+    public VerifiedToken put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            // Tokens without expiry are never cached; they are verified on every request
+            return toVerifiedToken(claims, 0L);
+        }
+        VerifiedToken verified = toVerifiedToken(claims, claims.getExpiration().getTime());
+        cache.put(hash(token), verified);
+        return verified;
+    }
+
+    /**
+     * Drop all cached tokens (mobile settings or feature access changed).
+     * Called inside a transaction, the cache is purged once it commits, so a request verified
+     * before the commit cannot keep the old state.
+     */
+    public void invalidateAll() {
+        AfterCommit.run(cache::invalidateAll);
+        LOG.debug("Verified token cache purged");
+    }
+
+    /**
+     * Drop all cached tokens issued to a user (role, password or account changed);
+     * after commit like {@link #invalidateAll()}
+     */
+    public void invalidateUser(String username) {
+        if (username == null) {
+            return;
+        }
+        AfterCommit.run(() -> removeUser(username));
+        LOG.debug("Verified tokens purged for user: {}", username);
+    }
+
+    private void removeUser(String username) {
+        cache.asMap().values().removeIf(token -> username.equals(token.username()));
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims, long expiresAtMillis) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("role"),
+                claims.get("userId"),
+                claims.get("employeeId"),
+                claims.get("features"),
+                expiresAtMillis
+        );
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.frontend.util;
+
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Business counters published through Micrometer.
+ *
+ * Counters only ever increase; per-minute rates (bills/min, items/min, KOTs/min) are
+ * derived by the monitoring system, e.g. {@code rate(hotel_bills_total[5m]) * 60}
+ * in Prometheus. Uses the global registry, which Spring Boot binds to the application
+ * registry, so callers need no injected dependency (and unit tests record into a no-op registry).
+ */
+public final class BusinessMetrics {
+
+    private BusinessMetrics() {
+    }
+
+    /**
+     * A bill was created
+     * @param status bill status at creation (CLOSE, PAID, CREDIT)
+     * @param itemCount number of item lines on the bill
+     */
+    public static void billCreated(String status, int itemCount) {
+        Metrics.counter("hotel.bills", "status", status != null ? status : "UNKNOWN").increment();
+        Metrics.counter("hotel.bill.items").increment(itemCount);
+    }
+
+    /**
+     * A kitchen order ticket was created
+     * @param itemCount number of item lines on the KOT
+     */
+    public static void kotCreated(int itemCount) {
+        Metrics.counter("hotel.kots").increment();
+        Metrics.counter("hotel.kot.items").increment(itemCount);
+    }
+}
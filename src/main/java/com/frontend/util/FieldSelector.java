@@ -0,0 +1,84 @@
+package com.frontend.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Response fields requested with ?fields=a,b,c on list endpoints.
+ *
+ * Rows are converted with the application's ObjectMapper (so JSON property names and formats
+ * are the usual ones) and reduced to the requested properties; unknown names are ignored.
+ * Without a fields parameter the rows are returned unchanged.
+ */
+public final class FieldSelector {
+
+    private static final FieldSelector ALL = new FieldSelector(Set.of());
+    private static final TypeReference<LinkedHashMap<String, Object>> ROW = new TypeReference<>() {
+    };
+
+    private final Set<String> fields;
+
+    private FieldSelector(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parse a comma separated list of property names (null or blank selects all fields)
+     */
+    public static FieldSelector parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new TreeSet<>();
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names.isEmpty() ? ALL : new FieldSelector(Set.copyOf(names));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * True if a selection is given and every selected field is one of the given properties
+     */
+    public boolean within(String... properties) {
+        return !isAll() && Arrays.asList(properties).containsAll(fields);
+    }
+
+    /**
+     * Canonical form of the selection (sorted, comma separated; empty for all fields),
+     * e.g. to tell representations apart in an ETag
+     */
+    public String key() {
+        return String.join(",", new TreeSet<>(fields));
+    }
+
+    /**
+     * The rows reduced to the selected fields
+     */
+    public List<?> apply(ObjectMapper objectMapper, Collection<?> rows) {
+        if (isAll()) {
+            return rows instanceof List<?> list ? list : new ArrayList<>(rows);
+        }
+        List<Map<String, Object>> selected = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Map<String, Object> properties = objectMapper.convertValue(row, ROW);
+            properties.keySet().retainAll(fields);
+            selected.add(properties);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,336 @@
+package com.frontend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable in-memory search index used for autocomplete and search endpoints.
+ *
+ * Every entry has one or more search keys (e.g. item name and item code) that are
+ * normalised once at build time. Lookups use:
+ * - a prefix trie over the start of every word in every key (prefix matches)
+ * - trigram postings (contains matches for queries of 3+ characters)
+ *
+ * Results are ranked: exact match, key starts with query, a word starts with query,
+ * key contains query; ties are ordered by display text (case-insensitive).
+ *
+ * @param <T> type of the indexed values
+ */
+public final class SearchIndex<T> {
+
+    /**
+     * How a query has to match a key
+     */
+    public enum MatchMode {
+        /** Key must start with the query */
+        PREFIX,
+        /** Key may contain the query anywhere (prefix matches rank first) */
+        CONTAINS
+    }
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_CONTAINS = 3;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int[] NO_DOCS = new int[0];
+
+    private final List<T> values;
+    private final String[] displays;
+    private final String[][] keys;
+    private final TrieNode root;
+    private final Map<String, int[]> trigrams;
+    private final List<T> sortedValues;
+
+    private SearchIndex(List<T> values, String[] displays, String[][] keys) {
+        this.values = values;
+        this.displays = displays;
+        this.keys = keys;
+        this.root = new TrieNode();
+
+        Map<String, IntList> trigramBuilder = new HashMap<>();
+        for (int doc = 0; doc < keys.length; doc++) {
+            for (String key : keys[doc]) {
+                // Index the whole key and the start of every following word
+                for (int start = 0; start < key.length(); start++) {
+                    if (start == 0 || key.charAt(start - 1) == ' ') {
+                        root.insert(key, start, doc);
+                    }
+                }
+                for (int i = 0; i + 3 <= key.length(); i++) {
+                    trigramBuilder.computeIfAbsent(key.substring(i, i + 3), k -> new IntList()).add(doc);
+                }
+            }
+        }
+        root.freeze();
+
+        this.trigrams = new HashMap<>(trigramBuilder.size() * 2);
+        trigramBuilder.forEach((gram, docs) -> trigrams.put(gram, docs.toArray()));
+
+        Integer[] order = new Integer[values.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer doc) -> displays[doc], String.CASE_INSENSITIVE_ORDER));
+        List<T> sorted = new ArrayList<>(order.length);
+        for (Integer doc : order) {
+            sorted.add(values.get(doc));
+        }
+        this.sortedValues = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Build an index
+     * @param values values to index
+     * @param keyExtractor search keys of a value (null keys are ignored)
+     * @param displayExtractor text used for tie-break ordering
+     */
+    public static <T> SearchIndex<T> build(Collection<T> values, Function<T, List<String>> keyExtractor,
+                                           Function<T, String> displayExtractor) {
+        List<T> list = new ArrayList<>(values);
+        String[] displays = new String[list.size()];
+        String[][] keys = new String[list.size()][];
+        for (int i = 0; i < list.size(); i++) {
+            T value = list.get(i);
+            String display = displayExtractor.apply(value);
+            displays[i] = display != null ? display : "";
+
+            List<String> normalizedKeys = new ArrayList<>();
+            for (String key : keyExtractor.apply(value)) {
+                String normalized = normalize(key);
+                if (!normalized.isEmpty()) {
+                    normalizedKeys.add(normalized);
+                }
+            }
+            keys[i] = normalizedKeys.toArray(new String[0]);
+        }
+        return new SearchIndex<>(Collections.unmodifiableList(list), displays, keys);
+    }
+
+    /**
+     * Build an index over plain strings (key and display are the string itself)
+     */
+    public static SearchIndex<String> ofStrings(Collection<String> values) {
+        return build(values, Collections::singletonList, Function.identity());
+    }
+
+    /**
+     * Normalise text for searching: Unicode NFC, lower case, collapsed whitespace,
+     * zero-width joiners and the Devanagari nukta removed, Devanagari digits folded to ASCII.
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (c == '\u200C' || c == '\u200D' || c == '\uFEFF' || c == '\u093C') {
+                continue; // ZWNJ, ZWJ, BOM, nukta
+            }
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            if (c >= '\u0966' && c <= '\u096F') {
+                c = (char) ('0' + (c - '\u0966'));
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Search the index
+     * @param query raw user input
+     * @param mode PREFIX or CONTAINS matching
+     * @param limit maximum number of results, 0 or less for all
+     * @return ranked matches
+     */
+    public List<T> search(String query, MatchMode mode, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int[] candidates;
+        if (mode == MatchMode.CONTAINS) {
+            candidates = q.length() >= 3 ? trigramCandidates(q) : null;
+        } else {
+            candidates = root.find(q);
+        }
+
+        List<long[]> ranked = new ArrayList<>();
+        if (candidates == null) {
+            // Short contains query - scan the pre-normalised keys
+            for (int doc = 0; doc < keys.length; doc++) {
+                addIfMatches(ranked, doc, q, mode);
+            }
+        } else {
+            for (int doc : candidates) {
+                addIfMatches(ranked, doc, q, mode);
+            }
+        }
+
+        ranked.sort((a, b) -> {
+            if (a[0] != b[0]) {
+                return Long.compare(a[0], b[0]);
+            }
+            return String.CASE_INSENSITIVE_ORDER.compare(displays[(int) a[1]], displays[(int) b[1]]);
+        });
+
+        int size = limit > 0 ? Math.min(limit, ranked.size()) : ranked.size();
+        List<T> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(values.get((int) ranked.get(i)[1]));
+        }
+        return results;
+    }
+
+    /**
+     * All indexed values ordered by display text
+     */
+    public List<T> all() {
+        return sortedValues;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private void addIfMatches(List<long[]> ranked, int doc, String q, MatchMode mode) {
+        int rank = rank(doc, q);
+        if (rank == NO_MATCH || (mode == MatchMode.PREFIX && rank > RANK_PREFIX)) {
+            return;
+        }
+        ranked.add(new long[]{rank, doc});
+    }
+
+    private int rank(int doc, String q) {
+        int best = NO_MATCH;
+        for (String key : keys[doc]) {
+            int index = key.indexOf(q);
+            if (index < 0) {
+                continue;
+            }
+            int rank;
+            if (index == 0) {
+                rank = key.length() == q.length() ? RANK_EXACT : RANK_PREFIX;
+            } else if (key.charAt(index - 1) == ' ') {
+                rank = RANK_WORD_PREFIX;
+            } else {
+                rank = key.indexOf(" " + q) >= 0 ? RANK_WORD_PREFIX : RANK_CONTAINS;
+            }
+            best = Math.min(best, rank);
+        }
+        return best;
+    }
+
+    /**
+     * Intersect the postings of every trigram in the query
+     */
+    private int[] trigramCandidates(String q) {
+        int[] result = null;
+        for (int i = 0; i + 3 <= q.length(); i++) {
+            int[] postings = trigrams.get(q.substring(i, i + 3));
+            if (postings == null) {
+                return NO_DOCS;
+            }
+            result = result == null ? postings : intersect(result, postings);
+            if (result.length == 0) {
+                return NO_DOCS;
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // ==================== Internal structures ====================
+
+    /**
+     * Trie node; each node lists (sorted, distinct) the entries that have a word starting with its path
+     */
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>(4);
+        private IntList building = new IntList();
+        private int[] docs = NO_DOCS;
+
+        void insert(String key, int start, int doc) {
+            TrieNode node = this;
+            for (int i = start; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new TrieNode());
+                node.building.add(doc);
+            }
+        }
+
+        void freeze() {
+            docs = building.toArray();
+            building = null;
+            children.values().forEach(TrieNode::freeze);
+        }
+
+        int[] find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.get(prefix.charAt(i));
+                if (node == null) {
+                    return NO_DOCS;
+                }
+            }
+            return node.docs;
+        }
+    }
+
+    /**
+     * Growable int array that ignores consecutive duplicates (documents are added in order)
+     */
+    private static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size > 0 && data[size - 1] == value) {
+                return;
+            }
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
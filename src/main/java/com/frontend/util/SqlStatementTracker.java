@@ -0,0 +1,228 @@
+package com.frontend.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts SQL statements and JDBC time per unit of work (HTTP request or JavaFX action).
+ *
+ * A scope is opened on the current thread with {@link #begin(String)} and closed with {@link #end()}.
+ * Hibernate reports every prepared statement and JDBC execution time to the open scope
+ * (see SqlTrackingConfig). When a scope closes it is logged as a warning if it ran more statements
+ * than the threshold, or ran the same statement many times (a likely N+1 query loop), and its
+ * numbers are added to per-scope statistics used by the sqlstatements actuator endpoint.
+ *
+ * Scopes may nest; nested scopes count towards the outermost one.
+ */
+public final class SqlStatementTracker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlStatementTracker.class);
+
+    private static final int MAX_TRACKED_SQL_PER_SCOPE = 500;
+    private static final int MAX_SCOPE_NAMES = 1000;
+    private static final int MAX_SQL_LOG_LENGTH = 200;
+
+    private static volatile boolean enabled = true;
+    private static volatile int warnThreshold = 50;
+    private static volatile int repeatThreshold = 10;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final Map<String, ScopeStats> STATS = new ConcurrentHashMap<>();
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Summary of all finished scopes with the same name
+     */
+    public record ScopeSummary(String name, long invocations, long totalStatements, int maxStatements,
+                               double avgStatements, double avgJdbcMillis, double maxJdbcMillis,
+                               int maxRepeats, String mostRepeatedSql) {
+    }
+
+    /**
+     * Configure tracking
+     * @param enabled false to turn tracking off
+     * @param warnThreshold statements per scope above which a warning is logged
+     * @param repeatThreshold executions of one identical statement per scope that count as a likely N+1
+     */
+    public static void configure(boolean enabled, int warnThreshold, int repeatThreshold) {
+        SqlStatementTracker.enabled = enabled;
+        SqlStatementTracker.warnThreshold = warnThreshold;
+        SqlStatementTracker.repeatThreshold = repeatThreshold;
+    }
+
+    // ==================== Scope lifecycle ====================
+
+    public static void begin(String name) {
+        if (!enabled) {
+            return;
+        }
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.depth++;
+            return;
+        }
+        CURRENT.set(new Scope(name));
+    }
+
+    public static void end() {
+        end(null);
+    }
+
+    /**
+     * Close the current scope
+     * @param finalName name to record the scope under (e.g. the matched URL pattern), null to keep the original
+     */
+    public static void end(String finalName) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        if (scope.depth > 0) {
+            scope.depth--;
+            return;
+        }
+        CURRENT.remove();
+        if (finalName != null) {
+            scope.name = finalName;
+        }
+        finish(scope);
+    }
+
+    // ==================== Hibernate callbacks ====================
+
+    /**
+     * A statement was prepared on the current thread
+     */
+    public static void statementPrepared(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        scope.statements++;
+        if (scope.sqlCounts.size() < MAX_TRACKED_SQL_PER_SCOPE || scope.sqlCounts.containsKey(sql)) {
+            scope.sqlCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * JDBC execution time spent on the current thread
+     */
+    public static void jdbcTime(long nanos) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.jdbcNanos += nanos;
+        }
+    }
+
+    // ==================== Statistics ====================
+
+    /**
+     * Scopes ordered by the most statements run in a single invocation
+     */
+    public static List<ScopeSummary> worstOffenders(int limit) {
+        List<ScopeSummary> summaries = new ArrayList<>();
+        STATS.forEach((name, stats) -> summaries.add(stats.summary(name)));
+        summaries.sort(Comparator.comparingInt(ScopeSummary::maxStatements).reversed()
+                .thenComparing(Comparator.comparingDouble(ScopeSummary::avgStatements).reversed()));
+        return limit > 0 && summaries.size() > limit ? summaries.subList(0, limit) : summaries;
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static void finish(Scope scope) {
+        String repeatedSql = null;
+        int repeats = 0;
+        for (Map.Entry<String, Integer> entry : scope.sqlCounts.entrySet()) {
+            if (entry.getValue() > repeats) {
+                repeats = entry.getValue();
+                repeatedSql = entry.getKey();
+            }
+        }
+        double jdbcMillis = scope.jdbcNanos / 1_000_000.0;
+        long elapsedMillis = (System.nanoTime() - scope.startNanos) / 1_000_000;
+
+        if (scope.statements > warnThreshold) {
+            LOG.warn("{} ran {} SQL statements ({} ms JDBC, {} ms total)",
+                    scope.name, scope.statements, String.format("%.1f", jdbcMillis), elapsedMillis);
+        }
+        if (repeats >= repeatThreshold) {
+            LOG.warn("{} ran the same SQL statement {} times - possible N+1 query: {}",
+                    scope.name, repeats, abbreviate(repeatedSql));
+        }
+
+        if (scope.statements == 0) {
+            return;
+        }
+        ScopeStats stats = STATS.get(scope.name);
+        if (stats == null) {
+            if (STATS.size() >= MAX_SCOPE_NAMES) {
+                return;
+            }
+            stats = STATS.computeIfAbsent(scope.name, n -> new ScopeStats());
+        }
+        stats.record(scope.statements, scope.jdbcNanos, repeats, repeatedSql);
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() > MAX_SQL_LOG_LENGTH ? flat.substring(0, MAX_SQL_LOG_LENGTH) + "..." : flat;
+    }
+
+    // ==================== Internal structures ====================
+
+    private static final class Scope {
+        private String name;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Integer> sqlCounts = new HashMap<>();
+        private int depth;
+        private int statements;
+        private long jdbcNanos;
+
+        Scope(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class ScopeStats {
+        private long invocations;
+        private long totalStatements;
+        private int maxStatements;
+        private long totalJdbcNanos;
+        private long maxJdbcNanos;
+        private int maxRepeats;
+        private String mostRepeatedSql;
+
+        synchronized void record(int statements, long jdbcNanos, int repeats, String repeatedSql) {
+            invocations++;
+            totalStatements += statements;
+            maxStatements = Math.max(maxStatements, statements);
+            totalJdbcNanos += jdbcNanos;
+            maxJdbcNanos = Math.max(maxJdbcNanos, jdbcNanos);
+            if (repeats > maxRepeats) {
+                maxRepeats = repeats;
+                mostRepeatedSql = abbreviate(repeatedSql);
+            }
+        }
+
+        synchronized ScopeSummary summary(String name) {
+            return new ScopeSummary(name, invocations, totalStatements, maxStatements,
+                    invocations > 0 ? (double) totalStatements / invocations : 0,
+                    invocations > 0 ? totalJdbcNanos / 1_000_000.0 / invocations : 0,
+                    maxJdbcNanos / 1_000_000.0, maxRepeats, mostRepeatedSql);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.frontend.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Timeline of one application startup: consecutive phases (configuration, schema check, context,
+ * ...), the slowest Spring bean creations and the background warm-up tasks.
+ *
+ * Created by Main before the Spring context exists; the summary is shown on the splash screen
+ * and the full report is written to the log once the warm-up tasks have finished.
+ */
+public final class StartupTimeline {
+
+    public enum Kind { PHASE, BEAN, TASK }
+
+    /**
+     * One recorded step, offsets in milliseconds since the timeline was created
+     */
+    public record Entry(Kind kind, String name, long startMs, long durationMs) {
+    }
+
+    private final long origin = System.nanoTime();
+    private final List<Entry> entries = new ArrayList<>();
+    private String currentPhase;
+    private long currentPhaseStart;
+
+    // ==================== Recording ====================
+
+    /**
+     * End the running phase (if any) and start the next one
+     */
+    public synchronized void phase(String name) {
+        endPhase();
+        currentPhase = name;
+        currentPhaseStart = elapsedMs();
+    }
+
+    /**
+     * End the running phase without starting another one
+     */
+    public synchronized void endPhase() {
+        if (currentPhase != null) {
+            entries.add(new Entry(Kind.PHASE, currentPhase, currentPhaseStart, elapsedMs() - currentPhaseStart));
+            currentPhase = null;
+        }
+    }
+
+    public synchronized void bean(String beanName, long durationMs) {
+        entries.add(new Entry(Kind.BEAN, beanName, -1, durationMs));
+    }
+
+    /**
+     * Record a task that started at the given offset (see {@link #elapsedMs()}) and ends now
+     */
+    public synchronized void task(String name, long startMs) {
+        entries.add(new Entry(Kind.TASK, name, startMs, elapsedMs() - startMs));
+    }
+
+    // ==================== Reads ====================
+
+    public long elapsedMs() {
+        return (System.nanoTime() - origin) / 1_000_000;
+    }
+
+    public synchronized List<Entry> entries() {
+        return List.copyOf(entries);
+    }
+
+    public List<Entry> entries(Kind kind) {
+        return entries().stream().filter(e -> e.kind() == kind).collect(Collectors.toList());
+    }
+
+    /**
+     * Finished phases on one line, e.g. "Configuration 0.4 s · Context 2.1 s"
+     */
+    public String phaseSummary() {
+        return entries(Kind.PHASE).stream()
+                .map(e -> e.name() + " " + seconds(e.durationMs()))
+                .collect(Collectors.joining(" · "));
+    }
+
+    /**
+     * Multi-line report: JVM launch, phases, warm-up tasks and slowest beans
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder("Startup timeline (").append(seconds(elapsedMs())).append(")");
+        long jvmToTimeline = jvmLaunchMs();
+        if (jvmToTimeline >= 0) {
+            sb.append(String.format(Locale.ROOT, "%n  %-8s %-32s %6d ms", "JVM", "launch to JavaFX start", jvmToTimeline));
+        }
+        for (Entry e : entries(Kind.PHASE)) {
+            sb.append(String.format(Locale.ROOT, "%n  %-8s %-32s %6d ms  (at %d ms)", "phase", e.name(), e.durationMs(), e.startMs()));
+        }
+        for (Entry e : entries(Kind.TASK)) {
+            sb.append(String.format(Locale.ROOT, "%n  %-8s %-32s %6d ms  (at %d ms)", "task", e.name(), e.durationMs(), e.startMs()));
+        }
+        entries(Kind.BEAN).stream()
+                .sorted(Comparator.comparingLong(Entry::durationMs).reversed())
+                .forEach(e -> sb.append(String.format(Locale.ROOT, "%n  %-8s %-32s %6d ms", "bean", e.name(), e.durationMs())));
+        return sb.toString();
+    }
+
+    private long jvmLaunchMs() {
+        try {
+            long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+            return System.currentTimeMillis() - elapsedMs() - jvmStart;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static String seconds(long ms) {
+        return String.format(Locale.ROOT, "%.1f s", ms / 1000.0);
+    }
+}
@@ -0,0 +1,168 @@
+package com.frontend.util;
+
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Runs database and printer work of a desktop screen off the JavaFX Application Thread.
+ *
+ * Commands are queued per table and run one at a time in submission order (single writer per
+ * table), so an add followed by a remove on the same table always reaches the database in that
+ * order. Different tables run in parallel. The screen updates its view optimistically before
+ * submitting and reconciles with the command result, which is delivered on the FX thread.
+ *
+ * The screen calls {@link #select(Integer)} whenever the user switches tables. Results of
+ * commands submitted before the switch are stale and are discarded; failures of stale commands
+ * are passed to the stale failure handler so they are not lost silently.
+ */
+public final class TableCommandQueue {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TableCommandQueue.class);
+
+    private final String name;
+    private final Executor uiExecutor;
+    private final ExecutorService workers;
+    private final Map<Integer, Lane> lanes = new HashMap<>();
+
+    private volatile Integer activeTable;
+    private volatile long generation;
+    private volatile BiConsumer<String, Exception> staleFailureHandler;
+
+    public TableCommandQueue(String name) {
+        this(name, Platform::runLater);
+    }
+
+    /**
+     * @param uiExecutor runs result callbacks (the FX thread in the application)
+     */
+    TableCommandQueue(String name, Executor uiExecutor) {
+        this.name = name;
+        this.uiExecutor = uiExecutor;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-worker-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The user switched to another table (or re-opened the same one); pending results become stale
+     */
+    public void select(Integer tableNo) {
+        activeTable = tableNo;
+        generation++;
+    }
+
+    public Integer getActiveTable() {
+        return activeTable;
+    }
+
+    /**
+     * Called on the FX thread with the description and error of a failed stale command
+     */
+    public void setStaleFailureHandler(BiConsumer<String, Exception> staleFailureHandler) {
+        this.staleFailureHandler = staleFailureHandler;
+    }
+
+    /**
+     * Queue work for a table
+     * @param tableNo lane to run on; commands of one lane never overlap
+     * @param description short name used in logs and SQL statement tracking
+     * @param work database/printer work, runs on a worker thread
+     * @param onSuccess receives the result on the FX thread unless the table was switched meanwhile
+     * @param onFailure receives the error on the FX thread unless the table was switched meanwhile
+     */
+    public <T> void submit(Integer tableNo, String description, Callable<T> work,
+                           Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        long submittedIn = generation;
+        Runnable command = () -> {
+            T result = null;
+            Exception error = null;
+            SqlStatementTracker.begin("fx " + name + " " + description);
+            try {
+                result = work.call();
+            } catch (Exception e) {
+                error = e;
+            } finally {
+                SqlStatementTracker.end();
+            }
+            T finalResult = result;
+            Exception finalError = error;
+            uiExecutor.execute(() -> deliver(tableNo, description, submittedIn, finalResult, finalError, onSuccess, onFailure));
+        };
+
+        synchronized (lanes) {
+            Lane lane = lanes.computeIfAbsent(tableNo, k -> new Lane());
+            lane.pending.addLast(command);
+            if (!lane.running) {
+                lane.running = true;
+                workers.execute(() -> drain(tableNo, lane));
+            }
+        }
+    }
+
+    private void drain(Integer tableNo, Lane lane) {
+        while (true) {
+            Runnable next;
+            synchronized (lanes) {
+                next = lane.pending.pollFirst();
+                if (next == null) {
+                    lane.running = false;
+                    lanes.remove(tableNo);
+                    return;
+                }
+            }
+            try {
+                next.run();
+            } catch (Exception e) {
+                LOG.error("{}: command for table {} could not be delivered", name, tableNo, e);
+            }
+        }
+    }
+
+    private <T> void deliver(Integer tableNo, String description, long submittedIn, T result, Exception error,
+                             Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        if (submittedIn != generation) {
+            if (error != null) {
+                LOG.error("{}: {} for table {} failed after the table was left", name, description, tableNo, error);
+                BiConsumer<String, Exception> handler = staleFailureHandler;
+                if (handler != null) {
+                    handler.accept(description, error);
+                }
+            } else {
+                LOG.debug("{}: discarded stale result of {} for table {}", name, description, tableNo);
+            }
+            return;
+        }
+        if (error != null) {
+            LOG.error("{}: {} for table {} failed", name, description, tableNo, error);
+            if (onFailure != null) {
+                onFailure.accept(error);
+            }
+        } else if (onSuccess != null) {
+            onSuccess.accept(result);
+        }
+    }
+
+    /**
+     * Commands waiting or running for one table
+     */
+    private static final class Lane {
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private boolean running;
+    }
+}
@@ -0,0 +1,24 @@
+package com.frontend.view;
+
+/**
+ * Controller of a screen that is kept in the view cache of SpringFXMLLoader.
+ *
+ * The root node and controller of such a screen are loaded once and reused for later
+ * navigations instead of parsing the FXML again. Screens whose controller does not implement
+ * this interface are loaded fresh every time.
+ */
+public interface CachedView {
+
+    /**
+     * The cached screen is about to be shown again: clear what the previous visit left behind
+     * and reload data that may have changed. Called on the FX thread.
+     */
+    void onActivate();
+
+    /**
+     * The screen was dropped from the cache (least recently used, or logout): stop timers and
+     * release listeners. Called on the FX thread.
+     */
+    default void onReset() {
+    }
+}
@@ -26,6 +26,7 @@ public class SplashScreen {
     private final Stage stage;
     private final ProgressBar progressBar;
     private final Label statusLabel;
+    private final Label timelineLabel;
 
     public SplashScreen() {
         stage = new Stage(StageStyle.UNDECORATED);
@@ -74,8 +75,19 @@ public class SplashScreen {
                 "-fx-font-family: 'System';"
         );
 
+        // --- Startup timeline (finished phases and their durations) ---
+        timelineLabel = new Label();
+        timelineLabel.setWrapText(true);
+        timelineLabel.setMaxWidth(480);
+        timelineLabel.setAlignment(Pos.CENTER);
+        timelineLabel.setStyle(
+                "-fx-font-size: 10px; " +
+                "-fx-text-fill: rgba(255,255,255,0.6); " +
+                "-fx-font-family: 'System';"
+        );
+
         // --- Layout ---
-        VBox content = new VBox(18, logoPane, title, subtitle, progressBar, statusLabel);
+        VBox content = new VBox(18, logoPane, title, subtitle, progressBar, statusLabel, timelineLabel);
         content.setAlignment(Pos.CENTER);
         content.setPadding(new Insets(60));
 
@@ -114,6 +126,13 @@ public class SplashScreen {
         });
     }
 
+    /**
+     * Thread-safe method to show the startup timeline summary from any thread.
+     */
+    public void updateTimeline(String summary) {
+        Platform.runLater(() -> timelineLabel.setText(summary));
+    }
+
     public void show() {
         stage.show();
         stage.centerOnScreen();
@@ -1,7 +1,11 @@
 package com.frontend.view;
 
 import com.frontend.config.SpringFXMLLoader;
+import com.frontend.util.SqlStatementTracker;
+import javafx.event.ActionEvent;
+import javafx.event.EventDispatcher;
 import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Screen;
@@ -25,6 +29,30 @@ public class StageManager {
     {
         this.springFXMLLoader = springFXMLLoader;
         this.primaryStage = stage;
+        trackSqlPerAction();
+    }
+
+    /**
+     * Count SQL statements per UI action: the scope spans the dispatch of the ActionEvent through
+     * the window, i.e. it closes when the handlers have returned (including any dialog they showed
+     * with showAndWait). Statements issued on the FX thread only.
+     */
+    private void trackSqlPerAction() {
+        EventDispatcher dispatcher = primaryStage.getEventDispatcher();
+        primaryStage.setEventDispatcher((event, tail) -> {
+            if (event.getEventType() != ActionEvent.ACTION) {
+                return dispatcher.dispatchEvent(event, tail);
+            }
+            Object target = event.getTarget();
+            String id = target instanceof Node node && node.getId() != null ? node.getId()
+                    : target.getClass().getSimpleName();
+            SqlStatementTracker.begin("fx " + primaryStage.getTitle() + " #" + id);
+            try {
+                return dispatcher.dispatchEvent(event, tail);
+            } finally {
+                SqlStatementTracker.end();
+            }
+        });
     }
     public void switchScene1(final FxmlView view)
     {
@@ -35,7 +63,12 @@ public class StageManager {
 
     public void switchScene(final FxmlView view) {
         System.out.println("Switching to scene: " + view.getTitle());
-        viewRootNodeHierarchy = loadViewNodeHierarchy(view.getFxmlFile());
+        SqlStatementTracker.begin("fx load " + view.getTitle());
+        try {
+            viewRootNodeHierarchy = loadViewNodeHierarchy(view.getFxmlFile());
+        } finally {
+            SqlStatementTracker.end();
+        }
 
         if (viewRootNodeHierarchy != null) {
             show(viewRootNodeHierarchy, view.getTitle());
@@ -0,0 +1,6 @@
+-- Change counters for the master data caches (see CacheCoherenceService)
+CREATE TABLE IF NOT EXISTS cache_version (
+    cache_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6)
+);
@@ -0,0 +1,10 @@
+-- Change log of master data rows for the mobile delta sync (see MasterDataSyncService)
+CREATE TABLE IF NOT EXISTS master_data_change (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id INT NOT NULL,
+    deleted BIT(1) NOT NULL,
+    changed_at DATETIME(6) NOT NULL,
+    INDEX idx_master_data_change_type (entity_type, id),
+    INDEX idx_master_data_change_time (changed_at)
+);
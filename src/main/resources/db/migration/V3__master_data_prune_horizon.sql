@@ -0,0 +1,7 @@
+-- Highest master_data_change id removed by pruning (single row, see MasterDataSyncService);
+-- clients whose sync version is below it may have missed changes and get a reset
+CREATE TABLE IF NOT EXISTS master_data_prune (
+    id TINYINT NOT NULL PRIMARY KEY,
+    pruned_through BIGINT NOT NULL,
+    pruned_at DATETIME(6)
+);
@@ -0,0 +1,66 @@
+package com.frontend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.service.JwtService;
+import com.frontend.service.VerifiedTokenCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    void actuator_shouldRequireTokenOnApiPort() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/actuator/sqlstatements");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        jwtAuthenticationFilter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void actuator_shouldRejectNonAdminToken() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.addHeader("Authorization", "Bearer waiter-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        when(verifiedTokenCache.get("waiter-token")).thenReturn(
+                new VerifiedTokenCache.VerifiedToken("waiter1", "WAITER", 7, 3, null, Long.MAX_VALUE));
+
+        // Act
+        jwtAuthenticationFilter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+}
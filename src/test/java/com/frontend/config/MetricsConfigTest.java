@@ -0,0 +1,50 @@
+package com.frontend.config;
+
+import com.frontend.util.BusinessMetrics;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.prometheus.PrometheusMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    MetricsAutoConfiguration.class,
+                    CompositeMeterRegistryAutoConfiguration.class,
+                    PrometheusMetricsExportAutoConfiguration.class,
+                    EndpointAutoConfiguration.class,
+                    WebEndpointAutoConfiguration.class))
+            .withUserConfiguration(MetricsConfig.class)
+            .withPropertyValues("management.endpoints.web.exposure.include=health,metrics,prometheus,sqlstatements");
+
+    @Test
+    void prometheusEndpoint_shouldScrapeBusinessCountersFromGlobalRegistry() {
+        contextRunner.run(context -> {
+            // Arrange
+            PrometheusMeterRegistry registry = context.getBean(PrometheusMeterRegistry.class);
+            PrometheusScrapeEndpoint endpoint = context.getBean(PrometheusScrapeEndpoint.class);
+
+            // Act
+            BusinessMetrics.kotCreated(3);
+            String scrape = registry.scrape();
+
+            // Assert
+            assertNotNull(context.getBean(TimedAspect.class));
+            assertNotNull(endpoint);
+            assertTrue(Metrics.globalRegistry.getRegistries().contains(registry));
+            assertTrue(scrape.contains("hotel_kots_total 1.0"), scrape);
+            assertTrue(scrape.contains("hotel_kot_items_total 3.0"), scrape);
+        });
+    }
+}
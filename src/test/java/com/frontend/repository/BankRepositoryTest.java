@@ -0,0 +1,46 @@
+package com.frontend.repository;
+
+import com.frontend.entity.Bank;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:banks;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class BankRepositoryTest {
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void adjustBankBalance_shouldUpdateRowWithoutDetachingManagedEntities() {
+        // Arrange
+        Bank bank = new Bank();
+        bank.setBankName("Cash");
+        bank.setAccountNo("0");
+        bank.setBankBalance(1000.0);
+        Integer bankId = bankRepository.save(bank).getId();
+        Bank loaded = bankRepository.findById(bankId).orElseThrow();
+
+        // Act
+        int updated = bankRepository.adjustBankBalance(bankId, -250.0);
+        bankRepository.adjustBankBalance(bankId, 100.0);
+
+        // Assert
+        assertEquals(1, updated);
+        assertTrue(entityManager.getEntityManager().contains(loaded));
+        assertEquals(850.0, bankRepository.findBankBalanceById(bankId));
+        assertEquals(0, bankRepository.adjustBankBalance(bankId + 1, 10.0));
+    }
+}
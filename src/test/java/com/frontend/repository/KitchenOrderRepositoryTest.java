@@ -0,0 +1,41 @@
+package com.frontend.repository;
+
+import com.frontend.entity.KitchenOrder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:kitchenorders;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class KitchenOrderRepositoryTest {
+
+    @Autowired
+    private KitchenOrderRepository kitchenOrderRepository;
+
+    @Test
+    void findIdsByTableNoAndStatus_shouldRunAsLockingQuery() {
+        // Arrange
+        KitchenOrder ko = new KitchenOrder();
+        ko.setTableNo(5);
+        ko.setTableName("T5");
+        ko.setStatus("SENT");
+        Integer id = kitchenOrderRepository.saveAndFlush(ko).getId();
+
+        // Act
+        List<Integer> ids = kitchenOrderRepository.findIdsByTableNoAndStatus(5, "SENT");
+
+        // Assert
+        assertEquals(List.of(id), ids);
+        assertEquals(1, kitchenOrderRepository.markReady(ids, "SENT", "READY", LocalDateTime.now()));
+    }
+}
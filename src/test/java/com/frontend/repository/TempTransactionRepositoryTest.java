@@ -0,0 +1,45 @@
+package com.frontend.repository;
+
+import com.frontend.entity.TempTransaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:temptransactions;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class TempTransactionRepositoryTest {
+
+    @Autowired
+    private TempTransactionRepository tempTransactionRepository;
+
+    @Test
+    void bulkUpdates_shouldSetUpdatedAt() throws InterruptedException {
+        // Arrange
+        TempTransaction transaction = new TempTransaction("Biryani", 2f, 250f, 500f, 5);
+        transaction.setPrintQty(2f);
+        Integer id = tempTransactionRepository.saveAndFlush(transaction).getId();
+        LocalDateTime saved = transaction.getUpdatedAt();
+        Thread.sleep(5);
+
+        // Act
+        int reset = tempTransactionRepository.resetPrintQtyByTableNo(5);
+        int shifted = tempTransactionRepository.shiftToTable(5, 9);
+
+        // Assert
+        assertEquals(1, reset);
+        assertEquals(1, shifted);
+        TempTransaction reloaded = tempTransactionRepository.findById(id).orElseThrow();
+        assertEquals(9, reloaded.getTableNo());
+        assertEquals(0f, reloaded.getPrintQty());
+        assertTrue(reloaded.getUpdatedAt().isAfter(saved));
+    }
+}
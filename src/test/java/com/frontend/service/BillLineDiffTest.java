@@ -0,0 +1,73 @@
+package com.frontend.service;
+
+import com.frontend.entity.TempTransaction;
+import com.frontend.entity.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BillLineDiffTest {
+
+    private Transaction line(String item, float qty, float rate, Integer itemCode) {
+        Transaction t = new Transaction(item, qty, rate, qty * rate, null);
+        t.setItemCode(itemCode);
+        return t;
+    }
+
+    private TempTransaction edit(String item, float qty, float rate) {
+        TempTransaction t = new TempTransaction();
+        t.setItemName(item);
+        t.setQty(qty);
+        t.setRate(rate);
+        t.setAmt(qty * rate);
+        return t;
+    }
+
+    @Test
+    void compute_shouldClassifyUpdatedAddedRemovedAndUnchanged() {
+        // Arrange
+        List<Transaction> current = List.of(line("Roti", 3, 20, 1), line("Dal", 1, 150, 2), line("Papad", 2, 10, 3));
+        List<TempTransaction> edited = List.of(edit("Roti", 5, 20), edit("Dal", 1, 150), edit("Lassi", 2, 60));
+
+        // Act
+        BillLineDiff diff = BillLineDiff.compute(current, edited);
+
+        // Assert
+        assertEquals(1, diff.getUpdated().size());
+        assertEquals(1, diff.getAdded().size());
+        assertEquals(1, diff.getRemoved().size());
+        assertEquals(1, diff.getUnchanged());
+        assertEquals("+Lassi x2; ~Roti 3->5; -Papad x2 (1 unchanged)", diff.summary());
+    }
+
+    @Test
+    void stockDeltas_shouldBeNetPerItemAndRate() {
+        // Arrange - rate change for the same item reverses the old rate and sells at the new one
+        List<Transaction> current = List.of(line("Roti", 4, 20, 1), line("Dal", 1, 150, 2));
+        List<TempTransaction> edited = List.of(edit("Roti", 4, 25), edit("Dal", 3, 150));
+
+        // Act
+        List<BillLineDiff.StockDelta> deltas = BillLineDiff.compute(current, edited).getStockDeltas();
+
+        // Assert
+        assertEquals(List.of(
+                new BillLineDiff.StockDelta("Roti", null, 4f, 25f),
+                new BillLineDiff.StockDelta("Dal", 2, 2f, 150f),
+                new BillLineDiff.StockDelta("Roti", 1, -4f, 20f)), deltas);
+    }
+
+    @Test
+    void stockDeltas_shouldNetOutQuantityMovedBetweenLinesOfSameRate() {
+        // Arrange - two Roti lines at one rate consolidated into one
+        List<Transaction> current = List.of(line("Roti", 2, 20, 1), line("Roti", 2, 20, 1));
+        List<TempTransaction> edited = List.of(edit("Roti", 4, 20));
+
+        // Act
+        List<BillLineDiff.StockDelta> deltas = BillLineDiff.compute(current, edited).getStockDeltas();
+
+        // Assert
+        assertTrue(deltas.isEmpty());
+    }
+}
@@ -3,6 +3,7 @@ package com.frontend.service;
 import com.frontend.entity.Bill;
 import com.frontend.entity.Item;
 import com.frontend.entity.TempTransaction;
+import com.frontend.entity.Transaction;
 import com.frontend.repository.BillRepository;
 import com.frontend.repository.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +48,9 @@ class BillServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private CustomerBalanceService customerBalanceService;
+
     @InjectMocks
     private BillService billService;
 
@@ -225,4 +229,46 @@ class BillServiceTest {
         // Assert
         assertFalse(result);
     }
+
+    @Test
+    void updateBillWithTransactions_shouldOnlyTouchChangedLinesAndNetStock() {
+        // Arrange
+        Bill bill = new Bill();
+        bill.setBillNo(10);
+        bill.setStatus("PAID");
+        Transaction biryani = new Transaction("Chicken Biryani", 2f, 250f, 500f, bill);
+        Transaction roti = new Transaction("Butter Roti", 3f, 20f, 60f, bill);
+        roti.setItemCode(5);
+        bill.addTransaction(biryani);
+        bill.addTransaction(roti);
+
+        TempTransaction sameBiryani = new TempTransaction();
+        sameBiryani.setItemName("Chicken Biryani");
+        sameBiryani.setQty(2f);
+        sameBiryani.setRate(250f);
+        sameBiryani.setAmt(500f);
+        TempTransaction moreRoti = new TempTransaction();
+        moreRoti.setItemName("Butter Roti");
+        moreRoti.setQty(5f);
+        moreRoti.setRate(20f);
+        moreRoti.setAmt(100f);
+
+        when(billRepository.findById(10)).thenReturn(Optional.of(bill));
+        when(billRepository.save(any(Bill.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(itemService.getItemByCode(5)).thenReturn(new Item(7, "Butter Roti", 3, 20f, 5));
+
+        // Act
+        Bill result = billService.updateBillWithTransactions(10, List.of(sameBiryani, moreRoti),
+                1, null, 600f, 7f, 600f, 0f, "PAID");
+
+        // Assert
+        assertEquals(2, result.getTransactions().size());
+        assertEquals(5f, roti.getQty());
+        assertEquals(100f, roti.getAmt());
+        verify(transactionRepository, never()).deleteByBillNo(anyInt());
+        verify(itemStockService).reduceStock(5, "Butter Roti", 3, 2f, 20f, 10);
+        verify(itemStockService, never()).reverseStockForSale(any(), any(), any(), any(), any(), any());
+        verify(auditLogService).logAsync(eq("Bill"), eq("10"), eq("UPDATE"),
+                contains("~Butter Roti 3->5"), anyString());
+    }
 }
@@ -0,0 +1,102 @@
+package com.frontend.service;
+
+import com.frontend.entity.CacheVersion;
+import com.frontend.repository.CacheVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheCoherenceServiceTest {
+
+    @Mock
+    private CacheVersionRepository cacheVersionRepository;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager("items", "tables", "banks");
+
+    @InjectMocks
+    private CacheCoherenceService cacheCoherenceService;
+
+    @Test
+    void refresh_shouldClearOnlyCachesChangedOnOtherTerminals() {
+        // Arrange
+        when(cacheVersionRepository.findAll()).thenReturn(
+                List.of(version("items", 1), version("tables", 4)),
+                List.of(version("items", 2), version("tables", 4)));
+        cacheCoherenceService.refresh();
+        cacheManager.getCache("items").put("all", "stale items");
+        cacheManager.getCache("tables").put("all", "tables");
+
+        // Act
+        Set<String> changed = cacheCoherenceService.refresh();
+
+        // Assert
+        assertEquals(Set.of("items"), changed);
+        assertNull(cacheManager.getCache("items").get("all"));
+        assertNotNull(cacheManager.getCache("tables").get("all"));
+        assertEquals(2, cacheCoherenceService.generation("items"));
+    }
+
+    @Test
+    void changed_shouldClearLocallyAndNotAgainOnNextPoll() {
+        // Arrange
+        when(cacheVersionRepository.findAll()).thenReturn(
+                List.of(version("tables", 7)),
+                List.of(version("tables", 8)));
+        when(cacheVersionRepository.findVersion("tables")).thenReturn(8L);
+        cacheCoherenceService.refresh();
+        List<Set<String>> received = new ArrayList<>();
+        cacheCoherenceService.addListener(received::add);
+        cacheManager.getCache("tables").put("all", "old tables");
+
+        // Act
+        cacheCoherenceService.changed("tables");
+        Set<String> changedOnPoll = cacheCoherenceService.refresh();
+
+        // Assert
+        verify(cacheVersionRepository).bump("tables");
+        assertNull(cacheManager.getCache("tables").get("all"));
+        assertEquals(List.of(Set.of("tables")), received);
+        assertTrue(changedOnPoll.isEmpty());
+    }
+
+    @Test
+    void evictLocally_shouldClearAfterCommitWithoutBumpingVersion() {
+        // Arrange
+        cacheManager.getCache("banks").put("all", "banks with old balances");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            cacheCoherenceService.evictLocally("banks");
+            Object beforeCommit = cacheManager.getCache("banks").get("all");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertNotNull(beforeCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(cacheManager.getCache("banks").get("all"));
+        assertEquals(1, cacheCoherenceService.generation("banks"));
+        verifyNoInteractions(cacheVersionRepository);
+    }
+
+    private static CacheVersion version(String cacheName, long version) {
+        return new CacheVersion(cacheName, version, null);
+    }
+}
@@ -0,0 +1,102 @@
+package com.frontend.service;
+
+import com.frontend.entity.Bill;
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.CustomerBalanceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerBalanceServiceTest {
+
+    @Mock
+    private CustomerBalanceRepository customerBalanceRepository;
+
+    @Mock
+    private BillRepository billRepository;
+
+    @InjectMocks
+    private CustomerBalanceService customerBalanceService;
+
+    @Test
+    void applyChange_shouldAddNewCreditBillToCustomer() {
+        customerBalanceService.applyChange(CustomerBalanceService.Contribution.NONE, bill(1, 5, "CREDIT", 500f, 0f));
+
+        verify(customerBalanceRepository).addToBalance(eq(5), doubleThat(d -> Math.abs(d - 500.0) < 0.001), eq(1));
+    }
+
+    @Test
+    void applyChange_shouldMoveBalanceWhenCustomerChanges() {
+        // Arrange
+        Bill bill = bill(1, 5, "CREDIT", 500f, 100f);
+        CustomerBalanceService.Contribution before = CustomerBalanceService.Contribution.of(bill);
+        bill.setCustomerId(6);
+
+        // Act
+        customerBalanceService.applyChange(before, bill);
+
+        // Assert
+        verify(customerBalanceRepository).addToBalance(eq(5), doubleThat(d -> Math.abs(d + 400.0) < 0.001), eq(-1));
+        verify(customerBalanceRepository).addToBalance(eq(6), doubleThat(d -> Math.abs(d - 400.0) < 0.001), eq(1));
+    }
+
+    @Test
+    void applyChanges_shouldIssueOneUpsertPerCustomer() {
+        // Arrange
+        Bill first = bill(1, 5, "CREDIT", 300f, 0f);
+        Bill second = bill(2, 5, "CREDIT", 200f, 0f);
+        Map<Integer, CustomerBalanceService.Contribution> before = customerBalanceService.capture(List.of(first, second));
+        first.setPaidAmount(300f);
+        first.setStatus("PAID");
+        second.setPaidAmount(50f);
+
+        // Act
+        customerBalanceService.applyChanges(before, List.of(first, second));
+
+        // Assert
+        verify(customerBalanceRepository, times(1))
+                .addToBalance(eq(5), doubleThat(d -> Math.abs(d + 350.0) < 0.001), eq(-1));
+        verifyNoMoreInteractions(customerBalanceRepository);
+    }
+
+    @Test
+    void applyChange_shouldIgnoreNonCreditBills() {
+        customerBalanceService.applyChange(CustomerBalanceService.Contribution.NONE, bill(1, 5, "PAID", 500f, 0f));
+
+        verifyNoInteractions(customerBalanceRepository);
+    }
+
+    @Test
+    void getPendingAmount_shouldCountOnlyPositiveBalancesBeforeReconciliation() {
+        // Arrange
+        List<Object[]> rows = List.<Object[]>of(new Object[]{5, 400.0, 1L});
+        when(billRepository.getPendingSummaryByCustomerId(5)).thenReturn(rows);
+
+        // Act
+        Double pending = customerBalanceService.getPendingAmount(5);
+
+        // Assert
+        assertEquals(400.0, pending);
+        verifyNoInteractions(customerBalanceRepository);
+    }
+
+    private Bill bill(int billNo, int customerId, String status, float netAmount, float paidAmount) {
+        Bill bill = new Bill();
+        bill.setBillNo(billNo);
+        bill.setCustomerId(customerId);
+        bill.setStatus(status);
+        bill.setNetAmount(netAmount);
+        bill.setPaidAmount(paidAmount);
+        return bill;
+    }
+}
@@ -0,0 +1,98 @@
+package com.frontend.service;
+
+import com.frontend.entity.Customer;
+import com.frontend.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerDirectoryTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private CustomerDirectory customerDirectory;
+
+    @Test
+    void refresh_shouldNotifyListenersOnlyWhenCustomersChanged() {
+        // Arrange
+        when(customerRepository.findAllByOrderByFirstNameAsc()).thenReturn(
+                List.of(customer(1, "Ram", "9800000001")),
+                List.of(customer(1, "Ram", "9800000001")),
+                List.of(customer(1, "Ram", "9800000002")));
+        assertEquals(1, customerDirectory.size());
+        AtomicInteger notified = new AtomicInteger();
+        customerDirectory.addListener(notified::incrementAndGet);
+
+        // Act
+        customerDirectory.refresh();
+        int afterUnchanged = notified.get();
+        customerDirectory.refresh();
+
+        // Assert
+        assertEquals(0, afterUnchanged);
+        assertEquals(1, notified.get());
+        assertEquals("Ram", customerDirectory.getByMobile("9800000002").getFirstName());
+    }
+
+    @Test
+    void customerSaved_shouldApplyOnlyAfterCommit() {
+        // Arrange
+        when(customerRepository.findAllByOrderByFirstNameAsc()).thenReturn(List.of(customer(1, "Ram", "9800000001")));
+        assertEquals(1, customerDirectory.size());
+        AtomicInteger notified = new AtomicInteger();
+        customerDirectory.addListener(notified::incrementAndGet);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            customerDirectory.customerSaved(customer(2, "Shyam", "9800000003"));
+            int beforeCommit = customerDirectory.size();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertEquals(1, beforeCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(2, customerDirectory.size());
+        assertEquals(1, notified.get());
+        assertEquals("Shyam", customerDirectory.getById(2).getFirstName());
+    }
+
+    @Test
+    void search_shouldNotMatchMissingNamePartsAsNull() {
+        // Arrange
+        Customer noLastName = customer(1, "Ram", "9800000001");
+        noLastName.setLastName(null);
+        when(customerRepository.findAllByOrderByFirstNameAsc()).thenReturn(List.of(noLastName));
+
+        // Act
+        List<Customer> byNull = customerDirectory.search("null", 10);
+        List<Customer> byName = customerDirectory.search("ram", 10);
+
+        // Assert
+        assertTrue(byNull.isEmpty());
+        assertEquals(List.of(noLastName), byName);
+    }
+
+    private static Customer customer(int id, String firstName, String mobileNo) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setFirstName(firstName);
+        customer.setLastName("Patil");
+        customer.setMobileNo(mobileNo);
+        return customer;
+    }
+}
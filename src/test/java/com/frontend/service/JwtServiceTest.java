@@ -0,0 +1,59 @@
+package com.frontend.service;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Mock
+    private MobileAppSettingService mobileAppSettingService;
+
+    @InjectMocks
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        when(mobileAppSettingService.getJwtSecretKey()).thenReturn(SECRET);
+        lenient().when(mobileAppSettingService.getJwtExpirationHours()).thenReturn(24);
+    }
+
+    @Test
+    void validateToken_shouldReturnClaimsOfGeneratedToken() {
+        // Arrange
+        String token = jwtService.generateToken("waiter1", "WAITER", 7L, 3, "Ram", List.of("dashboard"));
+
+        // Act
+        Claims claims = jwtService.validateToken(token);
+
+        // Assert
+        assertEquals("waiter1", claims.getSubject());
+        assertEquals("WAITER", claims.get("role", String.class));
+        assertEquals(List.of("dashboard"), claims.get("features", List.class));
+    }
+
+    @Test
+    void validateToken_shouldRejectTokenAfterSecretRotation() {
+        // Arrange
+        String token = jwtService.generateToken("waiter1", "WAITER", 7L, null, null, List.of());
+        jwtService.validateToken(token);
+
+        // Act
+        when(mobileAppSettingService.getJwtSecretKey()).thenReturn(SECRET + "-rotated");
+
+        // Assert
+        assertThrows(RuntimeException.class, () -> jwtService.validateToken(token));
+    }
+}
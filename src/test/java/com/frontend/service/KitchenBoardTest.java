@@ -0,0 +1,138 @@
+package com.frontend.service;
+
+import com.frontend.entity.KitchenOrder;
+import com.frontend.entity.KitchenOrderItem;
+import com.frontend.repository.KitchenOrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenBoardTest {
+
+    @Mock
+    private KitchenOrderRepository kitchenOrderRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private KitchenBoard kitchenBoard;
+
+    private KitchenOrder order(int id, int tableNo, String status) {
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId(id);
+        ko.setTableNo(tableNo);
+        ko.setTableName("T" + tableNo);
+        ko.setStatus(status);
+        ko.addItem(new KitchenOrderItem("Biryani", 1, 1f, 250f));
+        return ko;
+    }
+
+    private void loadBoard(KitchenOrder... sent) {
+        when(kitchenOrderRepository.findByStatusWithItems("SENT")).thenReturn(new ArrayList<>(List.of(sent)));
+        when(kitchenOrderRepository.findByStatusWithItems("READY")).thenReturn(new ArrayList<>());
+        kitchenBoard.getSequence();
+    }
+
+    @Test
+    void changes_shouldGetIncreasingSequenceAndBePublished() {
+        // Arrange
+        loadBoard(order(1, 5, "SENT"));
+
+        // Act
+        kitchenBoard.orderCreated(order(2, 6, "SENT"));
+        kitchenBoard.orderUpdated(order(1, 5, "READY"));
+        kitchenBoard.orderUpdated(order(2, 6, "SERVE"));
+
+        // Assert
+        KitchenBoard.Changes changes = kitchenBoard.changesSince(kitchenBoard.getEpoch(), 0);
+        assertEquals(3, changes.seq());
+        assertFalse(changes.reset());
+        assertEquals(List.of(KitchenBoard.CREATED, KitchenBoard.UPDATED, KitchenBoard.REMOVED),
+                changes.changes().stream().map(KitchenBoard.Change::type).toList());
+        assertEquals(1, changes.changes().get(0).order().getItems().size());
+        assertEquals(1, kitchenBoard.getActiveOrders(null).size());
+        assertEquals("READY", kitchenBoard.getActiveOrders("READY").get(0).getStatus());
+        verify(notificationService, times(3)).notifyKitchenOrderChange(any(KitchenBoard.Change.class));
+    }
+
+    @Test
+    void changesSince_shouldReturnOnlyMissedChanges() {
+        // Arrange
+        loadBoard();
+        kitchenBoard.orderCreated(order(1, 5, "SENT"));
+        kitchenBoard.orderCreated(order(2, 5, "SENT"));
+
+        // Act
+        KitchenBoard.Changes changes = kitchenBoard.changesSince(kitchenBoard.getEpoch(), 1);
+
+        // Assert
+        assertEquals(1, changes.changes().size());
+        assertEquals(2, changes.changes().get(0).kotId());
+        assertTrue(kitchenBoard.changesSince(kitchenBoard.getEpoch(), 2).changes().isEmpty());
+    }
+
+    @Test
+    void changesSince_shouldResetWhenSequenceUnknown() {
+        // Arrange
+        loadBoard(order(1, 5, "SENT"));
+        kitchenBoard.orderCreated(order(2, 5, "SENT"));
+
+        // Act
+        KitchenBoard.Changes changes = kitchenBoard.changesSince(kitchenBoard.getEpoch(), 42);
+
+        // Assert
+        assertTrue(changes.reset());
+        assertEquals(2, changes.orders().size());
+        assertTrue(kitchenBoard.changesSince(kitchenBoard.getEpoch(), -1).reset());
+    }
+
+    @Test
+    void changesSince_shouldResetWhenEpochDiffers() {
+        // Arrange
+        loadBoard(order(1, 5, "SENT"));
+        kitchenBoard.orderCreated(order(2, 5, "SENT"));
+
+        // Act - sequence 1 seen before a server restart
+        KitchenBoard.Changes changes = kitchenBoard.changesSince(kitchenBoard.getEpoch() - 1, 1);
+
+        // Assert
+        assertTrue(changes.reset());
+        assertEquals(kitchenBoard.getEpoch(), changes.epoch());
+        assertEquals(2, changes.orders().size());
+    }
+
+    @Test
+    void tableShifted_shouldMoveActiveOrders() {
+        // Arrange
+        loadBoard(order(1, 5, "SENT"), order(2, 7, "SENT"));
+
+        // Act
+        kitchenBoard.tableShifted(5, 9, "T9");
+
+        // Assert
+        KitchenBoard.Changes changes = kitchenBoard.changesSince(kitchenBoard.getEpoch(), 0);
+        assertEquals(1, changes.changes().size());
+        assertEquals(9, changes.changes().get(0).tableNo());
+        assertEquals("T9", changes.changes().get(0).order().getTableName());
+    }
+
+    @Test
+    void changes_shouldBeIgnoredBeforeBoardIsLoaded() {
+        // Act
+        kitchenBoard.orderCreated(order(1, 5, "SENT"));
+
+        // Assert
+        verifyNoInteractions(notificationService, kitchenOrderRepository);
+    }
+}
@@ -0,0 +1,99 @@
+package com.frontend.service;
+
+import com.frontend.dto.ItemDto;
+import com.frontend.entity.KitchenOrder;
+import com.frontend.entity.KitchenOrderItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenMetricsServiceTest {
+
+    @Mock
+    private ItemService itemService;
+
+    @InjectMocks
+    private KitchenMetricsService kitchenMetricsService;
+
+    private static final LocalDateTime SENT = LocalDateTime.of(2026, 1, 10, 20, 5);
+
+    private KitchenOrder order(int id, int prepSeconds, String... items) {
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId(id);
+        ko.setSentAt(SENT);
+        ko.setReadyAt(SENT.plusSeconds(prepSeconds));
+        for (String item : items) {
+            ko.addItem(new KitchenOrderItem(item, null, 1f, 100f));
+        }
+        return ko;
+    }
+
+    @Test
+    void recordReady_shouldComputePrepPercentilesPerItemAndCategory() {
+        // Arrange
+        when(itemService.getAllItems()).thenReturn(List.of(
+                new ItemDto(1, "Butter Roti", 1, "Roti", 20f, 1),
+                new ItemDto(2, "Paneer Tikka", 2, "Starter", 200f, 2)));
+
+        // Act
+        for (int i = 1; i <= 10; i++) {
+            kitchenMetricsService.recordReady(order(i, i * 60, "Butter Roti"));
+        }
+        kitchenMetricsService.recordReady(order(11, 1800, "Paneer Tikka", "Butter Roti"));
+        KitchenMetricsService.PhaseStats prep = kitchenMetricsService.getSnapshot().prep();
+
+        // Assert
+        assertEquals(11, prep.overall().count());
+        assertEquals(360, prep.overall().p50Seconds());
+        assertEquals(1800, prep.overall().maxSeconds());
+        assertEquals("Paneer Tikka", prep.byItem().get(0).key());
+        assertEquals(11, prep.byCategory().stream().filter(s -> s.key().equals("Roti")).findFirst().orElseThrow().count());
+        assertEquals("20", prep.byHour().get(0).key());
+        assertEquals(0, kitchenMetricsService.getSnapshot().serve().overall().count());
+    }
+
+    @Test
+    void recordServed_shouldUseConfiguredStations() {
+        // Arrange
+        ReflectionTestUtils.setField(kitchenMetricsService, "stationMapping", "Roti=Tandoor, Kebab=Tandoor");
+        when(itemService.getAllItems()).thenReturn(List.of(
+                new ItemDto(1, "Butter Roti", 1, "Roti", 20f, 1),
+                new ItemDto(2, "Seekh Kebab", 3, "Kebab", 250f, 3)));
+        KitchenOrder ko = order(1, 600, "Butter Roti", "Seekh Kebab");
+        ko.setServedAt(ko.getReadyAt().plusSeconds(90));
+
+        // Act
+        kitchenMetricsService.recordServed(ko);
+        KitchenMetricsService.PhaseStats serve = kitchenMetricsService.getSnapshot().serve();
+
+        // Assert
+        assertEquals(1, serve.byStation().size());
+        assertEquals("Tandoor", serve.byStation().get(0).key());
+        assertEquals(90, serve.byStation().get(0).p95Seconds());
+        assertEquals(2, serve.byCategory().size());
+    }
+
+    @Test
+    void recordReady_shouldIgnoreOrdersWithoutTimestamps() {
+        // Arrange
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId(1);
+
+        // Act
+        kitchenMetricsService.recordReady(ko);
+
+        // Assert
+        assertEquals(0, kitchenMetricsService.getSnapshot().prep().overall().count());
+        verifyNoInteractions(itemService);
+    }
+}
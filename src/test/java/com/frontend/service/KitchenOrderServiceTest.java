@@ -8,6 +8,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -31,7 +33,10 @@ class KitchenOrderServiceTest {
     private AuditLogService auditLogService;
 
     @Mock
-    private NotificationService notificationService;
+    private KitchenBoard kitchenBoard;
+
+    @Mock
+    private KitchenMetricsService kitchenMetricsService;
 
     @InjectMocks
     private KitchenOrderService kitchenOrderService;
@@ -63,6 +68,7 @@ class KitchenOrderServiceTest {
         assertEquals(1, result.getId());
         assertEquals("SENT", result.getStatus());
         verify(kitchenOrderRepository).save(any(KitchenOrder.class));
+        verify(kitchenBoard).orderCreated(savedKo);
         verify(auditLogService).logAsync(eq("KitchenOrder"), eq("1"), eq("CREATE"), anyString(), anyString());
     }
 
@@ -88,7 +94,33 @@ class KitchenOrderServiceTest {
         verify(kitchenOrderRepository).save(ko);
         verify(auditLogService).logAsync(eq("KitchenOrder"), eq("1"), eq("STATUS_CHANGE"),
                 contains("SENT -> READY"), anyString());
-        verify(notificationService).notifyKitchenOrderUpdate(1, "READY", 5);
+        verify(kitchenBoard).orderUpdated(ko);
+    }
+
+    @Test
+    void markAsReady_shouldPublishToBoardAndMetricsOnlyAfterCommit() {
+        // Arrange
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId(1);
+        ko.setTableNo(5);
+        ko.setStatus("SENT");
+        ko.setItems(new ArrayList<>());
+
+        when(kitchenOrderRepository.findById(1)).thenReturn(Optional.of(ko));
+        when(kitchenOrderRepository.findByIdWithItems(1)).thenReturn(Optional.of(ko));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            kitchenOrderService.markAsReady(1);
+
+            // Assert
+            verifyNoInteractions(kitchenBoard, kitchenMetricsService);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(kitchenBoard).orderUpdated(ko);
+        verify(kitchenMetricsService).recordReady(ko);
     }
 
     @Test
@@ -119,55 +151,70 @@ class KitchenOrderServiceTest {
         assertNotNull(result);
         assertEquals("SERVE", result.getStatus());
         verify(kitchenOrderRepository).save(ko);
-        verify(notificationService).notifyKitchenOrderUpdate(1, "SERVE", 5);
+        verify(kitchenBoard).orderUpdated(ko);
     }
 
     @Test
     void markAllAsReadyForTable_shouldUpdateAllSentOrders() {
         // Arrange
-        List<KitchenOrder> sentOrders = new ArrayList<>();
+        List<Integer> ids = List.of(1, 2);
         KitchenOrder ko1 = new KitchenOrder();
         ko1.setId(1);
-        ko1.setStatus("SENT");
-        sentOrders.add(ko1);
-
+        ko1.setStatus("READY");
         KitchenOrder ko2 = new KitchenOrder();
         ko2.setId(2);
-        ko2.setStatus("SENT");
-        sentOrders.add(ko2);
+        ko2.setStatus("READY");
+        List<KitchenOrder> readyOrders = List.of(ko1, ko2);
 
-        when(kitchenOrderRepository.findByTableNoAndStatusOrderBySentAtAsc(5, "SENT"))
-                .thenReturn(sentOrders);
+        when(kitchenOrderRepository.findIdsByTableNoAndStatus(5, "SENT")).thenReturn(ids);
+        when(kitchenOrderRepository.markReady(eq(ids), eq("SENT"), eq("READY"), any(LocalDateTime.class))).thenReturn(2);
+        when(kitchenOrderRepository.findByIdInWithItems(ids)).thenReturn(readyOrders);
 
         // Act
         kitchenOrderService.markAllAsReadyForTable(5);
 
         // Assert
-        assertEquals("READY", ko1.getStatus());
-        assertEquals("READY", ko2.getStatus());
-        assertNotNull(ko1.getReadyAt());
-        assertNotNull(ko2.getReadyAt());
-        verify(kitchenOrderRepository).saveAll(sentOrders);
+        verify(kitchenOrderRepository).markReady(eq(ids), eq("SENT"), eq("READY"), any(LocalDateTime.class));
+        verify(kitchenOrderRepository, never()).saveAll(anyList());
+        verify(kitchenMetricsService).recordReady(ko1);
+        verify(kitchenMetricsService).recordReady(ko2);
+        verify(kitchenBoard).orderUpdated(ko1);
+        verify(kitchenBoard).orderUpdated(ko2);
     }
 
     @Test
     void markAllAsServedForTable_shouldUpdateAllReadyOrders() {
         // Arrange
-        List<KitchenOrder> readyOrders = new ArrayList<>();
+        List<Integer> ids = List.of(1);
         KitchenOrder ko = new KitchenOrder();
         ko.setId(1);
-        ko.setStatus("READY");
-        readyOrders.add(ko);
+        ko.setStatus("SERVE");
+        List<KitchenOrder> servedOrders = List.of(ko);
 
-        when(kitchenOrderRepository.findByTableNoAndStatusOrderBySentAtAsc(5, "READY"))
-                .thenReturn(readyOrders);
+        when(kitchenOrderRepository.findIdsByTableNoAndStatus(5, "READY")).thenReturn(ids);
+        when(kitchenOrderRepository.markServed(eq(ids), eq("READY"), eq("SERVE"), any(LocalDateTime.class))).thenReturn(1);
+        when(kitchenOrderRepository.findByIdInWithItems(ids)).thenReturn(servedOrders);
 
         // Act
         kitchenOrderService.markAllAsServedForTable(5);
 
         // Assert
-        assertEquals("SERVE", ko.getStatus());
-        verify(kitchenOrderRepository).saveAll(readyOrders);
+        verify(kitchenOrderRepository).markServed(eq(ids), eq("READY"), eq("SERVE"), any(LocalDateTime.class));
+        verify(kitchenMetricsService).recordServed(ko);
+        verify(kitchenBoard).ordersRemoved(servedOrders);
+    }
+
+    @Test
+    void markAllAsReadyForTable_shouldDoNothingWhenNoSentOrders() {
+        // Arrange
+        when(kitchenOrderRepository.findIdsByTableNoAndStatus(5, "SENT")).thenReturn(List.of());
+
+        // Act
+        kitchenOrderService.markAllAsReadyForTable(5);
+
+        // Assert
+        verify(kitchenOrderRepository, never()).markReady(anyList(), anyString(), anyString(), any());
+        verifyNoInteractions(kitchenBoard);
     }
 
     @Test
@@ -183,6 +230,7 @@ class KitchenOrderServiceTest {
 
         // Assert
         verify(kitchenOrderRepository).deleteAll(orders);
+        verify(kitchenBoard).ordersRemoved(orders);
     }
 
     @Test
@@ -0,0 +1,160 @@
+package com.frontend.service;
+
+import com.frontend.entity.CacheVersion;
+import com.frontend.entity.CategoryMaster;
+import com.frontend.entity.Employees;
+import com.frontend.entity.Item;
+import com.frontend.entity.TableMaster;
+import com.frontend.repository.CacheVersionRepository;
+import com.frontend.repository.CategoryMasterRepository;
+import com.frontend.repository.EmployeesRepository;
+import com.frontend.repository.ItemRepository;
+import com.frontend.repository.TableMasterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MasterDataStoreTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private CategoryMasterRepository categoryRepository;
+
+    @Mock
+    private EmployeesRepository employeesRepository;
+
+    @Mock
+    private TableMasterRepository tableMasterRepository;
+
+    @Mock
+    private TableMasterService tableMasterService;
+
+    @Mock
+    private CacheVersionRepository cacheVersionRepository;
+
+    @InjectMocks
+    private MasterDataStore masterDataStore;
+
+    @Test
+    void sync_shouldReloadOnlyTypesWhoseVersionChanged() {
+        // Arrange
+        when(cacheVersionRepository.findAll()).thenReturn(
+                List.of(version("items", 1), version("tables", 3)),
+                List.of(version("items", 2), version("tables", 3)));
+        when(itemRepository.findAll()).thenReturn(
+                List.of(item(1, "Tea", 10f)),
+                List.of(item(1, "Tea", 12f), item(2, "Coffee", 20f)));
+        when(categoryRepository.findAll()).thenReturn(List.of(category(5, "Drinks", "N")));
+        when(tableMasterRepository.findAll()).thenReturn(List.of(new TableMaster(7, "A1", "Hall")));
+        when(tableMasterService.getSectionRowGroups()).thenReturn(List.of(List.of("Hall")));
+        assertEquals(10f, masterDataStore.findItemByName("tea").getRate());
+
+        // Act
+        boolean reloaded = masterDataStore.sync();
+
+        // Assert
+        assertTrue(reloaded);
+        assertEquals(12f, masterDataStore.findItemByName("TEA").getRate());
+        assertEquals(List.of("Tea", "Coffee"), masterDataStore.getItemNamesByCategory(5));
+        assertEquals("A1", masterDataStore.getTableById(7).getTableName());
+        verify(itemRepository, times(2)).findAll();
+        verify(categoryRepository, times(1)).findAll();
+        verify(tableMasterRepository, times(1)).findAll();
+        verify(employeesRepository, times(1)).findAll();
+    }
+
+    @Test
+    void lookups_shouldBeServedFromSnapshotFileOnNextStart(@TempDir Path dir) {
+        // Arrange
+        Path file = dir.resolve("masterdata.json.gz");
+        ReflectionTestUtils.setField(masterDataStore, "persist", true);
+        ReflectionTestUtils.setField(masterDataStore, "file", file.toString());
+        when(cacheVersionRepository.findAll()).thenReturn(List.of(version("items", 4)));
+        when(itemRepository.findAll()).thenReturn(List.of(item(1, "Tea", 10f)));
+        when(categoryRepository.findAll()).thenReturn(List.of(category(5, "Drinks", "N")));
+        masterDataStore.sync();
+        ReflectionTestUtils.setField(masterDataStore, "view", null);
+
+        // Act
+        Item tea = masterDataStore.findItemByCode(101);
+
+        // Assert
+        assertTrue(Files.exists(file));
+        assertEquals("Tea", tea.getItemName());
+        assertEquals("N", masterDataStore.findCategoryByName("drinks").getStock());
+        verify(itemRepository, times(1)).findAll();
+    }
+
+    @Test
+    void lookupMiss_shouldReturnRightAwayAndSyncInBackground() {
+        // Arrange
+        when(cacheVersionRepository.findAll()).thenReturn(
+                List.of(version("employees", 1)),
+                List.of(version("employees", 2)));
+        Employees ravi = employee(3, "Ravi", "Waiter", true);
+        Employees old = employee(4, "Sunil", "Waiter", false);
+        when(employeesRepository.findAll()).thenReturn(
+                List.of(ravi, old),
+                List.of(ravi, old, employee(9, "Amit", "Waiter", true)));
+        assertEquals(List.of("Ravi"), masterDataStore.getWaiterNames());
+
+        // Act
+        Employees missed = masterDataStore.getEmployeeById(9);
+
+        // Assert
+        assertNull(missed);
+        verify(cacheVersionRepository, timeout(2000).times(2)).findAll();
+        verify(employeesRepository, timeout(2000).times(2)).findAll();
+        assertFalse(masterDataStore.sync()); // waits for the background sync holding the store
+        assertEquals("Amit", masterDataStore.findWaiterByName("ami").getFirstName());
+        assertFalse(masterDataStore.getEmployeeById(4).getActiveStatus());
+        assertEquals(List.of("Amit", "Ravi"), masterDataStore.getWaiterNames());
+        verify(employeesRepository, never()).findById(any());
+        verify(employeesRepository, never()).findByFirstNameContainingIgnoreCase(any());
+    }
+
+    private static Employees employee(int id, String firstName, String designation, boolean active) {
+        Employees employee = new Employees();
+        employee.setEmployeeId(id);
+        employee.setFirstName(firstName);
+        employee.setDesignation(designation);
+        employee.setActiveStatus(active);
+        return employee;
+    }
+
+    private static Item item(int id, String name, float rate) {
+        Item item = new Item();
+        item.setId(id);
+        item.setItemName(name);
+        item.setCategoryId(5);
+        item.setRate(rate);
+        item.setItemCode(100 + id);
+        return item;
+    }
+
+    private static CategoryMaster category(int id, String name, String stock) {
+        CategoryMaster category = new CategoryMaster();
+        category.setId(id);
+        category.setCategory(name);
+        category.setStock(stock);
+        return category;
+    }
+
+    private static CacheVersion version(String cacheName, long version) {
+        return new CacheVersion(cacheName, version, null);
+    }
+}
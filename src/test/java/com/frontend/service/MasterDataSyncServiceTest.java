@@ -0,0 +1,126 @@
+package com.frontend.service;
+
+import com.frontend.dto.ItemDto;
+import com.frontend.entity.Employees;
+import com.frontend.entity.MasterDataChange;
+import com.frontend.repository.MasterDataChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MasterDataSyncServiceTest {
+
+    @Mock
+    private MasterDataChangeRepository masterDataChangeRepository;
+
+    @Mock
+    private ItemService itemService;
+
+    @Mock
+    private CategoryApiService categoryApiService;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private EmployeesService employeesService;
+
+    @InjectMocks
+    private MasterDataSyncService masterDataSyncService;
+
+    @Test
+    void changesSince_shouldReturnLastChangePerRowAndDropEmployeesNoLongerWaiters() {
+        // Arrange
+        when(masterDataChangeRepository.findSettledId(anyInt())).thenReturn(13L);
+        when(masterDataChangeRepository.findPrunedThrough()).thenReturn(null);
+        when(masterDataChangeRepository.findLatestId(anyCollection())).thenReturn(14L);
+        when(masterDataChangeRepository.findByIdGreaterThanOrderByIdAsc(10L)).thenReturn(List.of(
+                change(11, MasterDataChange.ITEM, 5, false),
+                change(12, MasterDataChange.ITEM, 6, false),
+                change(13, MasterDataChange.ITEM, 6, true),
+                change(14, MasterDataChange.EMPLOYEE, 8, false)));
+        when(itemService.getItemsByIdsOrCategories(Set.of(5), Set.of()))
+                .thenReturn(List.of(new ItemDto(5, "Tea", 1, "Drinks", 12f, 105)));
+        Employees resigned = new Employees();
+        resigned.setEmployeeId(8);
+        resigned.setFirstName("Ravi");
+        resigned.setDesignation("Waiter");
+        resigned.setActiveStatus(false);
+        when(employeesService.getEmployeesByIds(Set.of(8))).thenReturn(List.of(resigned));
+
+        // Act
+        MasterDataSyncService.Changes changes = masterDataSyncService.changesSince(10);
+
+        // Assert
+        assertFalse(changes.reset());
+        assertEquals(13, changes.version());
+        assertEquals(List.of(5), changes.items().upserts().stream().map(ItemDto::getId).toList());
+        assertEquals(List.of(6), changes.items().deletes());
+        assertTrue(changes.waiters().upserts().isEmpty());
+        assertEquals(List.of(8), changes.waiters().deletes());
+        verify(itemService, never()).getAllItems();
+    }
+
+    @Test
+    void changesSince_shouldResetWhenLogNoLongerReachesBack() {
+        // Arrange
+        when(masterDataChangeRepository.findSettledId(anyInt())).thenReturn(null);
+        when(masterDataChangeRepository.findPrunedThrough()).thenReturn(499L);
+        when(masterDataChangeRepository.findLatestId(anyCollection())).thenReturn(520L);
+        when(itemService.getAllItems()).thenReturn(List.of(new ItemDto(5, "Tea", 1, 12f, 105)));
+
+        // Act
+        MasterDataSyncService.Changes changes = masterDataSyncService.changesSince(42);
+
+        // Assert
+        assertTrue(changes.reset());
+        assertEquals(499, changes.version());
+        assertEquals(1, changes.items().upserts().size());
+        verify(masterDataChangeRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong());
+    }
+
+    @Test
+    void changesSince_shouldResetWhenChangesAfterVersionWerePrunedBehindKeptRows() {
+        // Arrange: customer change 50 is kept as the newest of its type, item changes 101-200 were pruned
+        when(masterDataChangeRepository.findSettledId(anyInt())).thenReturn(230L);
+        when(masterDataChangeRepository.findPrunedThrough()).thenReturn(200L);
+        when(masterDataChangeRepository.findLatestId(anyCollection())).thenReturn(230L);
+        when(itemService.getAllItems()).thenReturn(List.of(new ItemDto(5, "Tea", 1, 12f, 105)));
+
+        // Act
+        MasterDataSyncService.Changes changes = masterDataSyncService.changesSince(100);
+
+        // Assert
+        assertTrue(changes.reset());
+        assertEquals(230, changes.version());
+        verify(masterDataChangeRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong());
+    }
+
+    @Test
+    void prune_shouldRecordHighestPrunedVersionAndDeleteOnlyUpToIt() {
+        // Arrange
+        when(masterDataChangeRepository.findPrunableThrough(30)).thenReturn(200L);
+
+        // Act
+        masterDataSyncService.prune();
+
+        // Assert
+        verify(masterDataChangeRepository).recordPrunedThrough(200L);
+        verify(masterDataChangeRepository).deleteOlderThanDays(30, 200L);
+    }
+
+    private static MasterDataChange change(long id, String entityType, int entityId, boolean deleted) {
+        return new MasterDataChange(id, entityType, entityId, deleted, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,81 @@
+package com.frontend.service;
+
+import com.frontend.entity.Role;
+import com.frontend.enums.ScreenPermission;
+import com.frontend.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoleServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleService roleService;
+
+    @Test
+    void hasScreenAccess_shouldAnswerFromSnapshotWithoutQueryPerCheck() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of(new Role("WAITER", "DASHBOARD,BILLING")));
+
+        // Act
+        boolean billing = roleService.hasScreenAccess("WAITER", ScreenPermission.BILLING);
+        boolean salesReport = roleService.hasScreenAccess("WAITER", ScreenPermission.SALES_REPORT);
+        Set<ScreenPermission> screens = roleService.getScreenPermissions("WAITER");
+
+        // Assert
+        assertTrue(billing);
+        assertFalse(salesReport);
+        assertEquals(Set.of(ScreenPermission.DASHBOARD, ScreenPermission.BILLING), screens);
+        assertTrue(roleService.hasRight("WAITER", "billing"));
+        verify(roleRepository, times(1)).findAll();
+        verify(roleRepository, never()).findByRoleName(anyString());
+    }
+
+    @Test
+    void hasScreenAccess_shouldLookUpUnknownRoleOnlyOnce() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of());
+        when(roleRepository.findByRoleName("GHOST")).thenReturn(Optional.empty());
+
+        // Act
+        boolean first = roleService.hasScreenAccess("GHOST", ScreenPermission.BILLING);
+        boolean second = roleService.hasScreenAccess("GHOST", ScreenPermission.BILLING);
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        verify(roleRepository, times(1)).findByRoleName("GHOST");
+    }
+
+    @Test
+    void updateScreenPermissions_shouldReplaceSnapshotEntry() {
+        // Arrange
+        Role waiter = new Role("WAITER", "DASHBOARD");
+        when(roleRepository.findAll()).thenReturn(List.of(waiter));
+        when(roleRepository.findByRoleName("WAITER")).thenReturn(Optional.of(waiter));
+        when(roleRepository.save(waiter)).thenReturn(waiter);
+        assertFalse(roleService.hasScreenAccess("WAITER", ScreenPermission.BILLING));
+
+        // Act
+        roleService.updateScreenPermissions("WAITER", Set.of(ScreenPermission.BILLING));
+
+        // Assert
+        assertTrue(roleService.hasScreenAccess("WAITER", ScreenPermission.BILLING));
+        assertFalse(roleService.hasScreenAccess("WAITER", ScreenPermission.DASHBOARD));
+        verify(roleRepository, times(1)).findAll();
+    }
+}
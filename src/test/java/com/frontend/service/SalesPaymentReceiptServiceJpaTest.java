@@ -0,0 +1,126 @@
+package com.frontend.service;
+
+import com.frontend.entity.Bank;
+import com.frontend.entity.Bill;
+import com.frontend.entity.Customer;
+import com.frontend.entity.CustomerBalance;
+import com.frontend.entity.Employees;
+import com.frontend.repository.BankRepository;
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.CustomerBalanceRepository;
+import com.frontend.service.SalesPaymentReceiptService.BillPaymentAllocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Grouped payments against a real persistence context: the bank deposit runs bulk updates in the
+ * middle of the payment, which must not lose the changes made to the locked bills
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:salespayments;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({SalesPaymentReceiptService.class, BankTransactionService.class, CustomerBalanceService.class,
+        CacheCoherenceService.class, SalesPaymentReceiptServiceJpaTest.Caches.class})
+class SalesPaymentReceiptServiceJpaTest {
+
+    @TestConfiguration
+    static class Caches {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("banks");
+        }
+    }
+
+    @Autowired
+    private SalesPaymentReceiptService salesPaymentReceiptService;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private CustomerBalanceRepository customerBalanceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void logIn() {
+        Employees cashier = new Employees();
+        cashier.setEmployeeId(4);
+        ReflectionTestUtils.setField(SessionService.class, "currentEmployee", cashier);
+    }
+
+    @AfterEach
+    void logOut() {
+        ReflectionTestUtils.setField(SessionService.class, "currentEmployee", null);
+    }
+
+    @Test
+    void recordGroupedPayment_shouldPersistBillsAndLedgerTogetherWithDeposit() {
+        // Arrange
+        Bank bank = new Bank();
+        bank.setBankName("Cash");
+        bank.setAccountNo("0");
+        bank.setBankBalance(1000.0);
+        Integer bankId = entityManager.persistAndGetId(bank, Integer.class);
+        Integer customerId = entityManager.persistAndGetId(new Customer("C1", "Ram", "", "Patil", "9800000001",
+                "", 1, "", "Pune", "Pune", "Haveli"), Integer.class);
+        Integer first = entityManager.persistAndGetId(creditBill(customerId, 500f), Integer.class);
+        Integer second = entityManager.persistAndGetId(creditBill(customerId, 100f), Integer.class);
+        entityManager.persist(new CustomerBalance(customerId, 600.0, 2, LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+        List<Bill> loaded = billRepository.findAllById(List.of(first, second));
+
+        // Act
+        salesPaymentReceiptService.recordGroupedPayment(customerId, 550.0, bankId, "CASH", null, null, null, List.of(
+                new BillPaymentAllocation(first, 450.0),
+                new BillPaymentAllocation(second, 100.0)));
+        entityManager.flush();
+        boolean billsStillManaged = loaded.stream().allMatch(entityManager.getEntityManager()::contains);
+        entityManager.clear();
+
+        // Assert
+        assertTrue(billsStillManaged);
+        Bill partlyPaid = billRepository.findById(first).orElseThrow();
+        assertEquals(450f, partlyPaid.getPaidAmount());
+        assertEquals("CREDIT", partlyPaid.getStatus());
+        assertEquals("PAID", billRepository.findById(second).orElseThrow().getStatus());
+        assertEquals(1550.0, bankRepository.findBankBalanceById(bankId));
+        CustomerBalance balance = customerBalanceRepository.findById(customerId).orElseThrow();
+        assertEquals(50.0, balance.getPendingAmount(), 0.001);
+        assertEquals(1, balance.getPendingBillCount());
+    }
+
+    private static Bill creditBill(Integer customerId, float netAmount) {
+        Bill bill = new Bill();
+        bill.setBillAmt(netAmount);
+        bill.setNetAmount(netAmount);
+        bill.setPaidAmount(0f);
+        bill.setCustomerId(customerId);
+        bill.setStatus("CREDIT");
+        return bill;
+    }
+}
@@ -0,0 +1,133 @@
+package com.frontend.service;
+
+import com.frontend.entity.BankTransaction;
+import com.frontend.entity.Bill;
+import com.frontend.entity.Employees;
+import com.frontend.entity.SalesPaymentReceipt;
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.SalesBillPaymentRepository;
+import com.frontend.repository.SalesPaymentReceiptRepository;
+import com.frontend.service.SalesPaymentReceiptService.BillPaymentAllocation;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesPaymentReceiptServiceTest {
+
+    @Mock
+    private SalesPaymentReceiptRepository salesPaymentReceiptRepository;
+
+    @Mock
+    private SalesBillPaymentRepository salesBillPaymentRepository;
+
+    @Mock
+    private BillRepository billRepository;
+
+    @Mock
+    private BankTransactionService bankTransactionService;
+
+    @Mock
+    private CustomerBalanceService customerBalanceService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private SalesPaymentReceiptService salesPaymentReceiptService;
+
+    @Test
+    void allocateOldestFirst_shouldFillOlderBillsBeforeNewerOnes() {
+        // Arrange
+        List<Bill> bills = List.of(creditBill(101, 500f, 100f), creditBill(102, 300f, 0f), creditBill(103, 200f, 0f));
+
+        // Act
+        List<BillPaymentAllocation> allocations = SalesPaymentReceiptService.allocateOldestFirst(bills, 550.0);
+
+        // Assert
+        assertEquals(2, allocations.size());
+        assertEquals(101, allocations.get(0).getBillNo());
+        assertEquals(400.0, allocations.get(0).getAmount(), 0.001);
+        assertEquals(102, allocations.get(1).getBillNo());
+        assertEquals(150.0, allocations.get(1).getAmount(), 0.001);
+    }
+
+    @Test
+    void allocateOldestFirst_shouldRejectAmountAboveTotalPending() {
+        List<Bill> bills = List.of(creditBill(101, 500f, 0f));
+
+        assertThrows(RuntimeException.class, () -> SalesPaymentReceiptService.allocateOldestFirst(bills, 600.0));
+    }
+
+    @Test
+    void recordGroupedPayment_shouldValidateAllBillsFromOneQueryBeforeWriting() {
+        // Arrange
+        when(billRepository.findByBillNoInForUpdate(anyCollection()))
+                .thenReturn(List.of(creditBill(101, 500f, 0f), creditBill(102, 100f, 0f)));
+        List<BillPaymentAllocation> allocations = List.of(
+                new BillPaymentAllocation(101, 300.0),
+                new BillPaymentAllocation(102, 200.0));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> salesPaymentReceiptService.recordGroupedPayment(
+                7, 500.0, 1, "CASH", null, null, null, allocations));
+        verify(billRepository, times(1)).findByBillNoInForUpdate(anyCollection());
+        verify(billRepository, never()).findById(any());
+        verifyNoInteractions(bankTransactionService, salesPaymentReceiptRepository, salesBillPaymentRepository);
+    }
+
+    @Test
+    void recordGroupedPayment_shouldSavePaidBillsExplicitly() {
+        // Arrange
+        Bill first = creditBill(101, 500f, 0f);
+        Bill second = creditBill(102, 100f, 0f);
+        when(billRepository.findByBillNoInForUpdate(anyCollection())).thenReturn(List.of(first, second));
+        BankTransaction deposit = new BankTransaction();
+        deposit.setId(9);
+        when(bankTransactionService.recordDeposit(eq(1), eq(550.0), anyString(), anyString(), isNull(), anyString()))
+                .thenReturn(deposit);
+        when(salesPaymentReceiptRepository.save(any(SalesPaymentReceipt.class))).thenAnswer(invocation -> {
+            SalesPaymentReceipt receipt = invocation.getArgument(0);
+            receipt.setReceiptNo(3);
+            return receipt;
+        });
+        Employees cashier = new Employees();
+        cashier.setEmployeeId(4);
+        ReflectionTestUtils.setField(SessionService.class, "currentEmployee", cashier);
+
+        // Act
+        try {
+            salesPaymentReceiptService.recordGroupedPayment(7, 550.0, 1, "CASH", null, null, null, List.of(
+                    new BillPaymentAllocation(101, 450.0),
+                    new BillPaymentAllocation(102, 100.0)));
+        } finally {
+            ReflectionTestUtils.setField(SessionService.class, "currentEmployee", null);
+        }
+
+        // Assert
+        verify(billRepository).saveAll(List.of(first, second));
+        assertEquals("CREDIT", first.getStatus());
+        assertEquals(450f, first.getPaidAmount());
+        assertEquals("PAID", second.getStatus());
+    }
+
+    private Bill creditBill(int billNo, float netAmount, float paidAmount) {
+        Bill bill = new Bill();
+        bill.setBillNo(billNo);
+        bill.setCustomerId(7);
+        bill.setNetAmount(netAmount);
+        bill.setPaidAmount(paidAmount);
+        bill.setStatus("CREDIT");
+        return bill;
+    }
+}
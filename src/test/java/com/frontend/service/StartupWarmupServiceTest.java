@@ -0,0 +1,58 @@
+package com.frontend.service;
+
+import com.frontend.util.StartupTimeline;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupServiceTest {
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private ItemService itemService;
+
+    @Mock
+    private CategoryApiService categoryApiService;
+
+    @Mock
+    private TableMasterService tableMasterService;
+
+    @InjectMocks
+    private StartupWarmupService startupWarmupService;
+
+    @Test
+    void warmUp_shouldRunEveryTaskEvenIfOneFails() throws Exception {
+        // Arrange
+        doThrow(new RuntimeException("connection refused")).when(roleService).initializeDefaultRolePermissions();
+        StartupTimeline timeline = new StartupTimeline();
+
+        // Act
+        startupWarmupService.warmUp(timeline).get(30, TimeUnit.SECONDS);
+
+        // Assert
+        verify(sessionService).loadApplicationSettings();
+        verify(itemService).getAllItems();
+        verify(categoryApiService).getAllCategories();
+        verify(tableMasterService).getAllTables();
+        List<String> tasks = timeline.entries(StartupTimeline.Kind.TASK).stream()
+                .map(StartupTimeline.Entry::name)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(List.of("master data caches", "printer discovery", "role permissions", "settings and font"), tasks);
+    }
+}
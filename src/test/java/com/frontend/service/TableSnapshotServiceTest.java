@@ -0,0 +1,88 @@
+package com.frontend.service;
+
+import com.frontend.entity.Bill;
+import com.frontend.entity.TableMaster;
+import com.frontend.entity.TempTransaction;
+import com.frontend.entity.Transaction;
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.KitchenOrderRepository;
+import com.frontend.repository.TableMasterRepository;
+import com.frontend.repository.TempTransactionRepository;
+import com.frontend.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TableSnapshotServiceTest {
+
+    @Mock
+    private TableMasterRepository tableMasterRepository;
+
+    @Mock
+    private TempTransactionRepository tempTransactionRepository;
+
+    @Mock
+    private BillRepository billRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private KitchenOrderRepository kitchenOrderRepository;
+
+    @InjectMocks
+    private TableSnapshotService tableSnapshotService;
+
+    @Test
+    void load_shouldReadRunningTableWithoutBillLinesQuery() {
+        // Arrange
+        when(tableMasterRepository.findById(7)).thenReturn(Optional.of(new TableMaster(7, "A1", "Hall")));
+        when(tempTransactionRepository.findByTableNo(7)).thenReturn(List.of(
+                new TempTransaction("Tea", 2f, 10f, 20f, 7),
+                new TempTransaction("Coffee", 1f, 25f, 25f, 7)));
+        when(billRepository.findFirstByTableNoAndStatusOrderByBillNoDesc(7, "CLOSE")).thenReturn(Optional.empty());
+        when(kitchenOrderRepository.findByTableNoAndStatusInWithItems(eq(7), anyCollection())).thenReturn(List.of());
+
+        // Act
+        TableSnapshotService.TableSnapshot snapshot = tableSnapshotService.load(7);
+
+        // Assert
+        assertEquals(TableStatusFeed.ONGOING, snapshot.status());
+        assertEquals(45f, snapshot.runningTotal());
+        assertNull(snapshot.closedBill());
+        verify(kitchenOrderRepository).findByTableNoAndStatusInWithItems(7,
+                List.of(KitchenOrderService.STATUS_SENT, KitchenOrderService.STATUS_READY));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void load_shouldReportClosedBillWithItsLines() {
+        // Arrange
+        Bill bill = new Bill();
+        bill.setBillNo(42);
+        Transaction line = new Transaction();
+        when(tableMasterRepository.findById(7)).thenReturn(Optional.of(new TableMaster(7, "A1", "Hall")));
+        when(tempTransactionRepository.findByTableNo(7)).thenReturn(List.of());
+        when(billRepository.findFirstByTableNoAndStatusOrderByBillNoDesc(7, "CLOSE")).thenReturn(Optional.of(bill));
+        when(transactionRepository.findByBillNo(42)).thenReturn(List.of(line));
+        when(kitchenOrderRepository.findByTableNoAndStatusInWithItems(eq(7), anyCollection())).thenReturn(List.of());
+
+        // Act
+        TableSnapshotService.TableSnapshot snapshot = tableSnapshotService.load(7);
+
+        // Assert
+        assertEquals(TableStatusFeed.CLOSED, snapshot.status());
+        assertSame(bill, snapshot.closedBill());
+        assertEquals(List.of(line), snapshot.closedLines());
+    }
+}
@@ -0,0 +1,67 @@
+package com.frontend.service;
+
+import com.frontend.repository.BillRepository;
+import com.frontend.repository.TempTransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TableStatusFeedTest {
+
+    @Mock
+    private TempTransactionRepository tempTransactionRepository;
+
+    @Mock
+    private BillRepository billRepository;
+
+    @InjectMocks
+    private TableStatusFeed tableStatusFeed;
+
+    @Test
+    void refresh_shouldReportOnlyChangedTables() {
+        // Arrange
+        when(billRepository.findDistinctTableNosByStatus("CLOSE")).thenReturn(List.of(2, 3), List.of(3));
+        when(tempTransactionRepository.findDistinctActiveTableNumbers()).thenReturn(List.of(1, 3), List.of(1, 4));
+        List<Map<Integer, String>> received = new ArrayList<>();
+        tableStatusFeed.addListener(received::add);
+
+        // Act
+        Map<Integer, String> initial = tableStatusFeed.refresh();
+        tableStatusFeed.refresh();
+
+        // Assert
+        assertEquals(Map.of(1, "Ongoing", 2, "Closed", 3, "Ongoing"), initial);
+        assertEquals("Available", TableStatusFeed.statusOf(initial, 9));
+        assertEquals(1, received.size());
+        assertEquals(Map.of(2, "Available", 3, "Closed", 4, "Ongoing"), received.get(0));
+    }
+
+    @Test
+    void update_shouldPushChangeOnce() {
+        // Arrange
+        when(billRepository.findDistinctTableNosByStatus("CLOSE")).thenReturn(List.of(5));
+        when(tempTransactionRepository.findDistinctActiveTableNumbers()).thenReturn(List.of());
+        tableStatusFeed.refresh();
+        List<Map<Integer, String>> received = new ArrayList<>();
+        tableStatusFeed.addListener(received::add);
+
+        // Act
+        tableStatusFeed.update(5, "Available");
+        tableStatusFeed.update(5, "Available");
+        tableStatusFeed.update(6, "Ongoing");
+
+        // Assert
+        assertEquals(List.of(Map.of(5, "Available"), Map.of(6, "Ongoing")), received);
+        verify(billRepository, times(1)).findDistinctTableNosByStatus("CLOSE");
+    }
+}
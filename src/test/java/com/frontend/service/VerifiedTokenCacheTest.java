@@ -0,0 +1,62 @@
+package com.frontend.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    @Test
+    void get_shouldReturnPrincipalOfVerifiedTokenUntilItExpires() {
+        // Arrange
+        verifiedTokenCache.put("valid-token", claims("waiter1", System.currentTimeMillis() + 60_000));
+        verifiedTokenCache.put("expired-token", claims("waiter2", System.currentTimeMillis() - 1_000));
+
+        // Act
+        VerifiedTokenCache.VerifiedToken hit = verifiedTokenCache.get("valid-token");
+
+        // Assert
+        assertEquals("waiter1", hit.username());
+        assertEquals("WAITER", hit.role());
+        assertNull(verifiedTokenCache.get("expired-token"));
+        assertNull(verifiedTokenCache.get("unknown-token"));
+    }
+
+    @Test
+    void invalidateUser_shouldPurgeTheUsersTokensAfterCommit() {
+        // Arrange
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        verifiedTokenCache.put("token-1", claims("waiter1", expiresAt));
+        verifiedTokenCache.put("token-2", claims("waiter2", expiresAt));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            verifiedTokenCache.invalidateUser("waiter1");
+            // Request verified concurrently, before the user change committed
+            verifiedTokenCache.put("token-1", claims("waiter1", expiresAt));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertNull(verifiedTokenCache.get("token-1"));
+        assertEquals("waiter2", verifiedTokenCache.get("token-2").username());
+    }
+
+    private static Claims claims(String username, long expiresAtMillis) {
+        return Jwts.claims()
+                .subject(username)
+                .add("role", "WAITER")
+                .expiration(new Date(expiresAtMillis))
+                .build();
+    }
+}
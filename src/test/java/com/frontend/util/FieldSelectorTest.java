@@ -0,0 +1,35 @@
+package com.frontend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frontend.dto.ItemDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<ItemDto> items = List.of(new ItemDto(1, "Tea", 2, "Drinks", 12f, 101));
+
+    @Test
+    void apply_shouldKeepOnlySelectedKnownFields() {
+        FieldSelector selector = FieldSelector.parse(" rate, itemName,unknown ,");
+
+        List<?> rows = selector.apply(objectMapper, items);
+
+        assertEquals(List.of(Map.of("itemName", "Tea", "rate", 12.0f)), rows);
+        assertEquals("itemName,rate,unknown", selector.key());
+    }
+
+    @Test
+    void apply_shouldReturnRowsUnchangedWithoutSelection() {
+        FieldSelector selector = FieldSelector.parse(null);
+
+        assertSame(items, selector.apply(objectMapper, items));
+        assertFalse(selector.within("id", "itemName"));
+        assertTrue(FieldSelector.parse("id,rate").within("id", "itemName", "categoryId", "rate"));
+    }
+}
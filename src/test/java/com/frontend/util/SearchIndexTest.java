@@ -0,0 +1,59 @@
+package com.frontend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    private final SearchIndex<String> index = SearchIndex.ofStrings(Arrays.asList(
+            "Paneer Tikka", "Butter Paneer Masala", "Veg Biryani", "Paneer", "Mix Veg", "पनीर टिक्का"
+    ));
+
+    @Test
+    void prefixSearch_shouldMatchOnlyKeyStart() {
+        List<String> results = index.search("pan", SearchIndex.MatchMode.PREFIX, 0);
+
+        assertEquals(List.of("Paneer", "Paneer Tikka"), results);
+    }
+
+    @Test
+    void containsSearch_shouldRankExactThenPrefixThenWordPrefix() {
+        List<String> results = index.search("paneer", SearchIndex.MatchMode.CONTAINS, 0);
+
+        assertEquals(List.of("Paneer", "Paneer Tikka", "Butter Paneer Masala"), results);
+    }
+
+    @Test
+    void containsSearch_shouldMatchInsideWords() {
+        assertEquals(List.of("Veg Biryani"), index.search("iry", SearchIndex.MatchMode.CONTAINS, 0));
+        assertEquals(List.of("Mix Veg", "Veg Biryani"), index.search("eg", SearchIndex.MatchMode.CONTAINS, 0));
+    }
+
+    @Test
+    void search_shouldRespectLimit() {
+        assertEquals(List.of("Paneer"), index.search("paneer", SearchIndex.MatchMode.CONTAINS, 1));
+    }
+
+    @Test
+    void search_shouldNormaliseDevanagariAndWhitespace() {
+        assertEquals(List.of("पनीर टिक्का"), index.search("  पनीर   टि", SearchIndex.MatchMode.PREFIX, 0));
+        assertEquals(List.of("पनीर टिक्का"), index.search("टिक्", SearchIndex.MatchMode.CONTAINS, 0));
+    }
+
+    @Test
+    void normalize_shouldFoldDevanagariDigitsAndNukta() {
+        assertEquals("98765", SearchIndex.normalize("९८७६५"));
+        assertEquals(SearchIndex.normalize("फ"), SearchIndex.normalize("फ़"));
+    }
+
+    @Test
+    void all_shouldReturnValuesSortedCaseInsensitively() {
+        SearchIndex<String> small = SearchIndex.ofStrings(Arrays.asList("b", "A", "c"));
+
+        assertEquals(List.of("A", "b", "c"), small.all());
+    }
+}
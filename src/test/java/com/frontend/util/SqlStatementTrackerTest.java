@@ -0,0 +1,68 @@
+package com.frontend.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementTrackerTest {
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementTracker.configure(true, 50, 10);
+        SqlStatementTracker.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementTracker.reset();
+    }
+
+    @Test
+    void nestedScopes_shouldCountTowardsOutermostScope() {
+        // Act
+        SqlStatementTracker.begin("GET /api/tables");
+        SqlStatementTracker.statementPrepared("select * from table_master");
+        SqlStatementTracker.begin("inner");
+        for (int i = 0; i < 12; i++) {
+            SqlStatementTracker.statementPrepared("select * from bill where table_no=?");
+        }
+        SqlStatementTracker.end();
+        SqlStatementTracker.end();
+
+        // Assert
+        List<SqlStatementTracker.ScopeSummary> summaries = SqlStatementTracker.worstOffenders(10);
+        assertEquals(1, summaries.size());
+        SqlStatementTracker.ScopeSummary summary = summaries.get(0);
+        assertEquals("GET /api/tables", summary.name());
+        assertEquals(13, summary.maxStatements());
+        assertEquals(12, summary.maxRepeats());
+        assertEquals("select * from bill where table_no=?", summary.mostRepeatedSql());
+    }
+
+    @Test
+    void statementsOutsideScope_shouldNotBeRecorded() {
+        SqlStatementTracker.statementPrepared("select 1");
+
+        assertTrue(SqlStatementTracker.worstOffenders(10).isEmpty());
+    }
+
+    @Test
+    void worstOffenders_shouldOrderByMaxStatements() {
+        runScope("light", 2);
+        runScope("heavy", 30);
+
+        assertEquals("heavy", SqlStatementTracker.worstOffenders(1).get(0).name());
+    }
+
+    private void runScope(String name, int statements) {
+        SqlStatementTracker.begin(name);
+        for (int i = 0; i < statements; i++) {
+            SqlStatementTracker.statementPrepared("select " + i);
+        }
+        SqlStatementTracker.end();
+    }
+}
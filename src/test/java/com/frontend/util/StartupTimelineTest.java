@@ -0,0 +1,45 @@
+package com.frontend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimelineTest {
+
+    @Test
+    void phases_shouldBeConsecutiveAndSummarized() {
+        // Arrange
+        StartupTimeline timeline = new StartupTimeline();
+
+        // Act
+        timeline.phase("Configuration");
+        timeline.phase("Context");
+        timeline.endPhase();
+        timeline.endPhase();
+
+        // Assert
+        List<StartupTimeline.Entry> phases = timeline.entries(StartupTimeline.Kind.PHASE);
+        assertEquals(2, phases.size());
+        assertEquals("Configuration", phases.get(0).name());
+        assertEquals(phases.get(0).startMs() + phases.get(0).durationMs(), phases.get(1).startMs());
+        assertTrue(timeline.phaseSummary().matches("Configuration \\d+\\.\\d s · Context \\d+\\.\\d s"));
+    }
+
+    @Test
+    void report_shouldListSlowestBeansFirst() {
+        // Arrange
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.bean("itemService", 20);
+        timeline.bean("entityManagerFactory", 900);
+        timeline.task("printer discovery", timeline.elapsedMs());
+
+        // Act
+        String report = timeline.report();
+
+        // Assert
+        assertTrue(report.contains("printer discovery"));
+        assertTrue(report.indexOf("entityManagerFactory") < report.indexOf("itemService"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.frontend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableCommandQueueTest {
+
+    @Test
+    void commandsOfOneTable_shouldRunInSubmissionOrder() throws Exception {
+        // Arrange
+        TableCommandQueue queue = new TableCommandQueue("test", Runnable::run);
+        queue.select(1);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(5);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            int command = i;
+            queue.submit(1, "command " + i, () -> {
+                Thread.sleep(5 - command);
+                executed.add(command);
+                return command;
+            }, result -> {
+                delivered.add(result);
+                done.countDown();
+            }, error -> done.countDown());
+        }
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1, 2, 3, 4), executed);
+        assertEquals(List.of(0, 1, 2, 3, 4), delivered);
+    }
+
+    @Test
+    void resultForLeftTable_shouldBeDiscarded() throws Exception {
+        // Arrange
+        TableCommandQueue queue = new TableCommandQueue("test", Runnable::run);
+        queue.select(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicReference<String> delivered = new AtomicReference<>();
+
+        queue.submit(1, "load table", () -> {
+            release.await();
+            return "table 1";
+        }, delivered::set, error -> delivered.set("error"));
+
+        // Act
+        queue.select(2);
+        queue.submit(1, "after switch", () -> {
+            finished.countDown();
+            return null;
+        }, result -> {}, error -> {});
+        release.countDown();
+
+        // Assert
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertNull(delivered.get());
+        assertEquals(2, queue.getActiveTable());
+    }
+
+    @Test
+    void failureForLeftTable_shouldGoToStaleFailureHandler() throws Exception {
+        // Arrange
+        TableCommandQueue queue = new TableCommandQueue("test", Runnable::run);
+        queue.select(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch reported = new CountDownLatch(1);
+        AtomicReference<String> staleFailure = new AtomicReference<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        queue.setStaleFailureHandler((description, error) -> {
+            staleFailure.set(description + ": " + error.getMessage());
+            reported.countDown();
+        });
+
+        queue.submit(1, "save item", () -> {
+            release.await();
+            throw new IllegalStateException("connection lost");
+        }, result -> {}, failure::set);
+
+        // Act
+        queue.select(3);
+        release.countDown();
+
+        // Assert
+        assertTrue(reported.await(5, TimeUnit.SECONDS));
+        assertEquals("save item: connection lost", staleFailure.get());
+        assertNull(failure.get());
+    }
+}